@@ -55,11 +55,17 @@ public abstract class AbstractDependency implements Dependency {
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} If an {@link InvalidationBatch} is running, the invalidation is deferred until it has finished.
      */
     @Override
     public void invalidateDependents() {
-        dependents.forEach(Dependent::invalidate);
+        if(InvalidationBatch.defer(this)) {
+            return;
+        }
+
+        for(Dependent dependent : dependents) {
+            dependent.invalidate(this);
+        }
     }
 
     /**
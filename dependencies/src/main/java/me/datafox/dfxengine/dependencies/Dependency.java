@@ -19,7 +19,8 @@ public interface Dependency {
     Collection<Dependent> getDependents();
 
     /**
-     * Calls {@link Dependent#invalidate()} on all {@link Dependent Dependents} of this class.
+     * Calls {@link Dependent#invalidate(Dependency)} with this class as the source on all
+     * {@link Dependent Dependents} of this class.
      */
     void invalidateDependents();
 
@@ -41,10 +41,32 @@ public abstract class DependencyDependent extends AbstractDependency implements
         invalidateDependents();
     }
 
+    /**
+     * {@inheritDoc} Instead of overriding this method, {@link #onInvalidate(Dependency)} should be overridden instead.
+     *
+     * @param source {@inheritDoc}
+     */
+    @Override
+    public void invalidate(Dependency source) {
+        onInvalidate(source);
+        invalidateDependents();
+    }
+
     /**
      * This method should be treated as the equivalent of {@link Dependent#invalidate()} for classes extending
      * DependencyDependent. This exists to avoid the need for calling {@code super.invalidate()} or
      * {@link #invalidateDependents()} which may cause hidden or hard to find bugs when forgotten.
      */
     protected abstract void onInvalidate();
+
+    /**
+     * This method should be treated as the equivalent of {@link Dependent#invalidate(Dependency)} for classes
+     * extending DependencyDependent. The default implementation calls {@link #onInvalidate()}, so it only needs to be
+     * overridden if the class can invalidate its caches partially depending on which {@link Dependency} has changed.
+     *
+     * @param source {@link Dependency} that has changed
+     */
+    protected void onInvalidate(Dependency source) {
+        onInvalidate();
+    }
 }
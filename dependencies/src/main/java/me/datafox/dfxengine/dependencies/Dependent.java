@@ -24,4 +24,15 @@ public interface Dependent {
      * in this method, and recalculate the value in its getter method if the flag is set.
      */
     void invalidate();
+
+    /**
+     * Invalidates the class implementing this interface because the specified {@link Dependency} has changed. This
+     * method is called by {@link Dependency#invalidateDependents()} and allows a dependent to only invalidate the parts
+     * of its cache that depend on the changed Dependency. The default implementation calls {@link #invalidate()}.
+     *
+     * @param source {@link Dependency} that has changed
+     */
+    default void invalidate(Dependency source) {
+        invalidate();
+    }
 }
@@ -0,0 +1,106 @@
+package me.datafox.dfxengine.dependencies;
+
+import java.util.*;
+
+/**
+ * <p>
+ * Defers the propagation of invalidation while an action is run. While a batch is running on a thread,
+ * {@link AbstractDependency#invalidateDependents()} only records the {@link Dependency} that has changed, so a
+ * {@link DependencyDependent} that is invalidated still invalidates itself, but its {@link Dependent Dependents} are
+ * not invalidated yet. When the action has finished, the dependency graph is walked once from all recorded
+ * Dependencies, and {@link Dependent#invalidate(Dependency)} is called on every Dependent once for every changed
+ * Dependency it depends on. Invalidation is still deferred during the walk, so the Dependents of a Dependent that is
+ * also a Dependency are only walked once, no matter how many changed Dependencies it depends on.
+ * </p>
+ * <p>
+ * Because the Dependents are invalidated only after the action, values that depend on the changed Dependencies may
+ * return stale results while the action is running. Batches may be nested, in which case the Dependents are
+ * invalidated when the outermost batch finishes. Dependents are invalidated even if the action throws an exception.
+ * </p>
+ *
+ * @author datafox
+ */
+public final class InvalidationBatch {
+    private static final ThreadLocal<InvalidationBatch> CURRENT = new ThreadLocal<>();
+
+    private final Set<Dependency> sources;
+
+    private InvalidationBatch() {
+        sources = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Runs the specified action and defers the invalidation of {@link Dependent Dependents} until it has finished.
+     *
+     * @param action action to be run
+     */
+    public static void run(Runnable action) {
+        if(CURRENT.get() != null) {
+            action.run();
+            return;
+        }
+
+        InvalidationBatch batch = new InvalidationBatch();
+        CURRENT.set(batch);
+
+        try {
+            action.run();
+        } finally {
+            CURRENT.remove();
+            batch.invalidate();
+        }
+    }
+
+    /**
+     * @return {@code true} if a batch is running on the current thread
+     */
+    public static boolean isRunning() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Records the specified {@link Dependency} if a batch is running on the current thread.
+     *
+     * @param source {@link Dependency} that has changed
+     * @return {@code true} if the invalidation of the {@link Dependent Dependents} of the specified
+     * {@link Dependency} was deferred
+     */
+    static boolean defer(Dependency source) {
+        InvalidationBatch batch = CURRENT.get();
+
+        if(batch == null) {
+            return false;
+        }
+
+        batch.sources.add(source);
+        return true;
+    }
+
+    private void invalidate() {
+        Set<Dependency> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        visited.addAll(sources);
+        Deque<Dependency> queue = new ArrayDeque<>(sources);
+        sources.clear();
+        CURRENT.set(this);
+
+        try {
+            while(!queue.isEmpty()) {
+                Dependency dependency = queue.poll();
+
+                for(Dependent dependent : dependency.getDependents()) {
+                    dependent.invalidate(dependency);
+                }
+
+                for(Dependency source : sources) {
+                    if(visited.add(source)) {
+                        queue.add(source);
+                    }
+                }
+
+                sources.clear();
+            }
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package me.datafox.dfxengine.dependencies.test;
 
+import me.datafox.dfxengine.dependencies.Dependency;
+import me.datafox.dfxengine.dependencies.InvalidationBatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -53,6 +55,83 @@ public class DependenciesTest {
         assertEquals(2, combinedCombined.i());
     }
 
+    @Test
+    public void invalidateSourceTest() {
+        root.invalidateDependents();
+
+        assertSame(root, rootDependent.source());
+        assertSame(rootCombined, combinedDependent.source());
+
+        rootDependent.invalidate();
+
+        assertSame(root, rootDependent.source());
+        assertEquals(2, rootDependent.i());
+    }
+
+    @Test
+    public void invalidationBatchTest() {
+        TestDependency other = new TestDependency();
+        other.addDependent(rootCombined);
+
+        InvalidationBatch.run(() -> {
+            assertTrue(InvalidationBatch.isRunning());
+            root.invalidateDependents();
+            other.invalidateDependents();
+            rootCombined.invalidate();
+
+            assertEquals(0, rootDependent.i());
+            assertEquals(1, rootCombined.i());
+            assertEquals(0, combinedDependent.i());
+        });
+
+        assertFalse(InvalidationBatch.isRunning());
+        assertEquals(1, rootDependent.i());
+        assertEquals(3, rootCombined.i());
+        assertEquals(1, combinedDependent.i());
+        assertEquals(1, combinedCombined.i());
+
+        assertThrows(IllegalStateException.class, () -> InvalidationBatch.run(() -> {
+            root.invalidateDependents();
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(2, rootDependent.i());
+        assertEquals(2, combinedDependent.i());
+    }
+
+    @Test
+    public void invalidationBatchOverrideTest() {
+        int[] calls = new int[1];
+        TestCombined overriding = new TestCombined() {
+            @Override
+            public void invalidate(Dependency source) {
+                calls[0]++;
+                super.invalidate(source);
+            }
+        };
+        TestDependent overridingDependent = new TestDependent();
+        root.addDependent(overriding);
+        overriding.addDependent(overridingDependent);
+
+        InvalidationBatch.run(root::invalidateDependents);
+
+        assertEquals(1, calls[0]);
+        assertEquals(1, overriding.i());
+        assertEquals(1, overridingDependent.i());
+        assertEquals(1, combinedDependent.i());
+
+        TestCombined throwing = new TestCombined() {
+            @Override
+            protected void onInvalidate() {
+                throw new IllegalStateException();
+            }
+        };
+        root.addDependent(throwing);
+
+        assertThrows(IllegalStateException.class, () -> InvalidationBatch.run(root::invalidateDependents));
+        assertFalse(InvalidationBatch.isRunning());
+    }
+
     @Test
     public void cyclicDependencyTest() {
         assertThrows(IllegalArgumentException.class, () -> combinedCombined.addDependent(rootCombined));
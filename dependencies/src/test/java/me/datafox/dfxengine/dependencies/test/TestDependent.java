@@ -1,5 +1,6 @@
 package me.datafox.dfxengine.dependencies.test;
 
+import me.datafox.dfxengine.dependencies.Dependency;
 import me.datafox.dfxengine.dependencies.Dependent;
 
 /**
@@ -8,12 +9,24 @@ import me.datafox.dfxengine.dependencies.Dependent;
 public class TestDependent implements Dependent {
     private int i = 0;
 
+    private Dependency source = null;
+
     @Override
     public void invalidate() {
         i++;
     }
 
+    @Override
+    public void invalidate(Dependency source) {
+        this.source = source;
+        invalidate();
+    }
+
     public int i() {
         return i;
     }
+
+    public Dependency source() {
+        return source;
+    }
 }
@@ -7,8 +7,10 @@ import java.math.BigInteger;
 
 /**
  * A numeric value that can be backed by various {@link Number} types. Specifically, the allowed types are
- * {@link Integer}, {@link Long}, {@link BigInteger}, {@link Float}, {@link Double} {@link BigDecimal}. An
- * implementation of numeral should be immutable. It is called numeral to prevent name collisions with {@link Number}.
+ * {@link Integer}, {@link Long}, {@link BigInteger}, {@link Float}, {@link Double}, {@link BigDecimal} and types for
+ * {@link NumeralType#FIXED fixed-point}, {@link NumeralType#DOUBLE_DOUBLE double-double} and
+ * {@link NumeralType#HUGE huge} numbers. An implementation of numeral should be immutable. It is called numeral to
+ * prevent name collisions with {@link Number}.
  *
  * @author datafox
  */
@@ -4,7 +4,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 /**
- * {@link Enum} containing the six types that a {@link Numeral} can be backed with.
+ * {@link Enum} containing the types that a {@link Numeral} can be backed with.
  *
  * @author datafox
  */
@@ -24,20 +24,38 @@ public enum NumeralType {
      */
     BIG_INT(true, 2),
 
+    /**
+     * Value that represents a fixed-point decimal number with a {@code long} unscaled value and a scale of up to 18
+     * fractional decimal digits. Arithmetic on this type is exact.
+     */
+    FIXED(false, 3),
+
     /**
      * Value that represents a {@code float} or {@link Float}.
      */
-    FLOAT(false, 3),
+    FLOAT(false, 4),
 
     /**
      * Value that represents a {@code double} or {@link Double}.
      */
-    DOUBLE(false, 4),
+    DOUBLE(false, 5),
+
+    /**
+     * Value that represents a double-double number, the unevaluated sum of two {@code double} values. This type has
+     * roughly 32 significant decimal digits of precision and the range of a {@code double}.
+     */
+    DOUBLE_DOUBLE(false, 6),
 
     /**
      * Value that represents a {@link BigDecimal}.
      */
-    BIG_DEC(false, 5);
+    BIG_DEC(false, 7),
+
+    /**
+     * Value that represents a number with a {@code double} mantissa and a {@code long} base 10 exponent. This type
+     * has roughly the precision of a {@code double}, but a range that far exceeds that of a {@link BigDecimal}.
+     */
+    HUGE(false, 8);
 
     private final boolean integer;
     private final int significance;
@@ -55,7 +73,8 @@ public enum NumeralType {
     }
 
     /**
-     * @return {@code true} if this value represents a decimal type ({@code float}, {@code double}, {@link BigDecimal})
+     * @return {@code true} if this value represents a decimal type (fixed-point, {@code float},
+     * {@code double}, double-double, {@link BigDecimal}, huge)
      */
     public boolean isDecimal() {
         return !integer;
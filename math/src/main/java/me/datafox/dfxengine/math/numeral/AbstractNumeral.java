@@ -17,31 +17,15 @@ import static me.datafox.dfxengine.math.utils.Numerals.compare;
 
 /**
  * A numeric value that can be backed by various {@link Number} types. Specifically, the allowed types are
- * {@link Integer}, {@link Long}, {@link BigInteger}, {@link Float}, {@link Double} {@link BigDecimal}. An
- * implementation of numeral should be immutable. It is called numeral to prevent name collisions with {@link Number}.
+ * {@link Integer}, {@link Long}, {@link BigInteger}, {@link Fixed}, {@link Float}, {@link Double},
+ * {@link DoubleDouble}, {@link BigDecimal} and {@link Huge}. An implementation of numeral should be immutable. It is
+ * called numeral to prevent name collisions with {@link Number}.
  *
  * @author datafox
  */
 
 @EqualsAndHashCode
 abstract class AbstractNumeral implements Numeral {
-    private final NumeralType type;
-
-    private final Logger logger;
-
-    AbstractNumeral(NumeralType type) {
-        this.type = type;
-        logger = getLogger();
-    }
-
-    /**
-     * @return the backing {@link Number}'s type
-     */
-    @Override
-    public NumeralType getType() {
-        return type;
-    }
-
     /**
      * @param type type to be checked for
      * @return {@code true} if this numeral can be converted to the specified type
@@ -84,7 +68,7 @@ abstract class AbstractNumeral implements Numeral {
             return convert(type);
         }
 
-        logger.info(MathStrings.couldNotConvert(this, type));
+        getLogger().info(MathStrings.couldNotConvert(this, type));
 
         return this;
     }
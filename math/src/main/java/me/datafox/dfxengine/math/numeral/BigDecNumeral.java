@@ -24,7 +24,6 @@ public final class BigDecNumeral extends AbstractNumeral {
      * @param number {@link BigDecimal} to be associated with this numeral
      */
     public BigDecNumeral(BigDecimal number) {
-        super(NumeralType.BIG_DEC);
         this.number = number;
     }
 
@@ -49,6 +48,14 @@ public final class BigDecNumeral extends AbstractNumeral {
         this(BigDecimal.valueOf(val));
     }
 
+    /**
+     * @return {@link NumeralType#BIG_DEC}
+     */
+    @Override
+    public NumeralType getType() {
+        return NumeralType.BIG_DEC;
+    }
+
     /**
      * @return the {@link Number} backing this numeral
      */
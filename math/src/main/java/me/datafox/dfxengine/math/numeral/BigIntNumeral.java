@@ -24,7 +24,6 @@ public final class BigIntNumeral extends AbstractNumeral {
      * @param number {@link BigInteger} to be associated with this numeral
      */
     public BigIntNumeral(BigInteger number) {
-        super(NumeralType.BIG_INT);
         this.number = number;
     }
 
@@ -42,6 +41,14 @@ public final class BigIntNumeral extends AbstractNumeral {
         this(BigInteger.valueOf(val));
     }
 
+    /**
+     * @return {@link NumeralType#BIG_INT}
+     */
+    @Override
+    public NumeralType getType() {
+        return NumeralType.BIG_INT;
+    }
+
     /**
      * @return the {@link Number} backing this numeral
      */
@@ -0,0 +1,629 @@
+package me.datafox.dfxengine.math.numeral;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * <p>
+ * An immutable double-double number, represented by the unevaluated sum of two {@code double} values. The high part
+ * holds the value rounded to a {@code double}, and the low part holds the rounding error of the high part. This gives
+ * roughly 32 significant decimal digits of precision, about twice that of a {@code double}, while all operations are
+ * still done with {@code double} arithmetic and are significantly faster than the equivalent {@link BigDecimal}
+ * operations.
+ * </p>
+ * <p>
+ * The range of this number is the same as that of a {@code double}. Like with {@code double}, operations that
+ * overflow return an {@link #isInfinite() infinite} value and invalid operations return a {@link #isNaN() NaN} value
+ * instead of throwing an exception.
+ * </p>
+ *
+ * @author datafox
+ */
+public final class DoubleDouble extends Number implements Comparable<DoubleDouble> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Precision used for {@link #toBigDecimal()}.
+     */
+    private static final MathContext CONTEXT = new MathContext(32);
+
+    private static final double EXP_MAX = 709.782712893384;
+
+    private static final double EXP_MIN = -745.1332191019412;
+
+    private static final double EPSILON = 0x1p-106;
+
+    private static final int EXP_SQUARINGS = 9;
+
+    private static final double EXP_SCALE = 0x1p-9;
+
+    /**
+     * Double-double representation of the number zero.
+     */
+    public static final DoubleDouble ZERO = new DoubleDouble(0, 0);
+
+    /**
+     * Double-double representation of the number one.
+     */
+    public static final DoubleDouble ONE = new DoubleDouble(1, 0);
+
+    /**
+     * Double-double representation of the natural logarithm of two.
+     */
+    public static final DoubleDouble LN_2 = new DoubleDouble(6.931471805599452862e-01, 2.319046813846299558e-17);
+
+    /**
+     * Double-double representation of the natural logarithm of ten.
+     */
+    public static final DoubleDouble LN_10 = new DoubleDouble(2.302585092994045901e+00, -2.170756223382249351e-16);
+
+    private static final DoubleDouble NAN = new DoubleDouble(Double.NaN, Double.NaN);
+
+    private final double high;
+
+    private final double low;
+
+    private DoubleDouble(double high, double low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Creates a new double-double with the value {@code high + low}. The parts do not need to be normalized.
+     *
+     * @param high high part of the number
+     * @param low low part of the number
+     * @return double-double with the specified value
+     */
+    public static DoubleDouble of(double high, double low) {
+        return twoSum(high, low);
+    }
+
+    /**
+     * @param d {@code double} value
+     * @return double-double with the specified value
+     */
+    public static DoubleDouble valueOf(double d) {
+        return new DoubleDouble(d, 0);
+    }
+
+    /**
+     * @param l {@code long} value
+     * @return double-double with the exact specified value
+     */
+    public static DoubleDouble valueOf(long l) {
+        double high = l;
+
+        if(Math.abs(high) >= 0x1p63) {
+            return valueOf(BigDecimal.valueOf(l));
+        }
+
+        return new DoubleDouble(high, l - (long) high);
+    }
+
+    /**
+     * @param bi {@link BigInteger} value
+     * @return double-double with the specified value, which is infinite if the value is outside the range of a
+     * {@code double}
+     */
+    public static DoubleDouble valueOf(BigInteger bi) {
+        return valueOf(new BigDecimal(bi));
+    }
+
+    /**
+     * @param bd {@link BigDecimal} value
+     * @return double-double with the specified value, which is infinite if the value is outside the range of a
+     * {@code double}
+     */
+    public static DoubleDouble valueOf(BigDecimal bd) {
+        double high = bd.doubleValue();
+
+        if(Double.isInfinite(high)) {
+            return new DoubleDouble(high, 0);
+        }
+
+        return twoSum(high, bd.subtract(new BigDecimal(high)).doubleValue());
+    }
+
+    /**
+     * @param str {@link String} representation of a number, in any format accepted by {@link BigDecimal}
+     * @return double-double with the specified value
+     *
+     * @throws NumberFormatException if the {@link String} is not a valid number representation
+     */
+    public static DoubleDouble valueOf(String str) {
+        return valueOf(new BigDecimal(str));
+    }
+
+    /**
+     * @return high part of this number, which is also the closest {@code double} to this number
+     */
+    public double getHigh() {
+        return high;
+    }
+
+    /**
+     * @return low part of this number, which is the rounding error of the {@link #getHigh() high part}
+     */
+    public double getLow() {
+        return low;
+    }
+
+    /**
+     * @return {@code -1}, {@code 0} or {@code 1} as this number is negative, zero or positive
+     */
+    public int signum() {
+        return (int) Math.signum(high);
+    }
+
+    /**
+     * @return {@code true} if this number is infinite
+     */
+    public boolean isInfinite() {
+        return Double.isInfinite(high);
+    }
+
+    /**
+     * @return {@code true} if this number is not a number
+     */
+    public boolean isNaN() {
+        return Double.isNaN(high);
+    }
+
+    /**
+     * @return {@code true} if this number is an integer
+     */
+    public boolean isInteger() {
+        return Double.isFinite(high) && floor().equals(this);
+    }
+
+    /**
+     * @return {@code true} if this number is an even integer
+     */
+    public boolean isEven() {
+        return isInteger() && multiply(0.5).isInteger();
+    }
+
+    /**
+     * @param addend double-double to be added to this number
+     * @return result of the addition
+     */
+    public DoubleDouble add(DoubleDouble addend) {
+        double s1 = high + addend.high;
+
+        if(!Double.isFinite(s1)) {
+            return new DoubleDouble(s1, 0);
+        }
+
+        double bb = s1 - high;
+        double s2 = (high - (s1 - bb)) + (addend.high - bb);
+        double t1 = low + addend.low;
+        bb = t1 - low;
+        double t2 = (low - (t1 - bb)) + (addend.low - bb);
+        s2 += t1;
+        double h = s1 + s2;
+        s2 = s2 - (h - s1);
+        s2 += t2;
+
+        return quickTwoSum(h, s2);
+    }
+
+    /**
+     * @param subtrahend double-double to be subtracted from this number
+     * @return result of the subtraction
+     */
+    public DoubleDouble subtract(DoubleDouble subtrahend) {
+        return add(subtrahend.negate());
+    }
+
+    /**
+     * @param multiplier double-double to multiply this number with
+     * @return result of the multiplication
+     */
+    public DoubleDouble multiply(DoubleDouble multiplier) {
+        double p = high * multiplier.high;
+
+        if(!Double.isFinite(p)) {
+            return new DoubleDouble(p, 0);
+        }
+
+        double e = Math.fma(high, multiplier.high, -p);
+        e += high * multiplier.low + low * multiplier.high;
+
+        return quickTwoSum(p, e);
+    }
+
+    /**
+     * @param divisor double-double to divide this number with
+     * @return result of the division
+     */
+    public DoubleDouble divide(DoubleDouble divisor) {
+        double q1 = high / divisor.high;
+
+        if(!Double.isFinite(q1)) {
+            return new DoubleDouble(q1, 0);
+        }
+
+        DoubleDouble r = subtract(divisor.multiply(q1));
+        double q2 = r.high / divisor.high;
+        r = r.subtract(divisor.multiply(q2));
+        double q3 = r.high / divisor.high;
+
+        return quickTwoSum(q1, q2).add(q3);
+    }
+
+    /**
+     * @return negation of this number
+     */
+    public DoubleDouble negate() {
+        return new DoubleDouble(-high, -low);
+    }
+
+    /**
+     * @return absolute value of this number
+     */
+    public DoubleDouble abs() {
+        if(high < 0) {
+            return negate();
+        }
+
+        return this;
+    }
+
+    /**
+     * @return largest integer that is less than or equal to this number
+     */
+    public DoubleDouble floor() {
+        double h = Math.floor(high);
+
+        if(h != high) {
+            return new DoubleDouble(h, 0);
+        }
+
+        return quickTwoSum(h, Math.floor(low));
+    }
+
+    /**
+     * @return square root of this number, or NaN if this number is negative
+     */
+    public DoubleDouble sqrt() {
+        if(high == 0) {
+            return ZERO;
+        }
+
+        if(high < 0) {
+            return NAN;
+        }
+
+        double x = 1 / Math.sqrt(high);
+        DoubleDouble ax = valueOf(high * x);
+
+        return ax.add(subtract(ax.multiply(ax)).high * (x * 0.5));
+    }
+
+    /**
+     * @return cube root of this number
+     */
+    public DoubleDouble cbrt() {
+        if(high == 0) {
+            return ZERO;
+        }
+
+        DoubleDouble y = valueOf(Math.cbrt(high));
+        DoubleDouble y2 = y.multiply(y);
+
+        return y.subtract(y2.multiply(y).subtract(this).divide(y2.multiply(3)));
+    }
+
+    /**
+     * @param base base of the root
+     * @return root of this number in the specified base, or NaN if this number is negative and the base is not an odd
+     * integer
+     */
+    public DoubleDouble root(DoubleDouble base) {
+        if(high < 0) {
+            if(base.isInteger() && !base.isEven()) {
+                return negate().root(base).negate();
+            }
+
+            return NAN;
+        }
+
+        return pow(ONE.divide(base));
+    }
+
+    /**
+     * @return natural exponent of this number, which is infinite if the result is outside the range of a
+     * {@code double}
+     */
+    public DoubleDouble exp() {
+        if(isNaN()) {
+            return NAN;
+        }
+
+        if(high > EXP_MAX) {
+            return new DoubleDouble(Double.POSITIVE_INFINITY, 0);
+        }
+
+        if(high < EXP_MIN) {
+            return ZERO;
+        }
+
+        if(high == 0) {
+            return ONE;
+        }
+
+        double k = Math.floor(high / LN_2.high + 0.5);
+        DoubleDouble r = subtract(LN_2.multiply(k)).multiply(EXP_SCALE);
+        DoubleDouble p = r.multiply(r);
+        DoubleDouble s = r.add(p.multiply(0.5));
+        DoubleDouble term = p.multiply(r).divide(6);
+
+        for(int i = 4; Math.abs(term.high) > EPSILON * Math.abs(s.high); i++) {
+            s = s.add(term);
+            term = term.multiply(r).divide(i);
+        }
+
+        for(int i = 0; i < EXP_SQUARINGS; i++) {
+            s = s.multiply(2).add(s.multiply(s));
+        }
+
+        s = s.add(1);
+
+        return new DoubleDouble(Math.scalb(s.high, (int) k), Math.scalb(s.low, (int) k));
+    }
+
+    /**
+     * @return natural logarithm of this number, or NaN if this number is zero or negative
+     */
+    public DoubleDouble log() {
+        if(high <= 0 || isNaN()) {
+            return NAN;
+        }
+
+        if(equals(ONE)) {
+            return ZERO;
+        }
+
+        DoubleDouble x = valueOf(Math.log(high));
+
+        return x.add(multiply(x.negate().exp())).subtract(ONE);
+    }
+
+    /**
+     * @return base 10 logarithm of this number, or NaN if this number is zero or negative
+     */
+    public DoubleDouble log10() {
+        return log().divide(LN_10);
+    }
+
+    /**
+     * @return binary logarithm of this number, or NaN if this number is zero or negative
+     */
+    public DoubleDouble log2() {
+        return log().divide(LN_2);
+    }
+
+    /**
+     * Raises this number to the power of the specified exponent. Integer exponents that fit in an {@code int} are
+     * calculated by repeated squaring, other exponents are calculated with {@code exp(exponent * log(this))}.
+     *
+     * @param exponent exponent
+     * @return result of the exponentiation, which is infinite if the result is outside the range of a {@code double},
+     * or NaN if this number is negative and the exponent is not an integer
+     */
+    public DoubleDouble pow(DoubleDouble exponent) {
+        if(exponent.high == 0 || equals(ONE)) {
+            return ONE;
+        }
+
+        if(exponent.isInteger() && Math.abs(exponent.high) <= Integer.MAX_VALUE) {
+            return powInt((int) exponent.high);
+        }
+
+        if(high == 0) {
+            return exponent.high > 0 ? ZERO : new DoubleDouble(Double.POSITIVE_INFINITY, 0);
+        }
+
+        if(high < 0) {
+            return NAN;
+        }
+
+        return exponent.multiply(log()).exp();
+    }
+
+    /**
+     * @return {@link BigDecimal} representation of this number, rounded to 32 significant digits
+     *
+     * @throws NumberFormatException if this number is infinite or NaN
+     */
+    public BigDecimal toBigDecimal() {
+        if(high == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return new BigDecimal(high).add(new BigDecimal(low)).round(CONTEXT).stripTrailingZeros();
+    }
+
+    /**
+     * @return {@link BigInteger} representation of this number, with any fractional part discarded
+     *
+     * @throws NumberFormatException if this number is infinite or NaN
+     */
+    public BigInteger toBigInteger() {
+        return new BigDecimal(high).add(new BigDecimal(low)).toBigInteger();
+    }
+
+    /**
+     * @return {@code int} representation of this number, with any fractional part discarded and saturated to
+     * {@link Integer#MIN_VALUE} and {@link Integer#MAX_VALUE}
+     */
+    @Override
+    public int intValue() {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, longValue()));
+    }
+
+    /**
+     * @return {@code long} representation of this number, with any fractional part discarded and saturated to
+     * {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE}
+     */
+    @Override
+    public long longValue() {
+        DoubleDouble truncated = high < 0 ? negate().floor().negate() : floor();
+        long low = (long) truncated.low;
+
+        if(truncated.high >= 0x1p63) {
+            return truncated.high == 0x1p63 && low < 0 ? Long.MAX_VALUE + (low + 1) : Long.MAX_VALUE;
+        }
+
+        if(truncated.high <= -0x1p63) {
+            return truncated.high == -0x1p63 && low > 0 ? Long.MIN_VALUE + low : Long.MIN_VALUE;
+        }
+
+        return (long) truncated.high + low;
+    }
+
+    /**
+     * @return {@code float} representation of this number
+     */
+    @Override
+    public float floatValue() {
+        return (float) high;
+    }
+
+    /**
+     * @return {@code double} representation of this number
+     */
+    @Override
+    public double doubleValue() {
+        return high;
+    }
+
+    /**
+     * @param other double-double to be compared with
+     * @return a negative integer, zero, or a positive integer as this number is less than, equal to, or greater than
+     * the specified number
+     */
+    @Override
+    public int compareTo(DoubleDouble other) {
+        if(high != other.high) {
+            return high < other.high ? -1 : 1;
+        }
+
+        if(low != other.low) {
+            return low < other.low ? -1 : 1;
+        }
+
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+
+        if(!(o instanceof DoubleDouble)) {
+            return false;
+        }
+
+        DoubleDouble other = (DoubleDouble) o;
+
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(high + 0d) + Double.hashCode(low + 0d);
+    }
+
+    /**
+     * @return {@link String} representation of this number, rounded to 32 significant digits
+     */
+    @Override
+    public String toString() {
+        if(!Double.isFinite(high)) {
+            return Double.toString(high);
+        }
+
+        return toBigDecimal().toString();
+    }
+
+    private DoubleDouble add(double addend) {
+        double s1 = high + addend;
+
+        if(!Double.isFinite(s1)) {
+            return new DoubleDouble(s1, 0);
+        }
+
+        double bb = s1 - high;
+        double s2 = (high - (s1 - bb)) + (addend - bb);
+        s2 += low;
+
+        return quickTwoSum(s1, s2);
+    }
+
+    private DoubleDouble multiply(double multiplier) {
+        double p = high * multiplier;
+
+        if(!Double.isFinite(p)) {
+            return new DoubleDouble(p, 0);
+        }
+
+        double e = Math.fma(high, multiplier, -p);
+        e += low * multiplier;
+
+        return quickTwoSum(p, e);
+    }
+
+    private DoubleDouble divide(double divisor) {
+        return divide(valueOf(divisor));
+    }
+
+    private DoubleDouble powInt(int exponent) {
+        DoubleDouble base = this;
+        long remaining = Math.abs((long) exponent);
+        DoubleDouble result = ONE;
+
+        while(remaining != 0) {
+            if((remaining & 1) != 0) {
+                result = result.multiply(base);
+            }
+
+            remaining >>= 1;
+
+            if(remaining != 0) {
+                base = base.multiply(base);
+            }
+        }
+
+        if(exponent < 0) {
+            return ONE.divide(result);
+        }
+
+        return result;
+    }
+
+    private static DoubleDouble twoSum(double a, double b) {
+        double s = a + b;
+
+        if(!Double.isFinite(s)) {
+            return new DoubleDouble(s, 0);
+        }
+
+        double bb = s - a;
+
+        return new DoubleDouble(s, (a - (s - bb)) + (b - bb));
+    }
+
+    private static DoubleDouble quickTwoSum(double a, double b) {
+        double s = a + b;
+
+        if(!Double.isFinite(s)) {
+            return new DoubleDouble(s, 0);
+        }
+
+        return new DoubleDouble(s, b - (s - a));
+    }
+}
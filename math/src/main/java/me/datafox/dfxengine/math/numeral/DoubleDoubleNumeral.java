@@ -0,0 +1,97 @@
+package me.datafox.dfxengine.math.numeral;
+
+import lombok.EqualsAndHashCode;
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link Numeral} backed with a {@link DoubleDouble}.
+ *
+ * @author datafox
+ */
+
+@EqualsAndHashCode(callSuper = true)
+public final class DoubleDoubleNumeral extends AbstractNumeral {
+    private static final Logger logger = LoggerFactory.getLogger(DoubleDoubleNumeral.class);
+
+    private final DoubleDouble number;
+
+    /**
+     * @param number {@link DoubleDouble} to be associated with this numeral
+     *
+     * @throws IllegalArgumentException if the {@link DoubleDouble} is {@code NaN} or infinite.
+     */
+    public DoubleDoubleNumeral(DoubleDouble number) {
+        if(number.isNaN()) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.nanDoubleDoubleValue(),
+                    IllegalArgumentException::new);
+        }
+
+        if(number.isInfinite()) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.infiniteDoubleDoubleValue(),
+                    IllegalArgumentException::new);
+        }
+
+        this.number = number;
+    }
+
+    /**
+     * @param number {@code double} to be associated with this numeral
+     *
+     * @throws IllegalArgumentException if the {@code double} is {@code NaN} or infinite.
+     */
+    public DoubleDoubleNumeral(double number) {
+        this(DoubleDouble.valueOf(number));
+    }
+
+    /**
+     * @param val {@link String} representation of the {@link DoubleDouble} to be associated with this numeral
+     *
+     * @throws IllegalArgumentException if the value is outside the range of a {@code double}
+     */
+    public DoubleDoubleNumeral(String val) {
+        this(DoubleDouble.valueOf(val));
+    }
+
+    /**
+     * @return {@link NumeralType#DOUBLE_DOUBLE}
+     */
+    @Override
+    public NumeralType getType() {
+        return NumeralType.DOUBLE_DOUBLE;
+    }
+
+    /**
+     * @return the {@link Number} backing this numeral
+     */
+    @Override
+    public Number getNumber() {
+        return number;
+    }
+
+    /**
+     * @return the backing {@link DoubleDouble} of this numeral
+     */
+    public DoubleDouble doubleDoubleValue() {
+        return number;
+    }
+
+    /**
+     * @return the closest {@code double} to the backing {@link DoubleDouble} of this numeral
+     */
+    @Override
+    public double doubleValue() {
+        return number.doubleValue();
+    }
+
+    @Override
+    protected Logger getLogger() {
+        return logger;
+    }
+}
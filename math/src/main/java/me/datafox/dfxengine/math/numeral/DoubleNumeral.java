@@ -26,8 +26,6 @@ public final class DoubleNumeral extends AbstractNumeral {
      * @throws IllegalArgumentException if the {@code double} is {@code NaN} or infinite.
      */
     public DoubleNumeral(double number) {
-        super(NumeralType.DOUBLE);
-
         if(Double.isNaN(number)) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.nanDoubleValue(),
@@ -43,6 +41,14 @@ public final class DoubleNumeral extends AbstractNumeral {
         this.number = number;
     }
 
+    /**
+     * @return {@link NumeralType#DOUBLE}
+     */
+    @Override
+    public NumeralType getType() {
+        return NumeralType.DOUBLE;
+    }
+
     /**
      * @return the {@link Number} backing this numeral
      */
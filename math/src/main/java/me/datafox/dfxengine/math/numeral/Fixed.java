@@ -0,0 +1,454 @@
+package me.datafox.dfxengine.math.numeral;
+
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * <p>
+ * An immutable fixed-point decimal number represented by a {@code long} unscaled value and a scale. The value of this
+ * number is {@code unscaled / 10^scale}. The scale is the number of fractional decimal digits and must be between
+ * {@code 0} and {@link #MAX_SCALE} (inclusive).
+ * </p>
+ * <p>
+ * All arithmetic is exact and done with {@code long} arithmetic, making it significantly faster than the equivalent
+ * {@link BigDecimal} operations. Addition and subtraction results use the larger scale of the operands, and
+ * multiplication and division results use the smallest scale that represents the result exactly, but never smaller
+ * than the larger scale of the operands. Operations throw an {@link ArithmeticException} without logging if the result
+ * cannot be represented exactly, in the same way as {@link Math#addExact(long, long)}, so that callers can fall back to
+ * {@link BigDecimal}.
+ * </p>
+ * <p>
+ * Unlike {@link BigDecimal}, {@link #equals(Object)} compares the numeric values, so {@code 2.5} and {@code 2.50} are
+ * considered equal.
+ * </p>
+ *
+ * @author datafox
+ */
+public final class Fixed extends Number implements Comparable<Fixed> {
+    private static final Logger logger = LoggerFactory.getLogger(Fixed.class);
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Largest allowed scale.
+     */
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+
+        for(int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Fixed representation of the number zero.
+     */
+    public static final Fixed ZERO = new Fixed(0, 0);
+
+    /**
+     * Fixed representation of the number one.
+     */
+    public static final Fixed ONE = new Fixed(1, 0);
+
+    private final long unscaled;
+
+    private final int scale;
+
+    private Fixed(long unscaled, int scale) {
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates a new Fixed with the value {@code unscaled / 10^scale}.
+     *
+     * @param unscaled unscaled value
+     * @param scale number of fractional decimal digits
+     * @return Fixed with the specified value
+     *
+     * @throws IllegalArgumentException if the scale is negative or greater than {@link #MAX_SCALE}
+     */
+    public static Fixed of(long unscaled, int scale) {
+        if(scale < 0 || scale > MAX_SCALE) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.invalidFixedScale(scale, MAX_SCALE),
+                    IllegalArgumentException::new);
+        }
+
+        return new Fixed(unscaled, scale);
+    }
+
+    /**
+     * @param l {@code long} value
+     * @return Fixed with the specified value and a scale of {@code 0}
+     */
+    public static Fixed valueOf(long l) {
+        return new Fixed(l, 0);
+    }
+
+    /**
+     * Converts a {@link BigDecimal} to a Fixed. The scale of the {@link BigDecimal} is retained if it is between
+     * {@code 0} and {@link #MAX_SCALE} and the unscaled value fits in a {@code long}. Otherwise, the value is rounded
+     * with {@link RoundingMode#HALF_EVEN} to the largest scale where it fits.
+     *
+     * @param bd {@link BigDecimal} value
+     * @return Fixed with the specified value
+     *
+     * @throws ArithmeticException if the integer part of the value does not fit in a {@code long}
+     */
+    public static Fixed valueOf(BigDecimal bd) {
+        int scale = Math.max(0, Math.min(MAX_SCALE, bd.scale()));
+
+        if(scale != bd.scale() || bd.unscaledValue().bitLength() > 63) {
+            bd = bd.stripTrailingZeros();
+            scale = Math.max(0, Math.min(MAX_SCALE, bd.scale()));
+        }
+
+        for(; scale > 0; scale--) {
+            BigInteger unscaled = bd.setScale(scale, RoundingMode.HALF_EVEN).unscaledValue();
+
+            if(unscaled.bitLength() <= 63) {
+                return new Fixed(unscaled.longValue(), scale);
+            }
+        }
+
+        return new Fixed(bd.setScale(0, RoundingMode.HALF_EVEN).unscaledValue().longValueExact(), 0);
+    }
+
+    /**
+     * @param bd {@link BigDecimal} value
+     * @param scale number of fractional decimal digits
+     * @return Fixed with the specified value rounded with {@link RoundingMode#HALF_EVEN} to the specified scale
+     *
+     * @throws IllegalArgumentException if the scale is negative or greater than {@link #MAX_SCALE}
+     * @throws ArithmeticException if the value does not fit in a {@code long} with the specified scale
+     */
+    public static Fixed valueOf(BigDecimal bd, int scale) {
+        if(scale < 0 || scale > MAX_SCALE) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.invalidFixedScale(scale, MAX_SCALE),
+                    IllegalArgumentException::new);
+        }
+
+        return new Fixed(bd.setScale(scale, RoundingMode.HALF_EVEN).unscaledValue().longValueExact(), scale);
+    }
+
+    /**
+     * @param str {@link String} representation of a number, in any format accepted by {@link BigDecimal}
+     * @return Fixed with the specified value
+     *
+     * @throws NumberFormatException if the {@link String} is not a valid number representation
+     * @throws ArithmeticException if the integer part of the value does not fit in a {@code long}
+     */
+    public static Fixed valueOf(String str) {
+        return valueOf(new BigDecimal(str));
+    }
+
+    /**
+     * @param exponent exponent between {@code 0} and {@link #MAX_SCALE} (inclusive)
+     * @return {@code 10^exponent}
+     */
+    public static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * @return unscaled value of this number
+     */
+    public long getUnscaled() {
+        return unscaled;
+    }
+
+    /**
+     * @return scale of this number, which is the number of fractional decimal digits
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * @return {@code -1}, {@code 0} or {@code 1} as this number is negative, zero or positive
+     */
+    public int signum() {
+        return Long.signum(unscaled);
+    }
+
+    /**
+     * @return {@code true} if this number is an integer
+     */
+    public boolean isInteger() {
+        return unscaled % POWERS_OF_TEN[scale] == 0;
+    }
+
+    /**
+     * @return {@code true} if this number is an even integer
+     */
+    public boolean isEven() {
+        return isInteger() && ((unscaled / POWERS_OF_TEN[scale]) & 1) == 0;
+    }
+
+    /**
+     * @param scale new scale
+     * @return this number with the specified scale, rounded with {@link RoundingMode#HALF_EVEN} if the scale is
+     * reduced
+     *
+     * @throws IllegalArgumentException if the scale is negative or greater than {@link #MAX_SCALE}
+     * @throws ArithmeticException if the value does not fit in a {@code long} with the specified scale
+     */
+    public Fixed withScale(int scale) {
+        if(scale < 0 || scale > MAX_SCALE) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.invalidFixedScale(scale, MAX_SCALE),
+                    IllegalArgumentException::new);
+        }
+
+        if(scale >= this.scale) {
+            return new Fixed(rescale(unscaled, scale - this.scale), scale);
+        }
+
+        long divisor = POWERS_OF_TEN[this.scale - scale];
+        long quotient = unscaled / divisor;
+        long remainder = Math.abs(unscaled % divisor) * 2;
+
+        if(remainder > divisor || (remainder == divisor && (quotient & 1) != 0)) {
+            quotient += Long.signum(unscaled);
+        }
+
+        return new Fixed(quotient, scale);
+    }
+
+    /**
+     * @param addend Fixed to be added to this number
+     * @return result of the addition
+     *
+     * @throws ArithmeticException if the result does not fit in a {@code long} with the larger scale of the operands
+     */
+    public Fixed add(Fixed addend) {
+        int scale = Math.max(this.scale, addend.scale);
+
+        return new Fixed(Math.addExact(rescale(unscaled, scale - this.scale),
+                rescale(addend.unscaled, scale - addend.scale)), scale);
+    }
+
+    /**
+     * @param subtrahend Fixed to be subtracted from this number
+     * @return result of the subtraction
+     *
+     * @throws ArithmeticException if the result does not fit in a {@code long} with the larger scale of the operands
+     */
+    public Fixed subtract(Fixed subtrahend) {
+        int scale = Math.max(this.scale, subtrahend.scale);
+
+        return new Fixed(Math.subtractExact(rescale(unscaled, scale - this.scale),
+                rescale(subtrahend.unscaled, scale - subtrahend.scale)), scale);
+    }
+
+    /**
+     * @param multiplier Fixed to multiply this number with
+     * @return result of the multiplication
+     *
+     * @throws ArithmeticException if the result cannot be represented exactly
+     */
+    public Fixed multiply(Fixed multiplier) {
+        long result = Math.multiplyExact(unscaled, multiplier.unscaled);
+        int scale = this.scale + multiplier.scale;
+        int minScale = Math.max(this.scale, multiplier.scale);
+
+        while(scale > minScale && result % 10 == 0) {
+            result /= 10;
+            scale--;
+        }
+
+        if(scale > MAX_SCALE) {
+            throw new ArithmeticException(MathStrings.fixedNotExact(this, multiplier));
+        }
+
+        return new Fixed(result, scale);
+    }
+
+    /**
+     * @param divisor Fixed to divide this number with
+     * @return result of the division
+     *
+     * @throws ArithmeticException if the divisor is zero or if the result cannot be represented exactly
+     */
+    public Fixed divide(Fixed divisor) {
+        int scale = Math.max(this.scale, divisor.scale);
+        long dividend = rescale(unscaled, scale - this.scale + divisor.scale);
+        long quotient = dividend / divisor.unscaled;
+        long remainder = dividend % divisor.unscaled;
+
+        while(remainder != 0 && scale < MAX_SCALE) {
+            remainder = Math.multiplyExact(remainder, 10);
+            quotient = Math.addExact(Math.multiplyExact(quotient, 10), remainder / divisor.unscaled);
+            remainder %= divisor.unscaled;
+            scale++;
+        }
+
+        if(remainder != 0) {
+            throw new ArithmeticException(MathStrings.fixedNotExact(this, divisor));
+        }
+
+        return new Fixed(quotient, scale);
+    }
+
+    /**
+     * @return negation of this number
+     *
+     * @throws ArithmeticException if the unscaled value is {@link Long#MIN_VALUE}
+     */
+    public Fixed negate() {
+        return new Fixed(Math.negateExact(unscaled), scale);
+    }
+
+    /**
+     * @return absolute value of this number
+     *
+     * @throws ArithmeticException if the unscaled value is {@link Long#MIN_VALUE}
+     */
+    public Fixed abs() {
+        if(unscaled < 0) {
+            return negate();
+        }
+
+        return this;
+    }
+
+    /**
+     * @return {@link BigDecimal} representation of this number
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * @return {@link BigInteger} representation of this number, with any fractional part discarded
+     */
+    public BigInteger toBigInteger() {
+        return BigInteger.valueOf(longValue());
+    }
+
+    /**
+     * @return {@code int} representation of this number, with any fractional part discarded
+     */
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    /**
+     * @return {@code long} representation of this number, with any fractional part discarded
+     */
+    @Override
+    public long longValue() {
+        return unscaled / POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * @return {@code float} representation of this number
+     */
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    /**
+     * @return {@code double} representation of this number
+     */
+    @Override
+    public double doubleValue() {
+        if(scale == 0) {
+            return unscaled;
+        }
+
+        if(Math.abs(unscaled) < 1L << 53) {
+            return unscaled / (double) POWERS_OF_TEN[scale];
+        }
+
+        return toBigDecimal().doubleValue();
+    }
+
+    /**
+     * @param other Fixed to be compared with
+     * @return a negative integer, zero, or a positive integer as this number is less than, equal to, or greater than
+     * the specified number
+     */
+    @Override
+    public int compareTo(Fixed other) {
+        if(scale == other.scale) {
+            return Long.compare(unscaled, other.unscaled);
+        }
+
+        if(signum() != other.signum()) {
+            return Integer.compare(signum(), other.signum());
+        }
+
+        long integer = longValue();
+        long otherInteger = other.longValue();
+
+        if(integer != otherInteger) {
+            return Long.compare(integer, otherInteger);
+        }
+
+        int scale = Math.max(this.scale, other.scale);
+
+        return Long.compare(rescale(unscaled % POWERS_OF_TEN[this.scale], scale - this.scale),
+                rescale(other.unscaled % POWERS_OF_TEN[other.scale], scale - other.scale));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+
+        if(!(o instanceof Fixed)) {
+            return false;
+        }
+
+        return compareTo((Fixed) o) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        long normalized = unscaled;
+        int normalizedScale = scale;
+
+        while(normalizedScale > 0 && normalized % 10 == 0) {
+            normalized /= 10;
+            normalizedScale--;
+        }
+
+        return 31 * Long.hashCode(normalized) + normalizedScale;
+    }
+
+    /**
+     * @return {@link String} representation of this number, with all fractional digits
+     */
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static long rescale(long unscaled, int digits) {
+        if(digits == 0) {
+            return unscaled;
+        }
+
+        if(digits > MAX_SCALE) {
+            return Math.multiplyExact(rescale(unscaled, digits - MAX_SCALE), POWERS_OF_TEN[MAX_SCALE]);
+        }
+
+        return Math.multiplyExact(unscaled, POWERS_OF_TEN[digits]);
+    }
+}
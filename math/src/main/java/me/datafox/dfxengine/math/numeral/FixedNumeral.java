@@ -0,0 +1,87 @@
+package me.datafox.dfxengine.math.numeral;
+
+import lombok.EqualsAndHashCode;
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+
+/**
+ * Implementation of {@link Numeral} backed with a {@link Fixed}.
+ *
+ * @author datafox
+ */
+
+@EqualsAndHashCode(callSuper = true)
+public final class FixedNumeral extends AbstractNumeral {
+    private static final Logger logger = LoggerFactory.getLogger(FixedNumeral.class);
+
+    private final Fixed number;
+
+    /**
+     * @param number {@link Fixed} to be associated with this numeral
+     */
+    public FixedNumeral(Fixed number) {
+        this.number = number;
+    }
+
+    /**
+     * @param unscaled unscaled value of the {@link Fixed} to be associated with this numeral
+     * @param scale scale of the {@link Fixed} to be associated with this numeral
+     *
+     * @throws IllegalArgumentException if the scale is negative or greater than {@link Fixed#MAX_SCALE}
+     */
+    public FixedNumeral(long unscaled, int scale) {
+        this(Fixed.of(unscaled, scale));
+    }
+
+    /**
+     * @param val {@link String} representation of the {@link Fixed} to be associated with this numeral
+     *
+     * @throws ArithmeticException if the integer part of the value does not fit in a {@code long}
+     */
+    public FixedNumeral(String val) {
+        this(Fixed.valueOf(val));
+    }
+
+    /**
+     * @param val {@link String} representation of the {@link Fixed} to be associated with this numeral
+     * @param scale scale of the {@link Fixed} to be associated with this numeral
+     *
+     * @throws IllegalArgumentException if the scale is negative or greater than {@link Fixed#MAX_SCALE}
+     * @throws ArithmeticException if the value does not fit in a {@code long} with the specified scale
+     */
+    public FixedNumeral(String val, int scale) {
+        this(Fixed.valueOf(new BigDecimal(val), scale));
+    }
+
+    /**
+     * @return {@link NumeralType#FIXED}
+     */
+    @Override
+    public NumeralType getType() {
+        return NumeralType.FIXED;
+    }
+
+    /**
+     * @return the {@link Number} backing this numeral
+     */
+    @Override
+    public Number getNumber() {
+        return number;
+    }
+
+    /**
+     * @return the backing {@link Fixed} of this numeral
+     */
+    public Fixed fixedValue() {
+        return number;
+    }
+
+    @Override
+    protected Logger getLogger() {
+        return logger;
+    }
+}
@@ -29,8 +29,6 @@ public final class FloatNumeral extends AbstractNumeral {
      * @throws IllegalArgumentException if the {@code float} is {@code NaN} or infinite.
      */
     public FloatNumeral(float number) {
-        super(NumeralType.FLOAT);
-
         if(Double.isNaN(number)) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.nanFloatValue(),
@@ -46,6 +44,14 @@ public final class FloatNumeral extends AbstractNumeral {
         this.number = number;
     }
 
+    /**
+     * @return {@link NumeralType#FLOAT}
+     */
+    @Override
+    public NumeralType getType() {
+        return NumeralType.FLOAT;
+    }
+
     /**
      * @return the {@link Number} backing this numeral
      */
@@ -0,0 +1,698 @@
+package me.datafox.dfxengine.math.numeral;
+
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * <p>
+ * An immutable number represented by a {@code double} mantissa and a {@code long} base 10 exponent. The value of this
+ * number is {@code mantissa * 10^exponent}. The mantissa is always normalized so that its absolute value is between
+ * {@code 1} (inclusive) and {@code 10} (exclusive), unless the number is zero, in which case both the mantissa and the
+ * exponent are zero.
+ * </p>
+ * <p>
+ * This number has roughly the precision of a {@code double}, but its range is practically unlimited. All operations
+ * are done with {@code double} arithmetic on the mantissa and {@code long} arithmetic on the exponent, making them
+ * significantly faster than the equivalent {@link BigDecimal} operations.
+ * </p>
+ *
+ * @author datafox
+ */
+public final class Huge extends Number implements Comparable<Huge> {
+    private static final Logger logger = LoggerFactory.getLogger(Huge.class);
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Largest exponent where this number is precise enough to possibly have a fractional part.
+     */
+    private static final int MAX_PRECISE_EXPONENT = 17;
+
+    private static final int MIN_POWER = -340;
+
+    private static final int MAX_POWER = 308;
+
+    private static final double[] POWERS_OF_TEN = new double[MAX_POWER - MIN_POWER + 1];
+
+    private static final double LOG10_E = Math.log10(Math.E);
+
+    private static final double LN_10 = Math.log(10);
+
+    private static final double LOG10_2 = Math.log10(2);
+
+    static {
+        for(int i = MIN_POWER; i <= MAX_POWER; i++) {
+            POWERS_OF_TEN[i - MIN_POWER] = Double.parseDouble("1e" + i);
+        }
+    }
+
+    /**
+     * Huge representation of the number zero.
+     */
+    public static final Huge ZERO = new Huge(0, 0);
+
+    /**
+     * Huge representation of the number one.
+     */
+    public static final Huge ONE = new Huge(1, 0);
+
+    /**
+     * Huge representation of the number ten.
+     */
+    public static final Huge TEN = new Huge(1, 1);
+
+    private final double mantissa;
+
+    private final long exponent;
+
+    private Huge(double mantissa, long exponent) {
+        this.mantissa = mantissa;
+        this.exponent = exponent;
+    }
+
+    /**
+     * Creates a new Huge with the value {@code mantissa * 10^exponent}. The mantissa does not need to be normalized.
+     *
+     * @param mantissa mantissa of the number
+     * @param exponent base 10 exponent of the number
+     * @return Huge with the specified value
+     *
+     * @throws IllegalArgumentException if the mantissa is {@code NaN} or infinite
+     */
+    public static Huge of(double mantissa, long exponent) {
+        if(Double.isNaN(mantissa)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.nanHugeValue(),
+                    IllegalArgumentException::new);
+        }
+
+        if(Double.isInfinite(mantissa)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.infiniteHugeValue(),
+                    IllegalArgumentException::new);
+        }
+
+        return normalize(mantissa, exponent);
+    }
+
+    /**
+     * @param d {@code double} value
+     * @return Huge with the specified value
+     *
+     * @throws IllegalArgumentException if the value is {@code NaN} or infinite
+     */
+    public static Huge valueOf(double d) {
+        return of(d, 0);
+    }
+
+    /**
+     * @param l {@code long} value
+     * @return Huge with the specified value
+     */
+    public static Huge valueOf(long l) {
+        return normalize(l, 0);
+    }
+
+    /**
+     * @param bi {@link BigInteger} value
+     * @return Huge with the specified value
+     */
+    public static Huge valueOf(BigInteger bi) {
+        return valueOf(new BigDecimal(bi));
+    }
+
+    /**
+     * @param bd {@link BigDecimal} value
+     * @return Huge with the specified value
+     */
+    public static Huge valueOf(BigDecimal bd) {
+        if(bd.signum() == 0) {
+            return ZERO;
+        }
+
+        long exponent = (long) bd.precision() - bd.scale() - 1;
+        BigDecimal mantissa = new BigDecimal(bd.unscaledValue(), bd.precision() - 1);
+
+        return normalize(mantissa.doubleValue(), exponent);
+    }
+
+    /**
+     * Parses a Huge from a {@link String}. The string may be in any format accepted by {@link BigDecimal}, but the
+     * exponent after the character {@code e} or {@code E} may exceed the range of an {@code int}.
+     *
+     * @param str {@link String} representation of a number
+     * @return Huge with the specified value
+     *
+     * @throws NumberFormatException if the {@link String} is not a valid number representation
+     */
+    public static Huge valueOf(String str) {
+        int index = Math.max(str.indexOf('e'), str.indexOf('E'));
+
+        if(index == -1) {
+            return valueOf(new BigDecimal(str));
+        }
+
+        Huge mantissa = valueOf(new BigDecimal(str.substring(0, index)));
+
+        if(mantissa.mantissa == 0) {
+            return ZERO;
+        }
+
+        long exponent = Long.parseLong(str.substring(index + 1));
+
+        return new Huge(mantissa.mantissa, Math.addExact(mantissa.exponent, exponent));
+    }
+
+    /**
+     * Returns a Huge with the value of {@code 10^log10}. This is used for operations with results that are too large
+     * to be calculated directly.
+     *
+     * @param log10 base 10 logarithm of the number
+     * @return Huge with the value of {@code 10^log10}
+     *
+     * @throws ArithmeticException if the resulting exponent would be outside the range of a {@code long}
+     */
+    public static Huge fromLog10(double log10) {
+        if(Double.isNaN(log10)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.nanHugeValue(),
+                    IllegalArgumentException::new);
+        }
+
+        if(log10 < Long.MIN_VALUE) {
+            return ZERO;
+        }
+
+        if(log10 >= Long.MAX_VALUE) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.hugeOverflow(log10),
+                    ArithmeticException::new);
+        }
+
+        double exponent = Math.floor(log10);
+
+        return normalize(Math.pow(10, log10 - exponent), (long) exponent);
+    }
+
+    /**
+     * @param value exponent
+     * @return Huge representation of the natural exponent of the specified value
+     *
+     * @throws ArithmeticException if the resulting exponent would be outside the range of a {@code long}
+     */
+    public static Huge exp(double value) {
+        double result = Math.exp(value);
+
+        if(!Double.isInfinite(result) && result != 0) {
+            return valueOf(result);
+        }
+
+        return fromLog10(value * LOG10_E);
+    }
+
+    /**
+     * @return mantissa of this number, with an absolute value between {@code 1} (inclusive) and {@code 10} (exclusive),
+     * or {@code 0} if this number is zero
+     */
+    public double getMantissa() {
+        return mantissa;
+    }
+
+    /**
+     * @return base 10 exponent of this number
+     */
+    public long getExponent() {
+        return exponent;
+    }
+
+    /**
+     * @return {@code -1}, {@code 0} or {@code 1} as this number is negative, zero or positive
+     */
+    public int signum() {
+        return (int) Math.signum(mantissa);
+    }
+
+    /**
+     * @return {@code true} if this number is an integer
+     */
+    public boolean isInteger() {
+        if(exponent >= MAX_PRECISE_EXPONENT) {
+            return true;
+        }
+
+        return exponent >= 0 && doubleValue() % 1 == 0;
+    }
+
+    /**
+     * @return {@code true} if this number is an even integer
+     */
+    public boolean isEven() {
+        if(exponent >= MAX_PRECISE_EXPONENT) {
+            return true;
+        }
+
+        return isInteger() && longValue() % 2 == 0;
+    }
+
+    /**
+     * @param augend Huge to be added to this number
+     * @return result of the addition
+     */
+    public Huge add(Huge augend) {
+        if(mantissa == 0) {
+            return augend;
+        }
+
+        if(augend.mantissa == 0) {
+            return this;
+        }
+
+        if(exponent >= augend.exponent) {
+            return addAligned(this, augend);
+        }
+
+        return addAligned(augend, this);
+    }
+
+    /**
+     * @param subtrahend Huge to be subtracted from this number
+     * @return result of the subtraction
+     */
+    public Huge subtract(Huge subtrahend) {
+        return add(subtrahend.negate());
+    }
+
+    /**
+     * @param multiplier Huge to multiply this number with
+     * @return result of the multiplication
+     *
+     * @throws ArithmeticException if the resulting exponent would be outside the range of a {@code long}
+     */
+    public Huge multiply(Huge multiplier) {
+        if(mantissa == 0 || multiplier.mantissa == 0) {
+            return ZERO;
+        }
+
+        return normalize(mantissa * multiplier.mantissa, addExponents(exponent, multiplier.exponent));
+    }
+
+    /**
+     * @param divisor Huge to divide this number with
+     * @return result of the division
+     *
+     * @throws ArithmeticException if the divisor is zero or if the resulting exponent would be outside the range of a
+     * {@code long}
+     */
+    public Huge divide(Huge divisor) {
+        if(divisor.mantissa == 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.divisionByZero(this),
+                    ArithmeticException::new);
+        }
+
+        if(mantissa == 0) {
+            return ZERO;
+        }
+
+        return normalize(mantissa / divisor.mantissa, addExponents(exponent, -divisor.exponent));
+    }
+
+    /**
+     * @return negation of this number
+     */
+    public Huge negate() {
+        if(mantissa == 0) {
+            return this;
+        }
+
+        return new Huge(-mantissa, exponent);
+    }
+
+    /**
+     * @return absolute value of this number
+     */
+    public Huge abs() {
+        if(mantissa >= 0) {
+            return this;
+        }
+
+        return negate();
+    }
+
+    /**
+     * Raises this number to the power of the specified exponent. Integer exponents that fit in an {@code int} are
+     * calculated by repeated squaring, which retains the precision of the mantissa better than calculating through the
+     * logarithm.
+     *
+     * @param exponent exponent
+     * @return result of the exponentiation
+     *
+     * @throws ArithmeticException if this number is negative and the exponent is not an integer, if this number is zero
+     * and the exponent is negative, or if the resulting exponent would be outside the range of a {@code long}
+     */
+    public Huge pow(double exponent) {
+        if(exponent == 0 || equals(ONE)) {
+            return ONE;
+        }
+
+        if(mantissa == 0) {
+            if(exponent < 0) {
+                throw LogUtils.logExceptionAndGet(logger,
+                        MathStrings.divisionByZero(this),
+                        ArithmeticException::new);
+            }
+
+            return ZERO;
+        }
+
+        boolean integer = exponent % 1 == 0;
+
+        if(integer && Math.abs(exponent) <= Integer.MAX_VALUE) {
+            return powInt((int) exponent);
+        }
+
+        if(mantissa < 0 && !integer) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.fractionalPowerOfNegative(this, exponent),
+                    ArithmeticException::new);
+        }
+
+        Huge result = fromLog10(log10Abs() * exponent);
+
+        if(mantissa < 0 && exponent % 2 != 0) {
+            return result.negate();
+        }
+
+        return result;
+    }
+
+    /**
+     * @return square root of this number
+     *
+     * @throws ArithmeticException if this number is negative
+     */
+    public Huge sqrt() {
+        if(mantissa < 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.squareRootOfNegative(this),
+                    ArithmeticException::new);
+        }
+
+        if(mantissa == 0) {
+            return ZERO;
+        }
+
+        int remainder = (int) Math.floorMod(exponent, 2L);
+
+        return normalize(Math.sqrt(mantissa * POWERS_OF_TEN[remainder - MIN_POWER]),
+                Math.floorDiv(exponent, 2L));
+    }
+
+    /**
+     * @return cube root of this number
+     */
+    public Huge cbrt() {
+        if(mantissa == 0) {
+            return ZERO;
+        }
+
+        int remainder = (int) Math.floorMod(exponent, 3L);
+
+        return normalize(Math.cbrt(mantissa * POWERS_OF_TEN[remainder - MIN_POWER]),
+                Math.floorDiv(exponent, 3L));
+    }
+
+    /**
+     * @param base base of the root
+     * @return root of this number in the specified base
+     *
+     * @throws ArithmeticException if this number is negative and the base is even, or if the base is zero
+     */
+    public Huge root(double base) {
+        if(base == 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.rootBaseZero(this),
+                    ArithmeticException::new);
+        }
+
+        if(mantissa < 0) {
+            if(base % 2 == 0) {
+                throw LogUtils.logExceptionAndGet(logger,
+                        MathStrings.rootOfNegativeEvenBase(this, base),
+                        ArithmeticException::new);
+            }
+
+            return negate().root(base).negate();
+        }
+
+        return pow(1d / base);
+    }
+
+    /**
+     * @return base 10 logarithm of this number
+     *
+     * @throws ArithmeticException if this number is zero or negative
+     */
+    public double log10() {
+        if(mantissa <= 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.logarithmOfZeroOrNegative(this),
+                    ArithmeticException::new);
+        }
+
+        return log10Abs();
+    }
+
+    /**
+     * @return natural logarithm of this number
+     *
+     * @throws ArithmeticException if this number is zero or negative
+     */
+    public double log() {
+        return log10() * LN_10;
+    }
+
+    /**
+     * @return binary logarithm of this number
+     *
+     * @throws ArithmeticException if this number is zero or negative
+     */
+    public double log2() {
+        return log10() / LOG10_2;
+    }
+
+    /**
+     * @return {@link BigDecimal} representation of this number. Numbers too small to be represented as a
+     * {@link BigDecimal} are returned as {@link BigDecimal#ZERO}
+     *
+     * @throws ArithmeticException if the exponent of this number is too large to be represented as a
+     * {@link BigDecimal}
+     */
+    public BigDecimal toBigDecimal() {
+        if(mantissa == 0 || exponent < Integer.MIN_VALUE + MAX_PRECISE_EXPONENT) {
+            return BigDecimal.ZERO;
+        }
+
+        return BigDecimal.valueOf(mantissa).scaleByPowerOfTen(Math.toIntExact(exponent));
+    }
+
+    /**
+     * @return {@link BigInteger} representation of this number, with any fractional part discarded
+     *
+     * @throws ArithmeticException if the exponent of this number is too large to be represented as a
+     * {@link BigDecimal}
+     */
+    public BigInteger toBigInteger() {
+        if(exponent < 0) {
+            return BigInteger.ZERO;
+        }
+
+        return toBigDecimal().toBigInteger();
+    }
+
+    /**
+     * @return {@code int} representation of this number, saturated to {@link Integer#MIN_VALUE} and
+     * {@link Integer#MAX_VALUE}
+     */
+    @Override
+    public int intValue() {
+        return (int) doubleValue();
+    }
+
+    /**
+     * @return {@code long} representation of this number, saturated to {@link Long#MIN_VALUE} and
+     * {@link Long#MAX_VALUE}
+     */
+    @Override
+    public long longValue() {
+        return (long) doubleValue();
+    }
+
+    /**
+     * @return {@code float} representation of this number, which may be infinite
+     */
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    /**
+     * @return {@code double} representation of this number, which may be infinite
+     */
+    @Override
+    public double doubleValue() {
+        if(exponent > MAX_POWER) {
+            return mantissa * Double.POSITIVE_INFINITY;
+        }
+
+        if(exponent < MIN_POWER) {
+            return mantissa * 0d;
+        }
+
+        if(exponent < -MAX_POWER) {
+            return mantissa * POWERS_OF_TEN[(int) exponent + MAX_POWER - MIN_POWER] *
+                    POWERS_OF_TEN[-MAX_POWER - MIN_POWER];
+        }
+
+        return mantissa * POWERS_OF_TEN[(int) exponent - MIN_POWER];
+    }
+
+    /**
+     * @param other Huge to be compared with
+     * @return a negative integer, zero, or a positive integer as this number is less than, equal to, or greater than
+     * the specified number
+     */
+    @Override
+    public int compareTo(Huge other) {
+        int signum = signum();
+        int otherSignum = other.signum();
+
+        if(signum != otherSignum) {
+            return Integer.compare(signum, otherSignum);
+        }
+
+        if(signum == 0) {
+            return 0;
+        }
+
+        if(exponent != other.exponent) {
+            return Long.compare(exponent, other.exponent) * signum;
+        }
+
+        return Double.compare(mantissa, other.mantissa);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+
+        if(!(o instanceof Huge)) {
+            return false;
+        }
+
+        Huge other = (Huge) o;
+
+        return Double.compare(mantissa, other.mantissa) == 0 && exponent == other.exponent;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(mantissa) + Long.hashCode(exponent);
+    }
+
+    /**
+     * @return {@link String} representation of this number in format <i>mantissa</i>e<i>exponent</i>
+     */
+    @Override
+    public String toString() {
+        return mantissa + "e" + exponent;
+    }
+
+    private double log10Abs() {
+        return Math.log10(Math.abs(mantissa)) + exponent;
+    }
+
+    private Huge powInt(int exponent) {
+        Huge base = exponent < 0 ? ONE.divide(this) : this;
+        long remaining = Math.abs((long) exponent);
+        Huge result = ONE;
+
+        while(remaining != 0) {
+            if((remaining & 1) != 0) {
+                result = result.multiply(base);
+            }
+
+            remaining >>= 1;
+
+            if(remaining != 0) {
+                base = base.multiply(base);
+            }
+        }
+
+        return result;
+    }
+
+    private static Huge addAligned(Huge larger, Huge smaller) {
+        long difference = larger.exponent - smaller.exponent;
+
+        if(difference > MAX_PRECISE_EXPONENT) {
+            return larger;
+        }
+
+        return normalize(larger.mantissa + smaller.mantissa * POWERS_OF_TEN[(int) -difference - MIN_POWER],
+                larger.exponent);
+    }
+
+    private static long addExponents(long exponent, long other) {
+        long result = exponent + other;
+
+        if(((exponent ^ result) & (other ^ result)) < 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.hugeOverflow((double) exponent + other),
+                    ArithmeticException::new);
+        }
+
+        return result;
+    }
+
+    private static Huge normalize(double mantissa, long exponent) {
+        if(mantissa == 0) {
+            return ZERO;
+        }
+
+        double abs = Math.abs(mantissa);
+
+        if(abs >= 1 && abs < 10) {
+            return new Huge(mantissa, exponent);
+        }
+
+        int shift = (int) Math.floor(Math.log10(abs));
+
+        if(shift < -MAX_POWER) {
+            mantissa *= POWERS_OF_TEN[MAX_POWER - MIN_POWER];
+            exponent = addExponents(exponent, -MAX_POWER);
+            shift += MAX_POWER;
+        }
+
+        mantissa *= POWERS_OF_TEN[-shift - MIN_POWER];
+        exponent = addExponents(exponent, shift);
+        abs = Math.abs(mantissa);
+
+        if(abs >= 10) {
+            mantissa /= 10;
+            exponent = addExponents(exponent, 1);
+        } else if(abs < 1) {
+            mantissa *= 10;
+            exponent = addExponents(exponent, -1);
+        }
+
+        return new Huge(mantissa, exponent);
+    }
+}
@@ -0,0 +1,72 @@
+package me.datafox.dfxengine.math.numeral;
+
+import lombok.EqualsAndHashCode;
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link Numeral} backed with a {@link Huge}.
+ *
+ * @author datafox
+ */
+
+@EqualsAndHashCode(callSuper = true)
+public final class HugeNumeral extends AbstractNumeral {
+    private static final Logger logger = LoggerFactory.getLogger(HugeNumeral.class);
+
+    private final Huge number;
+
+    /**
+     * @param number {@link Huge} to be associated with this numeral
+     */
+    public HugeNumeral(Huge number) {
+        this.number = number;
+    }
+
+    /**
+     * @param mantissa mantissa of the {@link Huge} to be associated with this numeral
+     * @param exponent base 10 exponent of the {@link Huge} to be associated with this numeral
+     *
+     * @throws IllegalArgumentException if the mantissa is {@code NaN} or infinite
+     */
+    public HugeNumeral(double mantissa, long exponent) {
+        this(Huge.of(mantissa, exponent));
+    }
+
+    /**
+     * @param val {@link String} representation of the {@link Huge} to be associated with this numeral
+     */
+    public HugeNumeral(String val) {
+        this(Huge.valueOf(val));
+    }
+
+    /**
+     * @return {@link NumeralType#HUGE}
+     */
+    @Override
+    public NumeralType getType() {
+        return NumeralType.HUGE;
+    }
+
+    /**
+     * @return the {@link Number} backing this numeral
+     */
+    @Override
+    public Number getNumber() {
+        return number;
+    }
+
+    /**
+     * @return the backing {@link Huge} of this numeral
+     */
+    public Huge hugeValue() {
+        return number;
+    }
+
+    @Override
+    protected Logger getLogger() {
+        return logger;
+    }
+}
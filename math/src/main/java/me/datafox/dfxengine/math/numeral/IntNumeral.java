@@ -6,6 +6,8 @@ import me.datafox.dfxengine.math.api.NumeralType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigInteger;
+
 /**
  * Implementation of {@link Numeral} backed with an {@code int}.
  *
@@ -22,10 +24,17 @@ public final class IntNumeral extends AbstractNumeral {
      * @param number {@code int} to be associated with this numeral
      */
     public IntNumeral(int number) {
-        super(NumeralType.INT);
         this.number = number;
     }
 
+    /**
+     * @return {@link NumeralType#INT}
+     */
+    @Override
+    public NumeralType getType() {
+        return NumeralType.INT;
+    }
+
     /**
      * @return the {@link Number} backing this numeral
      */
@@ -42,6 +51,22 @@ public final class IntNumeral extends AbstractNumeral {
         return number;
     }
 
+    /**
+     * @return the backing {@code int} of this numeral as a {@code long}
+     */
+    @Override
+    public long longValue() {
+        return number;
+    }
+
+    /**
+     * @return the backing {@code int} of this numeral as a {@link BigInteger}
+     */
+    @Override
+    public BigInteger bigIntValue() {
+        return BigInteger.valueOf(number);
+    }
+
     @Override
     protected Logger getLogger() {
         return logger;
@@ -6,6 +6,8 @@ import me.datafox.dfxengine.math.api.NumeralType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigInteger;
+
 /**
  * Implementation of {@link Numeral} backed with a {@code long}.
  *
@@ -22,10 +24,17 @@ public final class LongNumeral extends AbstractNumeral {
      * @param number {@code long} to be associated with this numeral
      */
     public LongNumeral(long number) {
-        super(NumeralType.LONG);
         this.number = number;
     }
 
+    /**
+     * @return {@link NumeralType#LONG}
+     */
+    @Override
+    public NumeralType getType() {
+        return NumeralType.LONG;
+    }
+
     /**
      * @return the {@link Number} backing this numeral
      */
@@ -42,6 +51,14 @@ public final class LongNumeral extends AbstractNumeral {
         return number;
     }
 
+    /**
+     * @return the backing {@code long} of this numeral as a {@link BigInteger}
+     */
+    @Override
+    public BigInteger bigIntValue() {
+        return BigInteger.valueOf(number);
+    }
+
     @Override
     protected Logger getLogger() {
         return logger;
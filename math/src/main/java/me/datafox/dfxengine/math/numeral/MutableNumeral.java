@@ -0,0 +1,557 @@
+package me.datafox.dfxengine.math.numeral;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.Conversion;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static me.datafox.dfxengine.math.utils.Range.isOutOfIntRange;
+
+/**
+ * <p>
+ * A mutable accumulator for numeric values that can be backed by the same types as a {@link Numeral}. Unlike Numeral,
+ * which creates a new instance for every operation, this class modifies its state in place, allowing tight loops to
+ * fold a large amount of Numerals without allocating a new object for every step. This class does not implement
+ * Numeral since Numerals are expected to be immutable. Use {@link #toNumeral()} to get a Numeral representation of the
+ * current value.
+ * </p>
+ * <p>
+ * The operations of this class follow the same type promotion rules as {@link Operations}. The operand types are
+ * resolved with {@link Numerals#getSignificantType(NumeralType, NumeralType)}, and integer overflows are promoted
+ * from {@code int} to {@code long} to {@link BigInteger}, and infinite decimal values are promoted from {@code float}
+ * to {@code double} to {@link BigDecimal}. {@link BigDecimal} operations use {@link Operations#getContext()}. Like
+ * with Operations, this class never demotes the backing type on its own. Types that are not backed by a primitive or a
+ * {@link BigInteger} or {@link BigDecimal}, such as {@link NumeralType#DOUBLE_DOUBLE} and {@link NumeralType#HUGE},
+ * are delegated to Operations and do not benefit from in-place arithmetic.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author datafox
+ */
+public final class MutableNumeral {
+    private static final Logger logger = LoggerFactory.getLogger(MutableNumeral.class);
+
+    private NumeralType type;
+
+    private long integer;
+
+    private double decimal;
+
+    private BigInteger bigInt;
+
+    private BigDecimal bigDec;
+
+    private Numeral fallback;
+
+    /**
+     * Creates a new mutable numeral with the {@code int} value {@code 0}.
+     */
+    public MutableNumeral() {
+        type = NumeralType.INT;
+    }
+
+    /**
+     * @param numeral initial value for this mutable numeral
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public MutableNumeral(Numeral numeral) {
+        set(numeral);
+    }
+
+    /**
+     * @return the type currently backing this mutable numeral
+     */
+    public NumeralType getType() {
+        return type;
+    }
+
+    /**
+     * Replaces the value of this mutable numeral with the value of the specified {@link Numeral}, including its type.
+     *
+     * @param numeral new value for this mutable numeral
+     * @return this mutable numeral
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public MutableNumeral set(Numeral numeral) {
+        NumeralType type = checkType(numeral);
+
+        switch(type) {
+            case INT:
+                integer = numeral.intValue();
+                break;
+            case LONG:
+                integer = numeral.longValue();
+                break;
+            case BIG_INT:
+                bigInt = numeral.bigIntValue();
+                break;
+            case FLOAT:
+                decimal = numeral.floatValue();
+                break;
+            case DOUBLE:
+                decimal = numeral.doubleValue();
+                break;
+            case BIG_DEC:
+                bigDec = numeral.bigDecValue();
+                break;
+            default:
+                fallback = numeral;
+        }
+
+        this.type = type;
+        return this;
+    }
+
+    /**
+     * Adds the specified {@link Numeral} to this mutable numeral in place.
+     *
+     * @param addend {@link Numeral} to be added
+     * @return this mutable numeral
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public MutableNumeral add(Numeral addend) {
+        NumeralType type = widen(addend);
+
+        switch(type) {
+            case INT:
+                addInt((int) integer, addend.intValue());
+                break;
+            case LONG:
+                addLong(integer, addend.longValue());
+                break;
+            case BIG_INT:
+                bigInt = bigInt.add(addend.bigIntValue());
+                break;
+            case FLOAT:
+                addFloat((float) decimal, addend.floatValue());
+                break;
+            case DOUBLE:
+                addDouble(decimal, addend.doubleValue());
+                break;
+            case BIG_DEC:
+                bigDec = bigDec.add(addend.bigDecValue(), Operations.getContext());
+                break;
+            default:
+                setFallback(Operations.add(fallback, addend));
+        }
+
+        return this;
+    }
+
+    /**
+     * Subtracts the specified {@link Numeral} from this mutable numeral in place.
+     *
+     * @param subtrahend {@link Numeral} to be subtracted
+     * @return this mutable numeral
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public MutableNumeral subtract(Numeral subtrahend) {
+        NumeralType type = widen(subtrahend);
+
+        switch(type) {
+            case INT:
+                subtractInt((int) integer, subtrahend.intValue());
+                break;
+            case LONG:
+                subtractLong(integer, subtrahend.longValue());
+                break;
+            case BIG_INT:
+                bigInt = bigInt.subtract(subtrahend.bigIntValue());
+                break;
+            case FLOAT:
+                subtractFloat((float) decimal, subtrahend.floatValue());
+                break;
+            case DOUBLE:
+                subtractDouble(decimal, subtrahend.doubleValue());
+                break;
+            case BIG_DEC:
+                bigDec = bigDec.subtract(subtrahend.bigDecValue(), Operations.getContext());
+                break;
+            default:
+                setFallback(Operations.subtract(fallback, subtrahend));
+        }
+
+        return this;
+    }
+
+    /**
+     * Multiplies this mutable numeral by the specified {@link Numeral} in place.
+     *
+     * @param multiplier {@link Numeral} to be multiplied with
+     * @return this mutable numeral
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public MutableNumeral multiply(Numeral multiplier) {
+        NumeralType type = widen(multiplier);
+
+        switch(type) {
+            case INT:
+                multiplyInt((int) integer, multiplier.intValue());
+                break;
+            case LONG:
+                multiplyLong(integer, multiplier.longValue());
+                break;
+            case BIG_INT:
+                bigInt = bigInt.multiply(multiplier.bigIntValue());
+                break;
+            case FLOAT:
+                multiplyFloat((float) decimal, multiplier.floatValue());
+                break;
+            case DOUBLE:
+                multiplyDouble(decimal, multiplier.doubleValue());
+                break;
+            case BIG_DEC:
+                bigDec = bigDec.multiply(multiplier.bigDecValue(), Operations.getContext());
+                break;
+            default:
+                setFallback(Operations.multiply(fallback, multiplier));
+        }
+
+        return this;
+    }
+
+    /**
+     * Divides this mutable numeral by the specified {@link Numeral} in place. Like with
+     * {@link Operations#divide(Numeral, Numeral)}, integer types use integer division.
+     *
+     * @param divisor {@link Numeral} to be divided with
+     * @return this mutable numeral
+     *
+     * @throws ArithmeticException if the divisor is zero
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public MutableNumeral divide(Numeral divisor) {
+        if(Numerals.isZero(divisor)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.divisionByZero(toNumeral()),
+                    ArithmeticException::new);
+        }
+
+        NumeralType type = widen(divisor);
+
+        switch(type) {
+            case INT:
+                integer = (int) integer / divisor.intValue();
+                break;
+            case LONG:
+                integer = integer / divisor.longValue();
+                break;
+            case BIG_INT:
+                bigInt = bigInt.divide(divisor.bigIntValue());
+                break;
+            case FLOAT:
+                divideFloat((float) decimal, divisor.floatValue());
+                break;
+            case DOUBLE:
+                divideDouble(decimal, divisor.doubleValue());
+                break;
+            case BIG_DEC:
+                bigDec = bigDec.divide(divisor.bigDecValue(), Operations.getContext());
+                break;
+            default:
+                setFallback(Operations.divide(fallback, divisor));
+        }
+
+        return this;
+    }
+
+    /**
+     * @return {@link Numeral} representing the current value of this mutable numeral
+     */
+    public Numeral toNumeral() {
+        switch(type) {
+            case INT:
+                return Numerals.of((int) integer);
+            case LONG:
+                return Numerals.of(integer);
+            case BIG_INT:
+                return Numerals.of(bigInt);
+            case FLOAT:
+                return Numerals.of((float) decimal);
+            case DOUBLE:
+                return Numerals.of(decimal);
+            case BIG_DEC:
+                return Numerals.of(bigDec);
+        }
+
+        return fallback;
+    }
+
+    /**
+     * @return {@link String} representation of this mutable numeral in format <i>Mutable(Type(value))</i>
+     */
+    @Override
+    public String toString() {
+        return String.format("Mutable(%s)", toNumeral());
+    }
+
+    private NumeralType checkType(Numeral numeral) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        return numeral.getType();
+    }
+
+    private NumeralType widen(Numeral operand) {
+        NumeralType type = Numerals.getSignificantType(this.type, checkType(operand));
+
+        if(type == this.type) {
+            return type;
+        }
+
+        switch(type) {
+            case LONG:
+                break;
+            case BIG_INT:
+                bigInt = BigInteger.valueOf(integer);
+                break;
+            case FLOAT:
+                decimal = (float) integer;
+                break;
+            case DOUBLE:
+                if(this.type == NumeralType.FLOAT) {
+                    decimal = Double.parseDouble(Float.toString((float) decimal));
+                } else {
+                    decimal = (double) integer;
+                }
+                break;
+            case BIG_DEC:
+                bigDec = currentBigDec();
+                break;
+            default:
+                fallback = Conversion.toNumeral(toNumeral(), type);
+        }
+
+        this.type = type;
+        return type;
+    }
+
+    private BigDecimal currentBigDec() {
+        switch(type) {
+            case INT:
+            case LONG:
+                return BigDecimal.valueOf(integer);
+            case BIG_INT:
+                return new BigDecimal(bigInt, Operations.getContext()).stripTrailingZeros();
+            case FLOAT:
+                return new BigDecimal(Float.toString((float) decimal));
+            case DOUBLE:
+                return BigDecimal.valueOf(decimal);
+            case BIG_DEC:
+                return bigDec;
+        }
+
+        return fallback.bigDecValue();
+    }
+
+    private void setFallback(Numeral result) {
+        set(Conversion.toNumeral(result, Numerals.getSignificantType(type, result.getType())));
+    }
+
+    private void addInt(int augend, int addend) {
+        int result = augend + addend;
+
+        if(((augend ^ result) & (addend ^ result)) < 0) {
+            type = NumeralType.LONG;
+            addLong(augend, addend);
+            return;
+        }
+
+        integer = result;
+    }
+
+    private void addLong(long augend, long addend) {
+        long result = augend + addend;
+
+        if(((augend ^ result) & (addend ^ result)) < 0) {
+            type = NumeralType.BIG_INT;
+            bigInt = BigInteger.valueOf(augend).add(BigInteger.valueOf(addend));
+            return;
+        }
+
+        integer = result;
+    }
+
+    private void addFloat(float augend, float addend) {
+        float result = augend + addend;
+
+        if(Float.isInfinite(result)) {
+            type = NumeralType.DOUBLE;
+            addDouble(augend, addend);
+            return;
+        }
+
+        decimal = result;
+    }
+
+    private void addDouble(double augend, double addend) {
+        double result = augend + addend;
+
+        if(Double.isInfinite(result)) {
+            type = NumeralType.BIG_DEC;
+            bigDec = BigDecimal.valueOf(augend).add(BigDecimal.valueOf(addend), Operations.getContext());
+            return;
+        }
+
+        decimal = result;
+    }
+
+    private void subtractInt(int minuend, int subtrahend) {
+        int result = minuend - subtrahend;
+
+        if(((minuend ^ subtrahend) & (minuend ^ result)) < 0) {
+            type = NumeralType.LONG;
+            subtractLong(minuend, subtrahend);
+            return;
+        }
+
+        integer = result;
+    }
+
+    private void subtractLong(long minuend, long subtrahend) {
+        long result = minuend - subtrahend;
+
+        if(((minuend ^ subtrahend) & (minuend ^ result)) < 0) {
+            type = NumeralType.BIG_INT;
+            bigInt = BigInteger.valueOf(minuend).subtract(BigInteger.valueOf(subtrahend));
+            return;
+        }
+
+        integer = result;
+    }
+
+    private void subtractFloat(float minuend, float subtrahend) {
+        float result = minuend - subtrahend;
+
+        if(Float.isInfinite(result)) {
+            type = NumeralType.DOUBLE;
+            subtractDouble(minuend, subtrahend);
+            return;
+        }
+
+        decimal = result;
+    }
+
+    private void subtractDouble(double minuend, double subtrahend) {
+        double result = minuend - subtrahend;
+
+        if(Double.isInfinite(result)) {
+            type = NumeralType.BIG_DEC;
+            bigDec = BigDecimal.valueOf(minuend).subtract(BigDecimal.valueOf(subtrahend), Operations.getContext());
+            return;
+        }
+
+        decimal = result;
+    }
+
+    private void multiplyInt(int multiplicand, int multiplier) {
+        long result = (long) multiplicand * multiplier;
+
+        if(isOutOfIntRange(result)) {
+            type = NumeralType.LONG;
+        }
+
+        integer = result;
+    }
+
+    private void multiplyLong(long multiplicand, long multiplier) {
+        long result = multiplicand * multiplier;
+        long absMultiplicand = Math.abs(multiplicand);
+        long absMultiplier = Math.abs(multiplier);
+
+        if((absMultiplicand | absMultiplier) >>> 31 != 0) {
+            if(((multiplier != 0) && (result / multiplier != multiplicand)) ||
+                    (multiplicand == Long.MIN_VALUE && multiplier == -1)) {
+                type = NumeralType.BIG_INT;
+                bigInt = BigInteger.valueOf(multiplicand).multiply(BigInteger.valueOf(multiplier));
+                return;
+            }
+        }
+
+        integer = result;
+    }
+
+    private void multiplyFloat(float multiplicand, float multiplier) {
+        float result = multiplicand * multiplier;
+
+        if(Float.isInfinite(result)) {
+            type = NumeralType.DOUBLE;
+            multiplyDouble(multiplicand, multiplier);
+            return;
+        }
+
+        decimal = result;
+    }
+
+    private void multiplyDouble(double multiplicand, double multiplier) {
+        double result = multiplicand * multiplier;
+
+        if(Double.isInfinite(result)) {
+            type = NumeralType.BIG_DEC;
+            bigDec = BigDecimal.valueOf(multiplicand).multiply(BigDecimal.valueOf(multiplier), Operations.getContext());
+            return;
+        }
+
+        decimal = result;
+    }
+
+    private void divideFloat(float dividend, float divisor) {
+        float result = dividend / divisor;
+
+        if(Float.isInfinite(result)) {
+            type = NumeralType.DOUBLE;
+            divideDouble(dividend, divisor);
+            return;
+        }
+
+        decimal = result;
+    }
+
+    private void divideDouble(double dividend, double divisor) {
+        double result = dividend / divisor;
+
+        if(Double.isInfinite(result)) {
+            type = NumeralType.BIG_DEC;
+            bigDec = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), Operations.getContext());
+            return;
+        }
+
+        decimal = result;
+    }
+}
@@ -0,0 +1,1126 @@
+package me.datafox.dfxengine.math.numeral;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.BinaryOperator;
+
+import static me.datafox.dfxengine.math.utils.Range.isOutOfIntRange;
+import static me.datafox.dfxengine.math.utils.Range.isOutOfLongRange;
+
+/**
+ * <p>
+ * A fixed size array of numeric values stored in columnar form. Instead of a separate {@link Numeral} instance for
+ * every element, the values are stored in a single primitive {@code int}, {@code long} or {@code double} array called
+ * the lane, and bulk operations are performed on the whole lane at once. The loops over the lane are plain counted
+ * loops without calls or allocations, so that the JIT compiler can unroll and vectorize them.
+ * </p>
+ * <p>
+ * The bulk operations produce the same values as calling the corresponding method of {@link Operations} for every
+ * element. Elements that do not fit the lane, either because they were set to a {@link Numeral} of a type that the
+ * lane cannot represent or because an operation overflowed, are stored separately as Numerals, and only these
+ * elements are promoted to the type chosen by Operations. The lane itself is promoted from {@code int} to
+ * {@code long} to {@code double} when an operand of a more significant primitive type is used, following the type
+ * promotion rules of {@link Numerals#getSignificantType(NumeralType, NumeralType)}.
+ * </p>
+ * <p>
+ * An operation first checks the whole lane for overflows without modifying it, and only writes the results if no
+ * element overflowed. Otherwise, the operation is performed element by element with Operations.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author datafox
+ */
+public final class NumeralArray {
+    private static final Logger logger = LoggerFactory.getLogger(NumeralArray.class);
+
+    private final int size;
+
+    private NumeralType type;
+
+    private int[] ints;
+
+    private long[] longs;
+
+    private double[] doubles;
+
+    private Numeral[] overflow;
+
+    private int overflowCount;
+
+    /**
+     * Creates a new array with all elements set to zero.
+     *
+     * @param type type of the lane, must be {@link NumeralType#INT}, {@link NumeralType#LONG} or
+     * {@link NumeralType#DOUBLE}
+     * @param size number of elements in this array
+     *
+     * @throws NullPointerException if the type is {@code null}
+     * @throws IllegalArgumentException if the type is not {@link NumeralType#INT}, {@link NumeralType#LONG} or
+     * {@link NumeralType#DOUBLE} or if the size is negative
+     */
+    public NumeralArray(NumeralType type, int size) {
+        if(type == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        if(type != NumeralType.INT && type != NumeralType.LONG && type != NumeralType.DOUBLE) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.invalidLaneType(type),
+                    IllegalArgumentException::new);
+        }
+
+        if(size < 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.invalidArraySize(size),
+                    IllegalArgumentException::new);
+        }
+
+        this.size = size;
+        this.type = type;
+
+        switch(type) {
+            case INT:
+                ints = new int[size];
+                break;
+            case LONG:
+                longs = new long[size];
+                break;
+            default:
+                doubles = new double[size];
+        }
+    }
+
+    /**
+     * Creates a new array with the values of the specified {@link Numeral Numerals}. The lane type is the most
+     * significant of {@link NumeralType#INT}, {@link NumeralType#LONG} and {@link NumeralType#DOUBLE} that is required
+     * by the Numerals. Numerals of other types are stored separately.
+     *
+     * @param numerals initial values of this array
+     *
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public NumeralArray(Numeral ... numerals) {
+        this(laneType(numerals), numerals.length);
+
+        for(int i = 0; i < numerals.length; i++) {
+            set(i, numerals[i]);
+        }
+    }
+
+    /**
+     * @param values initial values of this array, copied into an {@code int} lane
+     */
+    public NumeralArray(int[] values) {
+        size = values.length;
+        type = NumeralType.INT;
+        ints = values.clone();
+    }
+
+    /**
+     * @param values initial values of this array, copied into a {@code long} lane
+     */
+    public NumeralArray(long[] values) {
+        size = values.length;
+        type = NumeralType.LONG;
+        longs = values.clone();
+    }
+
+    /**
+     * @param values initial values of this array, copied into a {@code double} lane
+     *
+     * @throws IllegalArgumentException if any of the values is infinite or {@link Double#NaN}
+     */
+    public NumeralArray(double[] values) {
+        for(double value : values) {
+            if(!Double.isFinite(value)) {
+                throw LogUtils.logExceptionAndGet(logger,
+                        MathStrings.invalidArrayValue(value),
+                        IllegalArgumentException::new);
+            }
+        }
+
+        size = values.length;
+        type = NumeralType.DOUBLE;
+        doubles = values.clone();
+    }
+
+    /**
+     * @return number of elements in this array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return type of the lane of this array, {@link NumeralType#INT}, {@link NumeralType#LONG} or
+     * {@link NumeralType#DOUBLE}
+     */
+    public NumeralType getType() {
+        return type;
+    }
+
+    /**
+     * @return number of elements that do not fit the lane and are stored separately
+     */
+    public int getOverflowCount() {
+        return overflowCount;
+    }
+
+    /**
+     * @param index index of the element
+     * @return value of the element at the specified index
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public Numeral get(int index) {
+        checkIndex(index);
+
+        if(overflow != null && overflow[index] != null) {
+            return overflow[index];
+        }
+
+        switch(type) {
+            case INT:
+                return Numerals.of(ints[index]);
+            case LONG:
+                return Numerals.of(longs[index]);
+            default:
+                return Numerals.of(doubles[index]);
+        }
+    }
+
+    /**
+     * Sets the value of the element at the specified index. If the {@link Numeral} is of a type that the lane cannot
+     * represent, it is stored separately and the lane is not promoted.
+     *
+     * @param index index of the element
+     * @param numeral new value of the element
+     * @return this array
+     *
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     */
+    public NumeralArray set(int index, Numeral numeral) {
+        checkIndex(index);
+        NumeralType lane = laneType(checkType(numeral));
+
+        if(lane == null || Numerals.getSignificantType(type, lane) != type) {
+            setOverflow(index, numeral);
+            return this;
+        }
+
+        clearOverflow(index);
+
+        switch(type) {
+            case INT:
+                ints[index] = numeral.intValue();
+                break;
+            case LONG:
+                longs[index] = numeral.longValue();
+                break;
+            default:
+                doubles[index] = numeral.doubleValue();
+        }
+
+        return this;
+    }
+
+    /**
+     * @return values of this array as {@link Numeral Numerals}
+     */
+    public Numeral[] toArray() {
+        Numeral[] array = new Numeral[size];
+
+        for(int i = 0; i < size; i++) {
+            array[i] = get(i);
+        }
+
+        return array;
+    }
+
+    /**
+     * Adds the elements of another array to the elements of this array in place.
+     *
+     * @param other array to be added
+     * @return this array
+     *
+     * @throws IllegalArgumentException if the arrays are of different sizes
+     */
+    public NumeralArray add(NumeralArray other) {
+        checkSize(other);
+        promote(Numerals.getSignificantType(type, other.type));
+        Numeral[] operands = overflowOperands(other);
+        boolean done;
+
+        switch(type) {
+            case INT:
+                done = addInts(ints, other.ints);
+                break;
+            case LONG:
+                done = addLongs(longs, other.longLane());
+                break;
+            default:
+                done = addDoubles(doubles, other.doubleLane());
+        }
+
+        return finish(done, operands, other, Operations::add);
+    }
+
+    /**
+     * Adds a {@link Numeral} to every element of this array in place.
+     *
+     * @param addend {@link Numeral} to be added
+     * @return this array
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     */
+    public NumeralArray add(Numeral addend) {
+        if(!promote(addend)) {
+            return apply(addend, Operations::add);
+        }
+
+        boolean done;
+
+        switch(type) {
+            case INT:
+                done = addInts(ints, addend.intValue());
+                break;
+            case LONG:
+                done = addLongs(longs, addend.longValue());
+                break;
+            default:
+                done = addDoubles(doubles, addend.doubleValue());
+        }
+
+        if(!done) {
+            return apply(addend, Operations::add);
+        }
+
+        return finish(addend, Operations::add);
+    }
+
+    /**
+     * Multiplies the elements of this array with the elements of another array in place.
+     *
+     * @param other array to be multiplied with
+     * @return this array
+     *
+     * @throws IllegalArgumentException if the arrays are of different sizes
+     */
+    public NumeralArray multiply(NumeralArray other) {
+        checkSize(other);
+        promote(Numerals.getSignificantType(type, other.type));
+        Numeral[] operands = overflowOperands(other);
+        boolean done;
+
+        switch(type) {
+            case INT:
+                done = multiplyInts(ints, other.ints);
+                break;
+            case LONG:
+                done = multiplyLongs(longs, other.longLane());
+                break;
+            default:
+                done = multiplyDoubles(doubles, other.doubleLane());
+        }
+
+        return finish(done, operands, other, Operations::multiply);
+    }
+
+    /**
+     * Multiplies every element of this array with a {@link Numeral} in place.
+     *
+     * @param multiplier {@link Numeral} to be multiplied with
+     * @return this array
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     */
+    public NumeralArray multiply(Numeral multiplier) {
+        if(!promote(multiplier)) {
+            return apply(multiplier, Operations::multiply);
+        }
+
+        boolean done;
+
+        switch(type) {
+            case INT:
+                done = multiplyInts(ints, multiplier.intValue());
+                break;
+            case LONG:
+                done = multiplyLongs(longs, multiplier.longValue());
+                break;
+            default:
+                done = multiplyDoubles(doubles, multiplier.doubleValue());
+        }
+
+        if(!done) {
+            return apply(multiplier, Operations::multiply);
+        }
+
+        return finish(multiplier, Operations::multiply);
+    }
+
+    /**
+     * Raises every element of this array to the power of a {@link Numeral} in place.
+     *
+     * @param exponent exponent
+     * @return this array
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     */
+    public NumeralArray power(Numeral exponent) {
+        if(!promote(exponent)) {
+            return apply(exponent, Operations::power);
+        }
+
+        boolean done;
+
+        switch(type) {
+            case INT:
+                done = powerInts(exponent.intValue());
+                break;
+            case LONG:
+                done = powerLongs(exponent.longValue());
+                break;
+            default:
+                done = powerDoubles(exponent.doubleValue());
+        }
+
+        if(!done) {
+            return apply(exponent, Operations::power);
+        }
+
+        return finish(exponent, Operations::power);
+    }
+
+    /**
+     * Compares the elements of this array to the elements of another array with the semantics of
+     * {@link Numerals#compare(Numeral, Numeral)}. Like there, negative zero is less than positive zero when both
+     * elements are {@code double} values, and equal to it when the types differ.
+     *
+     * @param other array to compare to
+     * @return array of {@code -1}, {@code 0} or {@code 1} for every element, depending on whether the element of this
+     * array is less than, equal to or greater than the element of the other array
+     *
+     * @throws IllegalArgumentException if the arrays are of different sizes
+     */
+    public int[] compare(NumeralArray other) {
+        checkSize(other);
+        int[] result = new int[size];
+
+        if(type == other.type && type == NumeralType.DOUBLE) {
+            compareDoubles(doubles, other.doubles, result);
+        } else if(type != NumeralType.DOUBLE && other.type != NumeralType.DOUBLE) {
+            compareLongs(longLane(), other.longLane(), result);
+        } else if(type != NumeralType.LONG && other.type != NumeralType.LONG) {
+            compareMixed(doubleLane(), other.doubleLane(), result);
+        } else {
+            for(int i = 0; i < size; i++) {
+                result[i] = Numerals.compare(get(i), other.get(i));
+            }
+
+            return result;
+        }
+
+        if(overflowCount != 0 || other.overflowCount != 0) {
+            for(int i = 0; i < size; i++) {
+                if(isOverflow(i) || other.isOverflow(i)) {
+                    result[i] = Numerals.compare(get(i), other.get(i));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Compares every element of this array to a {@link Numeral} with the semantics of
+     * {@link Numerals#compare(Numeral, Numeral)}. Like there, negative zero is less than positive zero when both the
+     * element and the Numeral are {@code double} values, and equal to it when the types differ.
+     *
+     * @param other {@link Numeral} to compare to
+     * @return array of {@code -1}, {@code 0} or {@code 1} for every element, depending on whether the element is less
+     * than, equal to or greater than the Numeral
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     */
+    public int[] compare(Numeral other) {
+        NumeralType otherType = checkType(other);
+        int[] result = new int[size];
+
+        if(type == NumeralType.DOUBLE && otherType == NumeralType.DOUBLE) {
+            compareDoubles(doubles, other.doubleValue(), result);
+        } else if(type != NumeralType.DOUBLE && otherType.isInteger() && otherType != NumeralType.BIG_INT) {
+            compareLongs(longLane(), other.longValue(), result);
+        } else if(type != NumeralType.LONG && (otherType == NumeralType.INT || otherType == NumeralType.DOUBLE)) {
+            compareMixed(doubleLane(), other.doubleValue(), result);
+        } else {
+            for(int i = 0; i < size; i++) {
+                result[i] = Numerals.compare(get(i), other);
+            }
+
+            return result;
+        }
+
+        if(overflowCount != 0) {
+            for(int i = 0; i < size; i++) {
+                if(isOverflow(i)) {
+                    result[i] = Numerals.compare(get(i), other);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates the sum of all elements of this array. Integer lanes are summed exactly, and {@code double} lanes are
+     * summed in order and promoted to {@link BigDecimal} if the sum overflows. Elements that are stored outside the
+     * lane are added after the lane.
+     * <p>
+     * The value is the same as adding the elements one by one with {@link Operations#add(Numeral, Numeral)}, apart
+     * from the rounding of decimals, but the type may differ. The type of an {@code int} lane sum depends only on the
+     * final sum, so {@code [Integer.MAX_VALUE, Integer.MAX_VALUE, -Integer.MAX_VALUE, -Integer.MAX_VALUE]} sums to an
+     * {@code int} zero, while adding the elements one by one is promoted to a {@code long} at the first overflow.
+     * </p>
+     *
+     * @return sum of all elements of this array
+     */
+    public Numeral sum() {
+        Numeral sum;
+
+        switch(type) {
+            case INT:
+                sum = sumInts(ints);
+                break;
+            case LONG:
+                sum = sumLongs(longs);
+                break;
+            default:
+                sum = sumDoubles(doubles);
+        }
+
+        if(overflowCount != 0) {
+            for(int i = 0; i < size; i++) {
+                if(isOverflow(i)) {
+                    sum = Operations.add(sum, overflow[i]);
+                }
+            }
+        }
+
+        return sum;
+    }
+
+    private Numeral[] overflowOperands(NumeralArray other) {
+        if(overflowCount == 0 && other.overflowCount == 0) {
+            return null;
+        }
+
+        Numeral[] operands = new Numeral[size];
+
+        for(int i = 0; i < size; i++) {
+            if(isOverflow(i) || other.isOverflow(i)) {
+                operands[i] = get(i);
+            }
+        }
+
+        return operands;
+    }
+
+    private NumeralArray finish(boolean done, Numeral[] operands, NumeralArray other,
+                                BinaryOperator<Numeral> operation) {
+        if(!done) {
+            for(int i = 0; i < size; i++) {
+                set(i, operation.apply(get(i), other.get(i)));
+            }
+
+            return this;
+        }
+
+        if(operands != null) {
+            for(int i = 0; i < size; i++) {
+                if(operands[i] != null) {
+                    set(i, operation.apply(operands[i], other.get(i)));
+                }
+            }
+        }
+
+        return this;
+    }
+
+    private NumeralArray finish(Numeral other, BinaryOperator<Numeral> operation) {
+        if(overflowCount != 0) {
+            for(int i = 0; i < size; i++) {
+                if(isOverflow(i)) {
+                    set(i, operation.apply(overflow[i], other));
+                }
+            }
+        }
+
+        return this;
+    }
+
+    private NumeralArray apply(Numeral other, BinaryOperator<Numeral> operation) {
+        for(int i = 0; i < size; i++) {
+            set(i, operation.apply(get(i), other));
+        }
+
+        return this;
+    }
+
+    private boolean promote(Numeral operand) {
+        NumeralType lane = laneType(checkType(operand));
+
+        if(lane == null) {
+            return false;
+        }
+
+        promote(Numerals.getSignificantType(type, lane));
+        return true;
+    }
+
+    private void promote(NumeralType type) {
+        if(type == this.type) {
+            return;
+        }
+
+        if(type == NumeralType.LONG) {
+            longs = longLane();
+            ints = null;
+        } else {
+            doubles = doubleLane();
+            ints = null;
+            longs = null;
+        }
+
+        this.type = type;
+
+        if(overflowCount != 0) {
+            for(int i = 0; i < size; i++) {
+                if(isOverflow(i)) {
+                    set(i, overflow[i]);
+                }
+            }
+        }
+    }
+
+    private long[] longLane() {
+        if(type == NumeralType.LONG) {
+            return longs;
+        }
+
+        long[] lane = new long[size];
+
+        for(int i = 0; i < size; i++) {
+            lane[i] = ints[i];
+        }
+
+        return lane;
+    }
+
+    private double[] doubleLane() {
+        if(type == NumeralType.DOUBLE) {
+            return doubles;
+        }
+
+        double[] lane = new double[size];
+
+        if(type == NumeralType.INT) {
+            for(int i = 0; i < size; i++) {
+                lane[i] = ints[i];
+            }
+        } else {
+            for(int i = 0; i < size; i++) {
+                lane[i] = longs[i];
+            }
+        }
+
+        return lane;
+    }
+
+    private boolean isOverflow(int index) {
+        return overflow != null && overflow[index] != null;
+    }
+
+    private void setOverflow(int index, Numeral numeral) {
+        if(overflow == null) {
+            overflow = new Numeral[size];
+        }
+
+        if(overflow[index] == null) {
+            overflowCount++;
+        }
+
+        overflow[index] = numeral;
+
+        switch(type) {
+            case INT:
+                ints[index] = 0;
+                break;
+            case LONG:
+                longs[index] = 0;
+                break;
+            default:
+                doubles[index] = 0;
+        }
+    }
+
+    private void clearOverflow(int index) {
+        if(isOverflow(index)) {
+            overflow[index] = null;
+            overflowCount--;
+        }
+    }
+
+    private boolean powerInts(int exponent) {
+        double[] results = new double[size];
+        boolean outOfRange = false;
+
+        for(int i = 0; i < size; i++) {
+            double value = Math.pow(ints[i], exponent);
+            results[i] = value;
+            outOfRange |= isOutOfIntRange(value);
+        }
+
+        if(outOfRange) {
+            return false;
+        }
+
+        for(int i = 0; i < size; i++) {
+            ints[i] = (int) results[i];
+        }
+
+        return true;
+    }
+
+    private boolean powerLongs(long exponent) {
+        double[] results = new double[size];
+        boolean outOfRange = false;
+
+        for(int i = 0; i < size; i++) {
+            double value = Math.pow(longs[i], exponent);
+            results[i] = value;
+            outOfRange |= isOutOfLongRange(value);
+        }
+
+        if(outOfRange) {
+            return false;
+        }
+
+        for(int i = 0; i < size; i++) {
+            longs[i] = (long) results[i];
+        }
+
+        return true;
+    }
+
+    private boolean powerDoubles(double exponent) {
+        double[] results = new double[size];
+        double check = 0;
+
+        for(int i = 0; i < size; i++) {
+            double value = Math.pow(doubles[i], exponent);
+            results[i] = value;
+            check += value - value;
+        }
+
+        if(check != 0) {
+            return false;
+        }
+
+        doubles = results;
+        return true;
+    }
+
+    private static Numeral sumInts(int[] lane) {
+        long sum = 0;
+
+        for(int value : lane) {
+            sum += value;
+        }
+
+        if(isOutOfIntRange(sum)) {
+            return Numerals.of(sum);
+        }
+
+        return Numerals.of((int) sum);
+    }
+
+    private static Numeral sumLongs(long[] lane) {
+        long sum = 0;
+        long flag = 0;
+
+        for(long value : lane) {
+            long result = sum + value;
+            flag |= (sum ^ result) & (value ^ result);
+            sum = result;
+        }
+
+        if(flag >= 0) {
+            return Numerals.of(sum);
+        }
+
+        BigInteger bigSum = BigInteger.ZERO;
+
+        for(long value : lane) {
+            bigSum = bigSum.add(BigInteger.valueOf(value));
+        }
+
+        return Numerals.of(bigSum);
+    }
+
+    private static Numeral sumDoubles(double[] lane) {
+        double sum = 0;
+
+        for(double value : lane) {
+            sum += value;
+        }
+
+        if(Double.isFinite(sum)) {
+            return Numerals.of(sum);
+        }
+
+        BigDecimal bigSum = BigDecimal.ZERO;
+
+        for(double value : lane) {
+            bigSum = bigSum.add(BigDecimal.valueOf(value), Operations.getContext());
+        }
+
+        return Numerals.of(bigSum);
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= size) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.arrayIndexOutOfBounds(index, size),
+                    IndexOutOfBoundsException::new);
+        }
+    }
+
+    private void checkSize(NumeralArray other) {
+        if(other.size != size) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.arraySizeMismatch(size, other.size),
+                    IllegalArgumentException::new);
+        }
+    }
+
+    private static NumeralType checkType(Numeral numeral) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        return numeral.getType();
+    }
+
+    private static NumeralType laneType(NumeralType type) {
+        switch(type) {
+            case INT:
+            case LONG:
+            case DOUBLE:
+                return type;
+            default:
+                return null;
+        }
+    }
+
+    private static NumeralType laneType(Numeral[] numerals) {
+        NumeralType type = NumeralType.INT;
+
+        for(Numeral numeral : numerals) {
+            NumeralType lane = laneType(checkType(numeral));
+
+            if(lane != null) {
+                type = Numerals.getSignificantType(type, lane);
+            }
+        }
+
+        return type;
+    }
+
+    private static boolean addInts(int[] lane, int[] other) {
+        int flag = 0;
+
+        for(int i = 0; i < lane.length; i++) {
+            int result = lane[i] + other[i];
+            flag |= (lane[i] ^ result) & (other[i] ^ result);
+        }
+
+        if(flag < 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] += other[i];
+        }
+
+        return true;
+    }
+
+    private static boolean addInts(int[] lane, int other) {
+        int flag = 0;
+
+        for(int value : lane) {
+            int result = value + other;
+            flag |= (value ^ result) & (other ^ result);
+        }
+
+        if(flag < 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] += other;
+        }
+
+        return true;
+    }
+
+    private static boolean addLongs(long[] lane, long[] other) {
+        long flag = 0;
+
+        for(int i = 0; i < lane.length; i++) {
+            long result = lane[i] + other[i];
+            flag |= (lane[i] ^ result) & (other[i] ^ result);
+        }
+
+        if(flag < 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] += other[i];
+        }
+
+        return true;
+    }
+
+    private static boolean addLongs(long[] lane, long other) {
+        long flag = 0;
+
+        for(long value : lane) {
+            long result = value + other;
+            flag |= (value ^ result) & (other ^ result);
+        }
+
+        if(flag < 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] += other;
+        }
+
+        return true;
+    }
+
+    private static boolean addDoubles(double[] lane, double[] other) {
+        double check = 0;
+
+        for(int i = 0; i < lane.length; i++) {
+            double result = lane[i] + other[i];
+            check += result - result;
+        }
+
+        if(check != 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] += other[i];
+        }
+
+        return true;
+    }
+
+    private static boolean addDoubles(double[] lane, double other) {
+        double check = 0;
+
+        for(double value : lane) {
+            double result = value + other;
+            check += result - result;
+        }
+
+        if(check != 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] += other;
+        }
+
+        return true;
+    }
+
+    private static boolean multiplyInts(int[] lane, int[] other) {
+        long flag = 0;
+
+        for(int i = 0; i < lane.length; i++) {
+            long result = (long) lane[i] * other[i];
+            flag |= result ^ (int) result;
+        }
+
+        if(flag != 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] *= other[i];
+        }
+
+        return true;
+    }
+
+    private static boolean multiplyInts(int[] lane, int other) {
+        long flag = 0;
+
+        for(int value : lane) {
+            long result = (long) value * other;
+            flag |= result ^ (int) result;
+        }
+
+        if(flag != 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] *= other;
+        }
+
+        return true;
+    }
+
+    private static boolean multiplyLongs(long[] lane, long[] other) {
+        long flag = 0;
+
+        for(int i = 0; i < lane.length; i++) {
+            flag |= Math.multiplyHigh(lane[i], other[i]) ^ ((lane[i] * other[i]) >> 63);
+        }
+
+        if(flag != 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] *= other[i];
+        }
+
+        return true;
+    }
+
+    private static boolean multiplyLongs(long[] lane, long other) {
+        long flag = 0;
+
+        for(long value : lane) {
+            flag |= Math.multiplyHigh(value, other) ^ ((value * other) >> 63);
+        }
+
+        if(flag != 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] *= other;
+        }
+
+        return true;
+    }
+
+    private static boolean multiplyDoubles(double[] lane, double[] other) {
+        double check = 0;
+
+        for(int i = 0; i < lane.length; i++) {
+            double result = lane[i] * other[i];
+            check += result - result;
+        }
+
+        if(check != 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] *= other[i];
+        }
+
+        return true;
+    }
+
+    private static boolean multiplyDoubles(double[] lane, double other) {
+        double check = 0;
+
+        for(double value : lane) {
+            double result = value * other;
+            check += result - result;
+        }
+
+        if(check != 0) {
+            return false;
+        }
+
+        for(int i = 0; i < lane.length; i++) {
+            lane[i] *= other;
+        }
+
+        return true;
+    }
+
+    private static void compareLongs(long[] lane, long[] other, int[] result) {
+        for(int i = 0; i < lane.length; i++) {
+            result[i] = Long.compare(lane[i], other[i]);
+        }
+    }
+
+    private static void compareLongs(long[] lane, long other, int[] result) {
+        for(int i = 0; i < lane.length; i++) {
+            result[i] = Long.compare(lane[i], other);
+        }
+    }
+
+    /**
+     * Compares two {@code double} values like {@link Numerals#compare(Numeral, Numeral)} compares two
+     * {@link DoubleNumeral DoubleNumerals}, so negative zero is less than positive zero.
+     */
+    private static void compareDoubles(double[] lane, double[] other, int[] result) {
+        for(int i = 0; i < lane.length; i++) {
+            result[i] = Double.compare(lane[i], other[i]);
+        }
+    }
+
+    private static void compareDoubles(double[] lane, double other, int[] result) {
+        for(int i = 0; i < lane.length; i++) {
+            result[i] = Double.compare(lane[i], other);
+        }
+    }
+
+    /**
+     * Compares {@code double} values converted from different types like {@link Numerals#compare(Numeral, Numeral)}
+     * compares Numerals of different types, so negative and positive zero are equal.
+     */
+    private static void compareMixed(double[] lane, double[] other, int[] result) {
+        for(int i = 0; i < lane.length; i++) {
+            result[i] = (lane[i] > other[i] ? 1 : 0) - (lane[i] < other[i] ? 1 : 0);
+        }
+    }
+
+    private static void compareMixed(double[] lane, double other, int[] result) {
+        for(int i = 0; i < lane.length; i++) {
+            result[i] = (lane[i] > other ? 1 : 0) - (lane[i] < other ? 1 : 0);
+        }
+    }
+}
@@ -52,12 +52,18 @@ public class Conversion {
                     return Math.toIntExact(numeral.getNumber().longValue());
                 case BIG_INT:
                     return ((BigInteger) numeral.getNumber()).intValueExact();
+                case FIXED:
+                    return Math.toIntExact(toFixed(numeral).longValue());
                 case FLOAT:
                     return toIntInRange(numeral.getNumber().floatValue());
                 case DOUBLE:
                     return toIntInRange(numeral.getNumber().doubleValue());
+                case DOUBLE_DOUBLE:
+                    return toIntInRange(toDoubleDouble(numeral));
                 case BIG_DEC:
                     return toIntInRange((BigDecimal) numeral.getNumber());
+                case HUGE:
+                    return toIntInRange(toHuge(numeral));
             }
 
             throw LogUtils.logExceptionAndGet(logger,
@@ -99,12 +105,18 @@ public class Conversion {
                     return numeral.getNumber().longValue();
                 case BIG_INT:
                     return ((BigInteger) numeral.getNumber()).longValueExact();
+                case FIXED:
+                    return toFixed(numeral).longValue();
                 case FLOAT:
                     return toLongInRange(numeral.getNumber().floatValue());
                 case DOUBLE:
                     return toLongInRange(numeral.getNumber().doubleValue());
+                case DOUBLE_DOUBLE:
+                    return toLongInRange(toDoubleDouble(numeral));
                 case BIG_DEC:
                     return toLongInRange((BigDecimal) numeral.getNumber());
+                case HUGE:
+                    return toLongInRange(toHuge(numeral));
             }
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.unknownType(numeral.getType()),
@@ -121,6 +133,8 @@ public class Conversion {
      * @param numeral {@link Numeral} to be converted
      * @return {@link BigInteger} representation of the specified value
      *
+     * @throws ExtendedArithmeticException if the value of the specified {@link Numeral} is too large to be represented
+     * as a {@link BigInteger}
      * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
      * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
      * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
@@ -137,24 +151,90 @@ public class Conversion {
             return numeral.bigIntValue();
         }
 
-        switch(numeral.getType()) {
-            case INT:
-                return BigInteger.valueOf(numeral.getNumber().intValue());
-            case LONG:
-                return BigInteger.valueOf(numeral.getNumber().longValue());
-            case BIG_INT:
-                return (BigInteger) numeral.getNumber();
-            case FLOAT:
-                return BigDecimal.valueOf(numeral.getNumber().floatValue()).toBigInteger();
-            case DOUBLE:
-                return BigDecimal.valueOf(numeral.getNumber().doubleValue()).toBigInteger();
-            case BIG_DEC:
-                return ((BigDecimal) numeral.getNumber()).toBigInteger();
+        try {
+            switch(numeral.getType()) {
+                case INT:
+                    return BigInteger.valueOf(numeral.getNumber().intValue());
+                case LONG:
+                    return BigInteger.valueOf(numeral.getNumber().longValue());
+                case BIG_INT:
+                    return (BigInteger) numeral.getNumber();
+                case FIXED:
+                    return toFixed(numeral).toBigInteger();
+                case FLOAT:
+                    return BigDecimal.valueOf(numeral.getNumber().floatValue()).toBigInteger();
+                case DOUBLE:
+                    return BigDecimal.valueOf(numeral.getNumber().doubleValue()).toBigInteger();
+                case DOUBLE_DOUBLE:
+                    return toDoubleDouble(numeral).toBigInteger();
+                case BIG_DEC:
+                    return ((BigDecimal) numeral.getNumber()).toBigInteger();
+                case HUGE:
+                    return toBigIntInRange(toHuge(numeral));
+            }
+
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.unknownType(numeral.getType()),
+                    IllegalArgumentException::new);
+        } catch(ArithmeticException e) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.duringBigIntConversion(numeral),
+                    e, ExtendedArithmeticException::new);
         }
+    }
 
-        throw LogUtils.logExceptionAndGet(logger,
-                MathStrings.unknownType(numeral.getType()),
-                IllegalArgumentException::new);
+    /**
+     * @param numeral {@link Numeral} to be converted
+     * @return {@link Fixed} representation of the specified value. Fractional digits that do not fit are rounded
+     * with {@link java.math.RoundingMode#HALF_EVEN}
+     *
+     * @throws ExtendedArithmeticException if the value of the specified {@link Numeral} is smaller than
+     * {@link Long#MIN_VALUE} or greater than {@link Long#MAX_VALUE}
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Fixed toFixed(Numeral numeral) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        if(numeral instanceof FixedNumeral) {
+            return ((FixedNumeral) numeral).fixedValue();
+        }
+
+        try {
+            switch(numeral.getType()) {
+                case INT:
+                case LONG:
+                    return Fixed.valueOf(numeral.getNumber().longValue());
+                case BIG_INT:
+                    return Fixed.valueOf(((BigInteger) numeral.getNumber()).longValueExact());
+                case FIXED:
+                    return (Fixed) numeral.getNumber();
+                case FLOAT:
+                    return Fixed.valueOf(numeral.bigDecValue());
+                case DOUBLE:
+                    return Fixed.valueOf(BigDecimal.valueOf(numeral.getNumber().doubleValue()));
+                case DOUBLE_DOUBLE:
+                    return Fixed.valueOf(toDoubleDouble(numeral).toBigDecimal());
+                case BIG_DEC:
+                    return Fixed.valueOf((BigDecimal) numeral.getNumber());
+                case HUGE:
+                    return toFixedInRange(toHuge(numeral));
+            }
+
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.unknownType(numeral.getType()),
+                    IllegalArgumentException::new);
+        } catch(ArithmeticException e) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.duringFixedConversion(numeral),
+                    e, ExtendedArithmeticException::new);
+        }
     }
 
     /**
@@ -183,14 +263,18 @@ public class Conversion {
             switch(numeral.getType()) {
                 case INT:
                 case LONG:
+                case FIXED:
                 case FLOAT:
                     return numeral.getNumber().floatValue();
                 case BIG_INT:
                     return toFloatInRange((BigInteger) numeral.getNumber());
                 case DOUBLE:
+                case DOUBLE_DOUBLE:
                     return toFloatInRange(numeral.getNumber().doubleValue());
                 case BIG_DEC:
                     return toFloatInRange((BigDecimal) numeral.getNumber());
+                case HUGE:
+                    return toFloatInRange(toHuge(numeral));
             }
 
             throw LogUtils.logExceptionAndGet(logger,
@@ -230,13 +314,17 @@ public class Conversion {
             switch(numeral.getType()) {
                 case INT:
                 case LONG:
+                case FIXED:
                 case FLOAT:
                 case DOUBLE:
+                case DOUBLE_DOUBLE:
                     return numeral.getNumber().doubleValue();
                 case BIG_INT:
                     return toDoubleInRange((BigInteger) numeral.getNumber());
                 case BIG_DEC:
                     return toDoubleInRange((BigDecimal) numeral.getNumber());
+                case HUGE:
+                    return toDoubleInRange(toHuge(numeral));
             }
 
             throw LogUtils.logExceptionAndGet(logger,
@@ -253,6 +341,8 @@ public class Conversion {
      * @param numeral {@link Numeral} to be converted
      * @return {@link BigDecimal} representation of the specified value
      *
+     * @throws ExtendedArithmeticException if the value of the specified {@link Numeral} is too large to be represented
+     * as a {@link BigDecimal}
      * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
      * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
      * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
@@ -269,23 +359,131 @@ public class Conversion {
             return numeral.bigDecValue();
         }
 
+        try {
+            switch(numeral.getType()) {
+                case INT:
+                case LONG:
+                    return BigDecimal.valueOf(numeral.getNumber().longValue());
+                case BIG_INT:
+                    return new BigDecimal((BigInteger) numeral.getNumber(), Operations.getContext())
+                            .stripTrailingZeros();
+                case FIXED:
+                    return toFixed(numeral).toBigDecimal();
+                case FLOAT:
+                case DOUBLE:
+                    return BigDecimal.valueOf(numeral.getNumber().doubleValue());
+                case DOUBLE_DOUBLE:
+                    return toDoubleDouble(numeral).toBigDecimal();
+                case BIG_DEC:
+                    return (BigDecimal) numeral.getNumber();
+                case HUGE:
+                    return toBigDecInRange(toHuge(numeral));
+            }
+
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.unknownType(numeral.getType()),
+                    IllegalArgumentException::new);
+        } catch(ArithmeticException e) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.duringBigDecConversion(numeral),
+                    e, ExtendedArithmeticException::new);
+        }
+    }
+
+    /**
+     * @param numeral {@link Numeral} to be converted
+     * @return {@link DoubleDouble} representation of the specified value
+     *
+     * @throws ExtendedArithmeticException if the value of the specified {@link Numeral} is smaller than
+     * {@link Double#MAX_VALUE -Double.MAX_VALUE} or greater than {@link Double#MAX_VALUE}
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static DoubleDouble toDoubleDouble(Numeral numeral) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        if(numeral instanceof DoubleDoubleNumeral) {
+            return ((DoubleDoubleNumeral) numeral).doubleDoubleValue();
+        }
+
+        try {
+            switch(numeral.getType()) {
+                case INT:
+                case LONG:
+                    return DoubleDouble.valueOf(numeral.getNumber().longValue());
+                case BIG_INT:
+                    return toDoubleDoubleInRange(new BigDecimal((BigInteger) numeral.getNumber()));
+                case FIXED:
+                    return toDoubleDouble(toFixed(numeral));
+                case FLOAT:
+                    return DoubleDouble.valueOf(toDouble(numeral));
+                case DOUBLE:
+                    return DoubleDouble.valueOf(numeral.getNumber().doubleValue());
+                case DOUBLE_DOUBLE:
+                    return (DoubleDouble) numeral.getNumber();
+                case BIG_DEC:
+                    return toDoubleDoubleInRange((BigDecimal) numeral.getNumber());
+                case HUGE:
+                    return DoubleDouble.valueOf(toDoubleInRange(toHuge(numeral)));
+            }
+
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.unknownType(numeral.getType()),
+                    IllegalArgumentException::new);
+        } catch(ArithmeticException e) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.duringDoubleDoubleConversion(numeral),
+                    e, ExtendedArithmeticException::new);
+        }
+    }
+
+    /**
+     * @param numeral {@link Numeral} to be converted
+     * @return {@link Huge} representation of the specified value
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Huge toHuge(Numeral numeral) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        if(numeral instanceof HugeNumeral) {
+            return ((HugeNumeral) numeral).hugeValue();
+        }
+
         switch(numeral.getType()) {
             case INT:
             case LONG:
-                return BigDecimal.valueOf(numeral.getNumber().longValue());
+                return Huge.valueOf(numeral.getNumber().longValue());
             case BIG_INT:
-                return new BigDecimal((BigInteger) numeral.getNumber(), Operations.getContext())
-                        .stripTrailingZeros();
+                return Huge.valueOf((BigInteger) numeral.getNumber());
             case FLOAT:
+                return Huge.valueOf(toDouble(numeral));
+            case FIXED:
             case DOUBLE:
-                return BigDecimal.valueOf(numeral.getNumber().doubleValue());
+            case DOUBLE_DOUBLE:
+                return Huge.valueOf(numeral.getNumber().doubleValue());
             case BIG_DEC:
-                return (BigDecimal) numeral.getNumber();
+                return Huge.valueOf((BigDecimal) numeral.getNumber());
+            case HUGE:
+                return (Huge) numeral.getNumber();
         }
 
         throw LogUtils.logExceptionAndGet(logger,
-                    MathStrings.unknownType(numeral.getType()),
-                    IllegalArgumentException::new);
+                MathStrings.unknownType(numeral.getType()),
+                IllegalArgumentException::new);
     }
 
     /**
@@ -307,6 +505,7 @@ public class Conversion {
 
         switch(numeral.getType()) {
             case INT:
+            case FIXED:
             case FLOAT:
                 return numeral;
             case LONG:
@@ -327,6 +526,11 @@ public class Conversion {
                     return toFloatNumeral(numeral);
                 }
                 return numeral;
+            case DOUBLE_DOUBLE:
+                if(!isOutOfFloatRange(numeral.doubleValue())) {
+                    return toFloatNumeral(numeral);
+                }
+                return toDoubleNumeral(numeral);
             case BIG_DEC:
                 if(!isOutOfFloatRange(numeral.bigDecValue())) {
                     return toFloatNumeral(numeral);
@@ -335,6 +539,14 @@ public class Conversion {
                     return toDoubleNumeral(numeral);
                 }
                 return numeral;
+            case HUGE:
+                if(!isOutOfFloatRange(toHuge(numeral))) {
+                    return toFloatNumeral(numeral);
+                }
+                if(!isOutOfDoubleRange(toHuge(numeral))) {
+                    return toDoubleNumeral(numeral);
+                }
+                return numeral;
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -433,12 +645,18 @@ public class Conversion {
                 return toLongNumeral(numeral);
             case BIG_INT:
                 return toBigIntNumeral(numeral);
+            case FIXED:
+                return toFixedNumeral(numeral);
             case FLOAT:
                 return toFloatNumeral(numeral);
             case DOUBLE:
                 return toDoubleNumeral(numeral);
+            case DOUBLE_DOUBLE:
+                return toDoubleDoubleNumeral(numeral);
             case BIG_DEC:
                 return toBigDecNumeral(numeral);
+            case HUGE:
+                return toHugeNumeral(numeral);
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -501,6 +719,25 @@ public class Conversion {
         return Numerals.of(toBigInt(numeral));
     }
 
+    /**
+     * @param numeral {@link Numeral} to be converted
+     * @return {@link Numeral} backed by a {@link Fixed} with the specified Numeral's value
+     *
+     * @throws ExtendedArithmeticException if the value of the specified {@link Numeral} is smaller than
+     * {@link Long#MIN_VALUE} or greater than {@link Long#MAX_VALUE}
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static FixedNumeral toFixedNumeral(Numeral numeral) {
+        if(numeral instanceof FixedNumeral) {
+            return (FixedNumeral) numeral;
+        }
+
+        return Numerals.of(toFixed(numeral));
+    }
+
     /**
      * @param numeral {@link Numeral} to be converted
      * @return {@link Numeral} backed by a {@code float} with the specified Numeral's value
@@ -541,6 +778,25 @@ public class Conversion {
     }
 
 
+    /**
+     * @param numeral {@link Numeral} to be converted
+     * @return {@link Numeral} backed by a {@link DoubleDouble} with the specified Numeral's value
+     *
+     * @throws ExtendedArithmeticException if the value of the specified {@link Numeral} is smaller than
+     * {@link Double#MAX_VALUE -Double.MAX_VALUE} or greater than {@link Double#MAX_VALUE}
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static DoubleDoubleNumeral toDoubleDoubleNumeral(Numeral numeral) {
+        if(numeral instanceof DoubleDoubleNumeral) {
+            return (DoubleDoubleNumeral) numeral;
+        }
+
+        return Numerals.of(toDoubleDouble(numeral));
+    }
+
     /**
      * @param numeral {@link Numeral} to be converted
      * @return {@link Numeral} backed by a {@link BigDecimal} with the specified Numeral's value
@@ -558,6 +814,23 @@ public class Conversion {
         return Numerals.of(toBigDec(numeral));
     }
 
+    /**
+     * @param numeral {@link Numeral} to be converted
+     * @return {@link Numeral} backed by a {@link Huge} with the specified Numeral's value
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static HugeNumeral toHugeNumeral(Numeral numeral) {
+        if(numeral instanceof HugeNumeral) {
+            return (HugeNumeral) numeral;
+        }
+
+        return Numerals.of(toHuge(numeral));
+    }
+
     private static int toIntInRange(float f) {
         if(isOutOfIntRange(f)) {
             throw LogUtils.logExceptionAndGet(logger,
@@ -588,6 +861,16 @@ public class Conversion {
         return bd.intValue();
     }
 
+    private static int toIntInRange(Huge h) {
+        if(isOutOfIntRange(h)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.intOverflow(h),
+                    ArithmeticException::new);
+        }
+
+        return h.intValue();
+    }
+
     private static long toLongInRange(float f) {
         if(isOutOfLongRange(f)) {
             throw LogUtils.logExceptionAndGet(logger,
@@ -618,7 +901,21 @@ public class Conversion {
         return bd.longValue();
     }
 
+    private static long toLongInRange(Huge h) {
+        if(isOutOfLongRange(h)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.longOverflow(h),
+                    ArithmeticException::new);
+        }
+
+        return h.longValue();
+    }
+
     private static float toFloatInRange(BigInteger bi) {
+        if(bi.bitLength() < Long.SIZE) {
+            return bi.longValue();
+        }
+
         return toFloatInRange(new BigDecimal(bi, Operations.getContext()));
     }
 
@@ -642,7 +939,21 @@ public class Conversion {
         return bd.floatValue();
     }
 
+    private static float toFloatInRange(Huge h) {
+        if(isOutOfFloatRange(h)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.floatOverflow(h),
+                    ArithmeticException::new);
+        }
+
+        return h.floatValue();
+    }
+
     private static double toDoubleInRange(BigInteger bi) {
+        if(bi.bitLength() < Long.SIZE) {
+            return bi.longValue();
+        }
+
         return toDoubleInRange(new BigDecimal(bi, Operations.getContext()));
     }
 
@@ -655,4 +966,78 @@ public class Conversion {
 
         return bd.doubleValue();
     }
+
+    private static double toDoubleInRange(Huge h) {
+        if(isOutOfDoubleRange(h)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.doubleOverflow(h),
+                    ArithmeticException::new);
+        }
+
+        return h.doubleValue();
+    }
+
+    private static int toIntInRange(DoubleDouble dd) {
+        if(isOutOfIntRange(dd)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.intOverflow(dd),
+                    ArithmeticException::new);
+        }
+
+        return dd.intValue();
+    }
+
+    private static long toLongInRange(DoubleDouble dd) {
+        if(isOutOfLongRange(dd)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.longOverflow(dd),
+                    ArithmeticException::new);
+        }
+
+        return dd.longValue();
+    }
+
+    private static Fixed toFixedInRange(Huge h) {
+        if(isOutOfLongRange(h)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.fixedOverflow(h),
+                    ArithmeticException::new);
+        }
+
+        return Fixed.valueOf(h.toBigDecimal());
+    }
+
+    private static DoubleDouble toDoubleDouble(Fixed f) {
+        return DoubleDouble.valueOf(f.getUnscaled()).divide(DoubleDouble.valueOf(Fixed.powerOfTen(f.getScale())));
+    }
+
+    private static DoubleDouble toDoubleDoubleInRange(BigDecimal bd) {
+        if(isOutOfDoubleRange(bd)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.doubleDoubleOverflow(bd),
+                    ArithmeticException::new);
+        }
+
+        return DoubleDouble.valueOf(bd);
+    }
+
+    private static BigInteger toBigIntInRange(Huge h) {
+        if(isOutOfBigIntRange(h)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.bigIntOverflow(h),
+                    ArithmeticException::new);
+        }
+
+        return h.toBigInteger();
+    }
+
+    private static BigDecimal toBigDecInRange(Huge h) {
+        if(isOutOfBigDecRange(h)) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.bigDecOverflow(h),
+                    ArithmeticException::new);
+        }
+
+        return h.toBigDecimal();
+    }
 }
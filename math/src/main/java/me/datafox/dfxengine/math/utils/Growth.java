@@ -0,0 +1,162 @@
+package me.datafox.dfxengine.math.utils;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static me.datafox.dfxengine.math.utils.Numerals.*;
+
+/**
+ * <p>
+ * Closed-form integration of common growth laws over an elapsed time, for example to calculate offline progress
+ * without replaying every tick. Every method calculates the value after {@code time} ticks of a simple update rule in
+ * constant time, and the update rule is documented for every method. For integer times, the result is the same as
+ * applying the update rule {@code time} times with {@link Operations}, apart from rounding errors, of which the
+ * closed-form formulas accumulate fewer. If all parameters are integers, the result is exact. Decimal times
+ * interpolate the same closed-form formulas between ticks.
+ * </p>
+ * <p>
+ * Types are promoted like in {@link Operations}, including on overflow. A zero time always returns the start value
+ * as-is.
+ * </p>
+ *
+ * @author datafox
+ */
+public class Growth {
+    private static final Logger logger = LoggerFactory.getLogger(Growth.class);
+
+    /**
+     * Integrates a constant rate, that is, the update rule {@code value = value + rate}. The result is
+     * {@code start + rate * time}.
+     *
+     * @param start value at the start
+     * @param rate amount added to the value every tick
+     * @param time elapsed number of ticks
+     * @return value after the elapsed time
+     *
+     * @throws ArithmeticException if the time is negative
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral constant(Numeral start, Numeral rate, Numeral time) {
+        checkTime(time);
+
+        if(isZero(time)) {
+            return start;
+        }
+
+        return Operations.add(start, Operations.multiply(rate, time));
+    }
+
+    /**
+     * Integrates a linearly changing rate, that is, the update rules {@code value = value + rate} and
+     * {@code rate = rate + acceleration}, in that order. The result is
+     * {@code start + rate * time + acceleration * time * (time - 1) / 2}, calculated with
+     * {@link Operations#arithmeticSum(Numeral, Numeral, Numeral)}.
+     *
+     * @param start value at the start
+     * @param rate amount added to the value on the first tick
+     * @param acceleration amount added to the rate every tick
+     * @param time elapsed number of ticks
+     * @return value after the elapsed time
+     *
+     * @throws ArithmeticException if the time is negative
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral linear(Numeral start, Numeral rate, Numeral acceleration, Numeral time) {
+        checkTime(time);
+
+        if(isZero(time)) {
+            return start;
+        }
+
+        return Operations.add(start, Operations.arithmeticSum(rate, acceleration, time));
+    }
+
+    /**
+     * Integrates compounding growth, that is, the update rule {@code value = value * (1 + rate)}. The result is
+     * {@code start * (1 + rate)^time}. If the rate and the time are integers and the time fits in an {@code int},
+     * the power is calculated exactly instead of with {@link Operations#power(Numeral, Numeral)}, which calculates
+     * integer powers with {@code double} arithmetic.
+     *
+     * @param start value at the start
+     * @param rate relative growth of the value every tick, for example {@code 0.05} for five percent
+     * @param time elapsed number of ticks
+     * @return value after the elapsed time
+     *
+     * @throws ArithmeticException if the time is negative
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral compound(Numeral start, Numeral rate, Numeral time) {
+        checkTime(time);
+
+        if(isZero(time)) {
+            return start;
+        }
+
+        return Operations.multiply(start, Operations.exactPower(Operations.add(rate, of(1)), time));
+    }
+
+    /**
+     * Integrates a constant rate that is capped, that is, the update rule {@code value = min(value + rate, cap)}. If
+     * the start value is not greater than the cap, the result is {@code min(start + rate * time, cap)}. Otherwise the
+     * first tick brings the value to {@code first = min(start + rate, cap)}, and the result is
+     * {@code min(first + rate * (time - 1), cap)} for a time of at least one. For a time between zero and one, the
+     * value moves linearly from the start value to {@code first}, that is, the result is
+     * {@code start + (first - start) * time}.
+     *
+     * @param start value at the start
+     * @param rate amount added to the value every tick
+     * @param cap maximum value
+     * @param time elapsed number of ticks
+     * @return value after the elapsed time
+     *
+     * @throws ArithmeticException if the time is negative
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral capped(Numeral start, Numeral rate, Numeral cap, Numeral time) {
+        checkTime(time);
+
+        if(isZero(time)) {
+            return start;
+        }
+
+        if(compare(start, cap) <= 0) {
+            return Operations.min(Operations.add(start, Operations.multiply(rate, time)), cap);
+        }
+
+        Numeral first = Operations.min(Operations.add(start, rate), cap);
+
+        if(compare(time, of(1)) < 0) {
+            return Operations.add(start, Operations.multiply(Operations.subtract(first, start), time));
+        }
+
+        return Operations.min(Operations.add(first, Operations.multiply(rate, Operations.subtract(time, of(1)))), cap);
+    }
+
+    private static void checkTime(Numeral time) {
+        if(signum(time) < 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.negativeElapsedTime(time),
+                    ArithmeticException::new);
+        }
+    }
+}
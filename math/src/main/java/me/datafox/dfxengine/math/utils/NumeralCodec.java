@@ -0,0 +1,505 @@
+package me.datafox.dfxengine.math.utils;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * Streaming text and binary codec for {@link Numeral Numerals}, meant for saving and loading large amounts of numbers.
+ * </p>
+ * <p>
+ * The text parser reads directly from a {@link CharSequence} without creating substrings. Integers are returned with
+ * the smallest integer type that can hold them, so {@code "42"} is parsed to an {@link IntNumeral} instead of the
+ * {@link BigIntNumeral} returned by {@link Numerals#of(String)}. Decimals are returned as {@link BigDecNumeral
+ * BigDecNumerals} like with {@link Numerals#of(String)}, but decimals with at most 18 significant digits are built
+ * from a {@code long} without any intermediate strings. Only numbers that do not fit in a {@code long} fall back to
+ * the string constructors of {@link BigInteger} and {@link BigDecimal}.
+ * </p>
+ * <p>
+ * The binary encoding starts with a single tag byte identifying the {@link NumeralType}, followed by the value.
+ * The tags are fixed and do not depend on the order of the elements of NumeralType:
+ * <ul>
+ *     <li>{@code 0} {@link NumeralType#INT} and {@code 1} {@link NumeralType#LONG}: a zigzag encoded variable length
+ *     integer, taking one byte for values between {@code -64} and {@code 63}</li>
+ *     <li>{@code 2} {@link NumeralType#BIG_INT}: an unscaled value</li>
+ *     <li>{@code 3} {@link NumeralType#FIXED}: a variable length scale followed by a zigzag encoded unscaled
+ *     value</li>
+ *     <li>{@code 4} {@link NumeralType#FLOAT} and {@code 5} {@link NumeralType#DOUBLE}: the raw IEEE 754 bits</li>
+ *     <li>{@code 6} {@link NumeralType#DOUBLE_DOUBLE}: the raw bits of the high and the low part</li>
+ *     <li>{@code 7} {@link NumeralType#BIG_DEC}: a zigzag encoded scale followed by an unscaled value</li>
+ *     <li>{@code 8} {@link NumeralType#HUGE}: the raw bits of the mantissa followed by a zigzag encoded
+ *     exponent</li>
+ * </ul>
+ * An unscaled value starts with a variable length byte count. A count of zero means that the value fits in a
+ * {@code long} and is stored as a zigzag encoded variable length integer, otherwise the count is followed by the
+ * two's complement bytes of the value. All methods read and write the {@link ByteBuffer} at its current position,
+ * in its own byte order.
+ * </p>
+ *
+ * @author datafox
+ */
+public class NumeralCodec {
+    private static final Logger logger = LoggerFactory.getLogger(NumeralCodec.class);
+
+    private static final byte INT_TAG = 0;
+
+    private static final byte LONG_TAG = 1;
+
+    private static final byte BIG_INT_TAG = 2;
+
+    private static final byte FIXED_TAG = 3;
+
+    private static final byte FLOAT_TAG = 4;
+
+    private static final byte DOUBLE_TAG = 5;
+
+    private static final byte DOUBLE_DOUBLE_TAG = 6;
+
+    private static final byte BIG_DEC_TAG = 7;
+
+    private static final byte HUGE_TAG = 8;
+
+    /**
+     * Maximum number of significant digits that always fit in a {@code long}.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * Exponents beyond this are left to {@link BigDecimal} to avoid overflowing the scale.
+     */
+    private static final int MAX_FAST_EXPONENT = 100000000;
+
+    /**
+     * Maximum number of bytes in a variable length {@code long}.
+     */
+    private static final int MAX_VARINT_BYTES = 10;
+
+    /**
+     * Parses a numeral from a {@link CharSequence}. The accepted format is the same as with
+     * {@link BigDecimal#BigDecimal(String)}. A sequence is considered to represent an integer if it does not contain
+     * any of the characters {@code .}, {@code e} or {@code E}.
+     *
+     * @param text {@link CharSequence} representation of a numeric value
+     * @return {@link IntNumeral}, {@link LongNumeral} or {@link BigIntNumeral} if the text represents an integer,
+     * {@link BigDecNumeral} otherwise
+     *
+     * @throws NumberFormatException if the text is not a valid number representation
+     */
+    public static Numeral parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses a numeral from a region of a {@link CharSequence}. The accepted format is the same as with
+     * {@link BigDecimal#BigDecimal(String)}. A region is considered to represent an integer if it does not contain
+     * any of the characters {@code .}, {@code e} or {@code E}.
+     *
+     * @param text {@link CharSequence} containing a representation of a numeric value
+     * @param start index of the first character of the value
+     * @param end index after the last character of the value
+     * @return {@link IntNumeral}, {@link LongNumeral} or {@link BigIntNumeral} if the region represents an integer,
+     * {@link BigDecNumeral} otherwise
+     *
+     * @throws NumberFormatException if the region is not a valid number representation
+     * @throws IndexOutOfBoundsException if the region is not within the bounds of the text
+     */
+    public static Numeral parse(CharSequence text, int start, int end) {
+        if(start < 0 || end > text.length() || start > end) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.invalidTextRegion(start, end, text.length()),
+                    IndexOutOfBoundsException::new);
+        }
+
+        int i = start;
+        boolean negative = false;
+
+        if(i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+
+        long unscaled = 0;
+        int digits = 0;
+        int significant = 0;
+        int fraction = 0;
+        boolean decimal = false;
+
+        for(; i < end; i++) {
+            char c = text.charAt(i);
+
+            if(c >= '0' && c <= '9') {
+                digits++;
+                if(decimal) {
+                    fraction++;
+                }
+                if(significant != 0 || c != '0') {
+                    significant++;
+                    unscaled = unscaled * 10 + (c - '0');
+                }
+            } else if(c == '.' && !decimal) {
+                decimal = true;
+            } else {
+                break;
+            }
+        }
+
+        if(digits == 0) {
+            throw invalidText(text, start, end);
+        }
+
+        long exponent = 0;
+
+        if(i < end) {
+            char c = text.charAt(i);
+
+            if(c != 'e' && c != 'E') {
+                throw invalidText(text, start, end);
+            }
+
+            decimal = true;
+            i++;
+            boolean negativeExponent = false;
+
+            if(i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negativeExponent = text.charAt(i) == '-';
+                i++;
+            }
+
+            if(i == end) {
+                throw invalidText(text, start, end);
+            }
+
+            for(; i < end; i++) {
+                c = text.charAt(i);
+
+                if(c < '0' || c > '9') {
+                    throw invalidText(text, start, end);
+                }
+
+                if(exponent <= MAX_FAST_EXPONENT) {
+                    exponent = exponent * 10 + (c - '0');
+                }
+            }
+
+            if(negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+
+        if(significant > MAX_LONG_DIGITS || Math.abs(exponent) > MAX_FAST_EXPONENT) {
+            return parseSlow(text, start, end, decimal);
+        }
+
+        if(negative) {
+            unscaled = -unscaled;
+        }
+
+        if(decimal) {
+            return Numerals.of(BigDecimal.valueOf(unscaled, Math.toIntExact(fraction - exponent)));
+        }
+
+        if(unscaled >= Integer.MIN_VALUE && unscaled <= Integer.MAX_VALUE) {
+            return Numerals.of((int) unscaled);
+        }
+
+        return Numerals.of(unscaled);
+    }
+
+    /**
+     * @param numeral {@link Numeral} to be measured
+     * @return number of bytes {@link #write(Numeral, ByteBuffer)} writes for the {@link Numeral}
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static int encodedSize(Numeral numeral) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        switch(numeral.getType()) {
+            case INT:
+                return 1 + varLongSize(zigzag(numeral.intValue()));
+            case LONG:
+                return 1 + varLongSize(zigzag(numeral.longValue()));
+            case BIG_INT:
+                return 1 + unscaledSize(numeral.bigIntValue());
+            case FIXED: {
+                Fixed fixed = (Fixed) numeral.getNumber();
+                return 1 + varLongSize(fixed.getScale()) + varLongSize(zigzag(fixed.getUnscaled()));
+            }
+            case FLOAT:
+                return 1 + Float.BYTES;
+            case DOUBLE:
+                return 1 + Double.BYTES;
+            case DOUBLE_DOUBLE:
+                return 1 + 2 * Double.BYTES;
+            case BIG_DEC: {
+                BigDecimal value = numeral.bigDecValue();
+                return 1 + varLongSize(zigzag(value.scale())) + unscaledSize(value.unscaledValue());
+            }
+            case HUGE:
+                return 1 + Double.BYTES + varLongSize(zigzag(((Huge) numeral.getNumber()).getExponent()));
+        }
+
+        throw LogUtils.logExceptionAndGet(logger,
+                MathStrings.unknownType(numeral.getType()),
+                IllegalArgumentException::new);
+    }
+
+    /**
+     * Writes the binary encoding of a {@link Numeral} to a {@link ByteBuffer} at its current position. The encoding
+     * is described in the documentation of this class.
+     *
+     * @param numeral {@link Numeral} to be written
+     * @param buffer {@link ByteBuffer} to write to
+     *
+     * @throws BufferOverflowException if the {@link ByteBuffer} does not have enough space remaining. Use
+     * {@link #encodedSize(Numeral)} to check the required space beforehand
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static void write(Numeral numeral, ByteBuffer buffer) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        switch(numeral.getType()) {
+            case INT:
+                buffer.put(INT_TAG);
+                writeVarLong(zigzag(numeral.intValue()), buffer);
+                return;
+            case LONG:
+                buffer.put(LONG_TAG);
+                writeVarLong(zigzag(numeral.longValue()), buffer);
+                return;
+            case BIG_INT:
+                buffer.put(BIG_INT_TAG);
+                writeUnscaled(numeral.bigIntValue(), buffer);
+                return;
+            case FIXED: {
+                buffer.put(FIXED_TAG);
+                Fixed fixed = (Fixed) numeral.getNumber();
+                writeVarLong(fixed.getScale(), buffer);
+                writeVarLong(zigzag(fixed.getUnscaled()), buffer);
+                return;
+            }
+            case FLOAT:
+                buffer.put(FLOAT_TAG);
+                buffer.putFloat(numeral.floatValue());
+                return;
+            case DOUBLE:
+                buffer.put(DOUBLE_TAG);
+                buffer.putDouble(numeral.doubleValue());
+                return;
+            case DOUBLE_DOUBLE: {
+                buffer.put(DOUBLE_DOUBLE_TAG);
+                DoubleDouble dd = (DoubleDouble) numeral.getNumber();
+                buffer.putDouble(dd.getHigh());
+                buffer.putDouble(dd.getLow());
+                return;
+            }
+            case BIG_DEC: {
+                buffer.put(BIG_DEC_TAG);
+                BigDecimal value = numeral.bigDecValue();
+                writeVarLong(zigzag(value.scale()), buffer);
+                writeUnscaled(value.unscaledValue(), buffer);
+                return;
+            }
+            case HUGE: {
+                buffer.put(HUGE_TAG);
+                Huge huge = (Huge) numeral.getNumber();
+                buffer.putDouble(huge.getMantissa());
+                writeVarLong(zigzag(huge.getExponent()), buffer);
+                return;
+            }
+        }
+
+        throw LogUtils.logExceptionAndGet(logger,
+                MathStrings.unknownType(numeral.getType()),
+                IllegalArgumentException::new);
+    }
+
+    /**
+     * Reads a {@link Numeral} from a {@link ByteBuffer} at its current position. The numeral must have been written
+     * with {@link #write(Numeral, ByteBuffer)}. The returned numeral has the same type and value as the written one.
+     *
+     * @param buffer {@link ByteBuffer} to read from
+     * @return {@link Numeral} read from the {@link ByteBuffer}
+     *
+     * @throws BufferUnderflowException if the {@link ByteBuffer} ends before the numeral is fully read
+     * @throws IllegalArgumentException if the {@link ByteBuffer} does not contain a valid encoded numeral at its
+     * current position
+     */
+    public static Numeral read(ByteBuffer buffer) {
+        int tag = buffer.get() & 0xff;
+
+        switch(tag) {
+            case INT_TAG:
+                return Numerals.of(readInt(unzigzag(readVarLong(buffer))));
+            case LONG_TAG:
+                return Numerals.of(unzigzag(readVarLong(buffer)));
+            case BIG_INT_TAG:
+                return Numerals.of(readUnscaled(buffer));
+            case FIXED_TAG: {
+                int scale = readInt(readVarLong(buffer));
+                return Numerals.of(Fixed.of(unzigzag(readVarLong(buffer)), scale));
+            }
+            case FLOAT_TAG:
+                return Numerals.of(buffer.getFloat());
+            case DOUBLE_TAG:
+                return Numerals.of(buffer.getDouble());
+            case DOUBLE_DOUBLE_TAG: {
+                double high = buffer.getDouble();
+                return Numerals.of(DoubleDouble.of(high, buffer.getDouble()));
+            }
+            case BIG_DEC_TAG: {
+                int scale = readInt(unzigzag(readVarLong(buffer)));
+                return Numerals.of(new BigDecimal(readUnscaled(buffer), scale));
+            }
+            case HUGE_TAG: {
+                double mantissa = buffer.getDouble();
+                return Numerals.of(Huge.of(mantissa, unzigzag(readVarLong(buffer))));
+            }
+        }
+
+        throw LogUtils.logExceptionAndGet(logger,
+                MathStrings.invalidNumeralTag(tag),
+                IllegalArgumentException::new);
+    }
+
+    private static Numeral parseSlow(CharSequence text, int start, int end, boolean decimal) {
+        String str = text.subSequence(start, end).toString();
+
+        if(decimal) {
+            return Numerals.of(new BigDecimal(str));
+        }
+
+        BigInteger value = new BigInteger(str);
+
+        if(value.bitLength() < Long.SIZE) {
+            return Numerals.of(value.longValue());
+        }
+
+        return Numerals.of(value);
+    }
+
+    private static NumberFormatException invalidText(CharSequence text, int start, int end) {
+        return LogUtils.logExceptionAndGet(logger,
+                MathStrings.invalidNumeralText(text.subSequence(start, end)),
+                NumberFormatException::new);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+
+        while((value & ~0x7fL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+
+        return size;
+    }
+
+    private static void writeVarLong(long value, ByteBuffer buffer) {
+        while((value & ~0x7fL) != 0) {
+            buffer.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+
+        for(int i = 0; i < MAX_VARINT_BYTES; i++) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7f) << (7 * i);
+
+            if(b >= 0) {
+                return value;
+            }
+        }
+
+        throw LogUtils.logExceptionAndGet(logger,
+                MathStrings.INVALID_VARINT,
+                IllegalArgumentException::new);
+    }
+
+    private static int readInt(long value) {
+        if(value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.INVALID_VARINT,
+                    IllegalArgumentException::new);
+        }
+
+        return (int) value;
+    }
+
+    private static int unscaledSize(BigInteger value) {
+        if(value.bitLength() < Long.SIZE) {
+            return 1 + varLongSize(zigzag(value.longValue()));
+        }
+
+        int length = value.bitLength() / 8 + 1;
+
+        return varLongSize(length) + length;
+    }
+
+    private static void writeUnscaled(BigInteger value, ByteBuffer buffer) {
+        if(value.bitLength() < Long.SIZE) {
+            buffer.put((byte) 0);
+            writeVarLong(zigzag(value.longValue()), buffer);
+            return;
+        }
+
+        byte[] bytes = value.toByteArray();
+        writeVarLong(bytes.length, buffer);
+        buffer.put(bytes);
+    }
+
+    private static BigInteger readUnscaled(ByteBuffer buffer) {
+        int length = readInt(readVarLong(buffer));
+
+        if(length == 0) {
+            return BigInteger.valueOf(unzigzag(readVarLong(buffer)));
+        }
+
+        if(length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new BigInteger(bytes);
+    }
+}
@@ -0,0 +1,139 @@
+package me.datafox.dfxengine.math.utils;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.api.exception.ExtendedArithmeticException;
+import me.datafox.dfxengine.math.numeral.Huge;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+
+/**
+ * <p>
+ * Memoizes the derived representations of the most recently requested {@link Numeral}, namely its
+ * {@link Numeral#bigDecValue() BigDecimal value}, its {@link Numeral#doubleValue() double value} and its
+ * {@link #exponent(Numeral) base 10 exponent}. Each representation is calculated lazily the first time it is
+ * requested, and requesting it again for the same numeral instance only costs a field read. Numerals are immutable,
+ * so a numeral is recognised by its identity alone. When a different instance is requested, the memoized
+ * representations are discarded.
+ * </p>
+ * <p>
+ * Memoization is opt-in and the numerals themselves are not modified, so numerals that are never converted do not
+ * pay for it. A memo is meant to be held by a consumer that repeatedly converts a slowly changing numeral, like a
+ * text that renders the same value on every frame. This class is thread-safe, but a representation may be calculated
+ * more than once if multiple threads request it at the same time.
+ * </p>
+ *
+ * @author datafox
+ */
+public class NumeralMemo {
+    private static final Logger logger = LoggerFactory.getLogger(NumeralMemo.class);
+
+    private volatile Entry entry;
+
+    /**
+     * @param numeral {@link Numeral} to be converted
+     * @return the value of the {@link Numeral} as a {@link BigDecimal}
+     *
+     * @throws NullPointerException if the {@link Numeral} is {@code null}
+     */
+    public BigDecimal bigDecValue(Numeral numeral) {
+        Entry entry = getEntry(numeral);
+        BigDecimal value = entry.bigDec;
+
+        if(value == null) {
+            value = numeral.bigDecValue();
+            entry.bigDec = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * @param numeral {@link Numeral} to be converted
+     * @return the value of the {@link Numeral} as a {@code double}
+     *
+     * @throws NullPointerException if the {@link Numeral} is {@code null}
+     * @throws ExtendedArithmeticException if the value of the {@link Numeral} is smaller than
+     * {@link Double#MAX_VALUE -Double.MAX_VALUE} or greater than {@link Double#MAX_VALUE}
+     */
+    public double doubleValue(Numeral numeral) {
+        Entry entry = getEntry(numeral);
+        Double value = entry.doubleValue;
+
+        if(value == null) {
+            value = numeral.doubleValue();
+            entry.doubleValue = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the base 10 exponent of a {@link Numeral}, which is the exponent of the value in scientific notation.
+     * For example, the exponent of {@code 1234} is {@code 3} and the exponent of {@code 0.05} is {@code -2}. The
+     * exponent of zero is {@code 0}. The exponent of a {@link NumeralType#HUGE} numeral is read directly and does not
+     * require a {@link BigDecimal} conversion.
+     *
+     * @param numeral {@link Numeral} to be examined
+     * @return base 10 exponent of the value of the {@link Numeral}
+     *
+     * @throws NullPointerException if the {@link Numeral} is {@code null}
+     */
+    public long exponent(Numeral numeral) {
+        Entry entry = getEntry(numeral);
+        Long value = entry.exponent;
+
+        if(value == null) {
+            if(numeral.getType() == NumeralType.HUGE) {
+                value = ((Huge) numeral.getNumber()).getExponent();
+            } else {
+                BigDecimal bigDec = bigDecValue(numeral);
+                value = bigDec.signum() == 0 ? 0L : (long) bigDec.precision() - bigDec.scale() - 1;
+            }
+            entry.exponent = value;
+        }
+
+        return value;
+    }
+
+    /**
+     * Discards the memoized representations.
+     */
+    public void clear() {
+        entry = null;
+    }
+
+    private Entry getEntry(Numeral numeral) {
+        Entry entry = this.entry;
+
+        if(entry == null || entry.numeral != numeral) {
+            if(numeral == null) {
+                throw LogUtils.logExceptionAndGet(logger,
+                        MathStrings.NULL_NUMERAL,
+                        NullPointerException::new);
+            }
+            entry = new Entry(numeral);
+            this.entry = entry;
+        }
+
+        return entry;
+    }
+
+    private static final class Entry {
+        private final Numeral numeral;
+
+        private BigDecimal bigDec;
+
+        private Double doubleValue;
+
+        private Long exponent;
+
+        private Entry(Numeral numeral) {
+            this.numeral = numeral;
+        }
+    }
+}
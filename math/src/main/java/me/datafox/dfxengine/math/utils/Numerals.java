@@ -10,10 +10,8 @@ import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Objects;
 
-import static me.datafox.dfxengine.math.api.NumeralType.BIG_DEC;
-import static me.datafox.dfxengine.math.api.NumeralType.BIG_INT;
+import static me.datafox.dfxengine.math.api.NumeralType.*;
 
 /**
  * Various operations for {@link Numeral Numerals}.
@@ -23,54 +21,173 @@ import static me.datafox.dfxengine.math.api.NumeralType.BIG_INT;
 public class Numerals {
     private static final Logger logger = LoggerFactory.getLogger(Numerals.class);
 
+    private static final NumeralType[][] SIGNIFICANT_TYPES = createSignificantTypes();
+
+    private static final double LOG2_10 = Math.log(10) / Math.log(2);
+
+    private static final double LOG2_ESTIMATE_MARGIN = 8;
+
+    private static final double TWO_TO_63 = 0x1p63;
+
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private static final float MAX_EXACT_FLOAT = 0x1p24f;
+
+    private static final long MAX_EXACT_EXPONENT = 1L << 40;
+
+    private static final int CACHE_LOW = -128;
+
+    private static final int CACHE_HIGH = 1024;
+
+    private static final IntNumeral[] INT_CACHE = createIntCache();
+
+    private static final LongNumeral[] LONG_CACHE = createLongCache();
+
+    private static final BigIntNumeral BIG_INT_ZERO = new BigIntNumeral(BigInteger.ZERO);
+
+    private static final BigIntNumeral BIG_INT_ONE = new BigIntNumeral(BigInteger.ONE);
+
+    private static final FloatNumeral FLOAT_ZERO = new FloatNumeral(0f);
+
+    private static final FloatNumeral FLOAT_ONE = new FloatNumeral(1f);
+
+    private static final DoubleNumeral DOUBLE_ZERO = new DoubleNumeral(0d);
+
+    private static final DoubleNumeral DOUBLE_ONE = new DoubleNumeral(1d);
+
+    private static final BigDecNumeral BIG_DEC_ZERO = new BigDecNumeral(BigDecimal.ZERO);
+
+    private static final BigDecNumeral BIG_DEC_ONE = new BigDecNumeral(BigDecimal.ONE);
+
     /**
+     * Returns a cached instance for values from {@code -128} to {@code 1023}, and a new instance otherwise.
+     *
      * @param i {@code int} value
      * @return {@link IntNumeral} representing specified value
      */
     public static IntNumeral of(int i) {
+        if(i >= CACHE_LOW && i < CACHE_HIGH) {
+            return INT_CACHE[i - CACHE_LOW];
+        }
+
         return new IntNumeral(i);
     }
 
     /**
+     * Returns a cached instance for values from {@code -128} to {@code 1023}, and a new instance otherwise.
+     *
      * @param l {@code long} value
      * @return {@link LongNumeral} representing specified value
      */
     public static LongNumeral of(long l) {
+        if(l >= CACHE_LOW && l < CACHE_HIGH) {
+            return LONG_CACHE[(int) l - CACHE_LOW];
+        }
+
         return new LongNumeral(l);
     }
 
     /**
+     * Returns a cached instance for zero and one, and a new instance otherwise.
+     *
      * @param bi {@link BigInteger} value
      * @return {@link BigIntNumeral} representing specified value
      */
     public static BigIntNumeral of(BigInteger bi) {
+        if(BigInteger.ZERO.equals(bi)) {
+            return BIG_INT_ZERO;
+        }
+
+        if(BigInteger.ONE.equals(bi)) {
+            return BIG_INT_ONE;
+        }
+
         return new BigIntNumeral(bi);
     }
 
     /**
+     * @param f {@link Fixed} value
+     * @return {@link FixedNumeral} representing specified value
+     */
+    public static FixedNumeral of(Fixed f) {
+        return new FixedNumeral(f);
+    }
+
+    /**
+     * Returns a cached instance for positive zero and one, and a new instance otherwise.
+     *
      * @param f {@code float} value
      * @return {@link FloatNumeral} representing specified value
+     *
+     * @throws IllegalArgumentException if the {@code float} is {@code NaN} or infinite.
      */
     public static FloatNumeral of(float f) {
+        if(Float.floatToRawIntBits(f) == 0) {
+            return FLOAT_ZERO;
+        }
+
+        if(f == 1f) {
+            return FLOAT_ONE;
+        }
+
         return new FloatNumeral(f);
     }
 
     /**
+     * Returns a cached instance for positive zero and one, and a new instance otherwise.
+     *
      * @param d {@code double} value
      * @return {@link DoubleNumeral} representing specified value
+     *
+     * @throws IllegalArgumentException if the {@code double} is {@code NaN} or infinite.
      */
     public static DoubleNumeral of(double d) {
+        if(Double.doubleToRawLongBits(d) == 0) {
+            return DOUBLE_ZERO;
+        }
+
+        if(d == 1d) {
+            return DOUBLE_ONE;
+        }
+
         return new DoubleNumeral(d);
     }
 
     /**
+     * Returns a cached instance for {@link BigDecimal#ZERO} and {@link BigDecimal#ONE}, and a new instance otherwise.
+     * Values that are equal to zero or one but have a different scale are not cached.
+     *
      * @param bd {@link BigDecimal} value
      * @return {@link BigDecNumeral} representing specified value
      */
     public static BigDecNumeral of(BigDecimal bd) {
+        if(BigDecimal.ZERO.equals(bd)) {
+            return BIG_DEC_ZERO;
+        }
+
+        if(BigDecimal.ONE.equals(bd)) {
+            return BIG_DEC_ONE;
+        }
+
         return new BigDecNumeral(bd);
     }
 
+    /**
+     * @param dd {@link DoubleDouble} value
+     * @return {@link DoubleDoubleNumeral} representing specified value
+     */
+    public static DoubleDoubleNumeral of(DoubleDouble dd) {
+        return new DoubleDoubleNumeral(dd);
+    }
+
+    /**
+     * @param h {@link Huge} value
+     * @return {@link HugeNumeral} representing specified value
+     */
+    public static HugeNumeral of(Huge h) {
+        return new HugeNumeral(h);
+    }
+
     /**
      * If the specified {@link String} represents an integer, a {@link BigIntNumeral} is returned. Otherwise, a
      * {@link BigDecNumeral} is returned. A string is considered to represent an integer if it does not contain any of
@@ -90,8 +207,9 @@ public class Numerals {
     }
 
     /**
-     * If the {@link Number} is not an instance of {@link Integer}, {@link Long}, {@link BigInteger}, {@link Float},
-     * {@link Double} or {@link BigDecimal}, this method attempts to parse the number using {@link Number#toString()}.
+     * If the {@link Number} is not an instance of {@link Integer}, {@link Long}, {@link BigInteger}, {@link Fixed},
+     * {@link Float}, {@link Double}, {@link DoubleDouble}, {@link BigDecimal} or {@link Huge}, this method attempts to
+     * parse the number using {@link Number#toString()}.
      *
      * @param number {@link Number} value
      * @return {@link Numeral} representing the specified value
@@ -108,15 +226,24 @@ public class Numerals {
         if(number instanceof BigInteger) {
             return of((BigInteger) number);
         }
+        if(number instanceof Fixed) {
+            return of((Fixed) number);
+        }
         if(number instanceof Float) {
             return of(number.floatValue());
         }
         if(number instanceof Double) {
             return of(number.doubleValue());
         }
+        if(number instanceof DoubleDouble) {
+            return of((DoubleDouble) number);
+        }
         if(number instanceof BigDecimal) {
             return of((BigDecimal) number);
         }
+        if(number instanceof Huge) {
+            return of((Huge) number);
+        }
         return of(number.toString());
     }
 
@@ -143,12 +270,17 @@ public class Numerals {
                 return numeral.longValue() == 0L;
             case BIG_INT:
                 return numeral.bigIntValue().equals(BigInteger.ZERO);
+            case FIXED:
+                return Conversion.toFixed(numeral).signum() == 0;
             case FLOAT:
                 return numeral.floatValue() == 0f;
             case DOUBLE:
+            case DOUBLE_DOUBLE:
                 return numeral.doubleValue() == 0d;
             case BIG_DEC:
                 return numeral.bigDecValue().compareTo(BigDecimal.ZERO) == 0;
+            case HUGE:
+                return Conversion.toHuge(numeral).signum() == 0;
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -180,12 +312,18 @@ public class Numerals {
                 return numeral.longValue() == 1L;
             case BIG_INT:
                 return numeral.bigIntValue().equals(BigInteger.ONE);
+            case FIXED:
+                return Conversion.toFixed(numeral).equals(Fixed.ONE);
             case FLOAT:
                 return numeral.floatValue() == 1f;
             case DOUBLE:
                 return numeral.doubleValue() == 1d;
+            case DOUBLE_DOUBLE:
+                return Conversion.toDoubleDouble(numeral).equals(DoubleDouble.ONE);
             case BIG_DEC:
                 return numeral.bigDecValue().compareTo(BigDecimal.ONE) == 0;
+            case HUGE:
+                return Conversion.toHuge(numeral).equals(Huge.ONE);
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -217,13 +355,19 @@ public class Numerals {
                 return (numeral.longValue() & 1) == 0;
             case BIG_INT:
                 return !numeral.bigIntValue().testBit(0);
+            case FIXED:
+                return Conversion.toFixed(numeral).isEven();
             case FLOAT:
                 return numeral.floatValue() % 2 == 0;
             case DOUBLE:
                 return numeral.doubleValue() % 2 == 0;
+            case DOUBLE_DOUBLE:
+                return Conversion.toDoubleDouble(numeral).isEven();
             case BIG_DEC:
                 return isBigDecimalAnInteger(numeral.bigDecValue()) &&
                         !numeral.bigDecValue().toBigInteger().testBit(0);
+            case HUGE:
+                return Conversion.toHuge(numeral).isEven();
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -232,6 +376,15 @@ public class Numerals {
     }
 
     /**
+     * Compares two {@link Numeral Numerals}. Numerals of the same type are compared directly. Numerals of different
+     * types are compared exactly and, for all combinations of primitive types, without allocating, instead of
+     * converting both Numerals to the {@link #getSignificantType(NumeralType, NumeralType) most significant type}.
+     * Signs are compared first and magnitudes are estimated before any conversion to a big type, so most comparisons
+     * with {@link BigInteger}, {@link BigDecimal} and {@link Huge} Numerals are resolved without converting. A
+     * {@code float} is compared as its shortest decimal representation, like in {@link FloatNumeral#doubleValue()},
+     * except against integer types, where its exact binary value is used. A {@link DoubleDouble} is compared as the
+     * exact sum of its high and low parts. When the types differ, negative and positive zero are considered equal.
+     *
      * @param numeral first {@link Numeral} to compare
      * @param other second {@link Numeral} to compare
      * @return 0 if the {@link Numeral} values represent the same number, 1 if the first Numeral represents a larger
@@ -246,6 +399,85 @@ public class Numerals {
     public static int compare(Numeral numeral, Numeral other) {
         NumeralType type = getSignificantType(numeral.getType(), other.getType());
 
+        if(numeral.getType() == other.getType()) {
+            return compare(numeral, other, type);
+        }
+
+        int signum = signum(numeral);
+        int otherSignum = signum(other);
+
+        if(signum != otherSignum) {
+            return signum > otherSignum ? 1 : -1;
+        }
+
+        if(signum == 0) {
+            return 0;
+        }
+
+        if(type != numeral.getType()) {
+            return -compareMixed(other, numeral, type, signum);
+        }
+
+        return compareMixed(numeral, other, type, signum);
+    }
+
+    /**
+     * Returns the signum of a {@link Numeral}. Negative zero of {@code float} and {@code double} Numerals has the
+     * signum zero.
+     *
+     * @param numeral {@link Numeral} to be checked
+     * @return -1, 0 or 1 if the {@link Numeral} is negative, zero or positive, respectively
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static int signum(Numeral numeral) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        switch(numeral.getType()) {
+            case INT:
+                return Integer.signum(numeral.intValue());
+            case LONG:
+                return Long.signum(numeral.longValue());
+            case BIG_INT:
+                return numeral.bigIntValue().signum();
+            case FIXED:
+                return Conversion.toFixed(numeral).signum();
+            case FLOAT:
+                return (int) Math.signum(numeral.floatValue());
+            case DOUBLE:
+                return (int) Math.signum(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return Conversion.toDoubleDouble(numeral).signum();
+            case BIG_DEC:
+                return numeral.bigDecValue().signum();
+            case HUGE:
+                return Conversion.toHuge(numeral).signum();
+        }
+
+        throw LogUtils.logExceptionAndGet(logger,
+                MathStrings.unknownType(numeral.getType()),
+                IllegalArgumentException::new);
+    }
+
+    /**
+     * Compares two {@link Numeral Numerals} as the specified {@link NumeralType}, which must be the
+     * {@link #getSignificantType(NumeralType, NumeralType) most significant type} of the Numerals. Used by
+     * {@link Operations} to avoid resolving the type more than once per operation.
+     *
+     * @param numeral first {@link Numeral} to compare
+     * @param other second {@link Numeral} to compare
+     * @param type most significant {@link NumeralType} of the {@link Numeral Numerals}
+     * @return 0 if the {@link Numeral} values represent the same number, 1 if the first Numeral represents a larger
+     * value than the second Numeral, and -1 if the first Numeral represents a smaller value than the second Numeral.
+     */
+    static int compare(Numeral numeral, Numeral other, NumeralType type) {
         switch(type) {
             case INT:
                 return Integer.compare(numeral.intValue(), other.intValue());
@@ -253,12 +485,18 @@ public class Numerals {
                 return Long.compare(numeral.longValue(), other.longValue());
             case BIG_INT:
                 return numeral.bigIntValue().compareTo(other.bigIntValue());
+            case FIXED:
+                return Conversion.toFixed(numeral).compareTo(Conversion.toFixed(other));
             case FLOAT:
                 return Float.compare(numeral.floatValue(), other.floatValue());
             case DOUBLE:
                 return Double.compare(numeral.doubleValue(), other.doubleValue());
+            case DOUBLE_DOUBLE:
+                return Conversion.toDoubleDouble(numeral).compareTo(Conversion.toDoubleDouble(other));
             case BIG_DEC:
                 return numeral.bigDecValue().compareTo(other.bigDecValue());
+            case HUGE:
+                return Conversion.toHuge(numeral).compareTo(Conversion.toHuge(other));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -267,6 +505,9 @@ public class Numerals {
     }
 
     /**
+     * Returns the most significant of two {@link NumeralType NumeralTypes}. The result is looked up from a table that
+     * is precomputed with {@link #getSignificantType(NumeralType...)}, so this method does not allocate.
+     *
      * @param type1 first {@link NumeralType}
      * @param type2 second {@link NumeralType}
      * @return the most significant type of specified values
@@ -276,11 +517,30 @@ public class Numerals {
      * @see Numerals#getSignificantType(NumeralType...)
      */
     public static NumeralType getSignificantType(NumeralType type1, NumeralType type2) {
-        if(Objects.equals(type1, type2)) {
-            return type1;
+        if(type1 == null || type2 == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
         }
 
-        return getSignificantType(new NumeralType[] { type1, type2 });
+        return SIGNIFICANT_TYPES[type1.ordinal()][type2.ordinal()];
+    }
+
+    /**
+     * Returns the most significant of three {@link NumeralType NumeralTypes}. Like
+     * {@link #getSignificantType(NumeralType, NumeralType)}, this method does not allocate.
+     *
+     * @param type1 first {@link NumeralType}
+     * @param type2 second {@link NumeralType}
+     * @param type3 third {@link NumeralType}
+     * @return the most significant type of specified values
+     *
+     * @throws NullPointerException if any of the types are {@code null}
+     *
+     * @see Numerals#getSignificantType(NumeralType...)
+     */
+    public static NumeralType getSignificantType(NumeralType type1, NumeralType type2, NumeralType type3) {
+        return getSignificantType(getSignificantType(type1, type2), type3);
     }
 
     /**
@@ -291,10 +551,10 @@ public class Numerals {
      * value is also {@code null}. {@code null} check takes precedence over all other checks.
      * </p>
      * <p>
-     * Therefore, if any of the specified types is {@link NumeralType#BIG_DEC BIG_DEC}, BIG_DEC is also returned.
-     * BIG_DEC is also returned if any of the specified types is {@link NumeralType#BIG_INT BIG_INT} and another is
-     * a decimal type. In all other cases the specified type with the highest
-     * {@link NumeralType#getSignificance() significance} will be returned.
+     * Therefore, if any of the specified types is {@link NumeralType#HUGE HUGE}, HUGE is returned. Otherwise, if any
+     * of the specified types is {@link NumeralType#BIG_DEC BIG_DEC}, BIG_DEC is returned. BIG_DEC is also returned if
+     * any of the specified types is {@link NumeralType#BIG_INT BIG_INT} and another is a decimal type. In all other
+     * cases the specified type with the highest {@link NumeralType#getSignificance() significance} will be returned.
      * </p>
      *
      * @param types types to be checked
@@ -309,12 +569,22 @@ public class Numerals {
                     IllegalArgumentException::new);
         }
 
+        boolean huge = false;
+
         for(NumeralType type : types) {
             if(type == null) {
                 throw LogUtils.logExceptionAndGet(logger,
                         MathStrings.NULL_NUMBER_TYPE,
                         NullPointerException::new);
             }
+
+            if(type.equals(HUGE)) {
+                huge = true;
+            }
+        }
+
+        if(huge) {
+            return HUGE;
         }
 
         NumeralType significantType = types[0];
@@ -344,7 +614,282 @@ public class Numerals {
         return significantType;
     }
 
+    /**
+     * Compares two non-zero {@link Numeral Numerals} of different types that have the same signum. The first Numeral
+     * must be of the specified significant type.
+     */
+    private static int compareMixed(Numeral numeral, Numeral other, NumeralType type, int signum) {
+        switch(type) {
+            case LONG:
+                return Long.compare(numeral.longValue(), other.longValue());
+            case BIG_INT:
+                return compare(numeral.bigIntValue(), other.longValue());
+            case FIXED:
+                return compare(Conversion.toFixed(numeral), other.longValue());
+            case FLOAT:
+                if(other.getType() == FIXED) {
+                    return -compare(Conversion.toFixed(other), numeral.floatValue());
+                }
+                return -compare(other.longValue(), numeral.floatValue());
+            case DOUBLE:
+                switch(other.getType()) {
+                    case INT:
+                    case LONG:
+                        return -compare(other.longValue(), numeral.doubleValue());
+                    case FIXED:
+                        return -compare(Conversion.toFixed(other), numeral.doubleValue());
+                    case FLOAT:
+                        return -compare(other.floatValue(), numeral.doubleValue());
+                }
+                break;
+            case DOUBLE_DOUBLE:
+                switch(other.getType()) {
+                    case INT:
+                    case LONG:
+                        if(Math.abs(other.longValue()) <= MAX_EXACT_DOUBLE) {
+                            return compare(Conversion.toDoubleDouble(numeral), (double) other.longValue());
+                        }
+                        break;
+                    case FLOAT:
+                        return compare(Conversion.toDoubleDouble(numeral), decimalValue(other.floatValue()));
+                    case DOUBLE:
+                        return compare(Conversion.toDoubleDouble(numeral), other.doubleValue());
+                }
+                break;
+        }
+
+        double log2 = log2Estimate(numeral);
+        double otherLog2 = log2Estimate(other);
+
+        if(log2 - otherLog2 > LOG2_ESTIMATE_MARGIN) {
+            return signum;
+        }
+
+        if(otherLog2 - log2 > LOG2_ESTIMATE_MARGIN) {
+            return -signum;
+        }
+
+        if(type != HUGE && (numeral.getType() == DOUBLE_DOUBLE || other.getType() == DOUBLE_DOUBLE)) {
+            return exactValue(numeral).compareTo(exactValue(other));
+        }
+
+        return compare(numeral, other, type);
+    }
+
+    /**
+     * Returns the exact value of a {@link Numeral} that is not a {@link Huge}. A {@link DoubleDouble} is converted
+     * without rounding, unlike with {@link DoubleDouble#toBigDecimal()}, and a {@code float} is converted to its
+     * shortest decimal representation.
+     */
+    private static BigDecimal exactValue(Numeral numeral) {
+        switch(numeral.getType()) {
+            case INT:
+            case LONG:
+                return BigDecimal.valueOf(numeral.longValue());
+            case BIG_INT:
+                return new BigDecimal(numeral.bigIntValue());
+            case FIXED:
+                return Conversion.toFixed(numeral).toBigDecimal();
+            case FLOAT:
+                return new BigDecimal(Float.toString(numeral.floatValue()));
+            case DOUBLE:
+                return new BigDecimal(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                DoubleDouble dd = Conversion.toDoubleDouble(numeral);
+                return new BigDecimal(dd.getHigh()).add(new BigDecimal(dd.getLow()));
+        }
+
+        return numeral.bigDecValue();
+    }
+
+    private static int compare(BigInteger bi, long l) {
+        if(bi.bitLength() < Long.SIZE) {
+            return Long.compare(bi.longValue(), l);
+        }
+
+        return bi.signum();
+    }
+
+    private static int compare(Fixed fixed, long l) {
+        long power = Fixed.powerOfTen(fixed.getScale());
+        long integer = fixed.getUnscaled() / power;
+
+        if(integer != l) {
+            return Long.compare(integer, l);
+        }
+
+        return Long.signum(fixed.getUnscaled() % power);
+    }
+
+    private static int compare(Fixed fixed, double d) {
+        if(d >= TWO_TO_63) {
+            return -1;
+        }
+
+        if(d < -TWO_TO_63) {
+            return 1;
+        }
+
+        long power = Fixed.powerOfTen(fixed.getScale());
+        long integer = fixed.getUnscaled() / power;
+        long otherInteger = (long) d;
+
+        if(integer != otherInteger) {
+            return Long.compare(integer, otherInteger);
+        }
+
+        long fraction = fixed.getUnscaled() % power;
+        double otherFraction = d - otherInteger;
+
+        if(fraction == 0 || otherFraction == 0) {
+            return Long.signum(fraction) - (int) Math.signum(otherFraction);
+        }
+
+        return BigDecimal.valueOf(fraction, fixed.getScale()).compareTo(new BigDecimal(otherFraction));
+    }
+
+    private static int compare(Fixed fixed, float f) {
+        float rounded = fixed.floatValue();
+
+        if(rounded != f) {
+            return rounded < f ? -1 : 1;
+        }
+
+        return fixed.toBigDecimal().compareTo(new BigDecimal(Float.toString(f)));
+    }
+
+    private static int compare(long l, float f) {
+        if(Math.abs(l) <= MAX_EXACT_DOUBLE) {
+            return compare((double) l, (double) f);
+        }
+
+        return compare(l, (double) f);
+    }
+
+    private static int compare(long l, double d) {
+        if(d >= TWO_TO_63) {
+            return -1;
+        }
+
+        if(d < -TWO_TO_63) {
+            return 1;
+        }
+
+        long integer = (long) d;
+
+        if(l != integer) {
+            return Long.compare(l, integer);
+        }
+
+        return -(int) Math.signum(d - integer);
+    }
+
+    private static int compare(float f, double d) {
+        float rounded = (float) d;
+
+        if(f != rounded) {
+            return f < rounded ? -1 : 1;
+        }
+
+        return compare(decimalValue(f), d);
+    }
+
+    private static int compare(double d, double other) {
+        return d < other ? -1 : (d > other ? 1 : 0);
+    }
+
+    private static int compare(DoubleDouble dd, double d) {
+        return (int) Math.signum((dd.getHigh() - d) + dd.getLow());
+    }
+
+    /**
+     * Returns the {@code double} closest to the shortest decimal representation of a {@code float}, without
+     * allocating when the {@code float} is a small integer.
+     */
+    private static double decimalValue(float f) {
+        if(Math.abs(f) <= MAX_EXACT_FLOAT && f == Math.rint(f)) {
+            return f;
+        }
+
+        return Double.parseDouble(Float.toString(f));
+    }
+
+    /**
+     * Estimates the binary logarithm of the absolute value of a non-zero {@link Numeral}. The estimate is within
+     * {@link #LOG2_ESTIMATE_MARGIN} of the exact value, or {@link Double#NaN} if no such estimate can be made cheaply.
+     */
+    private static double log2Estimate(Numeral numeral) {
+        switch(numeral.getType()) {
+            case INT:
+            case LONG:
+                return Long.SIZE - 1 - Long.numberOfLeadingZeros(Math.abs(numeral.longValue()));
+            case BIG_INT:
+                return numeral.bigIntValue().bitLength() - 1;
+            case FIXED:
+                Fixed fixed = Conversion.toFixed(numeral);
+                return Long.SIZE - 1 - Long.numberOfLeadingZeros(Math.abs(fixed.getUnscaled())) -
+                        fixed.getScale() * LOG2_10;
+            case FLOAT:
+            case DOUBLE:
+                return log2Estimate(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return log2Estimate(Conversion.toDoubleDouble(numeral).getHigh());
+            case BIG_DEC:
+                BigDecimal bd = numeral.bigDecValue();
+                return ((long) bd.precision() - bd.scale() - 1) * LOG2_10;
+            case HUGE:
+                Huge huge = Conversion.toHuge(numeral);
+                if(Math.abs(huge.getExponent()) > MAX_EXACT_EXPONENT) {
+                    return Double.NaN;
+                }
+                return huge.getExponent() * LOG2_10 + Math.getExponent(huge.getMantissa());
+        }
+
+        return Double.NaN;
+    }
+
+    private static double log2Estimate(double d) {
+        if(Math.abs(d) < Double.MIN_NORMAL) {
+            return Double.NaN;
+        }
+
+        return Math.getExponent(d);
+    }
+
+    private static NumeralType[][] createSignificantTypes() {
+        NumeralType[] types = NumeralType.values();
+        NumeralType[][] table = new NumeralType[types.length][types.length];
+
+        for(NumeralType type1 : types) {
+            for(NumeralType type2 : types) {
+                table[type1.ordinal()][type2.ordinal()] = getSignificantType(new NumeralType[] { type1, type2 });
+            }
+        }
+
+        return table;
+    }
+
     private static boolean isBigDecimalAnInteger(BigDecimal bd) {
         return bd.signum() == 0 || bd.scale() <= 0 || bd.stripTrailingZeros().scale() <= 0;
     }
+
+    private static IntNumeral[] createIntCache() {
+        IntNumeral[] cache = new IntNumeral[CACHE_HIGH - CACHE_LOW];
+
+        for(int i = 0; i < cache.length; i++) {
+            cache[i] = new IntNumeral(i + CACHE_LOW);
+        }
+
+        return cache;
+    }
+
+    private static LongNumeral[] createLongCache() {
+        LongNumeral[] cache = new LongNumeral[CACHE_HIGH - CACHE_LOW];
+
+        for(int i = 0; i < cache.length; i++) {
+            cache[i] = new LongNumeral(i + CACHE_LOW);
+        }
+
+        return cache;
+    }
 }
@@ -0,0 +1,305 @@
+package me.datafox.dfxengine.math.utils;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A bounded cache for the results of expensive {@link BigDecimal} operations, namely exponentiation, natural exponent,
+ * logarithms and roots. Results are keyed by the operation, the operands and the {@link MathContext}, and the least
+ * recently used result is evicted when the cache is full. Operands are compared with {@link BigDecimal#equals(Object)},
+ * so numbers with the same value but a different scale are cached separately. The cache counts hits, misses and
+ * evictions.
+ * </p>
+ * <p>
+ * A cache can be used directly at a call site, or globally by registering it with
+ * {@link Operations#setCache(OperationCache)}, after which every {@link BigDecimal} and {@link java.math.BigInteger}
+ * operation in {@link Operations} that delegates to {@link BigDecimalMath} uses it. This class is thread-safe, but a
+ * result may be computed more than once if multiple threads request it at the same time.
+ * </p>
+ *
+ * @author datafox
+ */
+public class OperationCache {
+    private static final Logger logger = LoggerFactory.getLogger(OperationCache.class);
+
+    private final int maxSize;
+
+    private final Map<Key,BigDecimal> cache;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    /**
+     * @param maxSize maximum number of results stored in this cache
+     *
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public OperationCache(int maxSize) {
+        if(maxSize <= 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.invalidCacheSize(maxSize),
+                    IllegalArgumentException::new);
+        }
+
+        this.maxSize = maxSize;
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key,BigDecimal> eldest) {
+                if(size() > OperationCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @param base base
+     * @param exponent exponent
+     * @param context {@link MathContext} for the operation
+     * @return result of {@link BigDecimalMath#pow(BigDecimal, BigDecimal, MathContext)}
+     */
+    public BigDecimal pow(BigDecimal base, BigDecimal exponent, MathContext context) {
+        Key key = new Key(Operation.POW, base, exponent, context);
+        BigDecimal result = get(key);
+
+        if(result == null) {
+            result = BigDecimalMath.pow(base, exponent, context);
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param value value
+     * @param context {@link MathContext} for the operation
+     * @return result of {@link BigDecimalMath#exp(BigDecimal, MathContext)}
+     */
+    public BigDecimal exp(BigDecimal value, MathContext context) {
+        Key key = new Key(Operation.EXP, value, null, context);
+        BigDecimal result = get(key);
+
+        if(result == null) {
+            result = BigDecimalMath.exp(value, context);
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param value value
+     * @param base base of the root
+     * @param context {@link MathContext} for the operation
+     * @return result of {@link BigDecimalMath#root(BigDecimal, BigDecimal, MathContext)}
+     */
+    public BigDecimal root(BigDecimal value, BigDecimal base, MathContext context) {
+        Key key = new Key(Operation.ROOT, value, base, context);
+        BigDecimal result = get(key);
+
+        if(result == null) {
+            result = BigDecimalMath.root(value, base, context);
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param value value
+     * @param context {@link MathContext} for the operation
+     * @return result of {@link BigDecimalMath#log(BigDecimal, MathContext)}
+     */
+    public BigDecimal log(BigDecimal value, MathContext context) {
+        Key key = new Key(Operation.LOG, value, null, context);
+        BigDecimal result = get(key);
+
+        if(result == null) {
+            result = BigDecimalMath.log(value, context);
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param value value
+     * @param context {@link MathContext} for the operation
+     * @return result of {@link BigDecimalMath#log2(BigDecimal, MathContext)}
+     */
+    public BigDecimal log2(BigDecimal value, MathContext context) {
+        Key key = new Key(Operation.LOG2, value, null, context);
+        BigDecimal result = get(key);
+
+        if(result == null) {
+            result = BigDecimalMath.log2(value, context);
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param value value
+     * @param context {@link MathContext} for the operation
+     * @return result of {@link BigDecimalMath#log10(BigDecimal, MathContext)}
+     */
+    public BigDecimal log10(BigDecimal value, MathContext context) {
+        Key key = new Key(Operation.LOG10, value, null, context);
+        BigDecimal result = get(key);
+
+        if(result == null) {
+            result = BigDecimalMath.log10(value, context);
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates the logarithm of a value in the specified base. The natural logarithms of the value and the base are
+     * cached separately, so repeated logarithms in the same base only calculate the logarithm of the base once.
+     *
+     * @param value value
+     * @param base base of the logarithm
+     * @param context {@link MathContext} for the operation
+     * @return logarithm of the value in the specified base
+     */
+    public BigDecimal logN(BigDecimal value, BigDecimal base, MathContext context) {
+        return log(value, context).divide(log(base, context), context);
+    }
+
+    /**
+     * @return maximum number of results stored in this cache
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return number of results currently stored in this cache
+     */
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return number of times a requested result was found in this cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of times a requested result was not found in this cache and had to be calculated
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return number of results that have been evicted from this cache to make room for new results
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Removes all results from this cache. Does not reset the counters.
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters of this cache to zero.
+     */
+    public synchronized void resetCounters() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    private synchronized BigDecimal get(Key key) {
+        BigDecimal result = cache.get(key);
+
+        if(result == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+
+        return result;
+    }
+
+    private synchronized void put(Key key, BigDecimal result) {
+        cache.put(key, result);
+    }
+
+    private enum Operation {
+        POW,
+        EXP,
+        ROOT,
+        LOG,
+        LOG2,
+        LOG10
+    }
+
+    private static final class Key {
+        private final Operation operation;
+
+        private final BigDecimal value;
+
+        private final BigDecimal other;
+
+        private final MathContext context;
+
+        private final int hash;
+
+        private Key(Operation operation, BigDecimal value, BigDecimal other, MathContext context) {
+            this.operation = operation;
+            this.value = value;
+            this.other = other;
+            this.context = context;
+            hash = Objects.hash(operation, value, other, context);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+
+            if(!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            return operation == key.operation &&
+                    value.equals(key.value) &&
+                    Objects.equals(other, key.other) &&
+                    context.equals(key.context);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
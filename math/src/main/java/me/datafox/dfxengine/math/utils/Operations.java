@@ -5,6 +5,14 @@ import me.datafox.dfxengine.math.api.Numeral;
 import me.datafox.dfxengine.math.api.NumeralType;
 import me.datafox.dfxengine.math.numeral.BigDecNumeral;
 import me.datafox.dfxengine.math.numeral.BigIntNumeral;
+import me.datafox.dfxengine.math.numeral.DoubleDouble;
+import me.datafox.dfxengine.math.numeral.DoubleDoubleNumeral;
+import me.datafox.dfxengine.math.numeral.DoubleNumeral;
+import me.datafox.dfxengine.math.numeral.Fixed;
+import me.datafox.dfxengine.math.numeral.Huge;
+import me.datafox.dfxengine.math.numeral.HugeNumeral;
+import me.datafox.dfxengine.math.numeral.IntNumeral;
+import me.datafox.dfxengine.math.numeral.LongNumeral;
 import me.datafox.dfxengine.math.utils.internal.MathStrings;
 import me.datafox.dfxengine.utils.LogUtils;
 import org.slf4j.Logger;
@@ -13,6 +21,7 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.util.function.Supplier;
 
 import static me.datafox.dfxengine.math.utils.Numerals.*;
 import static me.datafox.dfxengine.math.utils.Range.*;
@@ -27,24 +36,190 @@ public class Operations {
 
     private static MathContext CONTEXT = MathContext.DECIMAL128;
 
+    private static final ThreadLocal<MathContext> THREAD_CONTEXT = new ThreadLocal<>();
+
+    private static volatile OperationCache CACHE = null;
+
+    private static volatile int ADAPTIVE_DIGITS = -1;
+
+    private static final ThreadLocal<Integer> THREAD_ADAPTIVE_DIGITS = new ThreadLocal<>();
+
+    private static final double MAX_SERIES_COUNT = 0x1p62;
+
     /**
+     * Returns the {@link MathContext} used by {@link BigDecimal} operations on the current thread. This is the context
+     * registered with {@link #setThreadContext(MathContext)} if one is present, and the global context registered with
+     * {@link #setContext(MathContext)} otherwise.
+     *
      * @return current {@link MathContext} for {@link BigDecimal} operations
      */
     public static MathContext getContext() {
-        return CONTEXT;
+        MathContext context = THREAD_CONTEXT.get();
+
+        if(context == null) {
+            return CONTEXT;
+        }
+
+        return context;
     }
 
     /**
-     * @param context {@link MathContext} for {@link BigDecimal} operations
+     * Sets the global {@link MathContext} for {@link BigDecimal} operations. Threads that have a context registered
+     * with {@link #setThreadContext(MathContext)} are not affected.
+     *
+     * @param context global {@link MathContext} for {@link BigDecimal} operations
+     *
+     * @throws NullPointerException if the context is {@code null}
      */
     public static void setContext(MathContext context) {
+        if(context == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.nullContext(),
+                    NullPointerException::new);
+        }
+
         CONTEXT = context;
     }
 
+    /**
+     * Sets the {@link MathContext} for {@link BigDecimal} operations on the current thread, overriding the global
+     * context registered with {@link #setContext(MathContext)}. Threads only see their own context, so different
+     * threads may use different precisions at the same time.
+     *
+     * @param context {@link MathContext} for {@link BigDecimal} operations on the current thread, or {@code null} to
+     * use the global context
+     */
+    public static void setThreadContext(MathContext context) {
+        if(context == null) {
+            THREAD_CONTEXT.remove();
+        } else {
+            THREAD_CONTEXT.set(context);
+        }
+    }
+
+    /**
+     * Calls the specified {@link Supplier} with the specified {@link MathContext} registered as the context of the
+     * current thread, and restores the previous context of the thread afterwards, even if the Supplier throws an
+     * exception. Calls may be nested.
+     *
+     * @param context {@link MathContext} for {@link BigDecimal} operations within the {@link Supplier}
+     * @param supplier {@link Supplier} to be called
+     * @return value returned by the {@link Supplier}
+     * @param <T> type of the value returned by the {@link Supplier}
+     *
+     * @throws NullPointerException if the context is {@code null}
+     */
+    public static <T> T withContext(MathContext context, Supplier<T> supplier) {
+        if(context == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.nullContext(),
+                    NullPointerException::new);
+        }
+
+        MathContext previous = THREAD_CONTEXT.get();
+        THREAD_CONTEXT.set(context);
+
+        try {
+            return supplier.get();
+        } finally {
+            setThreadContext(previous);
+        }
+    }
+
+    /**
+     * @return global {@link OperationCache} for {@link BigDecimal} operations, or {@code null} if caching is disabled
+     */
+    public static OperationCache getCache() {
+        return CACHE;
+    }
+
+    /**
+     * Registers an {@link OperationCache} to be used by all {@link BigDecimal} and {@link BigInteger} exponentiation,
+     * natural exponent, root and logarithm operations in this class.
+     *
+     * @param cache global {@link OperationCache} for {@link BigDecimal} operations, or {@code null} to disable caching
+     */
+    public static void setCache(OperationCache cache) {
+        CACHE = cache;
+    }
+
+    /**
+     * Returns the number of guard digits used by adaptive precision on the current thread. This is the value
+     * registered with {@link #setThreadAdaptiveDigits(Integer)} if one is present, and the global value registered
+     * with {@link #setAdaptiveDigits(int)} otherwise.
+     *
+     * @return number of guard digits carried beyond the most precise operand in adaptive precision mode, or
+     * {@code -1} if adaptive precision is disabled
+     */
+    public static int getAdaptiveDigits() {
+        Integer guardDigits = THREAD_ADAPTIVE_DIGITS.get();
+
+        if(guardDigits == null) {
+            return ADAPTIVE_DIGITS;
+        }
+
+        return guardDigits;
+    }
+
+    /**
+     * Enables or disables adaptive precision globally for {@link BigDecimal} addition, subtraction, multiplication,
+     * division and linear interpolation. When enabled, the precision of these operations is capped to the precision
+     * of the most precise operand plus the specified number of guard digits, or the precision of the
+     * {@link MathContext}, whichever is smaller. This keeps the number of digits carried through chains of operations
+     * on low precision values small, at the cost of accuracy. Adaptive precision is disabled by default. The global
+     * value is visible to all threads immediately, but threads that have a value registered with
+     * {@link #setThreadAdaptiveDigits(Integer)} are not affected.
+     *
+     * @param guardDigits number of digits carried beyond the most precise operand, or a negative value to disable
+     * adaptive precision
+     */
+    public static void setAdaptiveDigits(int guardDigits) {
+        ADAPTIVE_DIGITS = Math.max(guardDigits, -1);
+    }
+
+    /**
+     * Sets the number of guard digits used by adaptive precision on the current thread, overriding the global value
+     * registered with {@link #setAdaptiveDigits(int)}. See {@link #setAdaptiveDigits(int)} for details.
+     *
+     * @param guardDigits number of digits carried beyond the most precise operand on the current thread, a negative
+     * value to disable adaptive precision on the current thread, or {@code null} to use the global value
+     */
+    public static void setThreadAdaptiveDigits(Integer guardDigits) {
+        if(guardDigits == null) {
+            THREAD_ADAPTIVE_DIGITS.remove();
+        } else {
+            THREAD_ADAPTIVE_DIGITS.set(Math.max(guardDigits, -1));
+        }
+    }
+
+    /**
+     * Calls the specified {@link Supplier} with the specified number of adaptive precision guard digits registered
+     * for the current thread, and restores the previous value of the thread afterwards, even if the Supplier throws
+     * an exception. Calls may be nested. See {@link #setAdaptiveDigits(int)} for details.
+     *
+     * @param guardDigits number of digits carried beyond the most precise operand within the {@link Supplier}, or a
+     * negative value to disable adaptive precision within the Supplier
+     * @param supplier {@link Supplier} to be called
+     * @return value returned by the {@link Supplier}
+     * @param <T> type of the value returned by the {@link Supplier}
+     */
+    public static <T> T withAdaptiveDigits(int guardDigits, Supplier<T> supplier) {
+        Integer previous = THREAD_ADAPTIVE_DIGITS.get();
+        THREAD_ADAPTIVE_DIGITS.set(Math.max(guardDigits, -1));
+
+        try {
+            return supplier.get();
+        } finally {
+            setThreadAdaptiveDigits(previous);
+        }
+    }
+
     /**
      * Adds two {@link Numeral Numerals} together. The Numeral parameters are converted to the most significant type
      * with {@link Numerals#getSignificantType(NumeralType...)}. Additionally, the resulting Numeral will be converted
-     * to a higher type if the addition would result in an overflow or underflow.
+     * to a higher type if the addition would result in an overflow or underflow. Two {@link IntNumeral IntNumerals},
+     * {@link LongNumeral LongNumerals} or {@link DoubleNumeral DoubleNumerals} are handled directly without
+     * resolving the most significant type.
      *
      * @param augend {@link Numeral} to be added
      * @param addend {@link Numeral} to be added
@@ -57,6 +232,60 @@ public class Operations {
      * should never happen
      */
     public static Numeral add(Numeral augend, Numeral addend) {
+        if(augend.getClass() == addend.getClass()) {
+            if(augend instanceof IntNumeral) {
+                int a = augend.intValue();
+                int b = addend.intValue();
+                return a == 0 ? addend : (b == 0 ? augend : add(a, b));
+            }
+
+            if(augend instanceof LongNumeral) {
+                long a = augend.longValue();
+                long b = addend.longValue();
+                return a == 0L ? addend : (b == 0L ? augend : add(a, b));
+            }
+
+            if(augend instanceof DoubleNumeral) {
+                double a = augend.doubleValue();
+                double b = addend.doubleValue();
+                return a == 0d ? addend : (b == 0d ? augend : add(a, b));
+            }
+        }
+
+        return addAs(augend, addend, getSignificantType(augend.getType(), addend.getType()));
+    }
+
+    /**
+     * Adds two {@link Numeral Numerals} together, carrying out the addition in at least the specified floor type.
+     * The Numeral parameters are converted to the most significant of their own types and the floor type with
+     * {@link Numerals#getSignificantType(NumeralType, NumeralType, NumeralType)}. A floor type that is wider than the
+     * operands lets repeated operations that are known to overflow skip the overflow check and the retry in a wider
+     * type. See {@link PromotionHint} for tracking the floor type automatically. Like with
+     * {@link #add(Numeral, Numeral)}, an operand may be returned as-is when the result is trivial, even if its type is
+     * narrower than the floor type.
+     *
+     * @param augend {@link Numeral} to be added
+     * @param addend {@link Numeral} to be added
+     * @param floor minimum type for the addition to be carried out in
+     * @return result of the addition
+     *
+     * @throws NullPointerException if the floor type is {@code null} or if any of the {@link Numeral Numerals} return
+     * {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral addWithFloor(Numeral augend, Numeral addend, NumeralType floor) {
+        if(floor == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        return addAs(augend, addend, getSignificantType(augend.getType(), addend.getType(), floor));
+    }
+
+    private static Numeral addAs(Numeral augend, Numeral addend, NumeralType type) {
         if(isZero(augend)) {
             return addend;
         }
@@ -65,8 +294,6 @@ public class Operations {
             return augend;
         }
 
-        NumeralType type = getSignificantType(augend.getType(), addend.getType());
-
         switch(type) {
             case INT:
                 return add(augend.intValue(), addend.intValue());
@@ -74,12 +301,18 @@ public class Operations {
                 return add(augend.longValue(), addend.longValue());
             case BIG_INT:
                 return add(augend.bigIntValue(), addend.bigIntValue());
+            case FIXED:
+                return add(Conversion.toFixed(augend), Conversion.toFixed(addend));
             case FLOAT:
                 return add(augend.floatValue(), addend.floatValue());
             case DOUBLE:
                 return add(augend.doubleValue(), addend.doubleValue());
+            case DOUBLE_DOUBLE:
+                return add(Conversion.toDoubleDouble(augend), Conversion.toDoubleDouble(addend));
             case BIG_DEC:
                 return add(augend.bigDecValue(), addend.bigDecValue());
+            case HUGE:
+                return add(Conversion.toHuge(augend), Conversion.toHuge(addend));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -90,7 +323,9 @@ public class Operations {
     /**
      * Subtracts a {@link Numeral} from another Numeral. The Numeral parameters are converted to the most significant
      * type with {@link Numerals#getSignificantType(NumeralType...)}. Additionally, the resulting Numeral will be
-     * converted to a higher type if the subtraction would result in an overflow or underflow.
+     * converted to a higher type if the subtraction would result in an overflow or underflow. Two
+     * {@link IntNumeral IntNumerals}, {@link LongNumeral LongNumerals} or {@link DoubleNumeral DoubleNumerals} are
+     * handled directly without resolving the most significant type.
      *
      * @param minuend {@link Numeral} to be subtracted from
      * @param subtrahend {@link Numeral} to be subtracted
@@ -103,16 +338,68 @@ public class Operations {
      * should never happen
      */
     public static Numeral subtract(Numeral minuend, Numeral subtrahend) {
+        if(minuend.getClass() == subtrahend.getClass()) {
+            if(minuend instanceof IntNumeral) {
+                int a = minuend.intValue();
+                int b = subtrahend.intValue();
+                return b == 0 ? minuend : (a == b ? of(0) : subtract(a, b));
+            }
+
+            if(minuend instanceof LongNumeral) {
+                long a = minuend.longValue();
+                long b = subtrahend.longValue();
+                return b == 0L ? minuend : (a == b ? of(0) : subtract(a, b));
+            }
+
+            if(minuend instanceof DoubleNumeral) {
+                double a = minuend.doubleValue();
+                double b = subtrahend.doubleValue();
+                return b == 0d ? minuend : (Double.compare(a, b) == 0 ? of(0) : subtract(a, b));
+            }
+        }
+
+        return subtractAs(minuend, subtrahend, getSignificantType(minuend.getType(), subtrahend.getType()));
+    }
+
+    /**
+     * Subtracts a {@link Numeral} from another Numeral, carrying out the subtraction in at least the specified floor
+     * type. The Numeral parameters are converted to the most significant of their own types and the floor type with
+     * {@link Numerals#getSignificantType(NumeralType, NumeralType, NumeralType)}. A floor type that is wider than the
+     * operands lets repeated operations that are known to overflow skip the overflow check and the retry in a wider
+     * type. See {@link PromotionHint} for tracking the floor type automatically. Like with
+     * {@link #subtract(Numeral, Numeral)}, an operand may be returned as-is when the result is trivial, even if its
+     * type is narrower than the floor type.
+     *
+     * @param minuend {@link Numeral} to be subtracted from
+     * @param subtrahend {@link Numeral} to be subtracted
+     * @param floor minimum type for the subtraction to be carried out in
+     * @return result of the subtraction
+     *
+     * @throws NullPointerException if the floor type is {@code null} or if any of the {@link Numeral Numerals} return
+     * {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral subtractWithFloor(Numeral minuend, Numeral subtrahend, NumeralType floor) {
+        if(floor == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        return subtractAs(minuend, subtrahend, getSignificantType(minuend.getType(), subtrahend.getType(), floor));
+    }
+
+    private static Numeral subtractAs(Numeral minuend, Numeral subtrahend, NumeralType type) {
         if(isZero(subtrahend)) {
             return minuend;
         }
 
-        if(compare(minuend, subtrahend) == 0) {
+        if(compare(minuend, subtrahend, type) == 0) {
             return of(0);
         }
 
-        NumeralType type = getSignificantType(minuend.getType(), subtrahend.getType());
-
         switch(type) {
             case INT:
                 return subtract(minuend.intValue(), subtrahend.intValue());
@@ -120,12 +407,18 @@ public class Operations {
                 return subtract(minuend.longValue(), subtrahend.longValue());
             case BIG_INT:
                 return subtract(minuend.bigIntValue(), subtrahend.bigIntValue());
+            case FIXED:
+                return subtract(Conversion.toFixed(minuend), Conversion.toFixed(subtrahend));
             case FLOAT:
                 return subtract(minuend.floatValue(), subtrahend.floatValue());
             case DOUBLE:
                 return subtract(minuend.doubleValue(), subtrahend.doubleValue());
+            case DOUBLE_DOUBLE:
+                return subtract(Conversion.toDoubleDouble(minuend), Conversion.toDoubleDouble(subtrahend));
             case BIG_DEC:
                 return subtract(minuend.bigDecValue(), subtrahend.bigDecValue());
+            case HUGE:
+                return subtract(Conversion.toHuge(minuend), Conversion.toHuge(subtrahend));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -136,7 +429,9 @@ public class Operations {
     /**
      * Multiplies two {@link Numeral Numerals} together. The Numeral parameters are converted to the most significant
      * type with {@link Numerals#getSignificantType(NumeralType...)}. Additionally, the resulting Numeral will be
-     * converted to a higher type if the multiplication would result in an overflow or underflow.
+     * converted to a higher type if the multiplication would result in an overflow or underflow. Two
+     * {@link IntNumeral IntNumerals}, {@link LongNumeral LongNumerals} or {@link DoubleNumeral DoubleNumerals} are
+     * handled directly without resolving the most significant type.
      *
      * @param multiplicand {@link Numeral} to be multiplied
      * @param multiplier {@link Numeral} to be multiplied
@@ -149,6 +444,63 @@ public class Operations {
      * should never happen
      */
     public static Numeral multiply(Numeral multiplicand, Numeral multiplier) {
+        if(multiplicand.getClass() == multiplier.getClass()) {
+            if(multiplicand instanceof IntNumeral) {
+                int a = multiplicand.intValue();
+                int b = multiplier.intValue();
+                return a == 0 || b == 0 ? of(0) : (a == 1 ? multiplier : (b == 1 ? multiplicand : multiply(a, b)));
+            }
+
+            if(multiplicand instanceof LongNumeral) {
+                long a = multiplicand.longValue();
+                long b = multiplier.longValue();
+                return a == 0L || b == 0L ? of(0) :
+                        (a == 1L ? multiplier : (b == 1L ? multiplicand : multiply(a, b)));
+            }
+
+            if(multiplicand instanceof DoubleNumeral) {
+                double a = multiplicand.doubleValue();
+                double b = multiplier.doubleValue();
+                return a == 0d || b == 0d ? of(0) :
+                        (a == 1d ? multiplier : (b == 1d ? multiplicand : multiply(a, b)));
+            }
+        }
+
+        return multiplyAs(multiplicand, multiplier, getSignificantType(multiplicand.getType(), multiplier.getType()));
+    }
+
+    /**
+     * Multiplies two {@link Numeral Numerals} together, carrying out the multiplication in at least the specified
+     * floor type. The Numeral parameters are converted to the most significant of their own types and the floor type
+     * with {@link Numerals#getSignificantType(NumeralType, NumeralType, NumeralType)}. A floor type that is wider than
+     * the operands lets repeated operations that are known to overflow skip the overflow check and the retry in a
+     * wider type. See {@link PromotionHint} for tracking the floor type automatically. Like with
+     * {@link #multiply(Numeral, Numeral)}, an operand may be returned as-is when the result is trivial, even if its
+     * type is narrower than the floor type.
+     *
+     * @param multiplicand {@link Numeral} to be multiplied
+     * @param multiplier {@link Numeral} to be multiplied
+     * @param floor minimum type for the multiplication to be carried out in
+     * @return result of the multiplication
+     *
+     * @throws NullPointerException if the floor type is {@code null} or if any of the {@link Numeral Numerals} return
+     * {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral multiplyWithFloor(Numeral multiplicand, Numeral multiplier, NumeralType floor) {
+        if(floor == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        return multiplyAs(multiplicand, multiplier,
+                getSignificantType(multiplicand.getType(), multiplier.getType(), floor));
+    }
+
+    private static Numeral multiplyAs(Numeral multiplicand, Numeral multiplier, NumeralType type) {
         if(isZero(multiplicand) || isZero(multiplier)) {
             return of(0);
         }
@@ -161,8 +513,6 @@ public class Operations {
             return multiplicand;
         }
 
-        NumeralType type = getSignificantType(multiplicand.getType(), multiplier.getType());
-
         switch(type) {
             case INT:
                 return multiply(multiplicand.intValue(), multiplier.intValue());
@@ -170,12 +520,18 @@ public class Operations {
                 return multiply(multiplicand.longValue(), multiplier.longValue());
             case BIG_INT:
                 return multiply(multiplicand.bigIntValue(), multiplier.bigIntValue());
+            case FIXED:
+                return multiply(Conversion.toFixed(multiplicand), Conversion.toFixed(multiplier));
             case FLOAT:
                 return multiply(multiplicand.floatValue(), multiplier.floatValue());
             case DOUBLE:
                 return multiply(multiplicand.doubleValue(), multiplier.doubleValue());
+            case DOUBLE_DOUBLE:
+                return multiply(Conversion.toDoubleDouble(multiplicand), Conversion.toDoubleDouble(multiplier));
             case BIG_DEC:
                 return multiply(multiplicand.bigDecValue(), multiplier.bigDecValue());
+            case HUGE:
+                return multiply(Conversion.toHuge(multiplicand), Conversion.toHuge(multiplier));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -200,6 +556,8 @@ public class Operations {
      * should never happen
      */
     public static Numeral divide(Numeral dividend, Numeral divisor) {
+        NumeralType type = getSignificantType(dividend.getType(), divisor.getType());
+
         if(isZero(divisor)) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.divisionByZero(dividend),
@@ -214,12 +572,10 @@ public class Operations {
             return dividend;
         }
 
-        if(compare(dividend, divisor) == 0) {
+        if(compare(dividend, divisor, type) == 0) {
             return of(1);
         }
 
-        NumeralType type = getSignificantType(dividend.getType(), divisor.getType());
-
         switch(type) {
             case INT:
                 return divide(dividend.intValue(), divisor.intValue());
@@ -227,12 +583,18 @@ public class Operations {
                 return divide(dividend.longValue(), divisor.longValue());
             case BIG_INT:
                 return divide(dividend.bigIntValue(), divisor.bigIntValue());
+            case FIXED:
+                return divide(Conversion.toFixed(dividend), Conversion.toFixed(divisor));
             case FLOAT:
                 return divide(dividend.floatValue(), divisor.floatValue());
             case DOUBLE:
                 return divide(dividend.doubleValue(), divisor.doubleValue());
+            case DOUBLE_DOUBLE:
+                return divide(Conversion.toDoubleDouble(dividend), Conversion.toDoubleDouble(divisor));
             case BIG_DEC:
                 return divide(dividend.bigDecValue(), divisor.bigDecValue());
+            case HUGE:
+                return divide(Conversion.toHuge(dividend), Conversion.toHuge(divisor));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -273,6 +635,8 @@ public class Operations {
      * should never happen
      */
     public static Numeral power(Numeral base, Numeral exponent) {
+        NumeralType type = getSignificantType(base.getType(), exponent.getType());
+
         if(isOne(base) || isZero(exponent)) {
             return of(1);
         }
@@ -285,8 +649,6 @@ public class Operations {
             return base;
         }
 
-        NumeralType type = getSignificantType(base.getType(), exponent.getType());
-
         switch(type) {
             case INT:
                 return power(base.intValue(), exponent.intValue());
@@ -294,12 +656,18 @@ public class Operations {
                 return power(base.longValue(), exponent.longValue());
             case BIG_INT:
                 return power(base.bigIntValue(), exponent.bigIntValue());
+            case FIXED:
+                return power(Conversion.toFixed(base), Conversion.toFixed(exponent));
             case FLOAT:
                 return power(base.floatValue(), exponent.floatValue());
             case DOUBLE:
                 return power(base.doubleValue(), exponent.doubleValue());
+            case DOUBLE_DOUBLE:
+                return power(Conversion.toDoubleDouble(base), Conversion.toDoubleDouble(exponent));
             case BIG_DEC:
                 return power(base.bigDecValue(), exponent.bigDecValue());
+            case HUGE:
+                return power(Conversion.toHuge(base), Conversion.toHuge(exponent));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -331,12 +699,18 @@ public class Operations {
                 return exp(numeral.longValue());
             case BIG_INT:
                 return exp(numeral.bigIntValue());
+            case FIXED:
+                return exp(Conversion.toFixed(numeral));
             case FLOAT:
                 return exp(numeral.floatValue());
             case DOUBLE:
                 return exp(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return exp(Conversion.toDoubleDouble(numeral));
             case BIG_DEC:
                 return exp(numeral.bigDecValue());
+            case HUGE:
+                return exp(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -365,7 +739,7 @@ public class Operations {
             return of(1);
         }
 
-        if(compare(numeral, of(0)) < 0) {
+        if(signum(numeral) < 0) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.squareRootOfNegative(numeral),
                     ArithmeticException::new);
@@ -378,12 +752,18 @@ public class Operations {
                 return sqrt(numeral.longValue());
             case BIG_INT:
                 return sqrt(numeral.bigIntValue());
+            case FIXED:
+                return sqrt(Conversion.toFixed(numeral));
             case FLOAT:
                 return sqrt(numeral.floatValue());
             case DOUBLE:
                 return sqrt(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return sqrt(Conversion.toDoubleDouble(numeral));
             case BIG_DEC:
                 return sqrt(numeral.bigDecValue());
+            case HUGE:
+                return sqrt(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -418,12 +798,18 @@ public class Operations {
                 return cbrt(numeral.longValue());
             case BIG_INT:
                 return cbrt(numeral.bigIntValue());
+            case FIXED:
+                return cbrt(Conversion.toFixed(numeral));
             case FLOAT:
                 return cbrt(numeral.floatValue());
             case DOUBLE:
                 return cbrt(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return cbrt(Conversion.toDoubleDouble(numeral));
             case BIG_DEC:
                 return cbrt(numeral.bigDecValue());
+            case HUGE:
+                return cbrt(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -448,6 +834,8 @@ public class Operations {
      * should never happen
      */
     public static Numeral root(Numeral numeral, Numeral base) {
+        NumeralType type = getSignificantType(numeral.getType(), base.getType());
+
         if(isZero(base)) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.rootBaseZero(numeral),
@@ -466,14 +854,12 @@ public class Operations {
             return numeral;
         }
 
-        if(compare(numeral, of(0)) < 0 && compare(base, of(0)) > 0 && isEven(base)) {
+        if(signum(numeral) < 0 && signum(base) > 0 && isEven(base)) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.rootOfNegativeEvenBase(numeral, base),
                     ArithmeticException::new);
         }
 
-        NumeralType type = getSignificantType(numeral.getType(), base.getType());
-
         switch(type) {
             case INT:
                 return root(numeral.intValue(), base.intValue());
@@ -481,12 +867,18 @@ public class Operations {
                 return root(numeral.longValue(), base.longValue());
             case BIG_INT:
                 return root(numeral.bigIntValue(), base.bigIntValue());
+            case FIXED:
+                return root(Conversion.toFixed(numeral), Conversion.toFixed(base));
             case FLOAT:
                 return root(numeral.floatValue(), base.floatValue());
             case DOUBLE:
                 return root(numeral.doubleValue(), base.doubleValue());
+            case DOUBLE_DOUBLE:
+                return root(Conversion.toDoubleDouble(numeral), Conversion.toDoubleDouble(base));
             case BIG_DEC:
                 return root(numeral.bigDecValue(), base.bigDecValue());
+            case HUGE:
+                return root(Conversion.toHuge(numeral), Conversion.toHuge(base));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -507,7 +899,7 @@ public class Operations {
      * should never happen
      */
     public static Numeral log(Numeral numeral) {
-        if(isZero(numeral) || compare(numeral, Numerals.of(0)) < 0) {
+        if(signum(numeral) <= 0) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.logarithmOfZeroOrNegative(numeral),
                     ArithmeticException::new);
@@ -524,12 +916,18 @@ public class Operations {
                 return log(numeral.longValue());
             case BIG_INT:
                 return log(numeral.bigIntValue());
+            case FIXED:
+                return log(Conversion.toFixed(numeral));
             case FLOAT:
                 return log(numeral.floatValue());
             case DOUBLE:
                 return log(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return log(Conversion.toDoubleDouble(numeral));
             case BIG_DEC:
                 return log(numeral.bigDecValue());
+            case HUGE:
+                return log(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -550,7 +948,7 @@ public class Operations {
      * should never happen
      */
     public static Numeral log2(Numeral numeral) {
-        if(isZero(numeral) || compare(numeral, Numerals.of(0)) < 0) {
+        if(signum(numeral) <= 0) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.logarithmOfZeroOrNegative(numeral),
                     ArithmeticException::new);
@@ -567,12 +965,18 @@ public class Operations {
                 return log2(numeral.longValue());
             case BIG_INT:
                 return log2(numeral.bigIntValue());
+            case FIXED:
+                return log2(Conversion.toFixed(numeral));
             case FLOAT:
                 return log2(numeral.floatValue());
             case DOUBLE:
                 return log2(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return log2(Conversion.toDoubleDouble(numeral));
             case BIG_DEC:
                 return log2(numeral.bigDecValue());
+            case HUGE:
+                return log2(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -593,7 +997,7 @@ public class Operations {
      * should never happen
      */
     public static Numeral log10(Numeral numeral) {
-        if(isZero(numeral) || compare(numeral, Numerals.of(0)) < 0) {
+        if(signum(numeral) <= 0) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.logarithmOfZeroOrNegative(numeral),
                     ArithmeticException::new);
@@ -610,12 +1014,18 @@ public class Operations {
                 return log10(numeral.longValue());
             case BIG_INT:
                 return log10(numeral.bigIntValue());
+            case FIXED:
+                return log10(Conversion.toFixed(numeral));
             case FLOAT:
                 return log10(numeral.floatValue());
             case DOUBLE:
                 return log10(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return log10(Conversion.toDoubleDouble(numeral));
             case BIG_DEC:
                 return log10(numeral.bigDecValue());
+            case HUGE:
+                return log10(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -641,13 +1051,15 @@ public class Operations {
      * should never happen
      */
     public static Numeral logN(Numeral numeral, Numeral base) {
-        if(isZero(numeral) || compare(numeral, Numerals.of(0)) < 0) {
+        NumeralType type = getSignificantType(numeral.getType(), base.getType());
+
+        if(signum(numeral) <= 0) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.logarithmOfZeroOrNegative(numeral),
                     ArithmeticException::new);
         }
 
-        if(isZero(base) || compare(base, Numerals.of(0)) < 0) {
+        if(signum(base) <= 0) {
             throw LogUtils.logExceptionAndGet(logger,
                     MathStrings.logarithmOfBaseZeroOrNegative(numeral, base),
                     ArithmeticException::new);
@@ -663,8 +1075,6 @@ public class Operations {
             return of(0);
         }
 
-        NumeralType type = getSignificantType(numeral.getType(), base.getType());
-
         switch(type) {
             case INT:
                 return logN(numeral.intValue(), base.intValue());
@@ -672,12 +1082,18 @@ public class Operations {
                 return logN(numeral.longValue(), base.longValue());
             case BIG_INT:
                 return logN(numeral.bigIntValue(), base.bigIntValue());
+            case FIXED:
+                return logN(Conversion.toFixed(numeral), Conversion.toFixed(base));
             case FLOAT:
                 return logN(numeral.floatValue(), base.floatValue());
             case DOUBLE:
                 return logN(numeral.doubleValue(), base.doubleValue());
+            case DOUBLE_DOUBLE:
+                return logN(Conversion.toDoubleDouble(numeral), Conversion.toDoubleDouble(base));
             case BIG_DEC:
                 return logN(numeral.bigDecValue(), base.bigDecValue());
+            case HUGE:
+                return logN(Conversion.toHuge(numeral), Conversion.toHuge(base));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -745,6 +1161,8 @@ public class Operations {
      * should never happen
      */
     public static Numeral lerp(Numeral numeral, Numeral min, Numeral max) {
+        NumeralType type = getSignificantType(numeral.getType(), min.getType(), max.getType());
+
         if(isZero(numeral)) {
             return min;
         }
@@ -753,12 +1171,10 @@ public class Operations {
             return max;
         }
 
-        if(compare(min, max) == 0) {
+        if(compare(min, max, getSignificantType(min.getType(), max.getType())) == 0) {
             return min;
         }
 
-        NumeralType type = getSignificantType(numeral.getType(), min.getType(), max.getType());
-
         switch(type) {
             case INT:
                 return lerp(numeral.intValue(), min.intValue(), max.intValue());
@@ -766,12 +1182,19 @@ public class Operations {
                 return lerp(numeral.longValue(), min.longValue(), max.longValue());
             case BIG_INT:
                 return lerp(numeral.bigIntValue(), min.bigIntValue(), max.bigIntValue());
+            case FIXED:
+                return lerp(Conversion.toFixed(numeral), Conversion.toFixed(min), Conversion.toFixed(max));
             case FLOAT:
                 return lerp(numeral.floatValue(), min.floatValue(), max.floatValue());
             case DOUBLE:
                 return lerp(numeral.doubleValue(), min.doubleValue(), max.doubleValue());
+            case DOUBLE_DOUBLE:
+                return lerp(Conversion.toDoubleDouble(numeral), Conversion.toDoubleDouble(min),
+                        Conversion.toDoubleDouble(max));
             case BIG_DEC:
                 return lerp(numeral.bigDecValue(), min.bigDecValue(), max.bigDecValue());
+            case HUGE:
+                return lerp(Conversion.toHuge(numeral), Conversion.toHuge(min), Conversion.toHuge(max));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -779,6 +1202,141 @@ public class Operations {
                 IllegalArgumentException::new);
     }
 
+    /**
+     * Calculates the sum of a geometric series, that is, {@code first + first * ratio + first * ratio^2 + ... +
+     * first * ratio^(count - 1)}, for example the total cost of buying {@code count} upgrades whose cost is multiplied
+     * by {@code ratio} after every purchase. The sum is calculated in constant time with the closed-form formula
+     * {@code first * (ratio^count - 1) / (ratio - 1)}, or {@code first * count} if the ratio is one. If all parameters
+     * are integers, the result is exact. Types are promoted like in other operations of this class.
+     *
+     * @param first first term of the series
+     * @param ratio common ratio of the series
+     * @param count number of terms in the series
+     * @return sum of the geometric series
+     *
+     * @throws ArithmeticException if the count is negative
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral geometricSum(Numeral first, Numeral ratio, Numeral count) {
+        if(signum(count) < 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.negativeSeriesCount(count),
+                    ArithmeticException::new);
+        }
+
+        if(isZero(count) || isZero(first)) {
+            return of(0);
+        }
+
+        if(isOne(ratio)) {
+            return multiply(first, count);
+        }
+
+        Numeral one = of(1);
+
+        return multiply(first, divide(subtract(exactPower(ratio, count), one), subtract(ratio, one)));
+    }
+
+    /**
+     * Calculates the sum of an arithmetic series, that is, {@code first + (first + difference) + (first + 2 *
+     * difference) + ... + (first + (count - 1) * difference)}, for example the total cost of buying {@code count}
+     * upgrades whose cost is increased by {@code difference} after every purchase. The sum is calculated in constant
+     * time with the closed-form formula {@code count * first + difference * count * (count - 1) / 2}. If all parameters
+     * are integers, the result is exact. Types are promoted like in other operations of this class.
+     *
+     * @param first first term of the series
+     * @param difference common difference of the series
+     * @param count number of terms in the series
+     * @return sum of the arithmetic series
+     *
+     * @throws ArithmeticException if the count is negative
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral arithmeticSum(Numeral first, Numeral difference, Numeral count) {
+        if(signum(count) < 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.negativeSeriesCount(count),
+                    ArithmeticException::new);
+        }
+
+        Numeral pairs = divide(multiply(count, subtract(count, of(1))), of(2));
+
+        return add(multiply(count, first), multiply(difference, pairs));
+    }
+
+    /**
+     * Calculates the largest count for which the {@link #geometricSum(Numeral, Numeral, Numeral) sum of a geometric
+     * series} does not exceed a budget, for example the number of upgrades that can be bought with a budget when the
+     * cost of an upgrade is multiplied by {@code ratio} after every purchase. The count is estimated in constant time
+     * with the inverse of the closed-form sum formula and then corrected with exact sums, so the result is exact
+     * whenever the sums are exact. If the count exceeds 2<sup>62</sup>, the estimate is returned without correction.
+     *
+     * @param first first term of the series, must be positive
+     * @param ratio common ratio of the series, must be positive
+     * @param budget budget that the sum of the series may not exceed
+     * @return largest count for which the sum of the geometric series does not exceed the budget
+     *
+     * @throws ArithmeticException if the first term or the ratio is zero or negative, or if the ratio is less than one
+     * and the budget is large enough to afford an infinite number of terms
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static Numeral maxGeometricCount(Numeral first, Numeral ratio, Numeral budget) {
+        if(signum(first) <= 0 || signum(ratio) <= 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.invalidGeometricSeries(first, ratio),
+                    ArithmeticException::new);
+        }
+
+        if(compare(budget, first) < 0) {
+            return of(0);
+        }
+
+        double estimate;
+
+        if(isOne(ratio)) {
+            estimate = Math.floor(divide(budget, first).doubleValue());
+        } else {
+            Numeral ratioMinusOne = subtract(ratio, of(1));
+            Numeral scaled = divide(multiply(budget, ratioMinusOne), first);
+
+            if(compare(scaled, of(-1)) <= 0) {
+                throw LogUtils.logExceptionAndGet(logger,
+                        MathStrings.unboundedGeometricSeries(first, ratio, budget),
+                        ArithmeticException::new);
+            }
+
+            estimate = Math.floor(logOnePlus(scaled) / logOnePlus(ratioMinusOne));
+        }
+
+        if(!(estimate < MAX_SERIES_COUNT)) {
+            return of(new BigDecimal(estimate).toBigInteger());
+        }
+
+        long count = Math.max((long) estimate, 0);
+
+        while(count > 0 && compare(geometricSum(first, ratio, of(count)), budget) > 0) {
+            count--;
+        }
+
+        while(compare(geometricSum(first, ratio, of(count + 1)), budget) <= 0) {
+            count++;
+        }
+
+        return of(count).toSmallestType();
+    }
+
     /**
      * @param augend augend
      * @param addend addend
@@ -818,6 +1376,19 @@ public class Operations {
         return of(augend.add(addend));
     }
 
+    /**
+     * @param augend augend
+     * @param addend addend
+     * @return result of the addition
+     */
+    public static Numeral add(Fixed augend, Fixed addend) {
+        try {
+            return of(augend.add(addend));
+        } catch(ArithmeticException e) {
+            return add(augend.toBigDecimal(), addend.toBigDecimal());
+        }
+    }
+
     /**
      * @param augend augend
      * @param addend addend
@@ -853,30 +1424,69 @@ public class Operations {
      * @param addend addend
      * @return result of the addition
      */
-    public static BigDecNumeral add(BigDecimal augend, BigDecimal addend) {
-        return of(augend.add(addend, CONTEXT));
-    }
-
-    /**
-     * @param minuend minuend
-     * @param subtrahend subtrahend
-     * @return result of the subtraction
-     */
-    public static Numeral subtract(int minuend, int subtrahend) {
-        int result = minuend - subtrahend;
+    public static Numeral add(DoubleDouble augend, DoubleDouble addend) {
+        DoubleDouble result = augend.add(addend);
 
-        if(((minuend ^ subtrahend) & (minuend ^ result)) < 0) {
-            return subtract((long) minuend, subtrahend);
+        if(result.isInfinite()) {
+            return add(augend.toBigDecimal(), addend.toBigDecimal());
         }
 
         return of(result);
     }
 
     /**
-     * @param minuend minuend
-     * @param subtrahend subtrahend
-     * @return result of the subtraction
-     */
+     * @param augend augend
+     * @param addend addend
+     * @return result of the addition
+     */
+    public static BigDecNumeral add(BigDecimal augend, BigDecimal addend) {
+        return addWithContext(augend, addend, getContext());
+    }
+
+    /**
+     * Adds two {@link BigDecimal BigDecimals} together. If one of the operands is so small compared to the other that
+     * it cannot affect the rounded result, the result is calculated from the other operand alone by only adjusting
+     * its scale, without aligning and adding the digits of both operands. The result is the same as with
+     * {@link BigDecimal#add(BigDecimal, MathContext)}.
+     *
+     * @param augend augend
+     * @param addend addend
+     * @param context {@link MathContext} for the operation
+     * @return result of the addition
+     */
+    public static BigDecNumeral addWithContext(BigDecimal augend, BigDecimal addend, MathContext context) {
+        return of(sum(augend, addend, adapt(context, augend, addend)));
+    }
+
+    /**
+     * @param augend augend
+     * @param addend addend
+     * @return result of the addition
+     */
+    public static HugeNumeral add(Huge augend, Huge addend) {
+        return of(augend.add(addend));
+    }
+
+    /**
+     * @param minuend minuend
+     * @param subtrahend subtrahend
+     * @return result of the subtraction
+     */
+    public static Numeral subtract(int minuend, int subtrahend) {
+        int result = minuend - subtrahend;
+
+        if(((minuend ^ subtrahend) & (minuend ^ result)) < 0) {
+            return subtract((long) minuend, subtrahend);
+        }
+
+        return of(result);
+    }
+
+    /**
+     * @param minuend minuend
+     * @param subtrahend subtrahend
+     * @return result of the subtraction
+     */
     public static Numeral subtract(long minuend, long subtrahend) {
         long result = minuend - subtrahend;
 
@@ -896,6 +1506,19 @@ public class Operations {
         return of(minuend.subtract(subtrahend));
     }
 
+    /**
+     * @param minuend minuend
+     * @param subtrahend subtrahend
+     * @return result of the subtraction
+     */
+    public static Numeral subtract(Fixed minuend, Fixed subtrahend) {
+        try {
+            return of(minuend.subtract(subtrahend));
+        } catch(ArithmeticException e) {
+            return subtract(minuend.toBigDecimal(), subtrahend.toBigDecimal());
+        }
+    }
+
     /**
      * @param minuend minuend
      * @param subtrahend subtrahend
@@ -926,13 +1549,51 @@ public class Operations {
         return of(result);
     }
 
+    /**
+     * @param minuend minuend
+     * @param subtrahend subtrahend
+     * @return result of the subtraction
+     */
+    public static Numeral subtract(DoubleDouble minuend, DoubleDouble subtrahend) {
+        DoubleDouble result = minuend.subtract(subtrahend);
+
+        if(result.isInfinite()) {
+            return subtract(minuend.toBigDecimal(), subtrahend.toBigDecimal());
+        }
+
+        return of(result);
+    }
+
     /**
      * @param minuend minuend
      * @param subtrahend subtrahend
      * @return result of the subtraction
      */
     public static BigDecNumeral subtract(BigDecimal minuend, BigDecimal subtrahend) {
-        return of(minuend.subtract(subtrahend, CONTEXT));
+        return subtractWithContext(minuend, subtrahend, getContext());
+    }
+
+    /**
+     * Subtracts a {@link BigDecimal} from another. If one of the operands is so small compared to the other that it
+     * cannot affect the rounded result, the result is calculated without performing the subtraction, like in
+     * {@link #addWithContext(BigDecimal, BigDecimal, MathContext)}.
+     *
+     * @param minuend minuend
+     * @param subtrahend subtrahend
+     * @param context {@link MathContext} for the operation
+     * @return result of the subtraction
+     */
+    public static BigDecNumeral subtractWithContext(BigDecimal minuend, BigDecimal subtrahend, MathContext context) {
+        return of(sum(minuend, subtrahend.negate(), adapt(context, minuend, subtrahend)));
+    }
+
+    /**
+     * @param minuend minuend
+     * @param subtrahend subtrahend
+     * @return result of the subtraction
+     */
+    public static HugeNumeral subtract(Huge minuend, Huge subtrahend) {
+        return of(minuend.subtract(subtrahend));
     }
 
     /**
@@ -979,6 +1640,19 @@ public class Operations {
         return of(multiplicand.multiply(multiplier));
     }
 
+    /**
+     * @param multiplicand multiplicand
+     * @param multiplier multiplier
+     * @return result of the multiplication
+     */
+    public static Numeral multiply(Fixed multiplicand, Fixed multiplier) {
+        try {
+            return of(multiplicand.multiply(multiplier));
+        } catch(ArithmeticException e) {
+            return multiply(multiplicand.toBigDecimal(), multiplier.toBigDecimal());
+        }
+    }
+
     /**
      * @param multiplicand multiplicand
      * @param multiplier multiplier
@@ -1009,13 +1683,49 @@ public class Operations {
         return of(result);
     }
 
+    /**
+     * @param multiplicand multiplicand
+     * @param multiplier multiplier
+     * @return result of the multiplication
+     */
+    public static Numeral multiply(DoubleDouble multiplicand, DoubleDouble multiplier) {
+        DoubleDouble result = multiplicand.multiply(multiplier);
+
+        if(result.isInfinite()) {
+            return multiply(multiplicand.toBigDecimal(), multiplier.toBigDecimal());
+        }
+
+        return of(result);
+    }
+
     /**
      * @param multiplicand multiplicand
      * @param multiplier multiplier
      * @return result of the multiplication
      */
     public static BigDecNumeral multiply(BigDecimal multiplicand, BigDecimal multiplier) {
-        return of(multiplicand.multiply(multiplier, CONTEXT));
+        return multiplyWithContext(multiplicand, multiplier, getContext());
+    }
+
+    /**
+     * @param multiplicand multiplicand
+     * @param multiplier multiplier
+     * @param context {@link MathContext} for the operation
+     * @return result of the multiplication
+     */
+    public static BigDecNumeral multiplyWithContext(BigDecimal multiplicand,
+                                                    BigDecimal multiplier,
+                                                    MathContext context) {
+        return of(multiplicand.multiply(multiplier, adapt(context, multiplicand, multiplier)));
+    }
+
+    /**
+     * @param multiplicand multiplicand
+     * @param multiplier multiplier
+     * @return result of the multiplication
+     */
+    public static HugeNumeral multiply(Huge multiplicand, Huge multiplier) {
+        return of(multiplicand.multiply(multiplier));
     }
 
     /**
@@ -1045,6 +1755,19 @@ public class Operations {
         return of(dividend.divide(divisor));
     }
 
+    /**
+     * @param dividend dividend
+     * @param divisor divisor
+     * @return result of the division
+     */
+    public static Numeral divide(Fixed dividend, Fixed divisor) {
+        try {
+            return of(dividend.divide(divisor));
+        } catch(ArithmeticException e) {
+            return divide(dividend.toBigDecimal(), divisor.toBigDecimal());
+        }
+    }
+
     /**
      * @param dividend dividend
      * @param divisor divisor
@@ -1075,13 +1798,47 @@ public class Operations {
         return of(result);
     }
 
+    /**
+     * @param dividend dividend
+     * @param divisor divisor
+     * @return result of the division
+     */
+    public static Numeral divide(DoubleDouble dividend, DoubleDouble divisor) {
+        DoubleDouble result = dividend.divide(divisor);
+
+        if(result.isInfinite()) {
+            return divide(dividend.toBigDecimal(), divisor.toBigDecimal());
+        }
+
+        return of(result);
+    }
+
     /**
      * @param dividend dividend
      * @param divisor divisor
      * @return result of the division
      */
     public static BigDecNumeral divide(BigDecimal dividend, BigDecimal divisor) {
-        return of(dividend.divide(divisor, CONTEXT));
+        return divideWithContext(dividend, divisor, getContext());
+    }
+
+    /**
+     * @param dividend dividend
+     * @param divisor divisor
+     * @param context {@link MathContext} for the operation
+     * @return result of the division
+     */
+    public static BigDecNumeral divideWithContext(BigDecimal dividend, BigDecimal divisor, MathContext context) {
+        return of(dividend.divide(divisor, adapt(context, dividend, divisor)));
+    }
+
+    /**
+     * @param dividend dividend
+     * @param divisor divisor
+     * @return result of the division
+     */
+    public static HugeNumeral divide(Huge dividend, Huge divisor) {
+        return of(dividend.divide(divisor));
     }
 
     /**
@@ -1125,12 +1882,29 @@ public class Operations {
      */
     public static Numeral power(BigInteger base, BigInteger exponent) {
         if(isOutOfIntRange(exponent)) {
-            return of(BigDecimalMath.pow(new BigDecimal(base), new BigDecimal(exponent), CONTEXT).toBigInteger());
+            return of(calculatePow(new BigDecimal(base), new BigDecimal(exponent), getContext()).toBigInteger());
         }
 
         return of(base.pow(exponent.intValue()));
     }
 
+    /**
+     * @param base base
+     * @param exponent exponent
+     * @return result of the exponentiation
+     */
+    public static Numeral power(Fixed base, Fixed exponent) {
+        if(exponent.isInteger() && !isOutOfIntRange(exponent.longValue())) {
+            try {
+                return of(powerExact(base, (int) exponent.longValue()));
+            } catch(ArithmeticException e) {
+                return power(base.toBigDecimal(), exponent.toBigDecimal());
+            }
+        }
+
+        return power(base.toBigDecimal(), exponent.toBigDecimal());
+    }
+
     /**
      * @param base base
      * @param exponent exponent
@@ -1165,13 +1939,47 @@ public class Operations {
         return of(value);
     }
 
+    /**
+     * @param base base
+     * @param exponent exponent
+     * @return result of the exponentiation
+     */
+    public static Numeral power(DoubleDouble base, DoubleDouble exponent) {
+        DoubleDouble result = base.pow(exponent);
+
+        if(result.isInfinite()) {
+            return power(base.toBigDecimal(), exponent.toBigDecimal());
+        }
+
+        return of(result);
+    }
+
     /**
      * @param base base
      * @param exponent exponent
      * @return result of the exponentiation
      */
     public static Numeral power(BigDecimal base, BigDecimal exponent) {
-        return of(BigDecimalMath.pow(base, exponent, CONTEXT));
+        return powerWithContext(base, exponent, getContext());
+    }
+
+    /**
+     * @param base base
+     * @param exponent exponent
+     * @param context {@link MathContext} for the operation
+     * @return result of the exponentiation
+     */
+    public static Numeral powerWithContext(BigDecimal base, BigDecimal exponent, MathContext context) {
+        return of(calculatePow(base, exponent, context));
+    }
+
+    /**
+     * @param base base
+     * @param exponent exponent
+     * @return result of the exponentiation
+     */
+    public static HugeNumeral power(Huge base, Huge exponent) {
+        return of(base.pow(exponent.doubleValue()));
     }
 
     /**
@@ -1209,7 +2017,15 @@ public class Operations {
      * @return natural exponent of value
      */
     public static Numeral exp(BigInteger value) {
-        return of(BigDecimalMath.exp(new BigDecimal(value), CONTEXT).toBigInteger());
+        return of(calculateExp(new BigDecimal(value), getContext()).toBigInteger());
+    }
+
+    /**
+     * @param value value
+     * @return natural exponent of the value
+     */
+    public static Numeral exp(Fixed value) {
+        return exp(value.toBigDecimal());
     }
 
     /**
@@ -1244,12 +2060,43 @@ public class Operations {
         return of(result);
     }
 
+    /**
+     * @param value value
+     * @return natural exponent of the value
+     */
+    public static Numeral exp(DoubleDouble value) {
+        DoubleDouble result = value.exp();
+
+        if(result.isInfinite()) {
+            return exp(value.toBigDecimal());
+        }
+
+        return of(result);
+    }
+
     /**
      * @param value value
      * @return natural exponent of the value
      */
     public static Numeral exp(BigDecimal value) {
-        return of(BigDecimalMath.exp(value, CONTEXT));
+        return expWithContext(value, getContext());
+    }
+
+    /**
+     * @param value value
+     * @param context {@link MathContext} for the operation
+     * @return natural exponent of the value
+     */
+    public static Numeral expWithContext(BigDecimal value, MathContext context) {
+        return of(calculateExp(value, context));
+    }
+
+    /**
+     * @param value value
+     * @return natural exponent of the value
+     */
+    public static HugeNumeral exp(Huge value) {
+        return of(Huge.exp(value.doubleValue()));
     }
 
     /**
@@ -1276,6 +2123,14 @@ public class Operations {
         return of(value.sqrt());
     }
 
+    /**
+     * @param value value
+     * @return square root of value
+     */
+    public static Numeral sqrt(Fixed value) {
+        return sqrt(value.toBigDecimal());
+    }
+
     /**
      * @param value value
      * @return square root of value
@@ -1292,12 +2147,37 @@ public class Operations {
         return of(Math.sqrt(value));
     }
 
+    /**
+     * @param value value
+     * @return square root of value
+     */
+    public static DoubleDoubleNumeral sqrt(DoubleDouble value) {
+        return of(value.sqrt());
+    }
+
     /**
      * @param value value
      * @return square root of value
      */
     public static Numeral sqrt(BigDecimal value) {
-        return of(value.sqrt(CONTEXT));
+        return sqrtWithContext(value, getContext());
+    }
+
+    /**
+     * @param value value
+     * @param context {@link MathContext} for the operation
+     * @return square root of value
+     */
+    public static Numeral sqrtWithContext(BigDecimal value, MathContext context) {
+        return of(value.sqrt(context));
+    }
+
+    /**
+     * @param value value
+     * @return square root of value
+     */
+    public static HugeNumeral sqrt(Huge value) {
+        return of(value.sqrt());
     }
 
     /**
@@ -1324,6 +2204,14 @@ public class Operations {
         return root(value, BigInteger.valueOf(3));
     }
 
+    /**
+     * @param value value
+     * @return cube root of value
+     */
+    public static Numeral cbrt(Fixed value) {
+        return cbrt(value.toBigDecimal());
+    }
+
     /**
      * @param value value
      * @return cube root of value
@@ -1344,29 +2232,54 @@ public class Operations {
      * @param value value
      * @return cube root of value
      */
-    public static Numeral cbrt(BigDecimal value) {
-        return root(value, BigDecimal.valueOf(3));
+    public static DoubleDoubleNumeral cbrt(DoubleDouble value) {
+        return of(value.cbrt());
     }
 
     /**
      * @param value value
-     * @param base base of the root
-     * @return root of the value in the specified base
+     * @return cube root of value
      */
-    public static Numeral root(int value, int base) {
-        if(value < 0) {
-            return of((int) -Math.pow(-value, 1d/base));
-        }
-
-        return of((int) Math.pow(value, 1d/base));
+    public static Numeral cbrt(BigDecimal value) {
+        return cbrtWithContext(value, getContext());
     }
 
     /**
      * @param value value
-     * @param base base of the root
-     * @return root of the value in the specified base
+     * @param context {@link MathContext} for the operation
+     * @return cube root of value
      */
-    public static Numeral root(long value, long base) {
+    public static Numeral cbrtWithContext(BigDecimal value, MathContext context) {
+        return rootWithContext(value, BigDecimal.valueOf(3), context);
+    }
+
+    /**
+     * @param value value
+     * @return cube root of value
+     */
+    public static HugeNumeral cbrt(Huge value) {
+        return of(value.cbrt());
+    }
+
+    /**
+     * @param value value
+     * @param base base of the root
+     * @return root of the value in the specified base
+     */
+    public static Numeral root(int value, int base) {
+        if(value < 0) {
+            return of((int) -Math.pow(-value, 1d/base));
+        }
+
+        return of((int) Math.pow(value, 1d/base));
+    }
+
+    /**
+     * @param value value
+     * @param base base of the root
+     * @return root of the value in the specified base
+     */
+    public static Numeral root(long value, long base) {
         if(value < 0) {
             return of((long) -Math.pow(-value, 1d/base));
         }
@@ -1381,13 +2294,22 @@ public class Operations {
      */
     public static Numeral root(BigInteger value, BigInteger base) {
         if(value.compareTo(BigInteger.ZERO) < 0) {
-            return of(BigDecimalMath.root(
+            return of(calculateRoot(
                     new BigDecimal(value.negate()),
-                    new BigDecimal(base), CONTEXT).toBigInteger().negate());
+                    new BigDecimal(base), getContext()).toBigInteger().negate());
         }
 
-        return of(BigDecimalMath.root(
-                new BigDecimal(value), new BigDecimal(base), CONTEXT).toBigInteger());
+        return of(calculateRoot(
+                new BigDecimal(value), new BigDecimal(base), getContext()).toBigInteger());
+    }
+
+    /**
+     * @param value value
+     * @param base base of the root
+     * @return root of the value in the specified base
+     */
+    public static Numeral root(Fixed value, Fixed base) {
+        return root(value.toBigDecimal(), base.toBigDecimal());
     }
 
     /**
@@ -1436,17 +2358,51 @@ public class Operations {
         return of(result);
     }
 
+    /**
+     * @param value value
+     * @param base base of the root
+     * @return root of the value in the specified base
+     */
+    public static Numeral root(DoubleDouble value, DoubleDouble base) {
+        DoubleDouble result = value.root(base);
+
+        if(result.isInfinite()) {
+            return root(value.toBigDecimal(), base.toBigDecimal());
+        }
+
+        return of(result);
+    }
+
     /**
      * @param value value
      * @param base base of the root
      * @return root of the value in the specified base
      */
     public static Numeral root(BigDecimal value, BigDecimal base) {
+        return rootWithContext(value, base, getContext());
+    }
+
+    /**
+     * @param value value
+     * @param base base of the root
+     * @param context {@link MathContext} for the operation
+     * @return root of the value in the specified base
+     */
+    public static Numeral rootWithContext(BigDecimal value, BigDecimal base, MathContext context) {
         if(value.compareTo(BigDecimal.ZERO) < 0) {
-            return of(BigDecimalMath.root(value.negate(), base, CONTEXT).negate());
+            return of(calculateRoot(value.negate(), base, context).negate());
         }
 
-        return of(BigDecimalMath.root(value, base, CONTEXT));
+        return of(calculateRoot(value, base, context));
+    }
+
+    /**
+     * @param value value
+     * @param base base of the root
+     * @return root of the value in the specified base
+     */
+    public static HugeNumeral root(Huge value, Huge base) {
+        return of(value.root(base.doubleValue()));
     }
 
     /**
@@ -1470,7 +2426,15 @@ public class Operations {
      * @return natural logarithm of the value
      */
     public static Numeral log(BigInteger value) {
-        return of(BigDecimalMath.log(new BigDecimal(value), CONTEXT).toBigInteger());
+        return of(calculateLog(new BigDecimal(value), getContext()).toBigInteger());
+    }
+
+    /**
+     * @param value value
+     * @return natural logarithm of the value
+     */
+    public static Numeral log(Fixed value) {
+        return log(value.toBigDecimal());
     }
 
     /**
@@ -1489,12 +2453,37 @@ public class Operations {
         return of(Math.log(value));
     }
 
+    /**
+     * @param value value
+     * @return natural logarithm of the value
+     */
+    public static DoubleDoubleNumeral log(DoubleDouble value) {
+        return of(value.log());
+    }
+
     /**
      * @param value value
      * @return natural logarithm of the value
      */
     public static Numeral log(BigDecimal value) {
-        return of(BigDecimalMath.log(value, CONTEXT));
+        return logWithContext(value, getContext());
+    }
+
+    /**
+     * @param value value
+     * @param context {@link MathContext} for the operation
+     * @return natural logarithm of the value
+     */
+    public static Numeral logWithContext(BigDecimal value, MathContext context) {
+        return of(calculateLog(value, context));
+    }
+
+    /**
+     * @param value value
+     * @return natural logarithm of the value
+     */
+    public static HugeNumeral log(Huge value) {
+        return of(Huge.valueOf(value.log()));
     }
 
     /**
@@ -1518,7 +2507,15 @@ public class Operations {
      * @return binary logarithm of the value
      */
     public static Numeral log2(BigInteger value) {
-        return of(BigDecimalMath.log2(new BigDecimal(value), CONTEXT).toBigInteger());
+        return of(calculateLog2(new BigDecimal(value), getContext()).toBigInteger());
+    }
+
+    /**
+     * @param value value
+     * @return binary logarithm of the value
+     */
+    public static Numeral log2(Fixed value) {
+        return log2(value.toBigDecimal());
     }
 
     /**
@@ -1537,12 +2534,37 @@ public class Operations {
         return of(Math.log(value) / Math.log(2));
     }
 
+    /**
+     * @param value value
+     * @return binary logarithm of the value
+     */
+    public static DoubleDoubleNumeral log2(DoubleDouble value) {
+        return of(value.log2());
+    }
+
     /**
      * @param value value
      * @return binary logarithm of the value
      */
     public static Numeral log2(BigDecimal value) {
-        return of(BigDecimalMath.log2(value, CONTEXT));
+        return log2WithContext(value, getContext());
+    }
+
+    /**
+     * @param value value
+     * @param context {@link MathContext} for the operation
+     * @return binary logarithm of the value
+     */
+    public static Numeral log2WithContext(BigDecimal value, MathContext context) {
+        return of(calculateLog2(value, context));
+    }
+
+    /**
+     * @param value value
+     * @return binary logarithm of the value
+     */
+    public static HugeNumeral log2(Huge value) {
+        return of(Huge.valueOf(value.log2()));
     }
 
     /**
@@ -1566,7 +2588,15 @@ public class Operations {
      * @return base 10 logarithm of the value
      */
     public static Numeral log10(BigInteger value) {
-        return of(BigDecimalMath.log10(new BigDecimal(value), CONTEXT).toBigInteger());
+        return of(calculateLog10(new BigDecimal(value), getContext()).toBigInteger());
+    }
+
+    /**
+     * @param value value
+     * @return base 10 logarithm of the value
+     */
+    public static Numeral log10(Fixed value) {
+        return log10(value.toBigDecimal());
     }
 
     /**
@@ -1585,12 +2615,37 @@ public class Operations {
         return of(Math.log10(value));
     }
 
+    /**
+     * @param value value
+     * @return base 10 logarithm of the value
+     */
+    public static DoubleDoubleNumeral log10(DoubleDouble value) {
+        return of(value.log10());
+    }
+
     /**
      * @param value value
      * @return base 10 logarithm of the value
      */
     public static Numeral log10(BigDecimal value) {
-        return of(BigDecimalMath.log10(value, CONTEXT));
+        return log10WithContext(value, getContext());
+    }
+
+    /**
+     * @param value value
+     * @param context {@link MathContext} for the operation
+     * @return base 10 logarithm of the value
+     */
+    public static Numeral log10WithContext(BigDecimal value, MathContext context) {
+        return of(calculateLog10(value, context));
+    }
+
+    /**
+     * @param value value
+     * @return base 10 logarithm of the value
+     */
+    public static HugeNumeral log10(Huge value) {
+        return of(Huge.valueOf(value.log10()));
     }
 
     /**
@@ -1617,11 +2672,22 @@ public class Operations {
      * @return logarithm of the value in the specified base
      */
     public static Numeral logN(BigInteger value, BigInteger base) {
-        return of(BigDecimalMath.log(new BigDecimal(value), CONTEXT).divide(
-                BigDecimalMath.log(new BigDecimal(base), CONTEXT), CONTEXT)
+        MathContext context = getContext();
+
+        return of(calculateLog(new BigDecimal(value), context).divide(
+                calculateLog(new BigDecimal(base), context), context)
                 .toBigInteger());
     }
 
+    /**
+     * @param value value
+     * @param base base
+     * @return logarithm of the value in the specified base
+     */
+    public static Numeral logN(Fixed value, Fixed base) {
+        return logN(value.toBigDecimal(), base.toBigDecimal());
+    }
+
     /**
      * @param value value
      * @param base base
@@ -1656,14 +2722,48 @@ public class Operations {
         return of(result);
     }
 
+    /**
+     * @param value value
+     * @param base base
+     * @return logarithm of the value in the specified base
+     */
+    public static Numeral logN(DoubleDouble value, DoubleDouble base) {
+        DoubleDouble result = value.log().divide(base.log());
+
+        if(result.isInfinite()) {
+            return logN(value.toBigDecimal(), base.toBigDecimal());
+        }
+
+        return of(result);
+    }
+
     /**
      * @param value value
      * @param base base
      * @return logarithm of the value in the specified base
      */
     public static Numeral logN(BigDecimal value, BigDecimal base) {
-        return of(BigDecimalMath.log(value, CONTEXT).divide(
-                BigDecimalMath.log(base, CONTEXT), CONTEXT));
+        return logNWithContext(value, base, getContext());
+    }
+
+    /**
+     * @param value value
+     * @param base base
+     * @param context {@link MathContext} for the operation
+     * @return logarithm of the value in the specified base
+     */
+    public static Numeral logNWithContext(BigDecimal value, BigDecimal base, MathContext context) {
+        return of(calculateLog(value, context).divide(
+                calculateLog(base, context), context));
+    }
+
+    /**
+     * @param value value
+     * @param base base
+     * @return logarithm of the value in the specified base
+     */
+    public static HugeNumeral logN(Huge value, Huge base) {
+        return of(Huge.valueOf(value.log10() / base.log10()));
     }
 
     /**
@@ -1725,6 +2825,20 @@ public class Operations {
         return of(value.multiply(max.subtract(min)).add(min));
     }
 
+    /**
+     * @param value value to be interpolated
+     * @param min minimum value
+     * @param max maximum value
+     * @return result of the linear interpolation
+     */
+    public static Numeral lerp(Fixed value, Fixed min, Fixed max) {
+        try {
+            return of(value.multiply(max.subtract(min)).add(min));
+        } catch(ArithmeticException e) {
+            return lerp(value.toBigDecimal(), min.toBigDecimal(), max.toBigDecimal());
+        }
+    }
+
     /**
      * @param value value to be interpolated
      * @param min minimum value
@@ -1757,6 +2871,22 @@ public class Operations {
         return of(result);
     }
 
+    /**
+     * @param value value to be interpolated
+     * @param min minimum value
+     * @param max maximum value
+     * @return result of the linear interpolation
+     */
+    public static Numeral lerp(DoubleDouble value, DoubleDouble min, DoubleDouble max) {
+        DoubleDouble result = value.multiply(max.subtract(min)).add(min);
+
+        if(result.isInfinite()) {
+            return lerp(value.toBigDecimal(), min.toBigDecimal(), max.toBigDecimal());
+        }
+
+        return of(result);
+    }
+
     /**
      * @param value value to be interpolated
      * @param min minimum value
@@ -1764,8 +2894,212 @@ public class Operations {
      * @return result of the linear interpolation
      */
     public static Numeral lerp(BigDecimal value, BigDecimal min, BigDecimal max) {
-        return of(value.multiply(
-                max.subtract(min, CONTEXT), CONTEXT)
-                .add(min, CONTEXT));
+        return lerpWithContext(value, min, max, getContext());
+    }
+
+    /**
+     * Linearly interpolates a {@link BigDecimal} between a minimum and a maximum value. The subtraction and the
+     * addition skip negligible operands like {@link #addWithContext(BigDecimal, BigDecimal, MathContext)}.
+     *
+     * @param value value to be interpolated
+     * @param min minimum value
+     * @param max maximum value
+     * @param context {@link MathContext} for the operation
+     * @return result of the linear interpolation
+     */
+    public static Numeral lerpWithContext(BigDecimal value, BigDecimal min, BigDecimal max, MathContext context) {
+        MathContext adapted = adapt(context, value, min, max);
+
+        return of(sum(value.multiply(
+                sum(max, min.negate(), adapted), adapted),
+                min, adapted));
+    }
+
+    /**
+     * @param value value to be interpolated
+     * @param min minimum value
+     * @param max maximum value
+     * @return result of the linear interpolation
+     */
+    public static HugeNumeral lerp(Huge value, Huge min, Huge max) {
+        return of(value.multiply(max.subtract(min)).add(min));
+    }
+
+    private static BigDecimal sum(BigDecimal augend, BigDecimal addend, MathContext context) {
+        if(isNegligible(addend, augend, context)) {
+            return extend(augend, context);
+        }
+
+        if(isNegligible(augend, addend, context)) {
+            return extend(addend, context);
+        }
+
+        return augend.add(addend, context);
+    }
+
+    private static BigDecimal extend(BigDecimal value, MathContext context) {
+        return value.setScale(value.scale() + context.getPrecision() - value.precision());
+    }
+
+    private static boolean isNegligible(BigDecimal value, BigDecimal other, MathContext context) {
+        int precision = context.getPrecision();
+
+        if(precision == 0 || value.signum() == 0 || other.signum() == 0 || other.precision() > precision) {
+            return false;
+        }
+
+        switch(context.getRoundingMode()) {
+            case HALF_UP:
+            case HALF_DOWN:
+            case HALF_EVEN:
+                break;
+            default:
+                return false;
+        }
+
+        return magnitude(other) - magnitude(value) > precision + 1;
+    }
+
+    private static long magnitude(BigDecimal value) {
+        return (long) value.precision() - value.scale();
+    }
+
+    private static MathContext adapt(MathContext context, BigDecimal value, BigDecimal other) {
+        int guardDigits = getAdaptiveDigits();
+
+        if(guardDigits < 0) {
+            return context;
+        }
+
+        return adapt(context, Math.max(value.precision(), other.precision()), guardDigits);
+    }
+
+    private static MathContext adapt(MathContext context, BigDecimal value, BigDecimal other, BigDecimal third) {
+        int guardDigits = getAdaptiveDigits();
+
+        if(guardDigits < 0) {
+            return context;
+        }
+
+        return adapt(context, Math.max(Math.max(value.precision(), other.precision()), third.precision()), guardDigits);
+    }
+
+    private static MathContext adapt(MathContext context, int precision, int guardDigits) {
+        long digits = (long) precision + guardDigits;
+
+        if(digits > Integer.MAX_VALUE || (context.getPrecision() != 0 && digits >= context.getPrecision())) {
+            return context;
+        }
+
+        return new MathContext((int) digits, context.getRoundingMode());
+    }
+
+    private static BigDecimal calculatePow(BigDecimal base, BigDecimal exponent, MathContext context) {
+        OperationCache cache = CACHE;
+
+        if(cache != null) {
+            return cache.pow(base, exponent, context);
+        }
+
+        return BigDecimalMath.pow(base, exponent, context);
+    }
+
+    private static BigDecimal calculateExp(BigDecimal value, MathContext context) {
+        OperationCache cache = CACHE;
+
+        if(cache != null) {
+            return cache.exp(value, context);
+        }
+
+        return BigDecimalMath.exp(value, context);
+    }
+
+    private static BigDecimal calculateRoot(BigDecimal value, BigDecimal base, MathContext context) {
+        OperationCache cache = CACHE;
+
+        if(cache != null) {
+            return cache.root(value, base, context);
+        }
+
+        return BigDecimalMath.root(value, base, context);
+    }
+
+    private static BigDecimal calculateLog(BigDecimal value, MathContext context) {
+        OperationCache cache = CACHE;
+
+        if(cache != null) {
+            return cache.log(value, context);
+        }
+
+        return BigDecimalMath.log(value, context);
+    }
+
+    private static BigDecimal calculateLog2(BigDecimal value, MathContext context) {
+        OperationCache cache = CACHE;
+
+        if(cache != null) {
+            return cache.log2(value, context);
+        }
+
+        return BigDecimalMath.log2(value, context);
+    }
+
+    private static BigDecimal calculateLog10(BigDecimal value, MathContext context) {
+        OperationCache cache = CACHE;
+
+        if(cache != null) {
+            return cache.log10(value, context);
+        }
+
+        return BigDecimalMath.log10(value, context);
+    }
+
+    /**
+     * Raises a {@link Numeral} to the power of a non-negative Numeral. If both are integers and the exponent fits in
+     * an {@code int}, the power is calculated exactly, unlike {@link #power(int, int)} and {@link #power(long, long)}
+     * which go through {@code double}.
+     */
+    static Numeral exactPower(Numeral base, Numeral exponent) {
+        if(base.getType().isInteger() && exponent.getType().isInteger() && !isOutOfIntRange(exponent)) {
+            return of(base.bigIntValue().pow(exponent.intValue())).toSmallestType();
+        }
+
+        return power(base, exponent);
+    }
+
+    /**
+     * Returns {@code ln(1 + numeral)} as a {@code double}, accurate also when the Numeral is close to zero or too large
+     * to be represented as a {@code double}.
+     */
+    private static double logOnePlus(Numeral numeral) {
+        if(numeral.canConvert(NumeralType.DOUBLE)) {
+            return Math.log1p(numeral.doubleValue());
+        }
+
+        return Conversion.toHuge(add(numeral, of(1))).log();
+    }
+
+    private static Fixed powerExact(Fixed base, int exponent) {
+        Fixed result = Fixed.ONE;
+        Fixed square = base;
+        long remaining = Math.abs((long) exponent);
+
+        while(remaining != 0) {
+            if((remaining & 1) != 0) {
+                result = result.multiply(square);
+            }
+
+            remaining >>= 1;
+
+            if(remaining != 0) {
+                square = square.multiply(square);
+            }
+        }
+
+        if(exponent < 0) {
+            return Fixed.ONE.divide(result);
+        }
+
+        return result;
     }
 }
@@ -0,0 +1,214 @@
+package me.datafox.dfxengine.math.utils;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * A table of powers of a fixed {@link Numeral} base, for formulas like {@code base^level} that are evaluated with the
+ * same base over and over again. Powers with integer exponents are calculated once and stored, so repeated lookups
+ * are constant time. The table is extended incrementally when a larger exponent is requested, up to a maximum
+ * exponent, beyond which {@link Operations#power(Numeral, Numeral)} is used directly.
+ * </p>
+ * <p>
+ * Each power is the product of two smaller powers that are already in the table, calculated with
+ * {@link Operations#multiply(Numeral, Numeral)}. Types are promoted just like in {@link Operations}, so the powers of
+ * an integer base are exact even when they exceed the range of a {@code long}. The powers of a decimal base are
+ * rounded by every multiplication. Negative exponents are calculated with {@link Operations#inverse(Numeral)} and
+ * stored separately.
+ * </p>
+ * <p>
+ * Powers beyond the maximum exponent are calculated with {@link Operations#power(Numeral, Numeral)}, which uses a
+ * different algorithm. For a decimal base, the powers on either side of the maximum exponent may therefore be rounded
+ * differently, so {@code get(maxExponent + 1)} is not necessarily equal to {@code get(maxExponent)} multiplied by the
+ * base.
+ * </p>
+ * <p>
+ * Fractional exponents can be looked up with {@link #get(Numeral)}, which multiplies the power of the integer part
+ * with the power of the fractional part, or approximated with {@link #interpolate(Numeral)}, which linearly
+ * interpolates between the two nearest integer powers. This class is thread-safe.
+ * </p>
+ *
+ * @author datafox
+ */
+public class PowerTable {
+    private static final Logger logger = LoggerFactory.getLogger(PowerTable.class);
+
+    /**
+     * Default maximum exponent of a table.
+     */
+    public static final int DEFAULT_MAX_EXPONENT = 4096;
+
+    private final Numeral base;
+
+    private final int maxExponent;
+
+    private final List<Numeral> powers;
+
+    private final List<Numeral> inversePowers;
+
+    /**
+     * @param base base of this table
+     * @param maxExponent largest absolute value of an exponent that is stored in this table
+     *
+     * @throws IllegalArgumentException if the maximum exponent is negative
+     */
+    public PowerTable(Numeral base, int maxExponent) {
+        if(maxExponent < 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.invalidPowerTableSize(maxExponent),
+                    IllegalArgumentException::new);
+        }
+
+        this.base = base;
+        this.maxExponent = maxExponent;
+        powers = new ArrayList<>();
+        inversePowers = new ArrayList<>();
+        powers.add(Numerals.of(1));
+        powers.add(base);
+        inversePowers.add(Numerals.of(1));
+    }
+
+    /**
+     * Creates a table with the {@link #DEFAULT_MAX_EXPONENT default maximum exponent}.
+     *
+     * @param base base of this table
+     */
+    public PowerTable(Numeral base) {
+        this(base, DEFAULT_MAX_EXPONENT);
+    }
+
+    /**
+     * @return base of this table
+     */
+    public Numeral getBase() {
+        return base;
+    }
+
+    /**
+     * @return largest absolute value of an exponent that is stored in this table
+     */
+    public int getMaxExponent() {
+        return maxExponent;
+    }
+
+    /**
+     * @return number of non-negative powers currently stored in this table, including {@code base^0} and
+     * {@code base^1}
+     */
+    public synchronized int size() {
+        return powers.size();
+    }
+
+    /**
+     * Returns the base of this table raised to the power of the specified exponent. If the absolute value of the
+     * exponent is not greater than the {@link #getMaxExponent() maximum exponent}, the result is stored in and
+     * retrieved from this table, and the table is extended if necessary.
+     *
+     * @param exponent exponent
+     * @return {@code base^exponent}
+     *
+     * @throws ArithmeticException if the base is zero and the exponent is negative
+     */
+    public synchronized Numeral get(int exponent) {
+        if(Math.abs((long) exponent) > maxExponent) {
+            return Operations.power(base, Numerals.of(exponent));
+        }
+
+        if(exponent < 0) {
+            return getInverse(-exponent);
+        }
+
+        for(int i = powers.size(); i <= exponent; i++) {
+            int half = i >> 1;
+            powers.add(Operations.multiply(powers.get(half), powers.get(i - half)));
+        }
+
+        return powers.get(exponent);
+    }
+
+    /**
+     * Returns the base of this table raised to the power of the specified exponent. Integer exponents within the range
+     * of an {@code int} are looked up with {@link #get(int)}. For fractional exponents, the power of the integer part
+     * of the exponent is looked up and multiplied with the power of the fractional part, which is calculated with
+     * {@link Operations#power(Numeral, Numeral)}. A fractional exponent is converted to a {@code double} first, so
+     * the result is at most as precise as a {@code double}, even for a {@link java.math.BigDecimal} exponent.
+     * Exponents outside the range of an {@code int} are calculated with {@link Operations#power(Numeral, Numeral)}.
+     *
+     * @param exponent exponent
+     * @return {@code base^exponent}
+     *
+     * @throws ArithmeticException if the base is zero and the exponent is negative
+     */
+    public Numeral get(Numeral exponent) {
+        if(exponent.getType().isInteger()) {
+            if(!exponent.canConvert(NumeralType.INT)) {
+                return Operations.power(base, exponent);
+            }
+
+            return get(exponent.intValue());
+        }
+
+        if(!exponent.canConvert(NumeralType.DOUBLE)) {
+            return Operations.power(base, exponent);
+        }
+
+        double value = exponent.doubleValue();
+        double floor = Math.floor(value);
+
+        if(Range.isOutOfIntRange(floor)) {
+            return Operations.power(base, exponent);
+        }
+
+        Numeral power = get((int) floor);
+
+        if(floor == value) {
+            return power;
+        }
+
+        return Operations.multiply(power, Operations.power(base, Numerals.of(value - floor)));
+    }
+
+    /**
+     * Returns an approximation of the base of this table raised to the power of the specified exponent by linearly
+     * interpolating between the powers of the two nearest integer exponents. For integer exponents the result is
+     * exact. For fractional exponents the approximation is always between the two powers, but is generally not
+     * equal to {@link #get(Numeral)}.
+     *
+     * @param exponent exponent
+     * @return approximation of {@code base^exponent}
+     *
+     * @throws ArithmeticException if the base is zero and the exponent is negative
+     */
+    public Numeral interpolate(Numeral exponent) {
+        if(exponent.getType().isInteger() || !exponent.canConvert(NumeralType.DOUBLE)) {
+            return get(exponent);
+        }
+
+        double value = exponent.doubleValue();
+        double floor = Math.floor(value);
+
+        if(floor == value || Range.isOutOfIntRange(floor + 1)) {
+            return get(exponent);
+        }
+
+        int integer = (int) floor;
+
+        return Operations.lerp(Numerals.of(value - floor), get(integer), get(integer + 1));
+    }
+
+    private Numeral getInverse(int exponent) {
+        for(int i = inversePowers.size(); i <= exponent; i++) {
+            inversePowers.add(Operations.inverse(get(i)));
+        }
+
+        return inversePowers.get(exponent);
+    }
+}
@@ -0,0 +1,198 @@
+package me.datafox.dfxengine.math.utils;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+
+/**
+ * <p>
+ * A sticky type promotion hint for repeated {@link Operations} on values that are close to the bounds of their type.
+ * Without a hint, an {@code int} addition that overflows is retried as a {@code long} addition, and a {@code long}
+ * multiplication that overflows is checked and then carried out again with {@link BigInteger BigIntegers}. In a loop
+ * where a value sits right at such a bound, this happens on every iteration.
+ * </p>
+ * <p>
+ * A hint remembers the widest type that the results of its operations have been promoted to and passes it to
+ * {@link Operations#addWithFloor(Numeral, Numeral, NumeralType)},
+ * {@link Operations#subtractWithFloor(Numeral, Numeral, NumeralType)} and
+ * {@link Operations#multiplyWithFloor(Numeral, Numeral, NumeralType)} as the floor type. Once an operation has
+ * overflowed, later operations go straight to the wider type. Integer and decimal types are tracked separately, so
+ * an overflowing {@code double} operation never turns later integer operations into decimal ones and vice versa. The
+ * floor types never decrease on their own. Use {@link #reset()} to start over, for example after the values have been
+ * demoted with {@link Conversion#toSmallestType(Numeral)}.
+ * </p>
+ * <p>
+ * A hint is meant to be held by a single computation site, like the update step of a growing value. This class is not
+ * thread-safe.
+ * </p>
+ *
+ * @author datafox
+ */
+public class PromotionHint {
+    private static final Logger logger = LoggerFactory.getLogger(PromotionHint.class);
+
+    private NumeralType integerFloor;
+
+    private NumeralType decimalFloor;
+
+    /**
+     * Creates a new hint with the floor types {@link NumeralType#INT} and {@link NumeralType#FIXED}, which do not
+     * affect any operations.
+     */
+    public PromotionHint() {
+        reset();
+    }
+
+    /**
+     * @param floor initial floor type for integer or decimal operations, depending on the type
+     *
+     * @throws NullPointerException if the type is {@code null}
+     */
+    public PromotionHint(NumeralType floor) {
+        this();
+        raise(floor);
+    }
+
+    /**
+     * @return floor type for operations where the most significant operand type is an integer type
+     */
+    public NumeralType getIntegerFloor() {
+        return integerFloor;
+    }
+
+    /**
+     * @return floor type for operations where the most significant operand type is a decimal type
+     */
+    public NumeralType getDecimalFloor() {
+        return decimalFloor;
+    }
+
+    /**
+     * Raises the integer or decimal floor type, depending on the specified type, to the specified type if it is more
+     * significant than the current floor type.
+     *
+     * @param type type to raise the floor type to
+     * @return this hint
+     *
+     * @throws NullPointerException if the type is {@code null}
+     */
+    public PromotionHint raise(NumeralType type) {
+        checkType(type);
+
+        if(type.isInteger()) {
+            integerFloor = Numerals.getSignificantType(integerFloor, type);
+        } else {
+            decimalFloor = Numerals.getSignificantType(decimalFloor, type);
+        }
+
+        return this;
+    }
+
+    /**
+     * Resets the floor types to {@link NumeralType#INT} and {@link NumeralType#FIXED}, which do not affect any
+     * operations.
+     */
+    public void reset() {
+        integerFloor = NumeralType.INT;
+        decimalFloor = NumeralType.FIXED;
+    }
+
+    /**
+     * Adds two {@link Numeral Numerals} together with
+     * {@link Operations#addWithFloor(Numeral, Numeral, NumeralType)}, using the floor type of this hint. If the result
+     * is of a wider type than the operation was carried out in, the floor type is raised to the type of the result.
+     *
+     * @param augend {@link Numeral} to be added
+     * @param addend {@link Numeral} to be added
+     * @return result of the addition
+     *
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public Numeral add(Numeral augend, Numeral addend) {
+        NumeralType type = getType(augend, addend);
+        return promote(Operations.addWithFloor(augend, addend, type), type);
+    }
+
+    /**
+     * Subtracts a {@link Numeral} from another Numeral with
+     * {@link Operations#subtractWithFloor(Numeral, Numeral, NumeralType)}, using the floor type of this hint. If the
+     * result is of a wider type than the operation was carried out in, the floor type is raised to the type of the
+     * result.
+     *
+     * @param minuend {@link Numeral} to be subtracted from
+     * @param subtrahend {@link Numeral} to be subtracted
+     * @return result of the subtraction
+     *
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public Numeral subtract(Numeral minuend, Numeral subtrahend) {
+        NumeralType type = getType(minuend, subtrahend);
+        return promote(Operations.subtractWithFloor(minuend, subtrahend, type), type);
+    }
+
+    /**
+     * Multiplies two {@link Numeral Numerals} together with
+     * {@link Operations#multiplyWithFloor(Numeral, Numeral, NumeralType)}, using the floor type of this hint. If the
+     * result is of a wider type than the operation was carried out in, the floor type is raised to the type of the
+     * result.
+     *
+     * @param multiplicand {@link Numeral} to be multiplied
+     * @param multiplier {@link Numeral} to be multiplied
+     * @return result of the multiplication
+     *
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     * @throws IllegalArgumentException if any of the {@link Numeral Numerals} do not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public Numeral multiply(Numeral multiplicand, Numeral multiplier) {
+        NumeralType type = getType(multiplicand, multiplier);
+        return promote(Operations.multiplyWithFloor(multiplicand, multiplier, type), type);
+    }
+
+    /**
+     * @return {@link String} representation of this hint in format <i>PromotionHint(integer floor, decimal floor)</i>
+     */
+    @Override
+    public String toString() {
+        return String.format("PromotionHint(%s, %s)", integerFloor, decimalFloor);
+    }
+
+    private NumeralType getType(Numeral numeral, Numeral other) {
+        NumeralType type = Numerals.getSignificantType(numeral.getType(), other.getType());
+
+        return Numerals.getSignificantType(type, type.isInteger() ? integerFloor : decimalFloor);
+    }
+
+    private Numeral promote(Numeral result, NumeralType type) {
+        if(result.getType().getSignificance() > type.getSignificance()) {
+            raise(result.getType());
+        }
+
+        return result;
+    }
+
+    private NumeralType checkType(NumeralType type) {
+        if(type == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        return type;
+    }
+}
@@ -2,6 +2,9 @@ package me.datafox.dfxengine.math.utils;
 
 import me.datafox.dfxengine.math.api.Numeral;
 import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.numeral.DoubleDouble;
+import me.datafox.dfxengine.math.numeral.Fixed;
+import me.datafox.dfxengine.math.numeral.Huge;
 import me.datafox.dfxengine.math.utils.internal.MathStrings;
 import me.datafox.dfxengine.utils.LogUtils;
 import org.slf4j.Logger;
@@ -98,6 +101,48 @@ public class Range {
      */
     public static final BigInteger INT_MAX_DOUBLE = DEC_MAX_DOUBLE.toBigInteger();
 
+    /**
+     * Largest base 10 exponent of a {@link Huge} that can be represented as a {@link BigInteger}.
+     */
+    public static final long HUGE_MAX_BIG_INT_EXPONENT = 646456992L;
+
+    /**
+     * Largest base 10 exponent of a {@link Huge} that can be represented as a {@link BigDecimal}.
+     */
+    public static final long HUGE_MAX_BIG_DEC_EXPONENT = Integer.MAX_VALUE;
+
+    /**
+     * Number of integer digits in {@link Integer#MAX_VALUE}. Values with fewer integer digits are always in range and
+     * values with more are never in range.
+     */
+    private static final int INT_DIGITS = 10;
+
+    /**
+     * Number of integer digits in {@link Long#MAX_VALUE}.
+     */
+    private static final int LONG_DIGITS = 19;
+
+    /**
+     * Number of integer digits in {@link Float#MAX_VALUE}.
+     */
+    private static final int FLOAT_DIGITS = 39;
+
+    /**
+     * Number of integer digits in {@link Double#MAX_VALUE}.
+     */
+    private static final int DOUBLE_DIGITS = 309;
+
+    /**
+     * {@link BigInteger#bitLength() Bit length} of the integer part of {@link Float#MAX_VALUE}. Integers with fewer
+     * bits are always in range and integers with more are never in range.
+     */
+    private static final int FLOAT_BITS = 128;
+
+    /**
+     * {@link BigInteger#bitLength() Bit length} of the integer part of {@link Double#MAX_VALUE}.
+     */
+    private static final int DOUBLE_BITS = 1024;
+
     /**
      * @param numeral {@link Numeral} to be checked
      * @param type type to be checked
@@ -124,9 +169,15 @@ public class Range {
             case FLOAT:
                 return isOutOfFloatRange(numeral);
             case DOUBLE:
+            case DOUBLE_DOUBLE:
                 return isOutOfDoubleRange(numeral);
             case BIG_INT:
+                return isOutOfBigIntRange(numeral);
+            case FIXED:
+                return isOutOfFixedRange(numeral);
             case BIG_DEC:
+                return isOutOfBigDecRange(numeral);
+            case HUGE:
                 return false;
         }
 
@@ -159,12 +210,18 @@ public class Range {
                 return isOutOfIntRange(numeral.longValue());
             case BIG_INT:
                 return isOutOfIntRange(numeral.bigIntValue());
+            case FIXED:
+                return isOutOfIntRange(Conversion.toFixed(numeral).longValue());
             case FLOAT:
                 return isOutOfIntRange(numeral.floatValue());
             case DOUBLE:
                 return isOutOfIntRange(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return isOutOfIntRange(Conversion.toDoubleDouble(numeral));
             case BIG_DEC:
                 return isOutOfIntRange(numeral.bigDecValue());
+            case HUGE:
+                return isOutOfIntRange(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -192,6 +249,7 @@ public class Range {
         switch(numeral.getType()) {
             case INT:
             case LONG:
+            case FIXED:
                 return false;
             case BIG_INT:
                 return isOutOfLongRange(numeral.bigIntValue());
@@ -199,8 +257,12 @@ public class Range {
                 return isOutOfLongRange(numeral.floatValue());
             case DOUBLE:
                 return isOutOfLongRange(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return isOutOfLongRange(Conversion.toDoubleDouble(numeral));
             case BIG_DEC:
                 return isOutOfLongRange(numeral.bigDecValue());
+            case HUGE:
+                return isOutOfLongRange(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -228,14 +290,19 @@ public class Range {
         switch(numeral.getType()) {
             case INT:
             case LONG:
+            case FIXED:
             case FLOAT:
                 return false;
             case BIG_INT:
                 return isOutOfFloatRange(numeral.bigIntValue());
             case DOUBLE:
                 return isOutOfFloatRange(numeral.doubleValue());
+            case DOUBLE_DOUBLE:
+                return isOutOfFloatRange(Conversion.toDoubleDouble(numeral));
             case BIG_DEC:
                 return isOutOfFloatRange(numeral.bigDecValue());
+            case HUGE:
+                return isOutOfFloatRange(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -263,13 +330,17 @@ public class Range {
         switch(numeral.getType()) {
             case INT:
             case LONG:
+            case FIXED:
             case FLOAT:
             case DOUBLE:
+            case DOUBLE_DOUBLE:
                 return false;
             case BIG_INT:
                 return isOutOfDoubleRange(numeral.bigIntValue());
             case BIG_DEC:
                 return isOutOfDoubleRange(numeral.bigDecValue());
+            case HUGE:
+                return isOutOfDoubleRange(Conversion.toHuge(numeral));
         }
 
         throw LogUtils.logExceptionAndGet(logger,
@@ -277,6 +348,63 @@ public class Range {
                 IllegalArgumentException::new);
     }
 
+    /**
+     * @param numeral {@link Numeral} to be checked
+     * @return {@code true} if the specified {@link Numeral} is smaller than {@link Long#MIN_VALUE} or greater than
+     * {@link Long#MAX_VALUE}. A {@link Fixed} can hold any value in this range, and fractional digits that do not fit
+     * are rounded when converting
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     * @throws IllegalArgumentException if the {@link Numeral} does not return {@code null} for
+     * {@link Numeral#getType()}, but the value is not recognised as any of the elements of {@link NumeralType}. This
+     * should never happen
+     */
+    public static boolean isOutOfFixedRange(Numeral numeral) {
+        return isOutOfLongRange(numeral);
+    }
+
+    /**
+     * @param numeral {@link Numeral} to be checked
+     * @return {@code true} if the specified {@link Numeral} is too large to be represented as a {@link BigInteger}.
+     * Only {@link NumeralType#HUGE} can hold such values
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     */
+    public static boolean isOutOfBigIntRange(Numeral numeral) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        if(numeral.getType() == NumeralType.HUGE) {
+            return isOutOfBigIntRange(Conversion.toHuge(numeral));
+        }
+
+        return false;
+    }
+
+    /**
+     * @param numeral {@link Numeral} to be checked
+     * @return {@code true} if the specified {@link Numeral} is too large to be represented as a {@link BigDecimal}.
+     * Only {@link NumeralType#HUGE} can hold such values
+     *
+     * @throws NullPointerException if the {@link Numeral} returns {@code null} for {@link Numeral#getType()}
+     */
+    public static boolean isOutOfBigDecRange(Numeral numeral) {
+        if(numeral.getType() == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.NULL_NUMBER_TYPE,
+                    NullPointerException::new);
+        }
+
+        if(numeral.getType() == NumeralType.HUGE) {
+            return isOutOfBigDecRange(Conversion.toHuge(numeral));
+        }
+
+        return false;
+    }
+
     /**
      * @param l {@code long} to be checked
      * @return {@code true} if the {@code long} is smaller than {@link Integer#MIN_VALUE} or greater than
@@ -292,7 +420,7 @@ public class Range {
      * {@link Integer#MAX_VALUE}
      */
     public static boolean isOutOfIntRange(BigInteger bi) {
-        return bi.compareTo(BigInteger.valueOf(bi.intValue())) != 0;
+        return bi.bitLength() >= Integer.SIZE;
     }
 
     /**
@@ -319,6 +447,12 @@ public class Range {
      * {@link Integer#MAX_VALUE}
      */
     public static boolean isOutOfIntRange(BigDecimal bd) {
+        long digits = integerDigits(bd);
+
+        if(digits != INT_DIGITS) {
+            return digits > INT_DIGITS;
+        }
+
         return bd.compareTo(DEC_MAX_INT) > 0 || bd.compareTo(DEC_MIN_INT) < 0;
     }
 
@@ -328,7 +462,7 @@ public class Range {
      * {@link Long#MAX_VALUE}
      */
     public static boolean isOutOfLongRange(BigInteger bi) {
-        return bi.compareTo(BigInteger.valueOf(bi.longValue())) != 0;
+        return bi.bitLength() >= Long.SIZE;
     }
 
     /**
@@ -355,6 +489,12 @@ public class Range {
      * {@link Long#MAX_VALUE}
      */
     public static boolean isOutOfLongRange(BigDecimal bd) {
+        long digits = integerDigits(bd);
+
+        if(digits != LONG_DIGITS) {
+            return digits > LONG_DIGITS;
+        }
+
         return bd.compareTo(DEC_MAX_LONG) > 0 || bd.compareTo(DEC_MIN_LONG) < 0;
     }
 
@@ -364,6 +504,12 @@ public class Range {
      * greater than {@link Float#MAX_VALUE}
      */
     public static boolean isOutOfFloatRange(BigInteger bi) {
+        int bits = bi.bitLength();
+
+        if(bits != FLOAT_BITS) {
+            return bits > FLOAT_BITS;
+        }
+
         return bi.compareTo(INT_MAX_FLOAT) > 0 || bi.compareTo(INT_MIN_FLOAT) < 0;
     }
 
@@ -382,6 +528,12 @@ public class Range {
      * greater than {@link Float#MAX_VALUE}
      */
     public static boolean isOutOfFloatRange(BigDecimal bd) {
+        long digits = integerDigits(bd);
+
+        if(digits != FLOAT_DIGITS) {
+            return digits > FLOAT_DIGITS;
+        }
+
         return bd.compareTo(DEC_MAX_FLOAT) > 0 || bd.compareTo(DEC_MIN_FLOAT) < 0;
     }
 
@@ -391,6 +543,12 @@ public class Range {
      * greater than {@link Double#MAX_VALUE}
      */
     public static boolean isOutOfDoubleRange(BigInteger bi) {
+        int bits = bi.bitLength();
+
+        if(bits != DOUBLE_BITS) {
+            return bits > DOUBLE_BITS;
+        }
+
         return bi.compareTo(INT_MAX_DOUBLE) > 0 || bi.compareTo(INT_MIN_DOUBLE) < 0;
     }
 
@@ -400,6 +558,107 @@ public class Range {
      * greater than {@link Double#MAX_VALUE}
      */
     public static boolean isOutOfDoubleRange(BigDecimal bd) {
+        long digits = integerDigits(bd);
+
+        if(digits != DOUBLE_DIGITS) {
+            return digits > DOUBLE_DIGITS;
+        }
+
         return bd.compareTo(DEC_MAX_DOUBLE) > 0 || bd.compareTo(DEC_MIN_DOUBLE) < 0;
     }
+
+    /**
+     * @param dd {@link DoubleDouble} to be checked
+     * @return {@code true} if the {@link DoubleDouble} is smaller than {@link Integer#MIN_VALUE} or greater than
+     * {@link Integer#MAX_VALUE}
+     */
+    public static boolean isOutOfIntRange(DoubleDouble dd) {
+        return isOutOfIntRange(dd.getHigh());
+    }
+
+    /**
+     * @param dd {@link DoubleDouble} to be checked
+     * @return {@code true} if the {@link DoubleDouble} is smaller than {@link Long#MIN_VALUE} or greater than
+     * {@link Long#MAX_VALUE}
+     */
+    public static boolean isOutOfLongRange(DoubleDouble dd) {
+        if(dd.getHigh() == 0x1p63) {
+            return dd.getLow() >= 0;
+        }
+
+        if(dd.getHigh() == -0x1p63) {
+            return dd.getLow() <= -1;
+        }
+
+        return isOutOfLongRange(dd.getHigh());
+    }
+
+    /**
+     * @param dd {@link DoubleDouble} to be checked
+     * @return {@code true} if the {@link DoubleDouble} is smaller than {@link Float#MAX_VALUE -Float.MAX_VALUE} or
+     * greater than {@link Float#MAX_VALUE}
+     */
+    public static boolean isOutOfFloatRange(DoubleDouble dd) {
+        return isOutOfFloatRange(dd.getHigh());
+    }
+
+    /**
+     * @param h {@link Huge} to be checked
+     * @return {@code true} if the {@link Huge} is smaller than {@link Integer#MIN_VALUE} or greater than
+     * {@link Integer#MAX_VALUE}
+     */
+    public static boolean isOutOfIntRange(Huge h) {
+        return h.getExponent() > 9 || isOutOfIntRange(h.doubleValue());
+    }
+
+    /**
+     * @param h {@link Huge} to be checked
+     * @return {@code true} if the {@link Huge} is smaller than {@link Long#MIN_VALUE} or greater than
+     * {@link Long#MAX_VALUE}
+     */
+    public static boolean isOutOfLongRange(Huge h) {
+        return h.getExponent() > 18 || isOutOfLongRange(h.doubleValue());
+    }
+
+    /**
+     * @param h {@link Huge} to be checked
+     * @return {@code true} if the {@link Huge} is smaller than {@link Float#MAX_VALUE -Float.MAX_VALUE} or greater
+     * than {@link Float#MAX_VALUE}
+     */
+    public static boolean isOutOfFloatRange(Huge h) {
+        return h.getExponent() > 38 || isOutOfFloatRange(h.doubleValue());
+    }
+
+    /**
+     * @param h {@link Huge} to be checked
+     * @return {@code true} if the {@link Huge} is smaller than {@link Double#MAX_VALUE -Double.MAX_VALUE} or greater
+     * than {@link Double#MAX_VALUE}
+     */
+    public static boolean isOutOfDoubleRange(Huge h) {
+        return h.getExponent() > 308 || Double.isInfinite(h.doubleValue());
+    }
+
+    /**
+     * @param h {@link Huge} to be checked
+     * @return {@code true} if the {@link Huge} has an exponent greater than {@link #HUGE_MAX_BIG_INT_EXPONENT}
+     */
+    public static boolean isOutOfBigIntRange(Huge h) {
+        return h.getExponent() > HUGE_MAX_BIG_INT_EXPONENT;
+    }
+
+    /**
+     * @param h {@link Huge} to be checked
+     * @return {@code true} if the {@link Huge} has an exponent greater than {@link #HUGE_MAX_BIG_DEC_EXPONENT}
+     */
+    public static boolean isOutOfBigDecRange(Huge h) {
+        return h.getExponent() > HUGE_MAX_BIG_DEC_EXPONENT;
+    }
+
+    private static long integerDigits(BigDecimal bd) {
+        if(bd.signum() == 0) {
+            return 0;
+        }
+
+        return (long) bd.precision() - bd.scale();
+    }
 }
@@ -0,0 +1,447 @@
+package me.datafox.dfxengine.math.utils;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.internal.MathStrings;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+import static me.datafox.dfxengine.math.utils.Numerals.getSignificantType;
+import static me.datafox.dfxengine.math.utils.Numerals.of;
+
+/**
+ * <p>
+ * Reductions of many {@link Numeral Numerals} into one, namely sum, product, minimum, maximum and mean. The type of
+ * the result is resolved from all Numerals with {@link Numerals#getSignificantType(NumeralType, NumeralType)} and
+ * promoted on overflow like in {@link Operations}.
+ * </p>
+ * <p>
+ * Integer sums are exact, and are accumulated in a {@code long} that is only flushed to a {@link BigInteger} when it
+ * would overflow. {@code float} and {@code double} sums are accumulated with Neumaier's variant of Kahan summation,
+ * which keeps track of the rounding error of every addition, so the result does not depend on the order or the
+ * magnitude of the elements like a plain loop over {@link Operations#add(Numeral, Numeral)} does. If a
+ * {@code double} sum overflows, it is calculated again with {@link BigDecimal}.
+ * </p>
+ * <p>
+ * Inputs with at least {@link #PARALLEL_THRESHOLD} elements are split in halves recursively and reduced in the common
+ * {@link ForkJoinPool}. The split points only depend on the number of elements, so the result is the same regardless
+ * of the number of threads. The {@link MathContext} of the calling thread, as returned by
+ * {@link Operations#getContext()}, is used by all threads.
+ * </p>
+ *
+ * @author datafox
+ */
+public class Reductions {
+    private static final Logger logger = LoggerFactory.getLogger(Reductions.class);
+
+    /**
+     * Minimum number of elements for a reduction to be split and performed in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    /**
+     * Calculates the sum of {@link Numeral Numerals}. Returns an {@code int} zero if there are no Numerals.
+     *
+     * @param numerals {@link Numeral Numerals} to be summed
+     * @return sum of the {@link Numeral Numerals}
+     *
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral sum(Numeral ... numerals) {
+        if(numerals.length == 0) {
+            return of(0);
+        }
+
+        NumeralType type = getType(numerals);
+
+        switch(type) {
+            case INT:
+            case LONG:
+            case BIG_INT:
+                return atLeast(reduce(numerals, Reductions::sumIntegers, Operations::add), type);
+            case FLOAT:
+            case DOUBLE:
+                return sumDecimals(numerals, type);
+            default:
+                return reduce(numerals, (array, from, to) -> fold(array, from, to, Operations::add), Operations::add);
+        }
+    }
+
+    /**
+     * Calculates the sum of {@link Numeral Numerals}. Returns an {@code int} zero if there are no Numerals.
+     *
+     * @param numerals {@link Numeral Numerals} to be summed
+     * @return sum of the {@link Numeral Numerals}
+     *
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral sum(Collection<? extends Numeral> numerals) {
+        return sum(numerals.toArray(new Numeral[0]));
+    }
+
+    /**
+     * Calculates the product of {@link Numeral Numerals}. Returns an {@code int} one if there are no Numerals.
+     *
+     * @param numerals {@link Numeral Numerals} to be multiplied
+     * @return product of the {@link Numeral Numerals}
+     *
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral product(Numeral ... numerals) {
+        if(numerals.length == 0) {
+            return of(1);
+        }
+
+        NumeralType type = getType(numerals);
+
+        if(type == NumeralType.DOUBLE) {
+            return reduce(numerals, Reductions::multiplyDoubles, Operations::multiply);
+        }
+
+        Numeral product = reduce(numerals, (array, from, to) -> fold(array, from, to, Operations::multiply),
+                Operations::multiply);
+
+        if(type.isInteger()) {
+            return atLeast(product, type);
+        }
+
+        return product;
+    }
+
+    /**
+     * Calculates the product of {@link Numeral Numerals}. Returns an {@code int} one if there are no Numerals.
+     *
+     * @param numerals {@link Numeral Numerals} to be multiplied
+     * @return product of the {@link Numeral Numerals}
+     *
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral product(Collection<? extends Numeral> numerals) {
+        return product(numerals.toArray(new Numeral[0]));
+    }
+
+    /**
+     * Returns the minimum of {@link Numeral Numerals}, compared with {@link Numerals#compare(Numeral, Numeral)}. If
+     * multiple Numerals represent the minimum number, the first one is returned.
+     *
+     * @param numerals {@link Numeral Numerals} to compare
+     * @return the smallest of the {@link Numeral Numerals}
+     *
+     * @throws NoSuchElementException if there are no {@link Numeral Numerals}
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral min(Numeral ... numerals) {
+        checkEmpty(numerals, "minimum");
+        return reduce(numerals, (array, from, to) -> fold(array, from, to, Operations::min), Operations::min);
+    }
+
+    /**
+     * Returns the minimum of {@link Numeral Numerals}, compared with {@link Numerals#compare(Numeral, Numeral)}. If
+     * multiple Numerals represent the minimum number, the first one is returned.
+     *
+     * @param numerals {@link Numeral Numerals} to compare
+     * @return the smallest of the {@link Numeral Numerals}
+     *
+     * @throws NoSuchElementException if there are no {@link Numeral Numerals}
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral min(Collection<? extends Numeral> numerals) {
+        return min(numerals.toArray(new Numeral[0]));
+    }
+
+    /**
+     * Returns the maximum of {@link Numeral Numerals}, compared with {@link Numerals#compare(Numeral, Numeral)}. If
+     * multiple Numerals represent the maximum number, the first one is returned.
+     *
+     * @param numerals {@link Numeral Numerals} to compare
+     * @return the greatest of the {@link Numeral Numerals}
+     *
+     * @throws NoSuchElementException if there are no {@link Numeral Numerals}
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral max(Numeral ... numerals) {
+        checkEmpty(numerals, "maximum");
+        return reduce(numerals, (array, from, to) -> fold(array, from, to, Operations::max), Operations::max);
+    }
+
+    /**
+     * Returns the maximum of {@link Numeral Numerals}, compared with {@link Numerals#compare(Numeral, Numeral)}. If
+     * multiple Numerals represent the maximum number, the first one is returned.
+     *
+     * @param numerals {@link Numeral Numerals} to compare
+     * @return the greatest of the {@link Numeral Numerals}
+     *
+     * @throws NoSuchElementException if there are no {@link Numeral Numerals}
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral max(Collection<? extends Numeral> numerals) {
+        return max(numerals.toArray(new Numeral[0]));
+    }
+
+    /**
+     * Calculates the arithmetic mean of {@link Numeral Numerals}. The sum is calculated with
+     * {@link #sum(Numeral...)}. Integer sums are converted to {@code double}, or to {@link BigDecimal} if the sum is
+     * a {@link BigInteger}, before dividing, so the mean of integers is not truncated.
+     *
+     * @param numerals {@link Numeral Numerals} to calculate the mean of
+     * @return arithmetic mean of the {@link Numeral Numerals}
+     *
+     * @throws NoSuchElementException if there are no {@link Numeral Numerals}
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral mean(Numeral ... numerals) {
+        checkEmpty(numerals, "mean");
+        Numeral sum = sum(numerals);
+
+        switch(sum.getType()) {
+            case INT:
+            case LONG:
+                sum = sum.convert(NumeralType.DOUBLE);
+                break;
+            case BIG_INT:
+                sum = sum.convert(NumeralType.BIG_DEC);
+                break;
+        }
+
+        return Operations.divide(sum, of(numerals.length));
+    }
+
+    /**
+     * Calculates the arithmetic mean of {@link Numeral Numerals}. The sum is calculated with
+     * {@link #sum(Numeral...)}. Integer sums are converted to {@code double}, or to {@link BigDecimal} if the sum is
+     * a {@link BigInteger}, before dividing, so the mean of integers is not truncated.
+     *
+     * @param numerals {@link Numeral Numerals} to calculate the mean of
+     * @return arithmetic mean of the {@link Numeral Numerals}
+     *
+     * @throws NoSuchElementException if there are no {@link Numeral Numerals}
+     * @throws NullPointerException if any of the {@link Numeral Numerals} return {@code null} for
+     * {@link Numeral#getType()}
+     */
+    public static Numeral mean(Collection<? extends Numeral> numerals) {
+        return mean(numerals.toArray(new Numeral[0]));
+    }
+
+    private static NumeralType getType(Numeral[] numerals) {
+        NumeralType type = numerals[0].getType();
+
+        for(int i = 1; i < numerals.length; i++) {
+            type = getSignificantType(type, numerals[i].getType());
+        }
+
+        return type;
+    }
+
+    private static void checkEmpty(Numeral[] numerals, String reduction) {
+        if(numerals.length == 0) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    MathStrings.emptyReduction(reduction),
+                    NoSuchElementException::new);
+        }
+    }
+
+    private static Numeral atLeast(Numeral numeral, NumeralType type) {
+        Numeral smallest = numeral.toSmallestType();
+
+        if(getSignificantType(smallest.getType(), type) == smallest.getType()) {
+            return smallest;
+        }
+
+        return smallest.convert(type);
+    }
+
+    private static <T> T reduce(Numeral[] numerals, Leaf<T> leaf, BinaryOperator<T> combiner) {
+        if(numerals.length < PARALLEL_THRESHOLD) {
+            return leaf.reduce(numerals, 0, numerals.length);
+        }
+
+        return ForkJoinPool.commonPool().invoke(new ReductionTask<>(numerals, 0, numerals.length,
+                leaf, combiner, Operations.getContext()));
+    }
+
+    private static Numeral fold(Numeral[] numerals, int from, int to, BinaryOperator<Numeral> operation) {
+        Numeral result = numerals[from];
+
+        for(int i = from + 1; i < to; i++) {
+            result = operation.apply(result, numerals[i]);
+        }
+
+        return result;
+    }
+
+    private static Numeral sumIntegers(Numeral[] numerals, int from, int to) {
+        long sum = 0;
+        BigInteger bigSum = BigInteger.ZERO;
+
+        for(int i = from; i < to; i++) {
+            Numeral numeral = numerals[i];
+
+            if(numeral.getType() == NumeralType.BIG_INT) {
+                bigSum = bigSum.add(numeral.bigIntValue());
+                continue;
+            }
+
+            long value = numeral.longValue();
+            long result = sum + value;
+
+            if(((sum ^ result) & (value ^ result)) < 0) {
+                bigSum = bigSum.add(BigInteger.valueOf(sum));
+                sum = value;
+            } else {
+                sum = result;
+            }
+        }
+
+        if(bigSum.signum() == 0) {
+            return of(sum);
+        }
+
+        return of(bigSum.add(BigInteger.valueOf(sum)));
+    }
+
+    private static Numeral sumDecimals(Numeral[] numerals, NumeralType type) {
+        CompensatedSum sum = reduce(numerals, (array, from, to) -> sumCompensated(array, from, to, type),
+                CompensatedSum::add);
+        double result = sum.value();
+
+        if(!Double.isFinite(result)) {
+            return reduce(numerals, Reductions::sumBigDecimals, Operations::add);
+        }
+
+        if(type == NumeralType.FLOAT && !Range.isOutOfFloatRange(result)) {
+            return of((float) result);
+        }
+
+        return of(result);
+    }
+
+    private static CompensatedSum sumCompensated(Numeral[] numerals, int from, int to, NumeralType type) {
+        CompensatedSum sum = new CompensatedSum();
+
+        if(type == NumeralType.FLOAT) {
+            for(int i = from; i < to; i++) {
+                sum.add(numerals[i].floatValue());
+            }
+        } else {
+            for(int i = from; i < to; i++) {
+                sum.add(numerals[i].doubleValue());
+            }
+        }
+
+        return sum;
+    }
+
+    private static Numeral sumBigDecimals(Numeral[] numerals, int from, int to) {
+        BigDecimal sum = BigDecimal.ZERO;
+
+        for(int i = from; i < to; i++) {
+            sum = sum.add(numerals[i].bigDecValue());
+        }
+
+        return of(sum.round(Operations.getContext()));
+    }
+
+    private static Numeral multiplyDoubles(Numeral[] numerals, int from, int to) {
+        double product = 1;
+
+        for(int i = from; i < to; i++) {
+            product *= numerals[i].doubleValue();
+        }
+
+        if(Double.isFinite(product)) {
+            return of(product);
+        }
+
+        return fold(numerals, from, to, Operations::multiply);
+    }
+
+    private interface Leaf<T> {
+        T reduce(Numeral[] numerals, int from, int to);
+    }
+
+    private static final class CompensatedSum {
+        private double sum;
+
+        private double compensation;
+
+        private void add(double value) {
+            double result = sum + value;
+
+            if(Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - result) + value;
+            } else {
+                compensation += (value - result) + sum;
+            }
+
+            sum = result;
+        }
+
+        private CompensatedSum add(CompensatedSum other) {
+            add(other.sum);
+            compensation += other.compensation;
+            return this;
+        }
+
+        private double value() {
+            return sum + compensation;
+        }
+    }
+
+    private static final class ReductionTask<T> extends RecursiveTask<T> {
+        private final Numeral[] numerals;
+
+        private final int from;
+
+        private final int to;
+
+        private final Leaf<T> leaf;
+
+        private final BinaryOperator<T> combiner;
+
+        private final MathContext context;
+
+        private ReductionTask(Numeral[] numerals, int from, int to, Leaf<T> leaf, BinaryOperator<T> combiner,
+                              MathContext context) {
+            this.numerals = numerals;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+            this.combiner = combiner;
+            this.context = context;
+        }
+
+        @Override
+        protected T compute() {
+            if(to - from < PARALLEL_THRESHOLD) {
+                return Operations.withContext(context, () -> leaf.reduce(numerals, from, to));
+            }
+
+            int middle = (from + to) >>> 1;
+            ReductionTask<T> left = new ReductionTask<>(numerals, from, middle, leaf, combiner, context);
+            ReductionTask<T> right = new ReductionTask<>(numerals, middle, to, leaf, combiner, context);
+            left.fork();
+            T rightResult = right.compute();
+            T leftResult = left.join();
+            return Operations.withContext(context, () -> combiner.apply(leftResult, rightResult));
+        }
+    }
+}
@@ -11,6 +11,8 @@ import me.datafox.dfxengine.math.api.NumeralType;
 @SuppressWarnings("MissingJavadoc")
 public class MathStrings {
     public static final String NULL_NUMBER_TYPE = "Encountered a null NumberType where one should not be present";
+    public static final String NULL_NUMERAL = "Encountered a null Numeral where one should not be present";
+    public static final String INVALID_VARINT = "Encountered a malformed variable length integer in Numeral data";
     public static final String EMPTY_ARRAY = "Encountered an empty array where a populated one should be present";
 
     private static final String COULD_NOT_CONVERT = "Could not convert %s to type %s";
@@ -33,6 +35,37 @@ public class MathStrings {
             "Attempted to calculate the logarithm of the number %s with the zero or negative base %s";
     private static final String LOGARITHM_OF_BASE_ONE =
             "Attempted to calculate the logarithm of the number %s with base 1";
+    private static final String FRACTIONAL_POWER_OF_NEGATIVE =
+            "Attempted to raise the negative number %s to the fractional power %s";
+    private static final String INVALID_FIXED_SCALE =
+            "Attempted to create a Fixed with the scale %s, which is not between 0 and %s";
+    private static final String FIXED_NOT_EXACT =
+            "Result of an operation on %s and %s cannot be represented exactly as a Fixed";
+    private static final String INVALID_CACHE_SIZE = "Attempted to create an OperationCache with the size %s";
+    private static final String INVALID_POWER_TABLE_SIZE =
+            "Attempted to create a PowerTable with the negative maximum exponent %s";
+    private static final String NEGATIVE_SERIES_COUNT =
+            "Attempted to calculate the sum of a series with the negative count %s";
+    private static final String NEGATIVE_ELAPSED_TIME =
+            "Attempted to integrate growth over the negative elapsed time %s";
+    private static final String INVALID_GEOMETRIC_SERIES =
+            "Attempted to calculate the count of a geometric series with the first term %s and the ratio %s, " +
+                    "but both must be positive";
+    private static final String UNBOUNDED_GEOMETRIC_SERIES =
+            "The geometric series with the first term %s and the ratio %s never exceeds the budget %s";
+    private static final String INVALID_LANE_TYPE =
+            "NumeralArray lanes must be of type INT, LONG or DOUBLE, but %s was specified";
+    private static final String INVALID_ARRAY_SIZE = "Attempted to create a NumeralArray with the negative size %s";
+    private static final String INVALID_ARRAY_VALUE = "NumeralArray values must be finite, but %s was specified";
+    private static final String ARRAY_INDEX_OUT_OF_BOUNDS = "Index %s is out of bounds for a NumeralArray of size %s";
+    private static final String ARRAY_SIZE_MISMATCH =
+            "Attempted to combine NumeralArrays of different sizes %s and %s";
+    private static final String EMPTY_REDUCTION = "Attempted to calculate the %s of no Numerals";
+    private static final String NULL_CONTEXT = "MathContext for BigDecimal operations must not be null";
+    private static final String INVALID_NUMERAL_TEXT = "\"%s\" is not a valid Numeral representation";
+    private static final String INVALID_TEXT_REGION = "Region from %s to %s is out of bounds for text of length %s";
+    private static final String INVALID_NUMERAL_TAG = "%s is not a valid NumeralType tag in encoded Numeral data";
+    private static final String HUGE_OVERFLOW = "Huge exponent overflow or underflow with base 10 logarithm %s";
 
     public static String nanDoubleValue() {
         return String.format(NAN_VALUE, "Double", "double");
@@ -50,6 +83,22 @@ public class MathStrings {
         return String.format(INFINITE_VALUE, "Float", "float");
     }
 
+    public static String nanDoubleDoubleValue() {
+        return String.format(NAN_VALUE, "DoubleDouble", "double-double");
+    }
+
+    public static String infiniteDoubleDoubleValue() {
+        return String.format(INFINITE_VALUE, "DoubleDouble", "double-double");
+    }
+
+    public static String nanHugeValue() {
+        return String.format(NAN_VALUE, "Huge", "mantissa");
+    }
+
+    public static String infiniteHugeValue() {
+        return String.format(INFINITE_VALUE, "Huge", "mantissa");
+    }
+
     public static String unknownNumberType(Number number) {
         return String.format(UNKNOWN_NUMBER_TYPE, number);
     }
@@ -74,6 +123,22 @@ public class MathStrings {
         return String.format(DURING_CONVERSION, numeral, "double");
     }
 
+    public static String duringDoubleDoubleConversion(Numeral numeral) {
+        return String.format(DURING_CONVERSION, numeral, "double-double");
+    }
+
+    public static String duringFixedConversion(Numeral numeral) {
+        return String.format(DURING_CONVERSION, numeral, "Fixed");
+    }
+
+    public static String duringBigIntConversion(Numeral numeral) {
+        return String.format(DURING_CONVERSION, numeral, "BigInteger");
+    }
+
+    public static String duringBigDecConversion(Numeral numeral) {
+        return String.format(DURING_CONVERSION, numeral, "BigDecimal");
+    }
+
     public static String intOverflow(Number number) {
         String simpleName = number.getClass().getSimpleName();
         return String.format(OVERFLOW, "Integer",
@@ -98,26 +163,70 @@ public class MathStrings {
                 simpleName.startsWith("B") ? simpleName : simpleName.toLowerCase(), number);
     }
 
+    public static String fixedOverflow(Number number) {
+        return String.format(OVERFLOW, "Fixed", number.getClass().getSimpleName(), number);
+    }
+
+    public static String doubleDoubleOverflow(Number number) {
+        return String.format(OVERFLOW, "DoubleDouble", number.getClass().getSimpleName(), number);
+    }
+
+    public static String hugeOverflow(double log10) {
+        return String.format(HUGE_OVERFLOW, log10);
+    }
+
+    public static String bigIntOverflow(Number number) {
+        return String.format(OVERFLOW, "BigInteger", number.getClass().getSimpleName(), number);
+    }
+
+    public static String bigDecOverflow(Number number) {
+        return String.format(OVERFLOW, "BigDecimal", number.getClass().getSimpleName(), number);
+    }
+
     public static String divisionByZero(Numeral numeral) {
         return String.format(DIVISION_BY_ZERO, numeral);
     }
 
+    public static String divisionByZero(Number number) {
+        return String.format(DIVISION_BY_ZERO, number);
+    }
+
     public static String squareRootOfNegative(Numeral numeral) {
         return String.format(SQUARE_ROOT_OF_NEGATIVE, numeral);
     }
 
+    public static String squareRootOfNegative(Number number) {
+        return String.format(SQUARE_ROOT_OF_NEGATIVE, number);
+    }
+
     public static String rootBaseZero(Numeral numeral) {
         return String.format(ROOT_BASE_ZERO, numeral);
     }
 
+    public static String rootBaseZero(Number number) {
+        return String.format(ROOT_BASE_ZERO, number);
+    }
+
     public static String rootOfNegativeEvenBase(Numeral numeral, Numeral base) {
         return String.format(ROOT_OF_NEGATIVE_EVEN_BASE, numeral, base);
     }
 
+    public static String rootOfNegativeEvenBase(Number number, Number base) {
+        return String.format(ROOT_OF_NEGATIVE_EVEN_BASE, number, base);
+    }
+
+    public static String fractionalPowerOfNegative(Number number, Number exponent) {
+        return String.format(FRACTIONAL_POWER_OF_NEGATIVE, number, exponent);
+    }
+
     public static String logarithmOfZeroOrNegative(Numeral numeral) {
         return String.format(LOGARITHM_OF_ZERO_OR_NEGATIVE, numeral);
     }
 
+    public static String logarithmOfZeroOrNegative(Number number) {
+        return String.format(LOGARITHM_OF_ZERO_OR_NEGATIVE, number);
+    }
+
     public static String logarithmOfBaseZeroOrNegative(Numeral numeral, Numeral base) {
         return String.format(LOGARITHM_OF_BASE_ZERO_OR_NEGATIVE, numeral, base);
     }
@@ -126,6 +235,78 @@ public class MathStrings {
         return String.format(LOGARITHM_OF_BASE_ONE, numeral);
     }
 
+    public static String invalidCacheSize(int size) {
+        return String.format(INVALID_CACHE_SIZE, size);
+    }
+
+    public static String invalidPowerTableSize(int maxExponent) {
+        return String.format(INVALID_POWER_TABLE_SIZE, maxExponent);
+    }
+
+    public static String negativeSeriesCount(Numeral count) {
+        return String.format(NEGATIVE_SERIES_COUNT, count);
+    }
+
+    public static String negativeElapsedTime(Numeral time) {
+        return String.format(NEGATIVE_ELAPSED_TIME, time);
+    }
+
+    public static String invalidGeometricSeries(Numeral first, Numeral ratio) {
+        return String.format(INVALID_GEOMETRIC_SERIES, first, ratio);
+    }
+
+    public static String unboundedGeometricSeries(Numeral first, Numeral ratio, Numeral budget) {
+        return String.format(UNBOUNDED_GEOMETRIC_SERIES, first, ratio, budget);
+    }
+
+    public static String invalidLaneType(NumeralType type) {
+        return String.format(INVALID_LANE_TYPE, type);
+    }
+
+    public static String invalidArraySize(int size) {
+        return String.format(INVALID_ARRAY_SIZE, size);
+    }
+
+    public static String invalidArrayValue(double value) {
+        return String.format(INVALID_ARRAY_VALUE, value);
+    }
+
+    public static String arrayIndexOutOfBounds(int index, int size) {
+        return String.format(ARRAY_INDEX_OUT_OF_BOUNDS, index, size);
+    }
+
+    public static String arraySizeMismatch(int size, int otherSize) {
+        return String.format(ARRAY_SIZE_MISMATCH, size, otherSize);
+    }
+
+    public static String emptyReduction(String reduction) {
+        return String.format(EMPTY_REDUCTION, reduction);
+    }
+
+    public static String invalidNumeralText(CharSequence text) {
+        return String.format(INVALID_NUMERAL_TEXT, text);
+    }
+
+    public static String invalidTextRegion(int start, int end, int length) {
+        return String.format(INVALID_TEXT_REGION, start, end, length);
+    }
+
+    public static String invalidNumeralTag(int tag) {
+        return String.format(INVALID_NUMERAL_TAG, tag);
+    }
+
+    public static String nullContext() {
+        return NULL_CONTEXT;
+    }
+
+    public static String invalidFixedScale(int scale, int maxScale) {
+        return String.format(INVALID_FIXED_SCALE, scale, maxScale);
+    }
+
+    public static String fixedNotExact(Number number, Number other) {
+        return String.format(FIXED_NOT_EXACT, number, other);
+    }
+
     public static String couldNotConvert(Numeral numeral, NumeralType type) {
         return String.format(COULD_NOT_CONVERT, numeral, type.name());
     }
@@ -0,0 +1,177 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.exception.ExtendedArithmeticException;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Conversion;
+import me.datafox.dfxengine.math.utils.Numerals;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static me.datafox.dfxengine.math.utils.Operations.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class DoubleDoubleNumeralTest {
+    private static final DoubleDoubleNumeral third = new DoubleDoubleNumeral(DoubleDouble.ONE.divide(
+            DoubleDouble.valueOf(3)));
+    private static final DoubleDoubleNumeral tenth = new DoubleDoubleNumeral("0.1");
+    private static final DoubleDoubleNumeral large = new DoubleDoubleNumeral("1.5e300");
+    private static final DoubleDoubleNumeral integer = new DoubleDoubleNumeral("12345678901234567890123456");
+
+    @Test
+    public void doubleDoubleTest() {
+        assertClose("0.33333333333333333333333333333333", third.doubleDoubleValue());
+        assertClose("0.3", tenth.doubleDoubleValue().add(DoubleDouble.valueOf("0.2")));
+        assertNotEquals(0.3, 0.1 + 0.2);
+        assertClose("1", third.doubleDoubleValue().multiply(DoubleDouble.valueOf(3)));
+        assertClose("12345678901234567890123455", integer.doubleDoubleValue().subtract(DoubleDouble.ONE));
+        assertEquals(new BigInteger("12345678901234567890123456"), integer.doubleDoubleValue().toBigInteger());
+        assertEquals(DoubleDouble.valueOf(Long.MAX_VALUE).toBigInteger(), BigInteger.valueOf(Long.MAX_VALUE));
+        assertEquals(Long.MIN_VALUE + 1, DoubleDouble.valueOf(Long.MIN_VALUE + 1).longValue());
+
+        assertClose("1.4142135623730950488016887242097", DoubleDouble.valueOf(2).sqrt());
+        assertClose("1.2599210498948731647672106072782", DoubleDouble.valueOf(2).cbrt());
+        assertClose("-1.2599210498948731647672106072782", DoubleDouble.valueOf(-2).cbrt());
+        assertClose("2.7182818284590452353602874713527", DoubleDouble.ONE.exp());
+        assertClose("2.6881171418161354484126255515800e43", DoubleDouble.valueOf(100).exp());
+        assertClose("2.3025850929940456840179914546844", DoubleDouble.valueOf(10).log());
+        assertClose("-2.3025850929940456840179914546844", tenth.doubleDoubleValue().log());
+        assertClose("0.30102999566398119521373889472449", DoubleDouble.valueOf(2).log10());
+        assertClose("3.3219280948873623478703194294894", DoubleDouble.valueOf(10).log2());
+        assertClose("1.2676506002282294014967032053760e30", DoubleDouble.valueOf(2).pow(DoubleDouble.valueOf(100)));
+        assertClose("1.4142135623730950488016887242097", DoubleDouble.valueOf(2).pow(DoubleDouble.valueOf("0.5")));
+        assertClose("0.001", tenth.doubleDoubleValue().pow(DoubleDouble.valueOf(3)));
+        assertClose("-2", DoubleDouble.valueOf(-8).root(DoubleDouble.valueOf(3)));
+        assertTrue(DoubleDouble.valueOf(-8).root(DoubleDouble.valueOf(2)).isNaN());
+        assertTrue(DoubleDouble.valueOf(-1).log().isNaN());
+        assertTrue(large.doubleDoubleValue().multiply(large.doubleDoubleValue()).isInfinite());
+        assertTrue(DoubleDouble.valueOf(1000).exp().isInfinite());
+
+        assertTrue(integer.doubleDoubleValue().isInteger());
+        assertTrue(integer.doubleDoubleValue().isEven());
+        assertFalse(tenth.doubleDoubleValue().isInteger());
+        assertTrue(third.doubleDoubleValue().compareTo(DoubleDouble.valueOf(1d / 3)) > 0);
+        assertEquals(0, DoubleDouble.ZERO.compareTo(DoubleDouble.ZERO.negate()));
+        assertEquals("0.1", tenth.doubleDoubleValue().toString());
+        assertThrows(IllegalArgumentException.class, () -> new DoubleDoubleNumeral(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleDoubleNumeral("1e400"));
+    }
+
+    @Test
+    public void conversionTest() {
+        assertEquals(new IntNumeral(0), Conversion.toIntNumeral(third));
+        assertEquals(new LongNumeral(Long.MAX_VALUE),
+                Conversion.toLongNumeral(new DoubleDoubleNumeral(DoubleDouble.valueOf(Long.MAX_VALUE))));
+        assertEquals(new BigIntNumeral("12345678901234567890123456"), Conversion.toBigIntNumeral(integer));
+        assertEquals(new FloatNumeral(0.1f), Conversion.toFloatNumeral(tenth));
+        assertEquals(new DoubleNumeral(0.1), Conversion.toDoubleNumeral(tenth));
+        assertEquals(new BigDecNumeral("0.1"), Conversion.toBigDecNumeral(tenth));
+        assertEquals(0, new BigDecimal("0.33333333333333333333333333333333").compareTo(third.bigDecValue()));
+        assertEquals(tenth, Conversion.toDoubleDoubleNumeral(new BigDecNumeral("0.1")));
+        assertEquals(integer, Conversion.toDoubleDoubleNumeral(new BigIntNumeral("12345678901234567890123456")));
+        assertEquals(new DoubleDoubleNumeral(2.5), Conversion.toDoubleDoubleNumeral(new FloatNumeral(2.5f)));
+        assertEquals(new DoubleDoubleNumeral(2500), Conversion.toDoubleDoubleNumeral(new HugeNumeral(2.5, 3)));
+
+        assertThrows(ExtendedArithmeticException.class, large::longValue);
+        assertThrows(ExtendedArithmeticException.class, () -> Conversion.toDoubleDouble(new BigDecNumeral("1e400")));
+        assertThrows(ExtendedArithmeticException.class, () -> Conversion.toDoubleDouble(new HugeNumeral(1, 400)));
+        assertThrows(ExtendedArithmeticException.class, () -> new DoubleDoubleNumeral(
+                DoubleDouble.of(0x1p63, 1)).longValue());
+
+        assertTrue(third.canConvert(INT));
+        assertFalse(large.canConvert(FLOAT));
+        assertTrue(large.canConvert(DOUBLE));
+        assertFalse(new BigDecNumeral("1e400").canConvert(DOUBLE_DOUBLE));
+        assertTrue(new IntNumeral(5).canConvert(DOUBLE_DOUBLE));
+
+        assertEquals(new FloatNumeral(0.1f), tenth.toSmallestType());
+        assertEquals(new DoubleNumeral(1.5e300), large.toSmallestType());
+        assertEquals(tenth, tenth.toDecimal());
+        assertEquals(new IntNumeral(0), third.toInteger());
+        assertEquals(new BigIntNumeral("12345678901234567890123456"), integer.toInteger());
+    }
+
+    @Test
+    public void numeralsTest() {
+        assertInstanceOf(DoubleDoubleNumeral.class, Numerals.of(DoubleDouble.ONE));
+        assertInstanceOf(DoubleDoubleNumeral.class, Numerals.of((Number) DoubleDouble.ONE));
+
+        assertEquals(DOUBLE_DOUBLE, Numerals.getSignificantType(DOUBLE, DOUBLE_DOUBLE));
+        assertEquals(DOUBLE_DOUBLE, Numerals.getSignificantType(LONG, DOUBLE_DOUBLE));
+        assertEquals(BIG_DEC, Numerals.getSignificantType(BIG_INT, DOUBLE_DOUBLE));
+        assertEquals(BIG_DEC, Numerals.getSignificantType(DOUBLE_DOUBLE, BIG_DEC));
+        assertEquals(HUGE, Numerals.getSignificantType(DOUBLE_DOUBLE, HUGE));
+
+        assertTrue(Numerals.isZero(new DoubleDoubleNumeral(DoubleDouble.ZERO)));
+        assertFalse(Numerals.isZero(third));
+        assertTrue(Numerals.isOne(new DoubleDoubleNumeral(DoubleDouble.ONE)));
+        assertFalse(Numerals.isOne(new DoubleDoubleNumeral(DoubleDouble.of(1, 1e-20))));
+        assertTrue(Numerals.isEven(integer));
+        assertFalse(Numerals.isEven(new DoubleDoubleNumeral(DoubleDouble.of(0x1p60, 1))));
+        assertFalse(Numerals.isEven(tenth));
+
+        assertEquals(1, Numerals.compare(third, new DoubleNumeral(1d / 3)));
+        assertEquals(-1, Numerals.compare(tenth, new DoubleNumeral(0.1)));
+        assertEquals(0, Numerals.compare(new DoubleDoubleNumeral(2500), new IntNumeral(2500)));
+    }
+
+    @Test
+    public void operationsTest() {
+        assertClose("0.43333333333333333333333333333333", add(third, tenth));
+        assertClose("0.23333333333333333333333333333333", subtract(third, tenth));
+        assertClose("0.033333333333333333333333333333333", multiply(third, tenth));
+        assertClose("3.3333333333333333333333333333333", divide(third, tenth));
+        assertClose("1", multiply(third, new IntNumeral(3)));
+        assertClose("12345678901234567890123457", add(integer, new LongNumeral(1)));
+        assertClose("1.4142135623730950488016887242097", sqrt(new DoubleDoubleNumeral(2)));
+        assertClose("1.2599210498948731647672106072782", cbrt(new DoubleDoubleNumeral(2)));
+        assertClose("1.4142135623730950488016887242097", root(new DoubleDoubleNumeral(2), new IntNumeral(2)));
+        assertClose("1.4142135623730950488016887242097", power(new DoubleDoubleNumeral(2), new DoubleNumeral(0.5)));
+        assertClose("2.7182818284590452353602874713527", exp(new DoubleDoubleNumeral(1)));
+        assertClose("-1.0986122886681096913952452369225", log(third));
+        assertClose("3.3219280948873623478703194294894", log2(new DoubleDoubleNumeral(10)));
+        assertClose("-1", log10(tenth));
+        assertClose("3", logN(new DoubleDoubleNumeral(8), new IntNumeral(2)));
+        assertClose("0.5", lerp(new DoubleDoubleNumeral(0.5), new IntNumeral(0), new IntNumeral(1)));
+
+        assertEquals(DOUBLE_DOUBLE, add(tenth, new DoubleNumeral(0.2)).getType());
+        assertEquals(BIG_DEC, add(tenth, new BigDecNumeral("0.2")).getType());
+        assertEquals(BIG_DEC, multiply(large, large).getType());
+        assertEquals(0, new BigDecimal("2.25e600").compareTo(multiply(large, large).bigDecValue()));
+        assertEquals(BIG_DEC, lerp(large, new IntNumeral(0), large).getType());
+        assertThrows(ArithmeticException.class, () -> divide(third, new DoubleDoubleNumeral(DoubleDouble.ZERO)));
+        assertThrows(ArithmeticException.class, () -> sqrt(new DoubleDoubleNumeral(-2)));
+    }
+
+    @Test
+    public void mutableNumeralTest() {
+        MutableNumeral mutable = new MutableNumeral(tenth);
+
+        for(int i = 0; i < 9; i++) {
+            mutable.add(tenth);
+        }
+
+        assertEquals(DOUBLE_DOUBLE, mutable.getType());
+        assertClose("1", mutable.toNumeral());
+        assertEquals(BIG_DEC, mutable.set(large).multiply(large).getType());
+        assertEquals(0, new BigDecimal("2.25e600").compareTo(mutable.toNumeral().bigDecValue()));
+    }
+
+    private static void assertClose(String expected, Numeral actual) {
+        assertEquals(DOUBLE_DOUBLE, actual.getType());
+        assertClose(expected, Conversion.toDoubleDouble(actual));
+    }
+
+    private static void assertClose(String expected, DoubleDouble actual) {
+        BigDecimal expectedValue = new BigDecimal(expected);
+        BigDecimal error = expectedValue.subtract(actual.toBigDecimal()).abs();
+        BigDecimal tolerance = expectedValue.abs().max(BigDecimal.ONE).scaleByPowerOfTen(-30);
+        assertTrue(error.compareTo(tolerance) <= 0, "expected " + expected + " but was " + actual);
+    }
+}
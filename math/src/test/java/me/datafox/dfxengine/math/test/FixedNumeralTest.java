@@ -0,0 +1,155 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.exception.ExtendedArithmeticException;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Conversion;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static me.datafox.dfxengine.math.utils.Operations.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class FixedNumeralTest {
+    private static final FixedNumeral price = new FixedNumeral("19.99");
+    private static final FixedNumeral tenth = new FixedNumeral("0.10");
+    private static final FixedNumeral negative = new FixedNumeral("-2.75");
+    private static final FixedNumeral large = new FixedNumeral(Long.MAX_VALUE, 2);
+
+    @Test
+    public void fixedTest() {
+        assertEquals(250, Fixed.valueOf("2.50").getUnscaled());
+        assertEquals(2, Fixed.valueOf("2.50").getScale());
+        assertEquals("2.50", Fixed.valueOf("2.50").toString());
+        assertEquals(Fixed.valueOf("2.5"), Fixed.valueOf("2.50"));
+        assertEquals(Fixed.valueOf("2.5").hashCode(), Fixed.valueOf("2.50").hashCode());
+        assertEquals(Fixed.of(0, 18), Fixed.valueOf("1e-30"));
+        assertEquals(Fixed.of(1234567890123456781L, 1), Fixed.valueOf("123456789012345678.123456789"));
+        assertEquals(Fixed.of(150, 2), Fixed.valueOf(new BigDecimal("1.5"), 2));
+        assertThrows(ArithmeticException.class, () -> Fixed.valueOf("1e25"));
+        assertThrows(IllegalArgumentException.class, () -> Fixed.of(1, 19));
+
+        assertEquals(Fixed.valueOf("0.3"), Fixed.valueOf("0.1").add(Fixed.valueOf("0.2")));
+        assertEquals(Fixed.valueOf("-0.75"), Fixed.valueOf("2").subtract(Fixed.valueOf("2.75")));
+        assertEquals(Fixed.of(750, 2), Fixed.valueOf("2.50").multiply(Fixed.valueOf(3)));
+        assertEquals(2, Fixed.valueOf("2.50").multiply(Fixed.valueOf(3)).getScale());
+        assertEquals(Fixed.of(25, 2), Fixed.valueOf("0.5").multiply(Fixed.valueOf("0.5")));
+        assertEquals(Fixed.valueOf("2.5"), Fixed.valueOf("10.00").divide(Fixed.valueOf(4)));
+        assertEquals(Fixed.of(125, 3), Fixed.ONE.divide(Fixed.valueOf(8)));
+        assertEquals(Fixed.of(-125, 3), Fixed.ONE.divide(Fixed.valueOf(-8)));
+        assertThrows(ArithmeticException.class, () -> Fixed.ONE.divide(Fixed.valueOf(3)));
+        assertThrows(ArithmeticException.class, () -> Fixed.ONE.divide(Fixed.ZERO));
+        assertThrows(ArithmeticException.class, () -> Fixed.valueOf(Long.MAX_VALUE).add(Fixed.ONE));
+        assertThrows(ArithmeticException.class, () -> Fixed.valueOf(Long.MAX_VALUE).add(Fixed.valueOf("0.1")));
+        assertThrows(ArithmeticException.class, () -> Fixed.of(1, 10).multiply(Fixed.of(1, 10)));
+
+        assertEquals(Fixed.of(234, 2), Fixed.valueOf("2.345").withScale(2));
+        assertEquals(Fixed.of(236, 2), Fixed.valueOf("2.355").withScale(2));
+        assertEquals(Fixed.of(-234, 2), Fixed.valueOf("-2.345").withScale(2));
+        assertEquals(Fixed.of(25000, 4), Fixed.valueOf("2.5").withScale(4));
+
+        assertTrue(Fixed.valueOf("2.5").compareTo(Fixed.valueOf("2.49")) > 0);
+        assertTrue(Fixed.valueOf("-1.5").compareTo(Fixed.valueOf("-1.49")) < 0);
+        assertTrue(Fixed.ONE.compareTo(Fixed.valueOf("0.999999999999999999")) > 0);
+        assertTrue(Fixed.valueOf(Long.MAX_VALUE).compareTo(large.fixedValue()) > 0);
+        assertTrue(Fixed.valueOf("4.00").isEven());
+        assertFalse(Fixed.valueOf("4.10").isInteger());
+        assertEquals(-2, negative.fixedValue().longValue());
+        assertEquals(-2.75, negative.fixedValue().doubleValue());
+    }
+
+    @Test
+    public void conversionTest() {
+        assertEquals(new IntNumeral(-2), Conversion.toIntNumeral(negative));
+        assertEquals(new LongNumeral(92233720368547758L), Conversion.toLongNumeral(large));
+        assertEquals(new BigIntNumeral(19), Conversion.toBigIntNumeral(price));
+        assertEquals(new FloatNumeral(19.99f), Conversion.toFloatNumeral(price));
+        assertEquals(new DoubleNumeral(19.99), Conversion.toDoubleNumeral(price));
+        assertEquals(new BigDecNumeral("19.99"), Conversion.toBigDecNumeral(price));
+        assertEquals(new DoubleDoubleNumeral("19.99"), Conversion.toDoubleDoubleNumeral(price));
+        assertEquals(new FixedNumeral("0.1"), Conversion.toFixedNumeral(new DoubleNumeral(0.1)));
+        assertEquals(new FixedNumeral("0.1"), Conversion.toFixedNumeral(new FloatNumeral(0.1f)));
+        assertEquals(new FixedNumeral(5, 0), Conversion.toFixedNumeral(new IntNumeral(5)));
+        assertEquals(new FixedNumeral(25, 1), Conversion.toFixedNumeral(new HugeNumeral(2.5, 0)));
+        assertThrows(ExtendedArithmeticException.class, () -> Conversion.toFixed(new BigDecNumeral("1e25")));
+        assertThrows(ExtendedArithmeticException.class, () -> Conversion.toFixed(new HugeNumeral(1, 30)));
+
+        assertTrue(new BigDecNumeral("0.5").canConvert(FIXED));
+        assertFalse(new DoubleNumeral(1e20).canConvert(FIXED));
+        assertFalse(large.canConvert(INT));
+        assertTrue(large.canConvert(LONG));
+
+        assertEquals(price, price.toSmallestType());
+        assertEquals(price, price.toDecimal());
+        assertEquals(new IntNumeral(19), price.toInteger());
+    }
+
+    @Test
+    public void numeralsTest() {
+        assertInstanceOf(FixedNumeral.class, Numerals.of(Fixed.ONE));
+        assertInstanceOf(FixedNumeral.class, Numerals.of((Number) Fixed.ONE));
+
+        assertEquals(FIXED, Numerals.getSignificantType(INT, FIXED));
+        assertEquals(FIXED, Numerals.getSignificantType(FIXED, LONG));
+        assertEquals(BIG_DEC, Numerals.getSignificantType(BIG_INT, FIXED));
+        assertEquals(FLOAT, Numerals.getSignificantType(FIXED, FLOAT));
+        assertEquals(BIG_DEC, Numerals.getSignificantType(FIXED, BIG_DEC));
+
+        assertTrue(Numerals.isZero(new FixedNumeral(0, 2)));
+        assertFalse(Numerals.isZero(tenth));
+        assertTrue(Numerals.isOne(new FixedNumeral("1.00")));
+        assertFalse(Numerals.isOne(tenth));
+        assertTrue(Numerals.isEven(new FixedNumeral("-4.00")));
+        assertFalse(Numerals.isEven(negative));
+
+        assertEquals(1, Numerals.compare(price, new IntNumeral(19)));
+        assertEquals(-1, Numerals.compare(negative, new LongNumeral(-2)));
+        assertEquals(0, Numerals.compare(new FixedNumeral("20.00"), new IntNumeral(20)));
+    }
+
+    @Test
+    public void operationsTest() {
+        assertEquals(new FixedNumeral("0.30"), add(tenth, new FixedNumeral("0.20")));
+        assertEquals(new FixedNumeral("21.99"), add(price, new IntNumeral(2)));
+        assertEquals(new FixedNumeral("22.74"), subtract(price, negative));
+        assertEquals(new FixedNumeral("59.97"), multiply(price, new IntNumeral(3)));
+        assertEquals(new FixedNumeral("2.50"), divide(new FixedNumeral("10.00"), new IntNumeral(4)));
+        assertEquals(new FixedNumeral("2.25"), power(new FixedNumeral("1.5"), new IntNumeral(2)));
+        assertEquals(new FixedNumeral("0.25"), power(new FixedNumeral("2"), new IntNumeral(-2)));
+        assertEquals(new FixedNumeral("15.0"), lerp(new FixedNumeral("0.5"), new IntNumeral(10), new IntNumeral(20)));
+        assertEquals(price, max(price, tenth));
+        assertEquals(negative, min(price, negative));
+        assertEquals(FIXED, add(price, new LongNumeral(Long.MAX_VALUE / 1000)).getType());
+
+        assertEquals(new BigDecNumeral(BigDecimal.ONE.divide(BigDecimal.valueOf(3), Operations.getContext())),
+                divide(new FixedNumeral("1.00"), new IntNumeral(3)));
+        assertEquals(0, new BigDecimal("92233720368547758.08").compareTo(
+                add(large, new FixedNumeral(1, 2)).bigDecValue()));
+        assertEquals(BIG_DEC, add(large, new FixedNumeral(1, 2)).getType());
+        assertEquals(BIG_DEC, multiply(large, new IntNumeral(2)).getType());
+        assertEquals(BIG_DEC, add(price, new BigIntNumeral(1)).getType());
+        assertEquals(BIG_DEC, sqrt(new FixedNumeral("2.25")).getType());
+        assertEquals(0, new BigDecimal("1.5").compareTo(sqrt(new FixedNumeral("2.25")).bigDecValue()));
+        assertThrows(ArithmeticException.class, () -> divide(price, new FixedNumeral(0, 2)));
+    }
+
+    @Test
+    public void mutableNumeralTest() {
+        MutableNumeral mutable = new MutableNumeral(new FixedNumeral(0, 2));
+
+        for(int i = 0; i < 10; i++) {
+            mutable.add(tenth);
+        }
+
+        assertEquals(FIXED, mutable.getType());
+        assertEquals(new FixedNumeral("1.00"), mutable.toNumeral());
+        assertEquals(new FixedNumeral("19.99"), mutable.multiply(price).toNumeral());
+        assertEquals(BIG_DEC, mutable.add(large).getType());
+    }
+}
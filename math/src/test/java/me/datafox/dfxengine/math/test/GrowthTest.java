@@ -0,0 +1,118 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Growth;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class GrowthTest {
+    @Test
+    public void constantTest() {
+        Numeral value = new IntNumeral(5);
+        for(int i = 0; i < 100; i++) {
+            value = Operations.add(value, new IntNumeral(3));
+        }
+        assertEquals(value, Growth.constant(new IntNumeral(5), new IntNumeral(3), new IntNumeral(100)));
+        assertEquals(new LongNumeral(Integer.MAX_VALUE + 10L),
+                Growth.constant(new IntNumeral(Integer.MAX_VALUE), new IntNumeral(1), new IntNumeral(10)));
+        assertEquals(new DoubleNumeral(6.5),
+                Growth.constant(new IntNumeral(5), new IntNumeral(3), new DoubleNumeral(0.5)));
+        assertEquals(new IntNumeral(0),
+                Growth.constant(new IntNumeral(0), new DoubleNumeral(3), new IntNumeral(0)));
+    }
+
+    @Test
+    public void linearTest() {
+        Numeral value = new IntNumeral(5);
+        Numeral rate = new IntNumeral(3);
+        for(int i = 0; i < 100; i++) {
+            value = Operations.add(value, rate);
+            rate = Operations.add(rate, new IntNumeral(2));
+        }
+        assertEquals(value, Growth.linear(new IntNumeral(5), new IntNumeral(3), new IntNumeral(2),
+                new IntNumeral(100)));
+        assertEquals(new IntNumeral(5),
+                Growth.linear(new IntNumeral(5), new IntNumeral(3), new IntNumeral(2), new IntNumeral(0)));
+    }
+
+    @Test
+    public void compoundTest() {
+        Numeral value = new IntNumeral(3);
+        for(int i = 0; i < 70; i++) {
+            value = Operations.multiply(value, new IntNumeral(2));
+        }
+        assertEquals(value, Growth.compound(new IntNumeral(3), new IntNumeral(1), new IntNumeral(70)));
+        assertEquals(new BigIntNumeral(BigInteger.valueOf(3).pow(40)),
+                Growth.compound(new IntNumeral(1), new IntNumeral(2), new IntNumeral(40)));
+
+        Numeral decimal = new BigDecNumeral(new BigDecimal(100));
+        for(int i = 0; i < 10; i++) {
+            decimal = Operations.multiply(decimal, new BigDecNumeral(new BigDecimal("1.05")));
+        }
+        Numeral compound = Growth.compound(new IntNumeral(100), new BigDecNumeral(new BigDecimal("0.05")),
+                new IntNumeral(10));
+        assertEquals(BIG_DEC, compound.getType());
+        assertTrue(decimal.bigDecValue().subtract(compound.bigDecValue()).abs()
+                .compareTo(new BigDecimal("1e-25")) < 0);
+
+        assertEquals(new DoubleNumeral(100 * Math.pow(1.05, 10)),
+                Growth.compound(new DoubleNumeral(100), new DoubleNumeral(0.05), new IntNumeral(10)));
+        assertEquals(BIG_DEC,
+                Growth.compound(new DoubleNumeral(1e300), new DoubleNumeral(1), new IntNumeral(100)).getType());
+    }
+
+    @Test
+    public void cappedTest() {
+        Numeral cap = new IntNumeral(250);
+        for(int time : new int[] { 1, 10, 50, 100 }) {
+            Numeral value = new IntNumeral(5);
+            for(int i = 0; i < time; i++) {
+                value = Operations.min(Operations.add(value, new IntNumeral(3)), cap);
+            }
+            assertEquals(value, Growth.capped(new IntNumeral(5), new IntNumeral(3), cap, new IntNumeral(time)));
+        }
+        assertEquals(cap, Growth.capped(new IntNumeral(300), new IntNumeral(3), cap, new IntNumeral(1)));
+        assertEquals(new IntNumeral(300),
+                Growth.capped(new IntNumeral(300), new IntNumeral(3), cap, new IntNumeral(0)));
+    }
+
+    @Test
+    public void cappedAboveCapTest() {
+        Numeral cap = new IntNumeral(50);
+        for(int rate : new int[] { -10, -60, -200, 5 }) {
+            for(int time : new int[] { 1, 2, 3, 10 }) {
+                Numeral value = new IntNumeral(100);
+                for(int i = 0; i < time; i++) {
+                    value = Operations.min(Operations.add(value, new IntNumeral(rate)), cap);
+                }
+                assertEquals(value, Growth.capped(new IntNumeral(100), new IntNumeral(rate), cap,
+                        new IntNumeral(time)), rate + " " + time);
+            }
+        }
+        assertEquals(new IntNumeral(40),
+                Growth.capped(new IntNumeral(100), new IntNumeral(-10), cap, new IntNumeral(2)));
+        assertEquals(0, Numerals.compare(new DoubleNumeral(75),
+                Growth.capped(new IntNumeral(100), new IntNumeral(-10), cap, new DoubleNumeral(0.5))));
+        assertEquals(0, Numerals.compare(new DoubleNumeral(35),
+                Growth.capped(new IntNumeral(100), new IntNumeral(-10), cap, new DoubleNumeral(2.5))));
+    }
+
+    @Test
+    public void negativeTimeTest() {
+        assertThrows(ArithmeticException.class,
+                () -> Growth.constant(new IntNumeral(1), new IntNumeral(1), new IntNumeral(-1)));
+        assertThrows(ArithmeticException.class,
+                () -> Growth.compound(new IntNumeral(1), new IntNumeral(1), new DoubleNumeral(-0.5)));
+    }
+}
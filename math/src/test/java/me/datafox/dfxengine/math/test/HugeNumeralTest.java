@@ -0,0 +1,141 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.exception.ExtendedArithmeticException;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Conversion;
+import me.datafox.dfxengine.math.utils.Numerals;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static me.datafox.dfxengine.math.utils.Operations.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class HugeNumeralTest {
+    private static final HugeNumeral small = new HugeNumeral(2.5, 3);
+    private static final HugeNumeral huge = new HugeNumeral(4, 1000);
+    private static final HugeNumeral otherHuge = new HugeNumeral(-1.5, 999);
+    private static final HugeNumeral astronomic = new HugeNumeral(1, 5_000_000_000L);
+
+    @Test
+    public void hugeTest() {
+        assertEquals(Huge.of(1.5, 3), Huge.of(1500, 0));
+        assertEquals(Huge.of(1.5, 3), Huge.of(0.0015, 6));
+        assertEquals(Huge.ZERO, Huge.of(-0.0, 50));
+        assertEquals(-324, Huge.valueOf(Double.MIN_VALUE).getExponent());
+        assertEquals(Huge.of(1.2345, 5_000_000_000L), Huge.valueOf("12.345e4999999999"));
+        assertEquals(Huge.of(1.2345, 400), Huge.valueOf(new BigDecimal("1.2345e400")));
+        assertEquals(Huge.of(1.2345, 40), Huge.valueOf(new BigInteger("12345000000000000000000000000000000000000")));
+        assertEquals(Huge.of(2.5, 2147483649L), Huge.valueOf(new BigDecimal(BigInteger.valueOf(25),
+                Integer.MIN_VALUE)));
+        assertEquals(Huge.of(-1.25, -2147483645L), Huge.valueOf(new BigDecimal(BigInteger.valueOf(-125),
+                Integer.MAX_VALUE)));
+        assertThrows(IllegalArgumentException.class, () -> Huge.valueOf(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Huge.valueOf(Double.POSITIVE_INFINITY));
+
+        assertEquals(Huge.of(3.85, 1000), huge.hugeValue().add(otherHuge.hugeValue()));
+        assertEquals(huge.hugeValue(), huge.hugeValue().add(small.hugeValue()));
+        assertEquals(Huge.of(-6, 1999), huge.hugeValue().multiply(otherHuge.hugeValue()));
+        assertEquals(Huge.of(1.6, 997), huge.hugeValue().divide(small.hugeValue()));
+        assertEquals(Huge.of(6.4, 3001), huge.hugeValue().pow(3));
+        assertEquals(Huge.of(2, 500), huge.hugeValue().sqrt());
+        assertEquals(Huge.of(1, 2_500_000_000L), astronomic.hugeValue().sqrt());
+        assertThrows(ArithmeticException.class, () -> otherHuge.hugeValue().sqrt());
+        assertThrows(ArithmeticException.class, () -> huge.hugeValue().divide(Huge.ZERO));
+        assertEquals(1000 + Math.log10(4), huge.hugeValue().log10(), 1e-12);
+
+        assertTrue(huge.hugeValue().compareTo(otherHuge.hugeValue()) > 0);
+        assertTrue(otherHuge.hugeValue().compareTo(Huge.of(-1.5, 998)) < 0);
+        assertTrue(astronomic.hugeValue().compareTo(huge.hugeValue()) > 0);
+        assertEquals(2500d, small.hugeValue().doubleValue());
+        assertEquals(Double.POSITIVE_INFINITY, huge.hugeValue().doubleValue());
+        assertEquals(Double.NEGATIVE_INFINITY, otherHuge.hugeValue().doubleValue());
+    }
+
+    @Test
+    public void conversionTest() {
+        assertEquals(new IntNumeral(2500), Conversion.toIntNumeral(small));
+        assertEquals(new LongNumeral(2500), Conversion.toLongNumeral(small));
+        assertEquals(new BigIntNumeral(2500), Conversion.toBigIntNumeral(small));
+        assertEquals(new FloatNumeral(2500), Conversion.toFloatNumeral(small));
+        assertEquals(new DoubleNumeral(2500), Conversion.toDoubleNumeral(small));
+        assertEquals(0, new BigDecimal("4e1000").compareTo(huge.bigDecValue()));
+        assertEquals(new HugeNumeral(2.5, 3), Conversion.toHugeNumeral(new IntNumeral(2500)));
+        assertEquals(new HugeNumeral(1.5, 400), Conversion.toHugeNumeral(new BigDecNumeral("1.5e400")));
+
+        assertThrows(ExtendedArithmeticException.class, huge::intValue);
+        assertThrows(ExtendedArithmeticException.class, huge::doubleValue);
+        assertThrows(ExtendedArithmeticException.class, astronomic::bigIntValue);
+        assertThrows(ExtendedArithmeticException.class, astronomic::bigDecValue);
+
+        assertTrue(small.canConvert(INT));
+        assertFalse(huge.canConvert(DOUBLE));
+        assertTrue(huge.canConvert(BIG_DEC));
+        assertFalse(astronomic.canConvert(BIG_DEC));
+        assertTrue(new IntNumeral(5).canConvert(HUGE));
+
+        assertEquals(new FloatNumeral(2500), small.toSmallestType());
+        assertEquals(new DoubleNumeral(2.5e300), new HugeNumeral(2.5, 300).toSmallestType());
+        assertEquals(huge, huge.toSmallestType());
+        assertEquals(small, small.toDecimal());
+        assertEquals(new IntNumeral(2500), small.toInteger());
+    }
+
+    @Test
+    public void numeralsTest() {
+        assertInstanceOf(HugeNumeral.class, Numerals.of(Huge.ONE));
+        assertInstanceOf(HugeNumeral.class, Numerals.of((Number) Huge.TEN));
+
+        assertTrue(Numerals.isZero(new HugeNumeral(Huge.ZERO)));
+        assertFalse(Numerals.isZero(small));
+        assertTrue(Numerals.isOne(new HugeNumeral(Huge.ONE)));
+        assertFalse(Numerals.isOne(small));
+        assertTrue(Numerals.isEven(small));
+        assertTrue(Numerals.isEven(huge));
+        assertFalse(Numerals.isEven(new HugeNumeral(1.5, 1)));
+        assertFalse(Numerals.isEven(new HugeNumeral(2.5, 0)));
+
+        assertEquals(1, Numerals.compare(huge, new BigDecNumeral("3.9999e1000")));
+        assertEquals(-1, Numerals.compare(otherHuge, new IntNumeral(0)));
+        assertEquals(0, Numerals.compare(small, new IntNumeral(2500)));
+    }
+
+    @Test
+    public void operationsTest() {
+        assertEquals(new HugeNumeral(3.85, 1000), add(huge, otherHuge));
+        assertEquals(new HugeNumeral(2.5e300, 1), add(new HugeNumeral(1, 301), new DoubleNumeral(1.5e301)));
+        assertEquals(new HugeNumeral(4.15, 1000), subtract(huge, otherHuge));
+        assertEquals(new HugeNumeral(1, 1001), multiply(huge, new FloatNumeral(2.5f)));
+        assertEquals(new HugeNumeral(1.6, 997), divide(huge, new IntNumeral(2500)));
+        assertEquals(new HugeNumeral(8, 3), power(new HugeNumeral(2, 1), new IntNumeral(3)));
+        assertEquals(1301, ((HugeNumeral) power(new HugeNumeral(2, 1), new IntNumeral(1000)))
+                .hugeValue().getExponent());
+        assertEquals(new HugeNumeral(2, 500), sqrt(huge));
+        assertEquals(new HugeNumeral(-1.5, 333), cbrt(new HugeNumeral(-3.375, 999)));
+        assertEquals(new HugeNumeral(1, 2), root(new HugeNumeral(1, 10), new HugeNumeral(5, 0)));
+        assertEquals(1000 + Math.log10(4), log10(huge).doubleValue(), 1e-12);
+        assertEquals(HUGE, log(huge).getType());
+        assertEquals(HUGE, exp(new HugeNumeral(1, 4)).getType());
+        assertEquals(4342, ((HugeNumeral) exp(new HugeNumeral(1, 4))).hugeValue().getExponent());
+        assertEquals(huge, max(huge, otherHuge));
+        assertEquals(otherHuge, min(otherHuge, new BigDecNumeral("1e1000")));
+        assertEquals(new HugeNumeral(2.5, 1000),
+                lerp(new FloatNumeral(0.5f), new IntNumeral(0), new HugeNumeral(5, 1000)));
+        assertThrows(ArithmeticException.class, () -> divide(huge, new HugeNumeral(Huge.ZERO)));
+    }
+
+    @Test
+    public void mutableNumeralTest() {
+        MutableNumeral mutable = new MutableNumeral(new IntNumeral(5));
+
+        assertEquals(new HugeNumeral(4, 1000), mutable.multiply(huge).divide(new IntNumeral(5)).toNumeral());
+        assertEquals(HUGE, mutable.getType());
+        assertEquals(new HugeNumeral(4, 1000), mutable.add(new IntNumeral(1)).toNumeral());
+        assertEquals(HUGE, mutable.subtract(huge).getType());
+    }
+}
@@ -0,0 +1,238 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.numeral.BigDecNumeral;
+import me.datafox.dfxengine.math.utils.Operations;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class MathContextTest {
+    private static final BigDecimal one = BigDecimal.ONE;
+    private static final BigDecimal three = BigDecimal.valueOf(3);
+
+    @Test
+    public void explicitContextTest() {
+        assertEquals(new BigDecNumeral("0.3333"), Operations.divideWithContext(one, three, new MathContext(4)));
+        assertEquals(new BigDecNumeral("1.333"), Operations.addWithContext(one, new BigDecimal("0.3333333"),
+                new MathContext(4)));
+        assertEquals(new BigDecNumeral("1.41"), Operations.sqrtWithContext(BigDecimal.valueOf(2),
+                new MathContext(3)));
+        assertEquals(new BigDecNumeral("5.5"), Operations.lerpWithContext(new BigDecimal("0.5"), one,
+                BigDecimal.TEN, new MathContext(2)));
+        assertEquals(MathContext.DECIMAL128.getPrecision(), Operations.divide(one, three).bigDecValue().precision());
+    }
+
+    @Test
+    public void negligibleOperandTest() {
+        BigDecimal large = new BigDecimal("1.5E+40");
+        BigDecimal small = new BigDecimal("-1E-10");
+
+        MathContext context = Operations.getContext();
+
+        assertEquals(new BigDecNumeral(large.add(small, context)), Operations.add(large, small));
+        assertEquals(new BigDecNumeral(small.add(large, context)), Operations.add(small, large));
+        assertEquals(new BigDecNumeral(large.subtract(small, context)), Operations.subtract(large, small));
+        assertEquals(new BigDecNumeral(small.subtract(large, context)), Operations.subtract(small, large));
+        assertEquals(0, large.compareTo(Operations.lerp(BigDecimal.ONE, small, large).bigDecValue()));
+        assertEquals(new BigDecNumeral(BigDecimal.TEN.add(new BigDecimal("-1E-36"), context)),
+                Operations.add(BigDecimal.TEN, new BigDecimal("-1E-36")));
+        assertEquals(new BigDecNumeral(BigDecimal.TEN.add(new BigDecimal("-1E-33"), context)),
+                Operations.add(BigDecimal.TEN, new BigDecimal("-1E-33")));
+        assertEquals(new BigDecNumeral("1.000000000000000000000000000000001E+40"),
+                Operations.addWithContext(new BigDecimal("1E+40"), new BigDecimal("1E-10"),
+                        new MathContext(34, RoundingMode.UP)));
+    }
+
+    @Test
+    public void adaptivePrecisionTest() {
+        Operations.setAdaptiveDigits(1);
+
+        try {
+            assertEquals(1, Operations.getAdaptiveDigits());
+            assertEquals(new BigDecNumeral("0.33"), Operations.divide(one, three));
+            assertEquals(new BigDecNumeral("1.513"), Operations.multiply(new BigDecimal("1.23"),
+                    new BigDecimal("1.23")));
+            assertEquals(new BigDecNumeral("0.3"), Operations.divideWithContext(one, three, new MathContext(1)));
+        } finally {
+            Operations.setAdaptiveDigits(-1);
+        }
+
+        assertEquals(-1, Operations.getAdaptiveDigits());
+        assertEquals(new BigDecNumeral("1.5129"), Operations.multiply(new BigDecimal("1.23"),
+                new BigDecimal("1.23")));
+    }
+
+    @Test
+    public void negligibleRoundingModeTest() {
+        RoundingMode[] modes = { RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN };
+        String[] larges = { "1", "-1", "5", "-9.5", "9.999999", "-1.000001", "1.234567E+20", "1E-20" };
+        String[] smalls = { "1", "-1", "5", "-5", "4.999", "-5.001", "9.9", "-9.99" };
+
+        for(RoundingMode mode : modes) {
+            for(int precision : new int[] { 1, 7 }) {
+                MathContext context = new MathContext(precision, mode);
+
+                for(String largeString : larges) {
+                    BigDecimal large = new BigDecimal(largeString);
+
+                    for(String smallString : smalls) {
+                        for(int gap = precision - 2; gap <= precision + 4; gap++) {
+                            BigDecimal small = new BigDecimal(smallString).scaleByPowerOfTen(
+                                    large.precision() - large.scale() - gap - 1);
+                            String message = large + " + " + small + " " + context;
+
+                            assertEquals(large.add(small, context),
+                                    Operations.addWithContext(large, small, context).bigDecValue(), message);
+                            assertEquals(small.add(large, context),
+                                    Operations.addWithContext(small, large, context).bigDecValue(), message);
+                            assertEquals(large.subtract(small, context),
+                                    Operations.subtractWithContext(large, small, context).bigDecValue(), message);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void adaptiveDigitCapTest() {
+        BigDecimal value = new BigDecimal("1.23");
+
+        Operations.withAdaptiveDigits(0, () -> {
+            assertEquals(new BigDecimal("1.51"), Operations.multiply(value, value).bigDecValue());
+            assertEquals(new BigDecimal("2.46"), Operations.add(value, value).bigDecValue());
+            assertEquals(new BigDecimal("0.3"), Operations.divide(one, three).bigDecValue());
+            return null;
+        });
+
+        Operations.withAdaptiveDigits(3, () -> {
+            assertEquals(new BigDecimal("0.3333"), Operations.divide(one, three).bigDecValue());
+            assertEquals(new BigDecimal("0.333333"), Operations.divide(new BigDecimal("1.00"), three).bigDecValue());
+            assertEquals(new BigDecimal("1.5129"), Operations.multiply(value, value).bigDecValue());
+            assertEquals(new BigDecimal("0.333"), Operations.divideWithContext(one, three, new MathContext(3))
+                    .bigDecValue());
+            assertEquals(new BigDecimal("1.333"), Operations.lerpWithContext(new BigDecimal("0.3333333"), one,
+                    BigDecimal.valueOf(2), new MathContext(4)).bigDecValue());
+            return null;
+        });
+
+        assertEquals(-1, Operations.getAdaptiveDigits());
+        assertEquals(34, Operations.divide(one, three).bigDecValue().precision());
+    }
+
+    @Test
+    public void threadAdaptiveDigitsTest() throws Exception {
+        Operations.setThreadAdaptiveDigits(2);
+
+        try {
+            assertEquals(2, Operations.getAdaptiveDigits());
+            assertEquals(5, (int) Operations.withAdaptiveDigits(4, () -> {
+                assertEquals(4, Operations.getAdaptiveDigits());
+                return Operations.divide(one, three).bigDecValue().precision();
+            }));
+            assertEquals(2, Operations.getAdaptiveDigits());
+            assertThrows(IllegalStateException.class, () -> Operations.withAdaptiveDigits(4, () -> {
+                throw new IllegalStateException();
+            }));
+            assertEquals(2, Operations.getAdaptiveDigits());
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+
+            try {
+                assertEquals(-1, (int) executor.submit(Operations::getAdaptiveDigits).get());
+                assertEquals(34, (int) executor.submit(() -> Operations.divide(one, three).bigDecValue()
+                        .precision()).get());
+            } finally {
+                executor.shutdown();
+            }
+
+            Operations.setAdaptiveDigits(0);
+
+            try {
+                assertEquals(2, Operations.getAdaptiveDigits());
+            } finally {
+                Operations.setAdaptiveDigits(-1);
+            }
+        } finally {
+            Operations.setThreadAdaptiveDigits(null);
+        }
+
+        assertEquals(-1, Operations.getAdaptiveDigits());
+    }
+
+    @Test
+    public void threadContextTest() {
+        MathContext global = Operations.getContext();
+        Operations.setThreadContext(MathContext.DECIMAL32);
+
+        try {
+            assertEquals(MathContext.DECIMAL32, Operations.getContext());
+            assertEquals(7, Operations.divide(one, three).bigDecValue().precision());
+        } finally {
+            Operations.setThreadContext(null);
+        }
+
+        assertEquals(global, Operations.getContext());
+        assertThrows(NullPointerException.class, () -> Operations.setContext(null));
+    }
+
+    @Test
+    public void withContextTest() {
+        MathContext global = Operations.getContext();
+
+        int precision = Operations.withContext(new MathContext(5), () -> {
+            int inner = Operations.withContext(new MathContext(3), () ->
+                    Operations.divide(one, three).bigDecValue().precision());
+            assertEquals(3, inner);
+            return Operations.divide(one, three).bigDecValue().precision();
+        });
+
+        assertEquals(5, precision);
+        assertEquals(global, Operations.getContext());
+        assertThrows(IllegalStateException.class, () -> Operations.withContext(new MathContext(5), () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(global, Operations.getContext());
+    }
+
+    @Test
+    public void concurrentContextTest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        try {
+            Future<Integer> low = executor.submit(() -> precisionAfterLatch(new MathContext(4), latch));
+            Future<Integer> high = executor.submit(() -> precisionAfterLatch(new MathContext(40), latch));
+
+            assertEquals(4, (int) low.get());
+            assertEquals(40, (int) high.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int precisionAfterLatch(MathContext context, CountDownLatch latch) {
+        return Operations.withContext(context, () -> {
+            latch.countDown();
+
+            try {
+                latch.await();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return Operations.divide(one, three).bigDecValue().precision();
+        });
+    }
+}
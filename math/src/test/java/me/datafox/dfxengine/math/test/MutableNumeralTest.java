@@ -0,0 +1,108 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Operations;
+import org.junit.jupiter.api.Test;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class MutableNumeralTest {
+    private static final IntNumeral zero = new IntNumeral(0);
+    private static final IntNumeral intNumeral = new IntNumeral(5);
+    private static final IntNumeral largeIntNumeral = new IntNumeral(Integer.MAX_VALUE - 2);
+    private static final LongNumeral longNumeral = new LongNumeral(Long.MAX_VALUE - 2);
+    private static final FloatNumeral floatNumeral = new FloatNumeral(4.57f);
+    private static final FloatNumeral largeFloatNumeral = new FloatNumeral(Float.MAX_VALUE - Float.MAX_VALUE/10f);
+    private static final FloatNumeral tinyFloatNumeral = new FloatNumeral(1e-10f);
+    private static final DoubleNumeral doubleNumeral = new DoubleNumeral(Double.MAX_VALUE - Double.MAX_VALUE/10d);
+    private static final BigIntNumeral bigIntNumeral = new BigIntNumeral("-734273427342734273427342");
+    private static final BigDecNumeral bigDecNumeral = new BigDecNumeral("-9.88765432102468e+420");
+
+    @Test
+    public void addTest() {
+        MutableNumeral mutable = new MutableNumeral();
+        assertEquals(INT, mutable.getType());
+        assertEquals(zero, mutable.toNumeral());
+
+        assertEquals(new IntNumeral(10), mutable.add(intNumeral).add(intNumeral).toNumeral());
+        assertEquals(new LongNumeral(2147483655L), mutable.add(largeIntNumeral).toNumeral());
+        assertEquals(new BigIntNumeral("9223372039002259460"), mutable.add(longNumeral).toNumeral());
+        assertEquals(Operations.add(Operations.add(Operations.add(intNumeral, intNumeral), largeIntNumeral), longNumeral),
+                mutable.toNumeral());
+
+        mutable.set(largeFloatNumeral);
+        assertEquals(FLOAT, mutable.getType());
+        assertEquals(Operations.add(largeFloatNumeral, largeFloatNumeral), mutable.add(largeFloatNumeral).toNumeral());
+        assertEquals(DOUBLE, mutable.getType());
+
+        mutable.set(doubleNumeral);
+        assertEquals(Operations.add(doubleNumeral, doubleNumeral), mutable.add(doubleNumeral).toNumeral());
+        assertEquals(BIG_DEC, mutable.getType());
+    }
+
+    @Test
+    public void subtractTest() {
+        MutableNumeral mutable = new MutableNumeral(new IntNumeral(Integer.MIN_VALUE + 2));
+
+        assertEquals(new LongNumeral(-2147483651L), mutable.subtract(intNumeral).toNumeral());
+        assertEquals(new FloatNumeral(-2.14748365e9f - 4.57f), mutable.subtract(floatNumeral).toNumeral());
+
+        mutable.set(new LongNumeral(Long.MIN_VALUE + 2));
+        assertEquals(Operations.subtract(new LongNumeral(Long.MIN_VALUE + 2), longNumeral),
+                mutable.subtract(longNumeral).toNumeral());
+        assertEquals(BIG_INT, mutable.getType());
+        assertEquals(BIG_DEC, mutable.subtract(bigDecNumeral).getType());
+    }
+
+    @Test
+    public void multiplyTest() {
+        MutableNumeral mutable = new MutableNumeral(intNumeral);
+
+        assertEquals(new IntNumeral(25), mutable.multiply(intNumeral).toNumeral());
+        assertEquals(new LongNumeral(53687091125L), mutable.multiply(largeIntNumeral).toNumeral());
+        assertEquals(Operations.multiply(new LongNumeral(53687091125L), longNumeral),
+                mutable.multiply(longNumeral).toNumeral());
+        assertEquals(BIG_INT, mutable.getType());
+        assertEquals(Operations.multiply(Operations.multiply(new LongNumeral(53687091125L), longNumeral), bigIntNumeral),
+                mutable.multiply(bigIntNumeral).toNumeral());
+
+        mutable.set(floatNumeral);
+        assertEquals(Operations.multiply(floatNumeral, largeFloatNumeral), mutable.multiply(largeFloatNumeral).toNumeral());
+        assertEquals(DOUBLE, mutable.getType());
+        assertEquals(Operations.multiply(Operations.multiply(floatNumeral, largeFloatNumeral), doubleNumeral),
+                mutable.multiply(doubleNumeral).toNumeral());
+        assertEquals(BIG_DEC, mutable.getType());
+    }
+
+    @Test
+    public void divideTest() {
+        MutableNumeral mutable = new MutableNumeral(largeIntNumeral);
+
+        assertThrows(ArithmeticException.class, () -> mutable.divide(zero));
+        assertEquals(new IntNumeral(429496729), mutable.divide(intNumeral).toNumeral());
+
+        mutable.set(largeFloatNumeral);
+        assertEquals(Operations.divide(largeFloatNumeral, tinyFloatNumeral), mutable.divide(tinyFloatNumeral).toNumeral());
+        assertEquals(DOUBLE, mutable.getType());
+
+        mutable.set(doubleNumeral);
+        assertEquals(Operations.divide(doubleNumeral, tinyFloatNumeral), mutable.divide(tinyFloatNumeral).toNumeral());
+        assertEquals(BIG_DEC, mutable.getType());
+    }
+
+    @Test
+    public void foldTest() {
+        MutableNumeral mutable = new MutableNumeral();
+        IntNumeral step = new IntNumeral(1 << 20);
+
+        for(int i = 0; i < 4096; i++) {
+            mutable.add(step);
+        }
+
+        assertEquals(new LongNumeral(1L << 32), mutable.toNumeral());
+    }
+}
@@ -0,0 +1,232 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class NumeralArrayTest {
+    @Test
+    public void storageTest() {
+        NumeralArray array = new NumeralArray(new IntNumeral(1), new LongNumeral(2), new BigIntNumeral(3),
+                new FloatNumeral(0.5f));
+
+        assertEquals(LONG, array.getType());
+        assertEquals(4, array.size());
+        assertEquals(2, array.getOverflowCount());
+        assertEquals(new LongNumeral(1), array.get(0));
+        assertEquals(new BigIntNumeral(3), array.get(2));
+        assertEquals(new FloatNumeral(0.5f), array.get(3));
+
+        array.set(2, new IntNumeral(7));
+        assertEquals(1, array.getOverflowCount());
+        assertEquals(new LongNumeral(7), array.get(2));
+        assertEquals(INT, new NumeralArray().getType());
+
+        assertThrows(IllegalArgumentException.class, () -> new NumeralArray(BIG_INT, 1));
+        assertThrows(IllegalArgumentException.class, () -> new NumeralArray(INT, -1));
+        assertThrows(IllegalArgumentException.class, () -> new NumeralArray(new double[] { Double.NaN }));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(4));
+        assertThrows(IllegalArgumentException.class, () -> array.add(new NumeralArray(INT, 3)));
+    }
+
+    @Test
+    public void addTest() {
+        NumeralArray array = new NumeralArray(new int[] { 1, 2, Integer.MAX_VALUE });
+        Numeral[] expected = elementwise(array, new IntNumeral(1), Operations::add);
+        array.add(new IntNumeral(1));
+        assertArray(expected, array);
+        assertEquals(INT, array.getType());
+        assertEquals(1, array.getOverflowCount());
+        assertEquals(new LongNumeral(Integer.MAX_VALUE + 1L), array.get(2));
+
+        NumeralArray longs = new NumeralArray(new long[] { 5, Long.MAX_VALUE, -3 });
+        NumeralArray other = new NumeralArray(new long[] { 1, 1, 3 });
+        expected = elementwise(longs, other, Operations::add);
+        longs.add(other);
+        assertArray(expected, longs);
+        assertEquals(new BigIntNumeral(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)), longs.get(1));
+
+        NumeralArray doubles = new NumeralArray(new double[] { 0.1, 1e308, -2 });
+        expected = elementwise(doubles, new DoubleNumeral(1e308), Operations::add);
+        doubles.add(new DoubleNumeral(1e308));
+        assertArray(expected, doubles);
+        assertEquals(BIG_DEC, doubles.get(1).getType());
+
+        NumeralArray ints = new NumeralArray(new int[] { 1, 2, 3 });
+        ints.add(new NumeralArray(new double[] { 0.5, 0.25, 0.125 }));
+        assertEquals(DOUBLE, ints.getType());
+        assertArray(new Numeral[] { new DoubleNumeral(1.5), new DoubleNumeral(2.25), new DoubleNumeral(3.125) },
+                ints);
+    }
+
+    @Test
+    public void multiplyTest() {
+        NumeralArray array = new NumeralArray(new IntNumeral(3), new BigIntNumeral(4), new IntNumeral(65536));
+        NumeralArray other = new NumeralArray(new IntNumeral(5), new IntNumeral(6), new IntNumeral(65536));
+        Numeral[] expected = elementwise(array, other, Operations::multiply);
+        array.multiply(other);
+        assertArray(expected, array);
+        assertEquals(new IntNumeral(15), array.get(0));
+        assertEquals(new BigIntNumeral(24), array.get(1));
+        assertEquals(new LongNumeral(1L << 32), array.get(2));
+
+        NumeralArray longs = new NumeralArray(new long[] { 3, 1L << 40, -7 });
+        expected = elementwise(longs, new LongNumeral(1L << 30), Operations::multiply);
+        longs.multiply(new LongNumeral(1L << 30));
+        assertArray(expected, longs);
+        assertEquals(BIG_INT, longs.get(1).getType());
+
+        NumeralArray doubles = new NumeralArray(new double[] { 1.5, -2.5 });
+        doubles.multiply(new IntNumeral(2));
+        assertArray(new Numeral[] { new DoubleNumeral(3), new DoubleNumeral(-5) }, doubles);
+    }
+
+    @Test
+    public void powerTest() {
+        NumeralArray array = new NumeralArray(new int[] { 2, 3, -4, 0 });
+        Numeral[] expected = elementwise(array, new IntNumeral(3), Operations::power);
+        array.power(new IntNumeral(3));
+        assertArray(expected, array);
+
+        array = new NumeralArray(new int[] { 2, 1000 });
+        expected = elementwise(array, new IntNumeral(4), Operations::power);
+        array.power(new IntNumeral(4));
+        assertArray(expected, array);
+        assertEquals(LONG, array.get(1).getType());
+
+        NumeralArray doubles = new NumeralArray(new double[] { 1.5, 4, 1e200 });
+        expected = elementwise(doubles, new DoubleNumeral(2), Operations::power);
+        doubles.power(new DoubleNumeral(2));
+        assertArray(expected, doubles);
+    }
+
+    @Test
+    public void compareTest() {
+        NumeralArray array = new NumeralArray(new IntNumeral(1), new LongNumeral(5), new BigIntNumeral(-10));
+        NumeralArray other = new NumeralArray(new int[] { 2, 5, -11 });
+        assertArrayEquals(new int[] { -1, 0, 1 }, array.compare(other));
+        assertArrayEquals(new int[] { -1, 1, -1 }, array.compare(new IntNumeral(3)));
+
+        NumeralArray doubles = new NumeralArray(new double[] { -0.0, 0.5, 2 });
+        assertArrayEquals(new int[] { 0, 1, 1 }, doubles.compare(new IntNumeral(0)));
+        assertArrayEquals(new int[] { -1, 0, 1 }, doubles.compare(new DoubleNumeral(0.5)));
+        assertArrayEquals(new int[] { -1, 0, 0 }, doubles.compare(new NumeralArray(new double[] { 0.0, 0.5, 2 })));
+        assertArrayEquals(new int[] { 0, -1, 1 }, doubles.compare(new NumeralArray(new int[] { 0, 1, 1 })));
+
+        NumeralArray longs = new NumeralArray(new long[] { (1L << 53) + 1 });
+        assertArrayEquals(new int[] { 1 }, longs.compare(new DoubleNumeral(0x1p53)));
+
+        Numeral[] values = { new IntNumeral(0), new IntNumeral(-1), new LongNumeral(3), new DoubleNumeral(0.0),
+                new DoubleNumeral(-0.0), new DoubleNumeral(-1), new DoubleNumeral(2.5) };
+
+        for(Numeral value : values) {
+            for(Numeral element : values) {
+                NumeralArray single = new NumeralArray(element);
+                assertEquals(Numerals.compare(element, value), single.compare(value)[0], element + " " + value);
+                assertEquals(Numerals.compare(element, value), single.compare(new NumeralArray(value))[0],
+                        element + " " + value);
+            }
+        }
+    }
+
+    @Test
+    public void sumTest() {
+        assertEquals(new IntNumeral(6), new NumeralArray(new int[] { 1, 2, 3 }).sum());
+        assertEquals(new LongNumeral(2L * Integer.MAX_VALUE),
+                new NumeralArray(new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE }).sum());
+        assertEquals(new BigIntNumeral(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)),
+                new NumeralArray(new long[] { Long.MAX_VALUE, 2, -1 }).sum());
+        assertEquals(new DoubleNumeral(3.5), new NumeralArray(new double[] { 1, 2.5 }).sum());
+        assertEquals(BIG_DEC, new NumeralArray(new double[] { 1e308, 1e308 }).sum().getType());
+        assertEquals(new BigIntNumeral(10), new NumeralArray(new IntNumeral(3), new BigIntNumeral(7)).sum());
+        assertEquals(new IntNumeral(0), new NumeralArray(INT, 0).sum());
+
+        int[] cancelling = { Integer.MAX_VALUE, Integer.MAX_VALUE, -Integer.MAX_VALUE, -Integer.MAX_VALUE };
+        Numeral sequential = new IntNumeral(0);
+        for(int value : cancelling) {
+            sequential = Operations.add(sequential, new IntNumeral(value));
+        }
+        assertEquals(new LongNumeral(0), sequential);
+        assertEquals(new IntNumeral(0), new NumeralArray(cancelling).sum());
+    }
+
+    @Test
+    public void randomTest() {
+        Random random = new Random(42);
+
+        for(int round = 0; round < 50; round++) {
+            Numeral[] values = new Numeral[64];
+            Numeral[] others = new Numeral[64];
+
+            for(int i = 0; i < values.length; i++) {
+                values[i] = randomNumeral(random);
+                others[i] = randomNumeral(random);
+            }
+
+            NumeralArray array = new NumeralArray(values);
+            NumeralArray other = new NumeralArray(others);
+            Numeral[] expected = elementwise(array, other, Operations::add);
+            array.add(other);
+            assertArray(expected, array);
+
+            expected = elementwise(array, other, Operations::multiply);
+            array.multiply(other);
+            assertArray(expected, array);
+        }
+    }
+
+    private static Numeral randomNumeral(Random random) {
+        switch(random.nextInt(4)) {
+            case 0:
+                return new IntNumeral(random.nextInt());
+            case 1:
+                return new LongNumeral(random.nextLong());
+            case 2:
+                return new BigIntNumeral(BigInteger.valueOf(random.nextInt(100)));
+            default:
+                return new IntNumeral(random.nextInt(100));
+        }
+    }
+
+    private static Numeral[] elementwise(NumeralArray array, NumeralArray other,
+                                         BinaryOperator<Numeral> operation) {
+        Numeral[] result = new Numeral[array.size()];
+
+        for(int i = 0; i < result.length; i++) {
+            result[i] = operation.apply(array.get(i), other.get(i));
+        }
+
+        return result;
+    }
+
+    private static Numeral[] elementwise(NumeralArray array, Numeral other, BinaryOperator<Numeral> operation) {
+        Numeral[] result = new Numeral[array.size()];
+
+        for(int i = 0; i < result.length; i++) {
+            result[i] = operation.apply(array.get(i), other);
+        }
+
+        return result;
+    }
+
+    private static void assertArray(Numeral[] expected, NumeralArray actual) {
+        assertEquals(expected.length, actual.size());
+
+        for(int i = 0; i < expected.length; i++) {
+            assertEquals(0, Numerals.compare(expected[i], actual.get(i)),
+                    "Element " + i + ": expected " + expected[i] + " but was " + actual.get(i));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.NumeralCodec;
+import me.datafox.dfxengine.math.utils.Numerals;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class NumeralCodecTest {
+    @Test
+    public void parseIntegerTest() {
+        assertEquals(new IntNumeral(42), NumeralCodec.parse("42"));
+        assertEquals(new IntNumeral(-42), NumeralCodec.parse("-42"));
+        assertEquals(new IntNumeral(7), NumeralCodec.parse("+0007"));
+        assertEquals(new IntNumeral(Integer.MIN_VALUE), NumeralCodec.parse(String.valueOf(Integer.MIN_VALUE)));
+        assertEquals(new LongNumeral(Integer.MAX_VALUE + 1L), NumeralCodec.parse("2147483648"));
+        assertEquals(new LongNumeral(Long.MAX_VALUE), NumeralCodec.parse(String.valueOf(Long.MAX_VALUE)));
+        assertEquals(new LongNumeral(Long.MIN_VALUE), NumeralCodec.parse(String.valueOf(Long.MIN_VALUE)));
+        assertEquals(new BigIntNumeral("9223372036854775808"), NumeralCodec.parse("9223372036854775808"));
+        assertEquals(new IntNumeral(123), NumeralCodec.parse(new StringBuilder("x=123;"), 2, 5));
+    }
+
+    @Test
+    public void parseDecimalTest() {
+        String[] values = { "1.5", "-0.25", "1.50", "0.0000", "-0.0", "1.", ".5", "1e3", "1E-3", "-12.5e+2",
+                "123456789012345678.9", "0.000000000000000000000000001", "1e2147483647", "3.14159265358979323846" };
+
+        for(String value : values) {
+            Numeral parsed = NumeralCodec.parse(value);
+            assertEquals(new BigDecNumeral(new BigDecimal(value)), parsed, value);
+            assertEquals(Numerals.of(value), parsed, value);
+        }
+    }
+
+    @Test
+    public void parseInvalidTest() {
+        String[] values = { "", "-", "+", ".", "e5", "1e", "1e+", "1..2", "1.2.3", "12a", " 1", "1 ", "1e5.5" };
+
+        for(String value : values) {
+            assertThrows(NumberFormatException.class, () -> NumeralCodec.parse(value), value);
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> NumeralCodec.parse("123", 2, 4));
+    }
+
+    @Test
+    public void binaryTest() {
+        Numeral[] numerals = {
+                new IntNumeral(0), new IntNumeral(-64), new IntNumeral(Integer.MIN_VALUE),
+                new LongNumeral(Long.MAX_VALUE), new LongNumeral(-1),
+                new BigIntNumeral(5), new BigIntNumeral(BigInteger.TEN.pow(40).negate()),
+                new FixedNumeral("-12.345"), new FloatNumeral(-0f), new FloatNumeral(0.1f),
+                new DoubleNumeral(Double.MIN_VALUE), new DoubleNumeral(-1e300),
+                new DoubleDoubleNumeral(DoubleDouble.valueOf("0.1")),
+                new BigDecNumeral("1.50"), new BigDecNumeral("-1E+20"), new BigDecNumeral(new BigDecimal(
+                        BigInteger.TEN.pow(30).add(BigInteger.ONE), 12)),
+                new HugeNumeral(-2.5, 1000000), new HugeNumeral(0, 0)
+        };
+
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        int expectedSize = 0;
+
+        for(Numeral numeral : numerals) {
+            int position = buffer.position();
+            NumeralCodec.write(numeral, buffer);
+            assertEquals(NumeralCodec.encodedSize(numeral), buffer.position() - position, numeral.toString());
+            expectedSize += NumeralCodec.encodedSize(numeral);
+        }
+
+        assertEquals(expectedSize, buffer.position());
+        assertEquals(2, NumeralCodec.encodedSize(new IntNumeral(-64)));
+        assertEquals(2, NumeralCodec.encodedSize(new BigIntNumeral(5)) - 1);
+        buffer.flip();
+
+        for(Numeral numeral : numerals) {
+            Numeral read = NumeralCodec.read(buffer);
+            assertEquals(numeral, read);
+            assertEquals(numeral.getType(), read.getType());
+        }
+
+        assertFalse(buffer.hasRemaining());
+        assertEquals(Float.floatToRawIntBits(-0f), Float.floatToRawIntBits(readWritten(new FloatNumeral(-0f))
+                .floatValue()));
+    }
+
+    @Test
+    public void binaryRandomTest() {
+        Random random = new Random(7);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        for(int i = 0; i < 10000; i++) {
+            Numeral numeral;
+
+            switch(random.nextInt(3)) {
+                case 0:
+                    numeral = new IntNumeral(random.nextInt() >> random.nextInt(32));
+                    break;
+                case 1:
+                    numeral = new LongNumeral(random.nextLong() >> random.nextInt(64));
+                    break;
+                default:
+                    numeral = new BigDecNumeral(BigDecimal.valueOf(random.nextLong(), random.nextInt(40) - 20));
+            }
+
+            buffer.clear();
+            NumeralCodec.write(numeral, buffer);
+            buffer.flip();
+            assertEquals(numeral, NumeralCodec.read(buffer));
+        }
+    }
+
+    @Test
+    public void binaryTagTest() {
+        assertEquals(0, writtenTag(new IntNumeral(1)));
+        assertEquals(1, writtenTag(new LongNumeral(1)));
+        assertEquals(2, writtenTag(new BigIntNumeral(1)));
+        assertEquals(3, writtenTag(new FixedNumeral("1")));
+        assertEquals(4, writtenTag(new FloatNumeral(1)));
+        assertEquals(5, writtenTag(new DoubleNumeral(1)));
+        assertEquals(6, writtenTag(new DoubleDoubleNumeral(DoubleDouble.valueOf("1"))));
+        assertEquals(7, writtenTag(new BigDecNumeral("1")));
+        assertEquals(8, writtenTag(new HugeNumeral(1, 0)));
+        assertEquals(new LongNumeral(-1), NumeralCodec.read(ByteBuffer.wrap(new byte[] { 1, 1 })));
+        assertEquals(new DoubleNumeral(1), NumeralCodec.read(ByteBuffer.allocate(9).put((byte) 5).putDouble(1)
+                .flip()));
+    }
+
+    @Test
+    public void binaryInvalidTest() {
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.read(ByteBuffer.wrap(new byte[] { 9 })));
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.read(ByteBuffer.wrap(new byte[] { -1 })));
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.read(ByteBuffer.wrap(new byte[] { 99 })));
+        assertThrows(BufferUnderflowException.class, () -> NumeralCodec.read(ByteBuffer.wrap(new byte[] { 0 })));
+        assertThrows(BufferUnderflowException.class, () -> NumeralCodec.read(ByteBuffer.wrap(
+                new byte[] { 2, 5, 1 })));
+
+        byte[] bytes = new byte[12];
+        bytes[0] = 1;
+        for(int i = 1; i < bytes.length; i++) {
+            bytes[i] = (byte) 0x80;
+        }
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.read(ByteBuffer.wrap(bytes)));
+    }
+
+    private static byte writtenTag(Numeral numeral) {
+        ByteBuffer buffer = ByteBuffer.allocate(NumeralCodec.encodedSize(numeral));
+        NumeralCodec.write(numeral, buffer);
+        return buffer.get(0);
+    }
+
+    private static Numeral readWritten(Numeral numeral) {
+        ByteBuffer buffer = ByteBuffer.allocate(NumeralCodec.encodedSize(numeral));
+        NumeralCodec.write(numeral, buffer);
+        buffer.flip();
+        return NumeralCodec.read(buffer);
+    }
+}
@@ -0,0 +1,54 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.NumeralMemo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class NumeralMemoTest {
+    @Test
+    public void bigDecTest() {
+        NumeralMemo memo = new NumeralMemo();
+        Numeral numeral = new DoubleNumeral(1.5);
+
+        BigDecimal first = memo.bigDecValue(numeral);
+        assertEquals(numeral.bigDecValue(), first);
+        assertSame(first, memo.bigDecValue(numeral));
+
+        Numeral other = new DoubleNumeral(1.5);
+        BigDecimal second = memo.bigDecValue(other);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+
+        memo.clear();
+        assertNotSame(second, memo.bigDecValue(other));
+        assertThrows(NullPointerException.class, () -> memo.bigDecValue(null));
+    }
+
+    @Test
+    public void doubleTest() {
+        NumeralMemo memo = new NumeralMemo();
+
+        assertEquals(0.25, memo.doubleValue(new BigDecNumeral("0.25")));
+        assertEquals(7, memo.doubleValue(new IntNumeral(7)));
+    }
+
+    @Test
+    public void exponentTest() {
+        NumeralMemo memo = new NumeralMemo();
+
+        assertEquals(3, memo.exponent(new IntNumeral(1234)));
+        assertEquals(-2, memo.exponent(new BigDecNumeral("0.05")));
+        assertEquals(0, memo.exponent(new IntNumeral(0)));
+        assertEquals(0, memo.exponent(new BigDecNumeral("0.000")));
+        assertEquals(2, memo.exponent(new BigDecNumeral("123.400")));
+        assertEquals(1000000, memo.exponent(new HugeNumeral(2.5, 1000000)));
+    }
+}
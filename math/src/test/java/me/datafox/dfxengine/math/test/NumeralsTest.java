@@ -37,6 +37,26 @@ public class NumeralsTest {
         assertThrows(NumberFormatException.class, () -> of(new FunkyNumber()));
     }
 
+    @Test
+    public void cacheTest() {
+        assertSame(Numerals.of(0), Numerals.of(0));
+        assertSame(Numerals.of(-128), Numerals.of(-128));
+        assertSame(Numerals.of(1023L), Numerals.of(1023L));
+        assertNotSame(Numerals.of(1024), Numerals.of(1024));
+        assertEquals(Numerals.of(1024), Numerals.of(1024));
+        assertEquals(new IntNumeral(5), Numerals.of(5));
+        assertNotEquals(Numerals.of(5), Numerals.of(5L));
+        assertSame(Numerals.of(BigInteger.ONE), Numerals.of(BigInteger.valueOf(1)));
+        assertSame(Numerals.of(1d), Numerals.of(1d));
+        assertNotSame(Numerals.of(0d), Numerals.of(-0d));
+        assertEquals(-0d, Numerals.of(-0d).doubleValue());
+        assertSame(Numerals.of(0f), Numerals.of(0f));
+        assertSame(Numerals.of(BigDecimal.ZERO), Numerals.of(new BigDecimal("0")));
+        assertEquals(1, Numerals.of(new BigDecimal("0.0")).bigDecValue().scale());
+        assertEquals(INT, Numerals.of(5).getType());
+        assertEquals(BIG_DEC, Numerals.of(BigDecimal.ONE).getType());
+    }
+
     @Test
     public void isZeroTest() {
         assertTrue(isZero(new IntNumeral(0)));
@@ -86,6 +106,53 @@ public class NumeralsTest {
         assertEquals(0, compare(new FloatNumeral(9372.561f), new BigDecNumeral("9372.561")));
         assertEquals(1, compare(new BigDecNumeral("69247.0000000000001"), new IntNumeral(69247)));
         assertEquals(-1, compare(new DoubleNumeral(-0.0), new DoubleNumeral(0.0)));
+        assertEquals(0, compare(new DoubleNumeral(-0.0), new IntNumeral(0)));
+
+        assertEquals(1, compare(new LongNumeral(9007199254740993L), new DoubleNumeral(9007199254740992d)));
+        assertEquals(1, compare(new IntNumeral(16777217), new FloatNumeral(16777216f)));
+        assertEquals(-1, compare(new LongNumeral(Long.MAX_VALUE), new DoubleNumeral(0x1p63)));
+        assertEquals(0, compare(new LongNumeral(Long.MIN_VALUE), new DoubleNumeral(-0x1p63)));
+        assertEquals(1, compare(new IntNumeral(3), new DoubleNumeral(2.5d)));
+        assertEquals(-1, compare(new DoubleNumeral(-2.5d), new IntNumeral(-2)));
+        assertEquals(1, compare(new BigIntNumeral("1267650600228229401496703205376"), new LongNumeral(Long.MAX_VALUE)));
+        assertEquals(0, compare(new LongNumeral(5L), new BigIntNumeral(5)));
+        assertEquals(0, compare(new FixedNumeral("2.50"), new DoubleNumeral(2.5d)));
+        assertEquals(-1, compare(new FixedNumeral("0.1"), new DoubleNumeral(0.1d)));
+        assertEquals(0, compare(new FloatNumeral(0.1f), new FixedNumeral("0.1")));
+        assertEquals(-1, compare(new FixedNumeral("-2.75"), new IntNumeral(-2)));
+        assertEquals(1, compare(new DoubleDoubleNumeral(DoubleDouble.of(1, 1e-20)), new DoubleNumeral(1d)));
+        assertEquals(-1, compare(new LongNumeral(1L), new DoubleDoubleNumeral(DoubleDouble.of(1, 1e-20))));
+        assertEquals(1, compare(new BigDecNumeral("1e400"), new DoubleNumeral(1e300d)));
+        assertEquals(1, compare(new BigDecNumeral("-1e-400"), new IntNumeral(-1)));
+        assertEquals(-1, compare(new LongNumeral(5L), new HugeNumeral(1, 1000000)));
+        assertEquals(1, compare(new BigDecNumeral("123.25"), new HugeNumeral(1.2, 2)));
+
+        DoubleDouble tenth = DoubleDouble.valueOf("0.1");
+        int tenthSign = new BigDecimal(tenth.getHigh()).add(new BigDecimal(tenth.getLow()))
+                .compareTo(new BigDecimal("0.1"));
+        assertNotEquals(0, tenthSign);
+        assertEquals(tenthSign, compare(new DoubleDoubleNumeral(tenth), new FixedNumeral("0.1")));
+        assertEquals(-tenthSign, compare(new FixedNumeral("0.1"), new DoubleDoubleNumeral(tenth)));
+        assertEquals(tenthSign, compare(new DoubleDoubleNumeral(tenth), new BigDecNumeral("0.1")));
+
+        BigInteger large = BigInteger.ONE.shiftLeft(120);
+        DoubleDoubleNumeral largePlusOne = new DoubleDoubleNumeral(DoubleDouble.of(0x1p120, 1));
+        assertEquals(0, compare(largePlusOne, new BigIntNumeral(large.add(BigInteger.ONE))));
+        assertEquals(-1, compare(largePlusOne, new BigIntNumeral(large.add(BigInteger.TWO))));
+        assertEquals(1, compare(new BigIntNumeral(large.add(BigInteger.TWO)), largePlusOne));
+        assertEquals(1, compare(largePlusOne, new BigIntNumeral(large)));
+    }
+
+    @Test
+    public void signumTest() {
+        assertEquals(0, signum(new IntNumeral(0)));
+        assertEquals(-1, signum(new LongNumeral(-345345345345345L)));
+        assertEquals(1, signum(new BigIntNumeral(37)));
+        assertEquals(-1, signum(new FixedNumeral("-0.01")));
+        assertEquals(0, signum(new FloatNumeral(-0.0f)));
+        assertEquals(1, signum(new DoubleNumeral(Double.MIN_VALUE)));
+        assertEquals(-1, signum(new BigDecNumeral("-1e-734")));
+        assertEquals(1, signum(new HugeNumeral(1, 1000000)));
     }
 
     @Test
@@ -109,6 +176,11 @@ public class NumeralsTest {
         assertEquals(BIG_DEC, getSignificantType(FLOAT, BIG_DEC));
         assertEquals(BIG_DEC, getSignificantType(DOUBLE, BIG_DEC));
         assertEquals(BIG_DEC, getSignificantType(BIG_DEC, BIG_DEC));
+        assertEquals(HUGE, getSignificantType(INT, HUGE));
+        assertEquals(HUGE, getSignificantType(BIG_INT, HUGE));
+        assertEquals(HUGE, getSignificantType(DOUBLE, HUGE));
+        assertEquals(HUGE, getSignificantType(BIG_DEC, HUGE));
+        assertEquals(HUGE, getSignificantType(HUGE, HUGE));
 
         assertEquals(INT, getSignificantType(INT, INT, INT));
         assertEquals(LONG, getSignificantType(INT, LONG, INT));
@@ -128,7 +200,38 @@ public class NumeralsTest {
         assertEquals(BIG_DEC, getSignificantType(BIG_INT, BIG_DEC, INT, BIG_INT, FLOAT, DOUBLE));
         assertEquals(BIG_DEC, getSignificantType(FLOAT, BIG_DEC, INT, BIG_INT, FLOAT, DOUBLE));
         assertEquals(BIG_DEC, getSignificantType(DOUBLE, BIG_DEC, INT, BIG_INT, FLOAT, DOUBLE));
+        assertEquals(HUGE, getSignificantType(BIG_DEC, INT, BIG_INT, HUGE, DOUBLE));
         assertEquals(BIG_DEC, getSignificantType(BIG_DEC, BIG_DEC, INT, BIG_INT, FLOAT, DOUBLE));
+        assertEquals(BIG_DEC, getSignificantType(BIG_INT, INT, FLOAT));
+        assertEquals(BIG_DEC, getSignificantType(FLOAT, INT, BIG_INT));
+
+        assertEquals(FIXED, getSignificantType(INT, FIXED));
+        assertEquals(FIXED, getSignificantType(FIXED, LONG));
+        assertEquals(BIG_DEC, getSignificantType(BIG_INT, FIXED));
+        assertEquals(FLOAT, getSignificantType(FIXED, FLOAT));
+        assertEquals(DOUBLE, getSignificantType(DOUBLE, FIXED));
+        assertEquals(DOUBLE, getSignificantType(FLOAT, DOUBLE));
+        assertEquals(BIG_DEC, getSignificantType(DOUBLE, BIG_INT));
+        assertEquals(DOUBLE_DOUBLE, getSignificantType(INT, DOUBLE_DOUBLE));
+        assertEquals(DOUBLE_DOUBLE, getSignificantType(DOUBLE_DOUBLE, DOUBLE));
+        assertEquals(DOUBLE_DOUBLE, getSignificantType(FIXED, DOUBLE_DOUBLE));
+        assertEquals(BIG_DEC, getSignificantType(DOUBLE_DOUBLE, BIG_INT));
+        assertEquals(BIG_DEC, getSignificantType(BIG_DEC, DOUBLE_DOUBLE));
+        assertEquals(BIG_DEC, getSignificantType(INT, BIG_DEC));
+        assertEquals(BIG_DEC, getSignificantType(BIG_DEC, BIG_INT));
+        assertEquals(HUGE, getSignificantType(HUGE, INT));
+        assertEquals(HUGE, getSignificantType(FIXED, HUGE));
+        assertEquals(HUGE, getSignificantType(HUGE, DOUBLE_DOUBLE));
+        assertEquals(HUGE, getSignificantType(BIG_DEC, HUGE));
+        assertEquals(HUGE, getSignificantType(HUGE, HUGE));
+        assertEquals(LONG, getSignificantType(INT, INT, LONG));
+        assertEquals(FIXED, getSignificantType(FIXED, INT, LONG));
+        assertEquals(BIG_DEC, getSignificantType(FIXED, INT, BIG_INT));
+        assertEquals(DOUBLE_DOUBLE, getSignificantType(FLOAT, DOUBLE_DOUBLE, FIXED));
+        assertEquals(HUGE, getSignificantType(DOUBLE_DOUBLE, BIG_DEC, HUGE));
+
+        assertThrows(NullPointerException.class, () -> getSignificantType(INT, null));
+        assertThrows(NullPointerException.class, () -> getSignificantType(null, INT, LONG));
     }
 
     private static class FunkyNumber extends Number {
@@ -0,0 +1,93 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.numeral.BigDecNumeral;
+import me.datafox.dfxengine.math.numeral.BigIntNumeral;
+import me.datafox.dfxengine.math.utils.OperationCache;
+import me.datafox.dfxengine.math.utils.Operations;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class OperationCacheTest {
+    private static final BigDecimal two = new BigDecimal(2);
+    private static final BigDecimal three = new BigDecimal(3);
+    private static final BigDecimal ten = BigDecimal.TEN;
+
+    @Test
+    public void hitMissTest() {
+        OperationCache cache = new OperationCache(16);
+
+        BigDecimal result = cache.pow(two, new BigDecimal("0.5"), MathContext.DECIMAL64);
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertSame(result, cache.pow(two, new BigDecimal("0.5"), MathContext.DECIMAL64));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        cache.pow(two, new BigDecimal("0.5"), MathContext.DECIMAL128);
+        cache.root(two, new BigDecimal("0.5"), MathContext.DECIMAL64);
+        cache.exp(two, MathContext.DECIMAL64);
+        cache.log(two, MathContext.DECIMAL64);
+        cache.log2(two, MathContext.DECIMAL64);
+        cache.log10(two, MathContext.DECIMAL64);
+        assertEquals(1, cache.getHits());
+        assertEquals(7, cache.getMisses());
+        assertEquals(7, cache.size());
+
+        cache.logN(three, two, MathContext.DECIMAL64);
+        assertEquals(2, cache.getHits());
+        assertEquals(8, cache.getMisses());
+
+        cache.resetCounters();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new OperationCache(0));
+    }
+
+    @Test
+    public void evictionTest() {
+        OperationCache cache = new OperationCache(2);
+
+        cache.exp(two, MathContext.DECIMAL64);
+        cache.exp(three, MathContext.DECIMAL64);
+        cache.exp(two, MathContext.DECIMAL64);
+        cache.exp(ten, MathContext.DECIMAL64);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        cache.exp(two, MathContext.DECIMAL64);
+        assertEquals(2, cache.getHits());
+        cache.exp(three, MathContext.DECIMAL64);
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(2, cache.getEvictions());
+    }
+
+    @Test
+    public void globalCacheTest() {
+        OperationCache cache = new OperationCache(16);
+        Operations.setCache(cache);
+
+        try {
+            assertSame(cache, Operations.getCache());
+            assertEquals(Operations.exp(new BigDecNumeral("2.5")), Operations.exp(new BigDecNumeral("2.5")));
+            assertEquals(1, cache.getHits());
+            Operations.logN(new BigIntNumeral(100), new BigIntNumeral(10));
+            Operations.logN(new BigIntNumeral(1000), new BigIntNumeral(10));
+            assertEquals(2, cache.getHits());
+        } finally {
+            Operations.setCache(null);
+        }
+
+        Operations.exp(new BigDecNumeral("2.5"));
+        assertEquals(2, cache.getHits());
+    }
+}
@@ -1,12 +1,19 @@
 package me.datafox.dfxengine.math.test;
 
 import ch.obermuhlner.math.big.BigDecimalMath;
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
 import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Operations;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.util.HashMap;
+import java.util.Map;
 
 import static me.datafox.dfxengine.math.utils.Operations.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -384,4 +391,48 @@ public class OperationsTest {
 
         assertEquals(new BigDecNumeral("1.762485706054189291957687845179332e+3082"), lerp(otherBigDecNumeral, negativeBigDecNumeral, bigDecNumeral));
     }
+
+    @Test
+    public void sameTypeTest() {
+        Numeral[][] operands = {
+                { zero, one, intNumeral, largeIntNumeral, negativeIntNumeral, new IntNumeral(-1) },
+                { new LongNumeral(0), new LongNumeral(1), longNumeral, tinyLongNumeral, negativeLongNumeral },
+                { new DoubleNumeral(0), new DoubleNumeral(-0d), new DoubleNumeral(1),
+                        doubleNumeral, negativeDoubleNumeral, new DoubleNumeral(0.1) }
+        };
+
+        for(Numeral[] numerals : operands) {
+            for(Numeral a : numerals) {
+                for(Numeral b : numerals) {
+                    NumeralType type = a.getType();
+                    assertSameResult(addWithFloor(a, b, type), add(a, b));
+                    assertSameResult(subtractWithFloor(a, b, type), subtract(a, b));
+                    assertSameResult(multiplyWithFloor(a, b, type), multiply(a, b));
+                }
+            }
+        }
+
+        assertSame(intNumeral, add(zero, intNumeral));
+        assertSame(tinyLongNumeral, subtract(tinyLongNumeral, new LongNumeral(0)));
+        assertSame(doubleNumeral, multiply(new DoubleNumeral(1), doubleNumeral));
+    }
+
+    @Test
+    public void overloadArityTest() {
+        Map<String,Integer> arities = new HashMap<>();
+        for(Method method : Operations.class.getMethods()) {
+            if(!Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass() != Operations.class) {
+                continue;
+            }
+            Integer arity = arities.putIfAbsent(method.getName(), method.getParameterCount());
+            assertTrue(arity == null || arity == method.getParameterCount(),
+                    "overloads of " + method.getName() + " have different parameter counts, which makes method " +
+                            "references to them ambiguous");
+        }
+    }
+
+    private static void assertSameResult(Numeral expected, Numeral actual) {
+        assertEquals(expected, actual);
+        assertEquals(expected.getType(), actual.getType());
+    }
 }
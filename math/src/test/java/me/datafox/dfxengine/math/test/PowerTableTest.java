@@ -0,0 +1,94 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+import me.datafox.dfxengine.math.utils.PowerTable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class PowerTableTest {
+    @Test
+    public void integerExponentTest() {
+        PowerTable table = new PowerTable(new IntNumeral(3));
+
+        assertEquals(new IntNumeral(1), table.get(0));
+        assertEquals(new IntNumeral(3), table.get(1));
+        assertEquals(new IntNumeral(59049), table.get(10));
+        assertEquals(11, table.size());
+        assertEquals(new LongNumeral(4052555153018976267L), table.get(39));
+        assertEquals(new BigIntNumeral(BigInteger.valueOf(3).pow(100)), table.get(100));
+        assertEquals(BIG_INT, table.get(100).getType());
+        assertSame(table.get(50), table.get(50));
+        assertEquals(new BigIntNumeral(BigInteger.valueOf(3).pow(5000)), table.get(5000));
+        assertEquals(101, table.size());
+
+        assertEquals(new IntNumeral(0), table.get(-2));
+        assertEquals(new DoubleNumeral(0.25), new PowerTable(new DoubleNumeral(2)).get(-2));
+        assertThrows(IllegalArgumentException.class, () -> new PowerTable(new IntNumeral(2), -1));
+    }
+
+    @Test
+    public void decimalExponentTest() {
+        PowerTable table = new PowerTable(new DoubleNumeral(1.15));
+
+        for(int i = 0; i <= 200; i++) {
+            assertEquals(Math.pow(1.15, i), table.get(i).doubleValue(), Math.pow(1.15, i) * 1e-14);
+        }
+
+        assertEquals(table.get(20), table.get(new IntNumeral(20)));
+        assertEquals(table.get(20), table.get(new DoubleNumeral(20)));
+        assertEquals(Math.pow(1.15, 20.5), table.get(new DoubleNumeral(20.5)).doubleValue(),
+                Math.pow(1.15, 20.5) * 1e-14);
+        assertEquals(Math.pow(1.15, -3.25), table.get(new DoubleNumeral(-3.25)).doubleValue(),
+                Math.pow(1.15, -3.25) * 1e-14);
+
+        Numeral interpolated = table.interpolate(new DoubleNumeral(20.5));
+        assertEquals((table.get(20).doubleValue() + table.get(21).doubleValue()) / 2, interpolated.doubleValue(),
+                1e-12);
+        assertTrue(Numerals.compare(interpolated, table.get(new DoubleNumeral(20.5))) > 0);
+        assertEquals(table.get(20), table.interpolate(new IntNumeral(20)));
+    }
+
+    @Test
+    public void bigDecimalTest() {
+        PowerTable table = new PowerTable(new BigDecNumeral("1.07"), 64);
+
+        assertEquals(BIG_DEC, table.get(64).getType());
+        BigDecimal expected = new BigDecimal("1.07").pow(64);
+        BigDecimal error = table.get(64).bigDecValue().subtract(expected).abs();
+        assertTrue(error.compareTo(expected.scaleByPowerOfTen(-32)) < 0);
+        assertEquals(65, table.size());
+        table.get(100);
+        assertEquals(65, table.size());
+    }
+
+    @Test
+    public void maxExponentTest() {
+        Numeral base = new DoubleNumeral(1.1);
+        PowerTable table = new PowerTable(base, 40);
+
+        assertEquals(Math.pow(1.1, 40), table.get(40).doubleValue(), Math.pow(1.1, 40) * 1e-14);
+        assertEquals(41, table.size());
+        assertEquals(Operations.power(base, new IntNumeral(41)), table.get(41));
+        assertEquals(Operations.power(base, new IntNumeral(-41)), table.get(-41));
+        assertEquals(41, table.size());
+
+        Numeral multiplied = Operations.multiply(table.get(40), base);
+        assertEquals(multiplied.doubleValue(), table.get(41).doubleValue(), multiplied.doubleValue() * 1e-14);
+
+        PowerTable integerTable = new PowerTable(new IntNumeral(3), 40);
+        assertEquals(new BigIntNumeral(BigInteger.valueOf(3).pow(41)), integerTable.get(41));
+        assertEquals(Operations.multiply(integerTable.get(41), Operations.power(new IntNumeral(3),
+                new DoubleNumeral(0.5))), integerTable.get(new DoubleNumeral(41.5)));
+    }
+}
@@ -0,0 +1,95 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Operations;
+import me.datafox.dfxengine.math.utils.PromotionHint;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class PromotionHintTest {
+    @Test
+    public void floorTest() {
+        assertEquals(new LongNumeral(5), Operations.addWithFloor(new IntNumeral(2), new IntNumeral(3), LONG));
+        assertEquals(new BigIntNumeral(6), Operations.multiplyWithFloor(new IntNumeral(2), new IntNumeral(3), BIG_INT));
+        assertEquals(new LongNumeral(-1), Operations.subtractWithFloor(new IntNumeral(2), new IntNumeral(3), LONG));
+        assertEquals(new DoubleNumeral(5), Operations.addWithFloor(new IntNumeral(2), new IntNumeral(3), DOUBLE));
+        assertEquals(new IntNumeral(5), Operations.addWithFloor(new IntNumeral(2), new IntNumeral(3), INT));
+        assertEquals(new LongNumeral(Integer.MAX_VALUE + 1L),
+                Operations.addWithFloor(new IntNumeral(Integer.MAX_VALUE), new IntNumeral(1), INT));
+        assertThrows(NullPointerException.class,
+                () -> Operations.addWithFloor(new IntNumeral(1), new IntNumeral(1), null));
+    }
+
+    @Test
+    public void stickyTest() {
+        PromotionHint hint = new PromotionHint();
+        assertEquals(INT, hint.getIntegerFloor());
+        assertEquals(FIXED, hint.getDecimalFloor());
+
+        assertEquals(new IntNumeral(5), hint.add(new IntNumeral(2), new IntNumeral(3)));
+        assertEquals(new LongNumeral(5), hint.add(new LongNumeral(2), new IntNumeral(3)));
+        assertEquals(INT, hint.getIntegerFloor());
+
+        assertEquals(new LongNumeral(Integer.MAX_VALUE + 1L),
+                hint.add(new IntNumeral(Integer.MAX_VALUE), new IntNumeral(1)));
+        assertEquals(LONG, hint.getIntegerFloor());
+        assertEquals(new LongNumeral(5), hint.add(new IntNumeral(2), new IntNumeral(3)));
+
+        Numeral value = new LongNumeral(Long.MAX_VALUE / 2 + 1);
+        assertEquals(new BigIntNumeral(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)),
+                hint.multiply(value, new IntNumeral(2)));
+        assertEquals(BIG_INT, hint.getIntegerFloor());
+        assertEquals(new BigIntNumeral(6), hint.multiply(new IntNumeral(2), new IntNumeral(3)));
+        assertEquals(new BigIntNumeral(-1), hint.subtract(new IntNumeral(2), new IntNumeral(3)));
+
+        assertEquals(new FloatNumeral(1.5f), hint.add(new FloatNumeral(1), new FloatNumeral(0.5f)));
+        assertEquals(DOUBLE, hint.add(new FloatNumeral(Float.MAX_VALUE), new FloatNumeral(Float.MAX_VALUE)).getType());
+        assertEquals(DOUBLE, hint.getDecimalFloor());
+        assertEquals(BIG_INT, hint.getIntegerFloor());
+        assertEquals(new DoubleNumeral(1.5), hint.add(new FloatNumeral(1), new FloatNumeral(0.5f)));
+
+        hint.reset();
+        assertEquals(new IntNumeral(5), hint.add(new IntNumeral(2), new IntNumeral(3)));
+        assertEquals(LONG, new PromotionHint(LONG).getIntegerFloor());
+        assertEquals(DOUBLE, new PromotionHint(DOUBLE).raise(FLOAT).getDecimalFloor());
+    }
+
+    @Test
+    public void fixedTest() {
+        PromotionHint hint = new PromotionHint();
+        Numeral big = new FixedNumeral(Fixed.of(Long.MAX_VALUE - 5, 2));
+        Numeral small = new FixedNumeral("10.00");
+
+        Numeral result = hint.add(big, small);
+        assertEquals(BIG_DEC, result.getType());
+        assertEquals(0, result.compareTo(Operations.add(big, small)));
+        assertEquals(BIG_DEC, hint.getDecimalFloor());
+        assertEquals(INT, hint.getIntegerFloor());
+        assertEquals(BIG_DEC, hint.add(small, small).getType());
+        assertEquals(0, new BigDecimal("20.00").compareTo(hint.add(small, small).bigDecValue()));
+    }
+
+    @Test
+    public void growthTest() {
+        PromotionHint hint = new PromotionHint();
+        Numeral hinted = new IntNumeral(1);
+        Numeral plain = new IntNumeral(1);
+
+        for(int i = 0; i < 100; i++) {
+            hinted = hint.multiply(hinted, new IntNumeral(3));
+            plain = Operations.multiply(plain, new IntNumeral(3));
+            assertEquals(0, hinted.compareTo(plain));
+        }
+
+        assertEquals(BIG_INT, hint.getIntegerFloor());
+    }
+}
@@ -7,6 +7,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import static me.datafox.dfxengine.math.utils.Range.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -155,4 +156,35 @@ public class RangeTest {
         assertTrue(isOutOfDoubleRange(bigDecOutsideDouble));
         assertTrue(isOutOfDoubleRange(negativeBigDecOutsideDouble));
     }
+
+    @Test
+    public void boundaryTest() {
+        BigDecimal[] bounds = { DEC_MIN_INT, DEC_MAX_INT, DEC_MIN_LONG, DEC_MAX_LONG, DEC_MIN_FLOAT, DEC_MAX_FLOAT,
+                DEC_MIN_DOUBLE, DEC_MAX_DOUBLE, BigDecimal.ZERO, new BigDecimal("0E+400"), new BigDecimal("0E-400"),
+                new BigDecimal("1E+9"), new BigDecimal("1E+10"), new BigDecimal("-1E+18"), new BigDecimal("1E+19"),
+                new BigDecimal("1E+38"), new BigDecimal("1E+39"), new BigDecimal("-1E+308"), new BigDecimal("1E+309") };
+        BigDecimal[] offsets = { BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.ONE.negate(), new BigDecimal("0.5"),
+                new BigDecimal("-0.5"), new BigDecimal("1E-50") };
+
+        for(BigDecimal bound : bounds) {
+            for(BigDecimal offset : offsets) {
+                BigDecimal bd = bound.add(offset);
+                BigInteger bi = bd.toBigInteger();
+                String message = bd.toString();
+
+                assertEquals(outside(bd, DEC_MIN_INT, DEC_MAX_INT), isOutOfIntRange(bd), message);
+                assertEquals(outside(bd, DEC_MIN_LONG, DEC_MAX_LONG), isOutOfLongRange(bd), message);
+                assertEquals(outside(bd, DEC_MIN_FLOAT, DEC_MAX_FLOAT), isOutOfFloatRange(bd), message);
+                assertEquals(outside(bd, DEC_MIN_DOUBLE, DEC_MAX_DOUBLE), isOutOfDoubleRange(bd), message);
+                assertEquals(outside(bi, INT_MIN_INT, INT_MAX_INT), isOutOfIntRange(bi), message);
+                assertEquals(outside(bi, INT_MIN_LONG, INT_MAX_LONG), isOutOfLongRange(bi), message);
+                assertEquals(outside(bi, INT_MIN_FLOAT, INT_MAX_FLOAT), isOutOfFloatRange(bi), message);
+                assertEquals(outside(bi, INT_MIN_DOUBLE, INT_MAX_DOUBLE), isOutOfDoubleRange(bi), message);
+            }
+        }
+    }
+
+    private static <T extends Comparable<T>> boolean outside(T value, T min, T max) {
+        return value.compareTo(min) < 0 || value.compareTo(max) > 0;
+    }
 }
@@ -0,0 +1,126 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.numeral.*;
+import me.datafox.dfxengine.math.utils.Operations;
+import me.datafox.dfxengine.math.utils.Reductions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class ReductionsTest {
+    @Test
+    public void sumTest() {
+        assertEquals(new IntNumeral(0), Reductions.sum());
+        assertEquals(new IntNumeral(6), Reductions.sum(new IntNumeral(1), new IntNumeral(2), new IntNumeral(3)));
+        assertEquals(new LongNumeral(6), Reductions.sum(new IntNumeral(1), new LongNumeral(2), new IntNumeral(3)));
+        assertEquals(new LongNumeral(2L * Integer.MAX_VALUE),
+                Reductions.sum(new IntNumeral(Integer.MAX_VALUE), new IntNumeral(Integer.MAX_VALUE)));
+        assertEquals(new BigIntNumeral(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(3))),
+                Reductions.sum(new LongNumeral(Long.MAX_VALUE), new LongNumeral(Long.MAX_VALUE),
+                        new LongNumeral(Long.MAX_VALUE)));
+        assertEquals(new BigIntNumeral(5), Reductions.sum(new BigIntNumeral(2), new IntNumeral(3)));
+        assertEquals(new FixedNumeral("0.30"), Reductions.sum(new FixedNumeral("0.10"), new FixedNumeral("0.20")));
+        assertEquals(new BigDecNumeral("2.5"), Reductions.sum(new BigDecNumeral("1.5"), new IntNumeral(1)));
+        assertEquals(new FloatNumeral(1.5f), Reductions.sum(new FloatNumeral(1), new FloatNumeral(0.5f)));
+        assertEquals(BIG_DEC, Reductions.sum(new DoubleNumeral(1e308), new DoubleNumeral(1e308)).getType());
+
+        List<Numeral> list = new ArrayList<>();
+        list.add(new DoubleNumeral(1));
+        list.add(new DoubleNumeral(1e100));
+        list.add(new DoubleNumeral(1));
+        list.add(new DoubleNumeral(-1e100));
+        assertEquals(new DoubleNumeral(2), Reductions.sum(list));
+    }
+
+    @Test
+    public void compensatedSumTest() {
+        Numeral[] numerals = new Numeral[10000];
+
+        for(int i = 0; i < numerals.length; i++) {
+            numerals[i] = new DoubleNumeral(0.1);
+        }
+
+        assertEquals(new DoubleNumeral(1000), Reductions.sum(numerals));
+
+        Numeral plain = new IntNumeral(0);
+
+        for(Numeral numeral : numerals) {
+            plain = Operations.add(plain, numeral);
+        }
+
+        assertNotEquals(new DoubleNumeral(1000), plain);
+    }
+
+    @Test
+    public void parallelTest() {
+        Numeral[] numerals = new Numeral[100000];
+        Numeral[] decimals = new Numeral[numerals.length];
+
+        for(int i = 0; i < numerals.length; i++) {
+            numerals[i] = new LongNumeral(Long.MAX_VALUE - i);
+            decimals[i] = new BigDecNumeral(BigDecimal.ONE.divide(BigDecimal.valueOf(i + 1), MathContext.DECIMAL128));
+        }
+
+        BigInteger expected = BigInteger.ZERO;
+
+        for(Numeral numeral : numerals) {
+            expected = expected.add(numeral.bigIntValue());
+        }
+
+        assertEquals(new BigIntNumeral(expected), Reductions.sum(numerals));
+        assertEquals(new LongNumeral(Long.MAX_VALUE), Reductions.max(numerals));
+        assertEquals(new LongNumeral(Long.MAX_VALUE - numerals.length + 1), Reductions.min(numerals));
+
+        Numeral precise = Operations.withContext(new MathContext(10), () -> Reductions.sum(decimals));
+        assertEquals(10, precise.bigDecValue().precision());
+    }
+
+    @Test
+    public void productTest() {
+        assertEquals(new IntNumeral(1), Reductions.product());
+        assertEquals(new IntNumeral(24), Reductions.product(new IntNumeral(2), new IntNumeral(3), new IntNumeral(4)));
+        assertEquals(new LongNumeral(24), Reductions.product(new IntNumeral(2), new LongNumeral(3),
+                new IntNumeral(4)));
+        assertEquals(new LongNumeral(1L << 40), Reductions.product(new IntNumeral(1 << 20), new IntNumeral(1 << 20)));
+        assertEquals(new DoubleNumeral(7.5), Reductions.product(new DoubleNumeral(2.5), new IntNumeral(3)));
+        assertEquals(BIG_DEC, Reductions.product(new DoubleNumeral(1e200), new DoubleNumeral(1e200)).getType());
+        assertEquals(new FixedNumeral("0.25"), Reductions.product(new FixedNumeral("0.5"), new FixedNumeral("0.5")));
+    }
+
+    @Test
+    public void minMaxTest() {
+        IntNumeral first = new IntNumeral(5);
+        LongNumeral second = new LongNumeral(5);
+
+        assertSame(first, Reductions.max(first, new IntNumeral(-1), second));
+        assertSame(first, Reductions.min(first, new IntNumeral(7), second));
+        assertEquals(new DoubleNumeral(-2.5), Reductions.min(new IntNumeral(1), new DoubleNumeral(-2.5),
+                new BigIntNumeral(3)));
+        assertEquals(new HugeNumeral(1, 400), Reductions.max(new IntNumeral(1), new HugeNumeral(1, 400),
+                new DoubleNumeral(1e300)));
+        assertThrows(NoSuchElementException.class, Reductions::min);
+        assertThrows(NoSuchElementException.class, Reductions::max);
+    }
+
+    @Test
+    public void meanTest() {
+        assertEquals(new DoubleNumeral(1.5), Reductions.mean(new IntNumeral(1), new IntNumeral(2)));
+        assertEquals(new DoubleNumeral(0.25), Reductions.mean(new DoubleNumeral(0.5), new DoubleNumeral(0)));
+        assertEquals(0, new BigDecimal("1.5E+30").compareTo(Reductions.mean(
+                new BigIntNumeral(BigInteger.TEN.pow(30)), new BigIntNumeral(BigInteger.TEN.pow(30).shiftLeft(1)))
+                .bigDecValue()));
+        assertThrows(NoSuchElementException.class, Reductions::mean);
+    }
+}
@@ -0,0 +1,101 @@
+package me.datafox.dfxengine.math.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.numeral.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static me.datafox.dfxengine.math.api.NumeralType.*;
+import static me.datafox.dfxengine.math.utils.Numerals.compare;
+import static me.datafox.dfxengine.math.utils.Operations.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class SeriesTest {
+    @Test
+    public void geometricSumTest() {
+        assertEquals(new IntNumeral(1023), geometricSum(new IntNumeral(1), new IntNumeral(2), new IntNumeral(10)));
+        assertEquals(new IntNumeral(50), geometricSum(new IntNumeral(5), new IntNumeral(1), new IntNumeral(10)));
+        assertEquals(new IntNumeral(0), geometricSum(new IntNumeral(5), new IntNumeral(3), new IntNumeral(0)));
+        assertEquals(new IntNumeral(5), geometricSum(new IntNumeral(5), new IntNumeral(0), new IntNumeral(4)));
+        assertEquals(new IntNumeral(70), geometricSum(new IntNumeral(10), new IntNumeral(-3), new IntNumeral(3)));
+        assertEquals(new LongNumeral(2026277576509488133L), geometricSum(new IntNumeral(1), new IntNumeral(3),
+                new IntNumeral(39)));
+
+        BigInteger expected = BigInteger.valueOf(7).multiply(BigInteger.valueOf(3).pow(200).subtract(BigInteger.ONE))
+                .divide(BigInteger.TWO);
+        assertEquals(new BigIntNumeral(expected), geometricSum(new IntNumeral(7), new IntNumeral(3),
+                new IntNumeral(200)));
+
+        Numeral sum = geometricSum(new DoubleNumeral(10), new DoubleNumeral(1.15), new IntNumeral(50));
+        double loop = 0;
+        for(int i = 0; i < 50; i++) {
+            loop += 10 * Math.pow(1.15, i);
+        }
+        assertEquals(loop, sum.doubleValue(), loop * 1e-12);
+
+        assertEquals(new FixedNumeral("3.31"), geometricSum(new FixedNumeral("1.00"), new FixedNumeral("1.1"),
+                new IntNumeral(3)));
+        assertEquals(BIG_DEC, geometricSum(new DoubleNumeral(1e300), new DoubleNumeral(10), new IntNumeral(20))
+                .getType());
+        assertThrows(ArithmeticException.class, () -> geometricSum(new IntNumeral(1), new IntNumeral(2),
+                new IntNumeral(-1)));
+    }
+
+    @Test
+    public void arithmeticSumTest() {
+        assertEquals(new IntNumeral(5050), arithmeticSum(new IntNumeral(1), new IntNumeral(1), new IntNumeral(100)));
+        assertEquals(new IntNumeral(0), arithmeticSum(new IntNumeral(7), new IntNumeral(3), new IntNumeral(0)));
+        assertEquals(new IntNumeral(-35), arithmeticSum(new IntNumeral(-5), new IntNumeral(0), new IntNumeral(7)));
+        assertEquals(new LongNumeral(5000000050000000L), arithmeticSum(new IntNumeral(1), new IntNumeral(1),
+                new IntNumeral(100000000)));
+        assertEquals(new BigIntNumeral(new BigInteger("42535295865117307919086767873688862721")),
+                arithmeticSum(new LongNumeral(0), new IntNumeral(1), new LongNumeral(Long.MAX_VALUE)));
+        assertEquals(new DoubleNumeral(32.5), arithmeticSum(new DoubleNumeral(1), new DoubleNumeral(0.5),
+                new IntNumeral(10)));
+        assertThrows(ArithmeticException.class, () -> arithmeticSum(new IntNumeral(1), new IntNumeral(2),
+                new IntNumeral(-1)));
+    }
+
+    @Test
+    public void maxGeometricCountTest() {
+        assertEquals(new IntNumeral(10), maxGeometricCount(new IntNumeral(1), new IntNumeral(2),
+                new IntNumeral(1023)));
+        assertEquals(new IntNumeral(9), maxGeometricCount(new IntNumeral(1), new IntNumeral(2),
+                new IntNumeral(1022)));
+        assertEquals(new IntNumeral(0), maxGeometricCount(new IntNumeral(5), new IntNumeral(2),
+                new IntNumeral(4)));
+        assertEquals(new IntNumeral(0), maxGeometricCount(new IntNumeral(5), new IntNumeral(2),
+                new IntNumeral(-4)));
+        assertEquals(new IntNumeral(3), maxGeometricCount(new IntNumeral(5), new IntNumeral(1),
+                new IntNumeral(19)));
+        assertEquals(new IntNumeral(2000000), maxGeometricCount(new IntNumeral(1), new DoubleNumeral(1),
+                new IntNumeral(2000000)));
+
+        BigInteger budget = BigInteger.valueOf(3).pow(1000).subtract(BigInteger.ONE).divide(BigInteger.TWO);
+        assertEquals(new IntNumeral(1000), maxGeometricCount(new IntNumeral(1), new IntNumeral(3),
+                new BigIntNumeral(budget)));
+        assertEquals(new IntNumeral(999), maxGeometricCount(new IntNumeral(1), new IntNumeral(3),
+                new BigIntNumeral(budget.subtract(BigInteger.ONE))));
+
+        Numeral count = maxGeometricCount(new DoubleNumeral(10), new DoubleNumeral(1.15),
+                new BigDecNumeral(new BigDecimal("1e12")));
+        assertTrue(compare(geometricSum(new DoubleNumeral(10), new DoubleNumeral(1.15), count),
+                new DoubleNumeral(1e12)) <= 0);
+        assertTrue(compare(geometricSum(new DoubleNumeral(10), new DoubleNumeral(1.15), add(count, new IntNumeral(1))),
+                new DoubleNumeral(1e12)) > 0);
+
+        assertEquals(new IntNumeral(3), maxGeometricCount(new IntNumeral(8), new DoubleNumeral(0.5),
+                new IntNumeral(14)));
+        assertThrows(ArithmeticException.class, () -> maxGeometricCount(new IntNumeral(8), new DoubleNumeral(0.5),
+                new IntNumeral(16)));
+        assertThrows(ArithmeticException.class, () -> maxGeometricCount(new IntNumeral(0), new IntNumeral(2),
+                new IntNumeral(16)));
+        assertThrows(ArithmeticException.class, () -> maxGeometricCount(new IntNumeral(1), new IntNumeral(-2),
+                new IntNumeral(16)));
+    }
+}
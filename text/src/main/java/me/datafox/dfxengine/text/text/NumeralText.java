@@ -1,6 +1,7 @@
 package me.datafox.dfxengine.text.text;
 
 import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.utils.NumeralMemo;
 import me.datafox.dfxengine.text.api.NumberFormatter;
 import me.datafox.dfxengine.text.api.Text;
 import me.datafox.dfxengine.text.api.TextConfiguration;
@@ -17,6 +18,8 @@ import java.util.function.Supplier;
  * @author datafox
  */
 public class NumeralText extends AbstractText {
+    private final NumeralMemo memo;
+
     private final Supplier<Numeral> supplier;
 
     /**
@@ -26,6 +29,7 @@ public class NumeralText extends AbstractText {
     public NumeralText(Supplier<Numeral> supplier, TextConfiguration configuration) {
         super(configuration);
         this.supplier = supplier;
+        memo = new NumeralMemo();
     }
 
     /**
@@ -42,6 +46,6 @@ public class NumeralText extends AbstractText {
             logger.warn(TextStrings.INVALID_NUMBER_FORMATTER);
             return supplier.get().toString();
         }
-        return formatter.format(supplier.get().bigDecValue(), factory, configuration);
+        return formatter.format(memo.bigDecValue(supplier.get()), factory, configuration);
     }
 }
@@ -1,6 +1,7 @@
 package me.datafox.dfxengine.text.text;
 
 import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.utils.NumeralMemo;
 import me.datafox.dfxengine.text.api.*;
 import me.datafox.dfxengine.text.utils.ConfigurationKeys;
 import me.datafox.dfxengine.text.utils.internal.TextStrings;
@@ -22,6 +23,8 @@ public class ValueText extends AbstractText {
      */
     public static final ConfigurationKey<Boolean> USE_MODIFIED = ConfigurationKey.of(true);
 
+    private final NumeralMemo memo;
+
     private final Supplier<Value> supplier;
 
     /**
@@ -31,6 +34,7 @@ public class ValueText extends AbstractText {
     public ValueText(Supplier<Value> supplier, TextConfiguration configuration) {
         super(configuration);
         this.supplier = supplier;
+        memo = new NumeralMemo();
     }
 
     /**
@@ -48,6 +52,6 @@ public class ValueText extends AbstractText {
             logger.warn(TextStrings.INVALID_NUMBER_FORMATTER);
             return numeral.getNumber().toString();
         }
-        return formatter.format(numeral.bigDecValue(), factory, configuration);
+        return formatter.format(memo.bigDecValue(numeral), factory, configuration);
     }
 }
@@ -1,5 +1,6 @@
 package me.datafox.dfxengine.values.api;
 
+import me.datafox.dfxengine.dependencies.InvalidationBatch;
 import me.datafox.dfxengine.handles.api.Handle;
 import me.datafox.dfxengine.handles.api.HandleMap;
 import me.datafox.dfxengine.handles.api.Space;
@@ -13,6 +14,7 @@ import me.datafox.dfxengine.values.api.operation.*;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * An extension of {@link HandleMap} for storing and manipulating multiple {@link Value Values} simultaneously. A
@@ -258,6 +260,21 @@ public interface ValueMap extends HandleMap<Value> {
      */
     void apply(Operation operation, MapMathContext context, Map<? extends Handle, Numeral[]> parameters);
 
+    /**
+     * Runs the specified action with this map as its parameter in an {@link InvalidationBatch}, so that changes to the
+     * {@link Value Values} of this map do not invalidate their dependents until the action has finished. A dependent
+     * that depends on many changed Values, like a {@link Modifier} with multiple Values as parameters, is then only
+     * walked once instead of once for every changed Value. Dependents may return stale values while the action is
+     * running. If rollback is enabled and the action throws any exception or error, the base
+     * {@link Numeral Numerals} of all Values that were in this map when the action started are restored before it
+     * is rethrown. Added or removed Values and {@link Modifier Modifiers} are not rolled back.
+     *
+     * @param action action to be run
+     * @param rollback {@code true} if base {@link Numeral Numerals} should be restored if the action throws an
+     * exception
+     */
+    void batch(Consumer<ValueMap> action, boolean rollback);
+
     /**
      * @param comparison {@link Comparison} to be used
      * @param context {@link ComparisonContext} for the comparison
@@ -348,6 +365,16 @@ public interface ValueMap extends HandleMap<Value> {
      */
     boolean containsModifiers(Collection<? extends Modifier> modifiers);
 
+    /**
+     * Runs the specified action with this map as its parameter in an {@link InvalidationBatch} without rollback. See
+     * {@link #batch(Consumer, boolean)} for details.
+     *
+     * @param action action to be run
+     */
+    default void batch(Consumer<ValueMap> action) {
+        batch(action, false);
+    }
+
     /**
      * {@link Handle Handles} that are not a part of this map's associated {@link Space} are ignored. Uses
      * {@link MapMathContext#defaults()} for context.
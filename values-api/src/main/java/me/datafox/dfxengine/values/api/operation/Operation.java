@@ -20,6 +20,9 @@ public interface Operation extends BiFunction<Numeral, Numeral[], Numeral> {
     int getParameterCount();
 
     /**
+     * The parameter array may be reused by the caller after this method returns, so implementations must not keep a
+     * reference to it.
+     *
      * @param source source {@link Numeral} for this operation
      * @param parameters parameter {@link Numeral Numerals} for this operation
      * @return resulting {@link Numeral} of this operation
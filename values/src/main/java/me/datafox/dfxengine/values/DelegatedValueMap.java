@@ -1,5 +1,6 @@
 package me.datafox.dfxengine.values;
 
+import me.datafox.dfxengine.dependencies.InvalidationBatch;
 import me.datafox.dfxengine.handles.HashHandleMap;
 import me.datafox.dfxengine.handles.api.Handle;
 import me.datafox.dfxengine.handles.api.HandleMap;
@@ -15,6 +16,7 @@ import me.datafox.dfxengine.values.api.comparison.Comparison;
 import me.datafox.dfxengine.values.api.comparison.ComparisonContext;
 import me.datafox.dfxengine.values.api.comparison.MapComparisonContext;
 import me.datafox.dfxengine.values.api.operation.*;
+import me.datafox.dfxengine.values.modifier.ModifierSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +36,7 @@ import static me.datafox.dfxengine.values.utils.internal.ValuesStrings.*;
 public class DelegatedValueMap implements ValueMap {
     private final Logger logger;
     private final HandleMap<Value> map;
-    private final Set<Modifier> modifiers;
+    private final ModifierSet modifiers;
     private final boolean immutable;
 
     private NumeralMap baseNumeralMap;
@@ -48,7 +50,7 @@ public class DelegatedValueMap implements ValueMap {
     public DelegatedValueMap(HandleMap<Value> map, boolean immutable, Logger logger) {
         this.logger = logger;
         this.map = map;
-        modifiers = new HashSet<>();
+        modifiers = new ModifierSet();
         this.immutable = immutable;
 
         if(map.values().stream().anyMatch(Value::isStatic)) {
@@ -402,6 +404,41 @@ public class DelegatedValueMap implements ValueMap {
         }
     }
 
+    /**
+     * Runs the specified action with this map as its parameter in an {@link InvalidationBatch}, so that changes to the
+     * {@link Value Values} of this map do not invalidate their dependents until the action has finished. If rollback
+     * is enabled and the action throws any exception or error, the base {@link Numeral Numerals} of all Values that
+     * were in this map when the action started are restored before it is rethrown. Rollback is
+     * ignored if this map is for immutable Values.
+     *
+     * @param action action to be run
+     * @param rollback {@code true} if base {@link Numeral Numerals} should be restored if the action throws an
+     * exception
+     */
+    @Override
+    public void batch(Consumer<ValueMap> action, boolean rollback) {
+        if(!rollback || immutable) {
+            InvalidationBatch.run(() -> action.accept(this));
+            return;
+        }
+
+        Map<Value,Numeral> bases = new IdentityHashMap<>();
+        values().forEach(val -> bases.put(val, val.getBase()));
+
+        InvalidationBatch.run(() -> {
+            boolean completed = false;
+
+            try {
+                action.accept(this);
+                completed = true;
+            } finally {
+                if(!completed) {
+                    bases.forEach((val, base) -> val.set(base));
+                }
+            }
+        });
+    }
+
     /**
      * @param comparison {@link Comparison} to be used
      * @param context {@link ComparisonContext} for the comparison
@@ -477,7 +514,8 @@ public class DelegatedValueMap implements ValueMap {
     /**
      * {@link Modifier Modifiers} added to this map will be added to all {@link Value Values} of this map, including
      * ones that are added to this map after this operation. To add a modifier to a single value, use
-     * {@link Value#addModifier(Modifier)} instead.
+     * {@link Value#addModifier(Modifier)} instead. A Modifier with the same priority as Modifiers already associated
+     * with this map is kept alongside them and applied after them.
      *
      * @param modifier {@link Modifier} to be added
      * @return {@code true} if the {@link Modifier Modifiers} of this map changed as a result of this operation
@@ -1057,7 +1095,7 @@ public class DelegatedValueMap implements ValueMap {
         private Logger logger;
         private BiFunction<Space, Logger, HandleMap<Value>> map;
         private final Set<Value> values;
-        private final Set<Modifier> modifiers;
+        private final ModifierSet modifiers;
         private boolean immutable;
         private boolean forcedImmutable;
         private boolean determinedImmutable;
@@ -1067,7 +1105,7 @@ public class DelegatedValueMap implements ValueMap {
             logger = LoggerFactory.getLogger(DelegatedValueMap.class);
             map = HashHandleMap::new;
             values = new HashSet<>();
-            modifiers = new HashSet<>();
+            modifiers = new ModifierSet();
             immutable = false;
             forcedImmutable = false;
             determinedImmutable = false;
@@ -8,17 +8,21 @@ import me.datafox.dfxengine.handles.api.Handle;
 import me.datafox.dfxengine.math.api.Numeral;
 import me.datafox.dfxengine.math.api.NumeralType;
 import me.datafox.dfxengine.math.api.exception.ExtendedArithmeticException;
+import me.datafox.dfxengine.math.numeral.DoubleNumeral;
+import me.datafox.dfxengine.math.numeral.FloatNumeral;
+import me.datafox.dfxengine.math.numeral.IntNumeral;
+import me.datafox.dfxengine.math.numeral.LongNumeral;
 import me.datafox.dfxengine.values.api.Modifier;
 import me.datafox.dfxengine.values.api.Value;
 import me.datafox.dfxengine.values.api.comparison.Comparison;
 import me.datafox.dfxengine.values.api.comparison.ComparisonContext;
 import me.datafox.dfxengine.values.api.operation.*;
+import me.datafox.dfxengine.values.modifier.ModifierChain;
+import me.datafox.dfxengine.values.modifier.ModifierSet;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import static me.datafox.dfxengine.values.utils.internal.ValuesStrings.IMMUTABLE;
 
@@ -28,7 +32,10 @@ import static me.datafox.dfxengine.values.utils.internal.ValuesStrings.IMMUTABLE
  * {@link #apply(Operation, MathContext, Numeral...)} and other {@code apply(...)} methods. Each value also contains a
  * value Numeral, which represents the base Numeral with all the Modifiers applied to it. This value is lazily
  * calculated when {@link #getValue()} is called, but only when the base Numeral or any of the Modifiers have changed.
- * These changes are tracked with {@link Dependent Dependencies} and {@link Dependency Dependents}.
+ * These changes are tracked with {@link Dependent Dependencies} and {@link Dependency Dependents}. The intermediate
+ * result of every Modifier is cached, so when a Modifier changes, only that Modifier and the Modifiers after it are
+ * applied again, starting from the cached result of the preceding Modifier. Modifiers are stored in a
+ * {@link ModifierSet}, so Modifiers with the same priority are applied in the order they were added.
  *
  * @author datafox
  */
@@ -36,7 +43,7 @@ import static me.datafox.dfxengine.values.utils.internal.ValuesStrings.IMMUTABLE
 public class ValueImpl extends DependencyDependent implements Value {
     private final Handle handle;
 
-    private final SortedSet<Modifier> modifiers;
+    private final ModifierSet modifiers;
 
     private final boolean immutable;
 
@@ -45,6 +52,15 @@ public class ValueImpl extends DependencyDependent implements Value {
 
     private boolean invalidated;
 
+    @EqualsAndHashCode.Exclude
+    private final ModifierChain chain;
+
+    @EqualsAndHashCode.Exclude
+    private Numeral decimalSource;
+
+    @EqualsAndHashCode.Exclude
+    private Numeral decimal;
+
     /**
      * @param handle {@link Handle} identifier for this value
      * @param value {@link Numeral} to initialize this value with
@@ -53,11 +69,12 @@ public class ValueImpl extends DependencyDependent implements Value {
     public ValueImpl(Handle handle, Numeral value, boolean immutable) {
         super(LoggerFactory.getLogger(ValueImpl.class));
         this.handle = handle;
-        modifiers = new TreeSet<>();
+        modifiers = new ModifierSet();
         this.immutable = immutable;
         base = value;
         this.value = value;
         invalidated = false;
+        chain = new ModifierChain();
     }
 
     /**
@@ -247,7 +264,7 @@ public class ValueImpl extends DependencyDependent implements Value {
         }
         Numeral old = base;
         base = value;
-        if(!base.equals(old)) {
+        if(!isSame(base, old)) {
             invalidate();
         }
     }
@@ -263,7 +280,7 @@ public class ValueImpl extends DependencyDependent implements Value {
         if(isImmutable()) {
             throw new UnsupportedOperationException(IMMUTABLE);
         }
-        contextOperation(() -> base = operation.apply(base), context);
+        setResult(operation.apply(contextSource(context)), context);
     }
 
     /**
@@ -278,7 +295,7 @@ public class ValueImpl extends DependencyDependent implements Value {
         if(isImmutable()) {
             throw new UnsupportedOperationException(IMMUTABLE);
         }
-        contextOperation(() -> base = operation.apply(base, parameter), context);
+        setResult(operation.apply(contextSource(context), parameter), context);
     }
 
     /**
@@ -294,7 +311,7 @@ public class ValueImpl extends DependencyDependent implements Value {
         if(isImmutable()) {
             throw new UnsupportedOperationException(IMMUTABLE);
         }
-        contextOperation(() -> base = operation.apply(base, parameter1, parameter2), context);
+        setResult(operation.apply(contextSource(context), parameter1, parameter2), context);
     }
 
     /**
@@ -311,7 +328,7 @@ public class ValueImpl extends DependencyDependent implements Value {
         if(isImmutable()) {
             throw new UnsupportedOperationException(IMMUTABLE);
         }
-        contextOperation(() -> base = operation.apply(base, parameters), context);
+        setResult(operation.apply(contextSource(context), parameters), context);
     }
 
     /**
@@ -334,6 +351,9 @@ public class ValueImpl extends DependencyDependent implements Value {
     }
 
     /**
+     * A {@link Modifier} with the same priority as Modifiers already associated with this value is kept alongside them
+     * and applied after them.
+     *
      * @param modifier {@link Modifier} to be added
      * @return {@code true} if the {@link Modifier Modifiers} of this value changed as a result of this operation
      */
@@ -342,7 +362,8 @@ public class ValueImpl extends DependencyDependent implements Value {
         boolean changed = modifiers.add(modifier);
         if(changed) {
             modifier.addDependent(this);
-            invalidate();
+            chain.add(modifier);
+            modifiersChanged();
         }
         return changed;
     }
@@ -356,7 +377,7 @@ public class ValueImpl extends DependencyDependent implements Value {
         boolean changed = this.modifiers.addAll(modifiers);
         if(changed) {
             modifiers.forEach(modifier -> modifier.addDependent(this));
-            invalidate();
+            updateChain();
         }
         return changed;
     }
@@ -370,7 +391,8 @@ public class ValueImpl extends DependencyDependent implements Value {
         boolean changed = modifiers.remove(modifier);
         if(changed) {
             modifier.removeDependent(this);
-            invalidate();
+            chain.remove(modifier);
+            modifiersChanged();
         }
         return changed;
     }
@@ -384,7 +406,7 @@ public class ValueImpl extends DependencyDependent implements Value {
         boolean changed = this.modifiers.removeAll(modifiers);
         if(changed) {
             modifiers.forEach(modifier -> modifier.removeDependent(this));
-            invalidate();
+            updateChain();
         }
         return changed;
     }
@@ -410,6 +432,24 @@ public class ValueImpl extends DependencyDependent implements Value {
     @Override
     protected void onInvalidate() {
         invalidated = true;
+        chain.invalidate();
+    }
+
+    /**
+     * If the specified {@link Dependency} is a {@link Modifier} of this value, only the cached results of that
+     * Modifier and the Modifiers after it are invalidated. Otherwise, this method behaves like
+     * {@link #onInvalidate()}.
+     *
+     * @param source {@link Dependency} that has changed
+     */
+    @Override
+    protected void onInvalidate(Dependency source) {
+        if(!chain.invalidate(source)) {
+            onInvalidate();
+            return;
+        }
+
+        invalidated = true;
     }
 
     /**
@@ -421,36 +461,75 @@ public class ValueImpl extends DependencyDependent implements Value {
     }
 
     private void calculate() {
-        Numeral[] finalValue = {base};
-        modifiers.forEach(modifier -> finalValue[0] = modifier.apply(finalValue[0]));
-        value = finalValue[0];
+        value = chain.apply(base);
         invalidated = false;
     }
 
-    private void contextOperation(Runnable action, MathContext context) {
-        Numeral old = base;
+    private void updateChain() {
+        chain.setModifiers(modifiers);
+        modifiersChanged();
+    }
 
-        if(base.getType().isInteger() && context.convertToDecimal()) {
-            toDecimal();
+    private void modifiersChanged() {
+        invalidated = true;
+        invalidateDependents();
+    }
+
+    private Numeral contextSource(MathContext context) {
+        if(!base.getType().isInteger() || !context.convertToDecimal()) {
+            return base;
+        }
+
+        if(decimalSource != base) {
+            decimal = base.toDecimal();
+            decimalSource = base;
         }
 
-        action.run();
+        return decimal;
+    }
+
+    private void setResult(Numeral result, MathContext context) {
+        NumeralType type = context.convertResultTo();
 
-        if(context.convertResultTo() != null) {
+        if(type != null && !result.getType().equals(type)) {
             if(context.ignoreBadConversion()) {
-                convertIfAllowed(context.convertResultTo());
+                result = result.convertIfAllowed(type);
             } else {
                 try {
-                    convert(context.convertResultTo());
+                    result = result.convert(type);
                 } catch(ExtendedArithmeticException e) {
-                    base = old;
                     throw new ExtendedArithmeticException(e);
                 }
             }
         }
 
-        if(!base.equals(old)) {
+        if(!isSame(result, base)) {
+            base = result;
             invalidate();
         }
     }
+
+    private static boolean isSame(Numeral numeral, Numeral other) {
+        if(numeral == other) {
+            return true;
+        }
+
+        if(numeral instanceof IntNumeral && other instanceof IntNumeral) {
+            return numeral.intValue() == other.intValue();
+        }
+
+        if(numeral instanceof LongNumeral && other instanceof LongNumeral) {
+            return numeral.longValue() == other.longValue();
+        }
+
+        if(numeral instanceof FloatNumeral && other instanceof FloatNumeral) {
+            return Float.floatToIntBits(numeral.floatValue()) == Float.floatToIntBits(other.floatValue());
+        }
+
+        if(numeral instanceof DoubleNumeral && other instanceof DoubleNumeral) {
+            return Double.doubleToLongBits(numeral.doubleValue()) == Double.doubleToLongBits(other.doubleValue());
+        }
+
+        return numeral.equals(other);
+    }
 }
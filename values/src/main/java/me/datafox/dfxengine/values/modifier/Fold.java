@@ -0,0 +1,158 @@
+package me.datafox.dfxengine.values.modifier;
+
+import lombok.Getter;
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+import me.datafox.dfxengine.values.api.operation.SingleParameterOperation;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * <p>
+ * Operations that a {@link ModifierChain} can fold together when {@link FoldingModifier FoldingModifiers} of the same
+ * fold are next to each other in a chain. A run of such modifiers is applied as a single operation with an aggregate
+ * of all of their parameters, for example {@code x + a + b + c} is calculated as {@code x + (a + b + c)}.
+ * </p>
+ * <p>
+ * The aggregate can be updated when a single parameter is added, removed or changed without recalculating it from all
+ * parameters. For {@link #ADD}, {@link #MULTIPLY} and {@link #POWER} this is done by reversing the operation, which
+ * is only exact for integers, so decimal aggregates are recalculated instead. For {@link #MIN} and {@link #MAX} a
+ * parameter can be removed without recalculation unless it was the aggregate itself.
+ * </p>
+ * <p>
+ * Folding changes the order of the operations, so a folded run gives the same value as applying its modifiers one at
+ * a time, except for rounding of decimals, but not always the same type. Intermediate results that would overflow and
+ * be promoted to a wider type can cancel out in the aggregate. For example, adding {@link Integer#MAX_VALUE} and then
+ * {@code -Integer.MAX_VALUE} to an {@code int} gives a {@code long} one at a time, but the folded aggregate is an
+ * {@code int} zero, so the result stays an {@code int}.
+ * </p>
+ *
+ * @author datafox
+ */
+public enum Fold {
+    /**
+     * Addition with {@link Operations#add(Numeral, Numeral)}. The aggregate is the sum of the addends.
+     */
+    ADD(Operations::add, Operations::add, Operations::subtract),
+
+    /**
+     * Multiplication with {@link Operations#multiply(Numeral, Numeral)}. The aggregate is the product of the
+     * multipliers.
+     */
+    MULTIPLY(Operations::multiply, Operations::multiply, Operations::divide),
+
+    /**
+     * Exponentiation with {@link Operations#power(Numeral, Numeral)}. The aggregate is the product of the exponents.
+     * Because {@code (x^a)^b} only equals {@code x^(a*b)} for positive {@code x}, other values are raised to every
+     * exponent one at a time. The same is done for integers if any of the exponents is negative, since a negative
+     * exponent truncates an integer at every step, for example {@code (5^-1)^-1} is {@code 0} but {@code 5^1} is
+     * {@code 5}.
+     */
+    POWER(Operations::power, Operations::multiply, Operations::divide),
+
+    /**
+     * Minimum with {@link Operations#min(Numeral, Numeral)}. The aggregate is the least of the parameters.
+     */
+    MIN(Operations::min, Operations::min, null),
+
+    /**
+     * Maximum with {@link Operations#max(Numeral, Numeral)}. The aggregate is the greatest of the parameters.
+     */
+    MAX(Operations::max, Operations::max, null);
+
+    /**
+     * {@link SingleParameterOperation} that applies a parameter or an aggregate to a source {@link Numeral}.
+     */
+    @Getter
+    private final SingleParameterOperation operation;
+
+    private final BinaryOperator<Numeral> combiner;
+
+    private final BinaryOperator<Numeral> inverse;
+
+    Fold(SingleParameterOperation operation, BinaryOperator<Numeral> combiner, BinaryOperator<Numeral> inverse) {
+        this.operation = operation;
+        this.combiner = combiner;
+        this.inverse = inverse;
+    }
+
+    /**
+     * @param aggregate aggregate of parameters
+     * @param parameter parameter to be added to the aggregate
+     * @return aggregate of all previous parameters and the specified parameter
+     */
+    public Numeral combine(Numeral aggregate, Numeral parameter) {
+        return combiner.apply(aggregate, parameter);
+    }
+
+    /**
+     * @param source source {@link Numeral}
+     * @param parameters parameters to be applied to the source
+     * @return {@code true} if the aggregate of the parameters can be applied to the source instead of applying the
+     * parameters one by one
+     */
+    public boolean canFold(Numeral source, Numeral[] parameters) {
+        if(this != POWER) {
+            return true;
+        }
+
+        if(Numerals.signum(source) <= 0) {
+            return false;
+        }
+
+        if(!source.getType().isInteger()) {
+            return true;
+        }
+
+        for(Numeral parameter : parameters) {
+            if(Numerals.signum(parameter) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Updates an aggregate after a parameter has been added, removed or changed, without using the other parameters.
+     *
+     * @param aggregate aggregate of parameters, including the removed parameter if one is specified
+     * @param removed parameter to be removed from the aggregate, or {@code null} if a parameter is only added
+     * @param added parameter to be added to the aggregate, or {@code null} if a parameter is only removed
+     * @return updated aggregate, or {@code null} if it cannot be updated and must be calculated again from all
+     * parameters
+     */
+    Numeral update(Numeral aggregate, Numeral removed, Numeral added) {
+        if(inverse == null && removed != null && added != null &&
+                Numerals.compare(combine(removed, added), added) == 0) {
+            return combine(aggregate, added);
+        }
+
+        if(removed != null) {
+            aggregate = remove(aggregate, removed);
+        }
+
+        if(aggregate == null || added == null) {
+            return aggregate;
+        }
+
+        return combine(aggregate, added);
+    }
+
+    private Numeral remove(Numeral aggregate, Numeral removed) {
+        if(inverse == null) {
+            return Numerals.compare(aggregate, removed) == 0 ? null : aggregate;
+        }
+
+        if(!aggregate.getType().isInteger() || !removed.getType().isInteger()) {
+            return null;
+        }
+
+        if(this != ADD && Numerals.isZero(removed)) {
+            return null;
+        }
+
+        return inverse.apply(aggregate, removed);
+    }
+}
@@ -0,0 +1,58 @@
+package me.datafox.dfxengine.values.modifier;
+
+import lombok.Getter;
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.values.api.Modifier;
+import me.datafox.dfxengine.values.api.Value;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link OperationModifier} with a single parameter that applies one of the operations of {@link Fold}. A
+ * {@link ModifierChain} folds runs of folding modifiers with the same fold together and applies them as a single
+ * operation, which may round decimals differently and give a result of a different type than applying the modifiers
+ * one at a time, as described in {@link Fold}. On its own, a folding modifier behaves exactly like an
+ * OperationModifier with the same operation.
+ *
+ * @author datafox
+ */
+public class FoldingModifier extends OperationModifier {
+    /**
+     * {@link Fold} of this modifier.
+     */
+    @Getter
+    private final Fold fold;
+
+    /**
+     * @param priority priority for this modifier
+     * @param fold {@link Fold} to be used
+     * @param parameter parameter {@link Value} for the operation of the {@link Fold}
+     */
+    public FoldingModifier(int priority, Fold fold, Value parameter) {
+        super(LoggerFactory.getLogger(FoldingModifier.class), priority, fold.getOperation(), parameter);
+        this.fold = fold;
+    }
+
+    /**
+     * @return parameter {@link Value} of this modifier
+     */
+    public Value getParameter() {
+        return getParameter(0);
+    }
+
+    /**
+     * @param other {@link Modifier} to be checked
+     * @return {@code true} if the specified {@link Modifier} can be folded together with this modifier
+     */
+    public boolean canFoldWith(Modifier other) {
+        return other instanceof FoldingModifier && ((FoldingModifier) other).fold == fold;
+    }
+
+    /**
+     * @param source source {@link Numeral} for this modifier
+     * @return resulting {@link Numeral} of this modifier
+     */
+    @Override
+    public Numeral apply(Numeral source) {
+        return fold.getOperation().apply(source, getParameter().getValue());
+    }
+}
@@ -0,0 +1,443 @@
+package me.datafox.dfxengine.values.modifier;
+
+import me.datafox.dfxengine.dependencies.Dependency;
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.values.api.Modifier;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * A compiled chain of {@link Modifier Modifiers} that caches its intermediate results. The chain is divided into
+ * stages. A run of two or more consecutive {@link FoldingModifier FoldingModifiers} with the same {@link Fold} is
+ * folded into a single stage that applies the aggregate of their parameters, and every other Modifier is a stage of
+ * its own. The result after every stage is cached, so when a Modifier is invalidated, only its stage and the stages
+ * after it are applied again.
+ * </p>
+ * <p>
+ * The aggregate of a folded stage is updated with {@link Fold#update(Numeral, Numeral, Numeral)} when a single
+ * parameter changes or a Modifier is added to or removed from the run, so only the changed parameters are read. If
+ * the aggregate cannot be updated that way, it is calculated again from all parameters of the stage. A folded stage
+ * is applied one Modifier at a time when {@link Fold#canFold(Numeral, Numeral[])} returns {@code false}, so the
+ * result has the same value as applying the Modifiers one by one, except that decimal results may be rounded
+ * differently. The type of the result may differ, as described in {@link Fold}.
+ * </p>
+ * <p>
+ * Adding or removing a single Modifier with {@link #add(Modifier)} and {@link #remove(Modifier)} only builds the
+ * stages next to it again. The stages after it are kept and moved, so an update does not allocate anything for them.
+ * </p>
+ * <p>
+ * A chain is not thread-safe.
+ * </p>
+ *
+ * @author datafox
+ */
+public final class ModifierChain {
+    private static final Modifier[] EMPTY_ARR = new Modifier[0];
+
+    private final Map<Modifier,Stage> stageMap;
+
+    private Modifier[] modifiers;
+
+    private int modifierCount;
+
+    private Stage[] stages;
+
+    private int stageCount;
+
+    private Numeral[] results;
+
+    private int dirtyStage;
+
+    /**
+     * Creates an empty chain.
+     */
+    public ModifierChain() {
+        stageMap = new IdentityHashMap<>();
+        modifiers = EMPTY_ARR;
+        modifierCount = 0;
+        stages = new Stage[0];
+        stageCount = 0;
+        results = new Numeral[0];
+        dirtyStage = 0;
+    }
+
+    /**
+     * Replaces the {@link Modifier Modifiers} of this chain. Only the stages between the unchanged Modifiers at the
+     * start and at the end of this chain are built again, and the cached results before them are kept. The aggregates
+     * of folded stages are updated instead of calculated again where possible.
+     *
+     * @param modifiers {@link Modifier Modifiers} in the order they should be applied
+     */
+    public void setModifiers(Collection<? extends Modifier> modifiers) {
+        Modifier[] updated = modifiers instanceof ModifierSet ?
+                ((ModifierSet) modifiers).array() :
+                modifiers.toArray(EMPTY_ARR);
+        int prefix = 0;
+        int suffix = 0;
+
+        while(prefix < modifierCount && prefix < updated.length && this.modifiers[prefix] == updated[prefix]) {
+            prefix++;
+        }
+
+        while(suffix < modifierCount - prefix && suffix < updated.length - prefix &&
+                this.modifiers[modifierCount - suffix - 1] == updated[updated.length - suffix - 1]) {
+            suffix++;
+        }
+
+        int firstStage = prefix == 0 ? 0 : stageBefore(prefix);
+        int lastStage = stageCount;
+
+        if(suffix > 0) {
+            Stage next = stageMap.get(this.modifiers[modifierCount - suffix]);
+            lastStage = next.start < modifierCount - suffix ? next.index + 1 : next.index;
+        }
+
+        int shift = updated.length - modifierCount;
+        ensureModifierCapacity(updated.length);
+        System.arraycopy(updated, 0, this.modifiers, 0, updated.length);
+
+        if(updated.length < modifierCount) {
+            Arrays.fill(this.modifiers, updated.length, modifierCount, null);
+        }
+
+        modifierCount = updated.length;
+        restage(firstStage, Math.max(firstStage, lastStage), shift);
+    }
+
+    /**
+     * Adds a {@link Modifier} after all Modifiers of this chain with a lower or equal priority, which is the position
+     * a {@link ModifierSet} gives a Modifier that is added to it. The Modifiers of this chain must be in the order of
+     * their priorities. Only the stages next to the added Modifier are built again, and the cached results before them
+     * are kept.
+     *
+     * @param modifier {@link Modifier} to be added
+     */
+    public void add(Modifier modifier) {
+        int position = upperBound(modifier.getPriority());
+        int firstStage = position == 0 ? 0 : stageBefore(position);
+        int lastStage = firstStage == stageCount || stages[firstStage].start == position ? firstStage : firstStage + 1;
+        ensureModifierCapacity(modifierCount + 1);
+        System.arraycopy(modifiers, position, modifiers, position + 1, modifierCount - position);
+        modifiers[position] = modifier;
+        modifierCount++;
+        restage(firstStage, lastStage, 1);
+    }
+
+    /**
+     * Removes a {@link Modifier} from this chain. Only the stages next to the removed Modifier are built again, and
+     * the cached results before them are kept.
+     *
+     * @param modifier {@link Modifier} to be removed
+     * @return {@code true} if the specified {@link Modifier} was in this chain
+     */
+    public boolean remove(Modifier modifier) {
+        Stage stage = stageMap.get(modifier);
+
+        if(stage == null) {
+            return false;
+        }
+
+        int position = stage.start + stage.indexOf(modifier);
+        System.arraycopy(modifiers, position + 1, modifiers, position, modifierCount - position - 1);
+        modifiers[--modifierCount] = null;
+        restage(stage.index, stage.index + 1, -1);
+        return true;
+    }
+
+    /**
+     * Invalidates the cached results of the specified {@link Modifier} and all Modifiers after it.
+     *
+     * @param source {@link Dependency} that has changed
+     * @return {@code true} if the specified {@link Dependency} is a {@link Modifier} of this chain
+     */
+    public boolean invalidate(Dependency source) {
+        Stage stage = stageMap.get(source);
+
+        if(stage == null) {
+            return false;
+        }
+
+        stage.invalidate(stage.indexOf(source));
+        dirtyStage = Math.min(dirtyStage, stage.index);
+        return true;
+    }
+
+    /**
+     * Invalidates all cached results of this chain. Must be called when the source {@link Numeral} changes.
+     */
+    public void invalidate() {
+        dirtyStage = 0;
+    }
+
+    /**
+     * @param source source {@link Numeral} for this chain
+     * @return source {@link Numeral} with all {@link Modifier Modifiers} of this chain applied to it
+     */
+    public Numeral apply(Numeral source) {
+        if(stageCount == 0) {
+            return source;
+        }
+
+        if(dirtyStage >= stageCount) {
+            return results[stageCount - 1];
+        }
+
+        Numeral current = dirtyStage == 0 ? source : results[dirtyStage - 1];
+
+        for(int i = dirtyStage; i < stageCount; i++) {
+            current = stages[i].apply(current);
+            results[i] = current;
+        }
+
+        dirtyStage = stageCount;
+        return current;
+    }
+
+    /**
+     * @return number of {@link Modifier Modifiers} in this chain
+     */
+    public int getModifierCount() {
+        return modifierCount;
+    }
+
+    /**
+     * @return number of stages in this chain, where every run of folded {@link Modifier Modifiers} is one stage
+     */
+    public int getStageCount() {
+        return stageCount;
+    }
+
+    private int stageBefore(int position) {
+        Stage previous = stageMap.get(modifiers[position - 1]);
+        return previous.start + previous.members.length > position ? previous.index : previous.index + 1;
+    }
+
+    private int upperBound(int priority) {
+        int low = 0;
+        int high = modifierCount;
+
+        while(low < high) {
+            int middle = (low + high) >>> 1;
+
+            if(modifiers[middle].getPriority() <= priority) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private void ensureModifierCapacity(int capacity) {
+        if(capacity > modifiers.length) {
+            modifiers = Arrays.copyOf(modifiers, Math.max(capacity, modifiers.length * 2));
+        }
+    }
+
+    private void restage(int firstStage, int lastStage, int shift) {
+        int from = firstStage == 0 ? 0 : stages[firstStage - 1].start + stages[firstStage - 1].members.length;
+
+        if(firstStage > 0 && from < modifierCount && canFold(stages[firstStage - 1].members[0], modifiers[from])) {
+            firstStage--;
+            from = stages[firstStage].start;
+        }
+
+        Stage[] built = build(from, lastStage == stageCount ? modifierCount : stages[lastStage].start + shift);
+
+        while(built.length > 0 && lastStage < stageCount &&
+                canFold(built[built.length - 1].members[0], stages[lastStage].members[0])) {
+            lastStage++;
+            built = build(from, lastStage == stageCount ? modifierCount : stages[lastStage].start + shift);
+        }
+
+        for(int i = firstStage; i < lastStage; i++) {
+            for(Modifier member : stages[i].members) {
+                stageMap.remove(member);
+            }
+        }
+
+        int delta = built.length - lastStage + firstStage;
+        int updatedCount = stageCount + delta;
+
+        if(updatedCount > stages.length) {
+            stages = Arrays.copyOf(stages, Math.max(updatedCount, stages.length * 2));
+            results = Arrays.copyOf(results, stages.length);
+        }
+
+        System.arraycopy(stages, lastStage, stages, lastStage + delta, stageCount - lastStage);
+        System.arraycopy(built, 0, stages, firstStage, built.length);
+
+        for(int i = firstStage; i < firstStage + built.length; i++) {
+            stages[i].index = i;
+            for(Modifier member : stages[i].members) {
+                stageMap.put(member, stages[i]);
+            }
+        }
+
+        for(int i = firstStage + built.length; i < updatedCount; i++) {
+            stages[i].index = i;
+            stages[i].start += shift;
+        }
+
+        for(int i = updatedCount; i < stageCount; i++) {
+            stages[i] = null;
+            results[i] = null;
+        }
+
+        stageCount = updatedCount;
+        dirtyStage = Math.min(dirtyStage, firstStage);
+    }
+
+    private Stage[] build(int from, int to) {
+        Stage[] built = new Stage[to - from];
+        int count = 0;
+
+        for(int start = from; start < to;) {
+            int end = start + 1;
+
+            while(end < to && canFold(modifiers[start], modifiers[end])) {
+                end++;
+            }
+
+            Modifier[] members = Arrays.copyOfRange(modifiers, start, end);
+            built[count++] = members.length == 1 ? new Stage(members, start) : fold(members, start);
+            start = end;
+        }
+
+        return Arrays.copyOf(built, count);
+    }
+
+    private static boolean canFold(Modifier first, Modifier other) {
+        return first instanceof FoldingModifier && ((FoldingModifier) first).canFoldWith(other);
+    }
+
+    private Stage fold(Modifier[] members, int start) {
+        Stage stage = new Stage(members, start);
+        Stage previous = null;
+
+        for(Modifier member : members) {
+            Stage candidate = stageMap.get(member);
+            if(candidate != null && candidate.members.length > 1) {
+                previous = candidate;
+                break;
+            }
+        }
+
+        if(previous == null || previous.aggregate == null || previous.fold() != stage.fold()) {
+            return stage;
+        }
+
+        Map<Modifier,Integer> kept = new IdentityHashMap<>(members.length * 2);
+
+        for(int i = 0; i < members.length; i++) {
+            kept.put(members[i], i);
+        }
+
+        Numeral aggregate = previous.aggregate;
+
+        for(int i = 0; i < previous.members.length && aggregate != null; i++) {
+            Integer index = kept.get(previous.members[i]);
+            if(index == null) {
+                aggregate = stage.fold().update(aggregate, previous.parameters[i], null);
+            } else {
+                stage.parameters[index] = previous.parameters[i];
+                stage.stale[index] = previous.stale[i];
+            }
+        }
+
+        if(aggregate != null) {
+            stage.aggregate = aggregate;
+            for(int i = 0; i < members.length; i++) {
+                if(stage.parameters[i] == null) {
+                    stage.stale[i] = true;
+                }
+            }
+        }
+
+        return stage;
+    }
+
+    private static final class Stage {
+        private final Modifier[] members;
+
+        private final Numeral[] parameters;
+
+        private final boolean[] stale;
+
+        private int start;
+
+        private int index;
+
+        private Numeral aggregate;
+
+        private Stage(Modifier[] members, int start) {
+            this.members = members;
+            this.start = start;
+            parameters = new Numeral[members.length];
+            stale = new boolean[members.length];
+            aggregate = null;
+        }
+
+        private Fold fold() {
+            return ((FoldingModifier) members[0]).getFold();
+        }
+
+        private int indexOf(Object modifier) {
+            for(int i = 0; i < members.length; i++) {
+                if(members[i] == modifier) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private void invalidate(int member) {
+            stale[member] = true;
+        }
+
+        private Numeral apply(Numeral source) {
+            if(members.length == 1) {
+                return members[0].apply(source);
+            }
+
+            Fold fold = fold();
+            refresh(fold);
+
+            if(!fold.canFold(source, parameters)) {
+                for(Modifier member : members) {
+                    source = member.apply(source);
+                }
+                return source;
+            }
+
+            return fold.getOperation().apply(source, aggregate);
+        }
+
+        private void refresh(Fold fold) {
+            if(aggregate != null) {
+                for(int i = 0; i < members.length && aggregate != null; i++) {
+                    if(stale[i]) {
+                        Numeral updated = ((FoldingModifier) members[i]).getParameter().getValue();
+                        aggregate = fold.update(aggregate, parameters[i], updated);
+                        parameters[i] = updated;
+                        stale[i] = false;
+                    }
+                }
+            }
+
+            if(aggregate == null) {
+                for(int i = 0; i < members.length; i++) {
+                    parameters[i] = ((FoldingModifier) members[i]).getParameter().getValue();
+                    stale[i] = false;
+                    aggregate = i == 0 ? parameters[i] : fold.combine(aggregate, parameters[i]);
+                }
+            }
+        }
+    }
+}
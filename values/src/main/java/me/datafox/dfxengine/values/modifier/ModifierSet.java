@@ -0,0 +1,306 @@
+package me.datafox.dfxengine.values.modifier;
+
+import me.datafox.dfxengine.values.api.Modifier;
+
+import java.util.*;
+
+/**
+ * <p>
+ * A set of {@link Modifier Modifiers} in the order they should be applied. Modifiers are grouped into buckets by
+ * {@link Modifier#getPriority()}, and Modifiers with the same priority are kept in the order they were added, so
+ * unlike a {@link TreeSet}, Modifiers with the same priority do not replace each other. Modifiers are identified by
+ * identity.
+ * </p>
+ * <p>
+ * The buckets are kept in an array sorted by priority. Adding a Modifier only needs a binary search over the
+ * buckets, and checking if this set contains a Modifier and removing one are constant time operations. A bucket that
+ * becomes empty is kept for the next Modifier with the same priority, and empty buckets are only removed from the
+ * array when they are more than half of the buckets, so removal is constant time also when amortized over the
+ * removals. The Modifiers are iterated over an array that is built when this set is first iterated after it has
+ * changed, and that array can be shared with a {@link ModifierChain} without copying.
+ * </p>
+ * <p>
+ * A set is not thread-safe.
+ * </p>
+ *
+ * @author datafox
+ */
+public final class ModifierSet extends AbstractSet<Modifier> {
+    private static final Modifier[] EMPTY_ARR = new Modifier[0];
+
+    private final Map<Modifier,Node> nodes;
+
+    private Bucket[] buckets;
+
+    private int bucketCount;
+
+    private int emptyBuckets;
+
+    private Modifier[] array;
+
+    /**
+     * Creates an empty set.
+     */
+    public ModifierSet() {
+        nodes = new IdentityHashMap<>();
+        buckets = new Bucket[4];
+        bucketCount = 0;
+        emptyBuckets = 0;
+        array = EMPTY_ARR;
+    }
+
+    /**
+     * @param modifier {@link Modifier} to be added
+     * @return {@code true} if this set changed as a result of this operation
+     */
+    @Override
+    public boolean add(Modifier modifier) {
+        if(nodes.containsKey(modifier)) {
+            return false;
+        }
+
+        Bucket bucket = bucket(modifier.getPriority());
+        Node node = new Node(modifier, bucket);
+        bucket.append(node);
+        nodes.put(modifier, node);
+        array = null;
+        return true;
+    }
+
+    /**
+     * @param o object to be removed
+     * @return {@code true} if this set changed as a result of this operation
+     */
+    @Override
+    public boolean remove(Object o) {
+        Node node = nodes.remove(o);
+
+        if(node == null) {
+            return false;
+        }
+
+        node.bucket.unlink(node);
+
+        if(node.bucket.head == null && ++emptyBuckets > bucketCount / 2) {
+            compact();
+        }
+
+        array = null;
+        return true;
+    }
+
+    /**
+     * @param c collection of objects to be removed
+     * @return {@code true} if this set changed as a result of this operation
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean changed = false;
+
+        for(Object o : c) {
+            changed |= remove(o);
+        }
+
+        return changed;
+    }
+
+    /**
+     * @param o object to be checked for
+     * @return {@code true} if the specified object is in this set
+     */
+    @Override
+    public boolean contains(Object o) {
+        return nodes.containsKey(o);
+    }
+
+    /**
+     * Removes all {@link Modifier Modifiers} from this set.
+     */
+    @Override
+    public void clear() {
+        nodes.clear();
+        Arrays.fill(buckets, 0, bucketCount, null);
+        bucketCount = 0;
+        emptyBuckets = 0;
+        array = EMPTY_ARR;
+    }
+
+    /**
+     * @return number of {@link Modifier Modifiers} in this set
+     */
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @return {@link Iterator} over the {@link Modifier Modifiers} of this set in the order they should be applied
+     */
+    @Override
+    public Iterator<Modifier> iterator() {
+        return new ModifierIterator(array());
+    }
+
+    /**
+     * The returned array is shared and must not be modified.
+     *
+     * @return {@link Modifier Modifiers} of this set in the order they should be applied
+     */
+    Modifier[] array() {
+        if(array == null) {
+            Modifier[] built = new Modifier[nodes.size()];
+            int index = 0;
+
+            for(int i = 0; i < bucketCount; i++) {
+                for(Node node = buckets[i].head; node != null; node = node.next) {
+                    built[index++] = node.modifier;
+                }
+            }
+
+            array = built;
+        }
+
+        return array;
+    }
+
+    private Bucket bucket(int priority) {
+        int index = search(priority);
+
+        if(index >= 0) {
+            if(buckets[index].head == null) {
+                emptyBuckets--;
+            }
+
+            return buckets[index];
+        }
+
+        index = -index - 1;
+
+        if(bucketCount == buckets.length) {
+            buckets = Arrays.copyOf(buckets, bucketCount * 2);
+        }
+
+        System.arraycopy(buckets, index, buckets, index + 1, bucketCount - index);
+        buckets[index] = new Bucket(priority);
+        bucketCount++;
+        return buckets[index];
+    }
+
+    private void compact() {
+        int count = 0;
+
+        for(int i = 0; i < bucketCount; i++) {
+            if(buckets[i].head != null) {
+                buckets[count++] = buckets[i];
+            }
+        }
+
+        Arrays.fill(buckets, count, bucketCount, null);
+        bucketCount = count;
+        emptyBuckets = 0;
+    }
+
+    private int search(int priority) {
+        int low = 0;
+        int high = bucketCount - 1;
+
+        while(low <= high) {
+            int middle = (low + high) >>> 1;
+            int compare = Integer.compare(buckets[middle].priority, priority);
+
+            if(compare < 0) {
+                low = middle + 1;
+            } else if(compare > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -low - 1;
+    }
+
+    private static final class Node {
+        private final Modifier modifier;
+
+        private final Bucket bucket;
+
+        private Node previous;
+
+        private Node next;
+
+        private Node(Modifier modifier, Bucket bucket) {
+            this.modifier = modifier;
+            this.bucket = bucket;
+        }
+    }
+
+    private static final class Bucket {
+        private final int priority;
+
+        private Node head;
+
+        private Node tail;
+
+        private Bucket(int priority) {
+            this.priority = priority;
+        }
+
+        private void append(Node node) {
+            if(tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+                node.previous = tail;
+            }
+
+            tail = node;
+        }
+
+        private void unlink(Node node) {
+            if(node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+
+            if(node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+        }
+    }
+
+    private final class ModifierIterator implements Iterator<Modifier> {
+        private final Modifier[] snapshot;
+
+        private int index;
+
+        private ModifierIterator(Modifier[] snapshot) {
+            this.snapshot = snapshot;
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < snapshot.length;
+        }
+
+        @Override
+        public Modifier next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return snapshot[index++];
+        }
+
+        @Override
+        public void remove() {
+            if(index == 0 || !ModifierSet.this.remove(snapshot[index - 1])) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
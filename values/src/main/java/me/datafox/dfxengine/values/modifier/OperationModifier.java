@@ -8,11 +8,10 @@ import me.datafox.dfxengine.values.api.operation.DualParameterOperation;
 import me.datafox.dfxengine.values.api.operation.Operation;
 import me.datafox.dfxengine.values.api.operation.SingleParameterOperation;
 import me.datafox.dfxengine.values.api.operation.SourceOperation;
+import me.datafox.dfxengine.values.utils.internal.ArgumentBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-
 import static me.datafox.dfxengine.values.utils.internal.ValuesStrings.invalidParameterCount;
 
 /**
@@ -26,6 +25,8 @@ public class OperationModifier extends AbstractModifier {
 
     private final Operation operation;
 
+    private final ArgumentBuffer arguments;
+
     /**
      * @param priority priority for this modifier
      * @param operation {@link SourceOperation} to be used
@@ -78,23 +79,51 @@ public class OperationModifier extends AbstractModifier {
         super(logger, priority, parameters);
 
         if(parameters.length != operation.getParameterCount()) {
-            LogUtils.logExceptionAndGet(logger,
+            throw LogUtils.logExceptionAndGet(logger,
                     invalidParameterCount(operation.getParameterCount(), parameters.length),
                     IllegalArgumentException::new);
         }
 
         this.operation = operation;
+        arguments = new ArgumentBuffer(parameters.length);
     }
 
     /**
+     * {@link SourceOperation SourceOperations}, {@link SingleParameterOperation SingleParameterOperations} and
+     * {@link DualParameterOperation DualParameterOperations} are called without a parameter array. Other
+     * {@link Operation Operations} are called with a parameter array that is reused between calls unless it is already
+     * in use by a concurrent or nested call, in which case a new array is used.
+     *
      * @param source source {@link Numeral} for this modifier
      * @return resulting {@link Numeral} of this modifier
      */
     @Override
     public Numeral apply(Numeral source) {
-        return operation.apply(source,
-                Arrays.stream(getParameters())
-                        .map(Value::getValue)
-                        .toArray(Numeral[]::new));
+        if(operation instanceof SourceOperation) {
+            return ((SourceOperation) operation).apply(source);
+        }
+
+        if(operation instanceof SingleParameterOperation) {
+            return ((SingleParameterOperation) operation).apply(source, getParameter(0).getValue());
+        }
+
+        if(operation instanceof DualParameterOperation) {
+            return ((DualParameterOperation) operation).apply(source,
+                    getParameter(0).getValue(),
+                    getParameter(1).getValue());
+        }
+
+        Value[] parameters = getParameters();
+        Numeral[] array = arguments.take();
+
+        try {
+            for(int i = 0; i < parameters.length; i++) {
+                array[i] = parameters[i].getValue();
+            }
+
+            return operation.apply(source, array);
+        } finally {
+            arguments.release(array);
+        }
     }
 }
@@ -0,0 +1,254 @@
+package me.datafox.dfxengine.values.operation;
+
+import lombok.Getter;
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.NumeralCodec;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+import me.datafox.dfxengine.utils.LogUtils;
+import me.datafox.dfxengine.values.api.operation.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static me.datafox.dfxengine.values.utils.internal.ValuesStrings.invalidParameterCount;
+
+/**
+ * <p>
+ * An {@link Operation} compiled from a formula like {@code base * 1.15^level + flat}. A formula may contain number
+ * literals, named variables, the operators {@code +}, {@code -}, {@code *}, {@code /} and {@code ^}, parentheses and
+ * the functions {@code min}, {@code max}, {@code sqrt}, {@code cbrt}, {@code root}, {@code exp}, {@code log},
+ * {@code log2}, {@code log10} and {@code logN}, which correspond to the methods of the same name in
+ * {@link Operations}. Exponentiation is right-associative and binds more tightly than negation, so {@code -x^2} equals
+ * {@code -(x^2)}. The variables are named when the expression is compiled. The first variable is bound to the source
+ * {@link Numeral} of this operation and the rest are bound to the parameters in order, so
+ * {@link #getParameterCount()} is the number of variables minus one.
+ * </p>
+ * <p>
+ * When compiled, all subexpressions that only contain literals are evaluated and replaced with their result, and
+ * subexpressions that occur more than once, like {@code (x + 1)} in {@code (x + 1) * (x + 1)}, are only evaluated once
+ * per evaluation. Literals are parsed with {@link NumeralCodec#parse(CharSequence, int, int)}, so integer literals are
+ * integers and decimal literals are exact {@link NumeralType#BIG_DEC} numerals. They can optionally be converted to
+ * another type when compiled.
+ * </p>
+ * <p>
+ * If all variables and literals are of the type {@link NumeralType#DOUBLE}, the formula is first evaluated with
+ * primitive {@code double} arithmetic without creating any intermediate Numerals. If any intermediate result is not
+ * finite, for example because of an overflow or a division by zero, the formula is evaluated again with Operations,
+ * which promotes the overflowing results and throws the same exceptions as the corresponding Operations methods. The
+ * fast path always returns a {@link NumeralType#DOUBLE} Numeral, even where Operations would return a trivial result
+ * like the product of zero as an integer. Otherwise, evaluation is always carried out with Operations.
+ * </p>
+ * <p>
+ * An expression is immutable and thread-safe.
+ * </p>
+ *
+ * @author datafox
+ */
+public final class Expression implements Operation {
+    /**
+     * Compiles a formula into an expression. Number literals are kept in the types returned by
+     * {@link NumeralCodec#parse(CharSequence, int, int)}.
+     *
+     * @param formula formula to be compiled
+     * @param variables names of the variables in the formula, where the first variable is bound to the source
+     * {@link Numeral} and the rest are bound to the parameters in order
+     * @return compiled expression
+     *
+     * @throws IllegalArgumentException if the formula is not valid, if it contains a variable that is not specified or
+     * if a variable name is specified more than once or is not a valid identifier
+     * @throws ArithmeticException if a subexpression that only contains literals cannot be evaluated
+     */
+    public static Expression compile(String formula, String ... variables) {
+        return compile(formula, (NumeralType) null, variables);
+    }
+
+    /**
+     * Compiles a formula into an expression. Number literals are converted to the specified type. Using
+     * {@link NumeralType#DOUBLE} allows the {@code double} fast path to be used if all variables are of the type
+     * DOUBLE.
+     *
+     * @param formula formula to be compiled
+     * @param literalType type that number literals are converted to, or {@code null} to keep them in the types returned
+     * by {@link NumeralCodec#parse(CharSequence, int, int)}
+     * @param variables names of the variables in the formula, where the first variable is bound to the source
+     * {@link Numeral} and the rest are bound to the parameters in order
+     * @return compiled expression
+     *
+     * @throws IllegalArgumentException if the formula is not valid, if it contains a variable that is not specified or
+     * if a variable name is specified more than once or is not a valid identifier
+     * @throws ArithmeticException if a subexpression that only contains literals cannot be evaluated
+     * @throws me.datafox.dfxengine.math.api.exception.ExtendedArithmeticException if a number literal cannot be
+     * converted to the specified type
+     */
+    public static Expression compile(String formula, NumeralType literalType, String ... variables) {
+        return new ExpressionCompiler(formula, List.of(variables), literalType).compile();
+    }
+
+    private final Logger logger;
+
+    /**
+     * Formula this expression was compiled from.
+     */
+    @Getter
+    private final String formula;
+
+    /**
+     * Names of the variables of this expression.
+     */
+    @Getter
+    private final List<String> variables;
+
+    private final Numeral[] template;
+
+    private final double[] doubleTemplate;
+
+    private final boolean fast;
+
+    private final ExpressionOperator[] operators;
+
+    private final int[] operands;
+
+    private final int result;
+
+    Expression(String formula,
+               List<String> variables,
+               Numeral[] constants,
+               ExpressionOperator[] operators,
+               int[] operands,
+               int result) {
+        logger = LoggerFactory.getLogger(Expression.class);
+        this.formula = formula;
+        this.variables = Collections.unmodifiableList(variables);
+        this.operators = operators;
+        this.operands = operands;
+        this.result = result;
+
+        int variableCount = variables.size();
+        template = new Numeral[variableCount + constants.length + operators.length];
+        doubleTemplate = new double[template.length];
+        System.arraycopy(constants, 0, template, variableCount, constants.length);
+        fast = Arrays.stream(constants).allMatch(constant -> constant.getType() == NumeralType.DOUBLE);
+
+        if(fast) {
+            for(int i = 0; i < constants.length; i++) {
+                doubleTemplate[variableCount + i] = constants[i].doubleValue();
+            }
+        }
+    }
+
+    /**
+     * @return the amount of parameters this operation expects, which is the number of variables minus one
+     */
+    @Override
+    public int getParameterCount() {
+        return Math.max(variables.size() - 1, 0);
+    }
+
+    /**
+     * @return the number of operations carried out per evaluation after constant folding and common subexpression
+     * elimination
+     */
+    public int getOperationCount() {
+        return operators.length;
+    }
+
+    /**
+     * @param source source {@link Numeral} for this operation, bound to the first variable
+     * @param parameters parameter {@link Numeral Numerals} for this operation, bound to the rest of the variables in
+     * order
+     * @return resulting {@link Numeral} of this operation
+     *
+     * @throws IllegalArgumentException if the amount of parameters is not equal to {@link #getParameterCount()}
+     * @throws ArithmeticException if any of the {@link Operations} used by the formula throws this exception
+     */
+    @Override
+    public Numeral apply(Numeral source, Numeral ... parameters) {
+        if(parameters.length != getParameterCount()) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    invalidParameterCount(getParameterCount(), parameters.length),
+                    IllegalArgumentException::new);
+        }
+
+        if(variables.isEmpty()) {
+            return evaluate(parameters);
+        }
+
+        Numeral[] values = new Numeral[variables.size()];
+        values[0] = source;
+        System.arraycopy(parameters, 0, values, 1, parameters.length);
+        return evaluate(values);
+    }
+
+    /**
+     * @param values {@link Numeral Numerals} bound to the variables of this expression in order
+     * @return result of the formula
+     *
+     * @throws IllegalArgumentException if the amount of values is not equal to the number of variables
+     * @throws ArithmeticException if any of the {@link Operations} used by the formula throws this exception
+     */
+    public Numeral evaluate(Numeral ... values) {
+        if(values.length != variables.size()) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    invalidParameterCount(variables.size(), values.length),
+                    IllegalArgumentException::new);
+        }
+
+        if(fast && isDouble(values)) {
+            double[] slots = doubleTemplate.clone();
+            for(int i = 0; i < values.length; i++) {
+                slots[i] = values[i].doubleValue();
+            }
+            if(evaluateDouble(slots)) {
+                return Numerals.of(slots[result]);
+            }
+        }
+
+        Numeral[] slots = template.clone();
+        System.arraycopy(values, 0, slots, 0, values.length);
+        int target = slots.length - operators.length;
+
+        for(int i = 0; i < operators.length; i++) {
+            int right = operands[i * 2 + 1];
+            slots[target + i] = operators[i].apply(slots[operands[i * 2]], right == -1 ? null : slots[right]);
+        }
+
+        return slots[result];
+    }
+
+    /**
+     * @return {@link String} representation of this expression in format <i>Expression(formula)</i>
+     */
+    @Override
+    public String toString() {
+        return String.format("Expression(%s)", formula);
+    }
+
+    private boolean evaluateDouble(double[] slots) {
+        int target = slots.length - operators.length;
+
+        for(int i = 0; i < operators.length; i++) {
+            int right = operands[i * 2 + 1];
+            double value = operators[i].apply(slots[operands[i * 2]], right == -1 ? 0 : slots[right]);
+            if(!Double.isFinite(value)) {
+                return false;
+            }
+            slots[target + i] = value;
+        }
+
+        return Double.isFinite(slots[result]);
+    }
+
+    private static boolean isDouble(Numeral[] values) {
+        for(Numeral value : values) {
+            if(value.getType() != NumeralType.DOUBLE) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
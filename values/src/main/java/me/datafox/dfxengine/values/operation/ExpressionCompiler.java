@@ -0,0 +1,416 @@
+package me.datafox.dfxengine.values.operation;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.NumeralCodec;
+import me.datafox.dfxengine.utils.LogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static me.datafox.dfxengine.values.utils.internal.ValuesStrings.*;
+
+/**
+ * A recursive descent parser that compiles a formula into an {@link Expression}. Nodes are created bottom-up, so the
+ * order of creation is also a valid order of evaluation. Every node is looked up from a table of previously created
+ * nodes before it is created, which merges all structurally identical subexpressions into a single node. Nodes whose
+ * operands are all constants are evaluated immediately with {@link ExpressionOperator#apply(Numeral, Numeral)} and
+ * replaced with a constant. Finally, the nodes that are not reachable from the root node are dropped and the rest are
+ * laid out into slots, with the variables first, the constants second and the operations last.
+ *
+ * @author datafox
+ */
+final class ExpressionCompiler {
+    private final Logger logger;
+
+    private final String formula;
+
+    private final List<String> variables;
+
+    private final NumeralType literalType;
+
+    private final List<Node> nodes;
+
+    private final Map<Node,Integer> lookup;
+
+    private int index;
+
+    ExpressionCompiler(String formula, List<String> variables, NumeralType literalType) {
+        logger = LoggerFactory.getLogger(Expression.class);
+        this.formula = formula;
+        this.variables = variables;
+        this.literalType = literalType;
+        nodes = new ArrayList<>();
+        lookup = new HashMap<>();
+        index = 0;
+    }
+
+    Expression compile() {
+        checkVariables();
+
+        for(int i = 0; i < variables.size(); i++) {
+            nodes.add(new Node(null, i, -1, null));
+        }
+
+        int root = parseSum();
+        skipWhitespace();
+
+        if(index < formula.length()) {
+            throw unexpectedCharacterException();
+        }
+
+        return link(root);
+    }
+
+    private void checkVariables() {
+        for(int i = 0; i < variables.size(); i++) {
+            String variable = variables.get(i);
+            if(!isIdentifier(variable) || ExpressionOperator.function(variable) != null) {
+                throw LogUtils.logExceptionAndGet(logger,
+                        invalidVariable(variable),
+                        IllegalArgumentException::new);
+            }
+            if(variables.indexOf(variable) != i) {
+                throw LogUtils.logExceptionAndGet(logger,
+                        duplicateVariable(variable),
+                        IllegalArgumentException::new);
+            }
+        }
+    }
+
+    private int parseSum() {
+        int left = parseProduct();
+
+        while(true) {
+            if(accept('+')) {
+                left = operation(ExpressionOperator.ADD, left, parseProduct());
+            } else if(accept('-')) {
+                left = operation(ExpressionOperator.SUBTRACT, left, parseProduct());
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private int parseProduct() {
+        int left = parseUnary();
+
+        while(true) {
+            if(accept('*')) {
+                left = operation(ExpressionOperator.MULTIPLY, left, parseUnary());
+            } else if(accept('/')) {
+                left = operation(ExpressionOperator.DIVIDE, left, parseUnary());
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private int parseUnary() {
+        if(accept('-')) {
+            return operation(ExpressionOperator.NEGATE, parseUnary(), -1);
+        }
+
+        if(accept('+')) {
+            return parseUnary();
+        }
+
+        return parsePower();
+    }
+
+    private int parsePower() {
+        int base = parsePrimary();
+
+        if(accept('^')) {
+            return operation(ExpressionOperator.POWER, base, parseUnary());
+        }
+
+        return base;
+    }
+
+    private int parsePrimary() {
+        skipWhitespace();
+
+        if(index >= formula.length()) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    unexpectedEnd(formula),
+                    IllegalArgumentException::new);
+        }
+
+        char c = formula.charAt(index);
+
+        if(accept('(')) {
+            int inner = parseSum();
+            expect(')');
+            return inner;
+        }
+
+        if(isDigit(c) || c == '.') {
+            return parseLiteral();
+        }
+
+        if(isIdentifierStart(c)) {
+            return parseIdentifier();
+        }
+
+        throw unexpectedCharacterException();
+    }
+
+    private int parseLiteral() {
+        int start = index;
+
+        while(index < formula.length() && (isDigit(formula.charAt(index)) || formula.charAt(index) == '.')) {
+            index++;
+        }
+
+        if(index < formula.length() && (formula.charAt(index) == 'e' || formula.charAt(index) == 'E')) {
+            index++;
+            if(index < formula.length() && (formula.charAt(index) == '+' || formula.charAt(index) == '-')) {
+                index++;
+            }
+            while(index < formula.length() && isDigit(formula.charAt(index))) {
+                index++;
+            }
+        }
+
+        Numeral numeral;
+        try {
+            numeral = NumeralCodec.parse(formula, start, index);
+        } catch(NumberFormatException e) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    invalidLiteral(start, formula),
+                    IllegalArgumentException::new);
+        }
+
+        if(literalType != null) {
+            numeral = numeral.convert(literalType);
+        }
+
+        return constant(numeral);
+    }
+
+    private int parseIdentifier() {
+        int start = index;
+
+        while(index < formula.length() && isIdentifierPart(formula.charAt(index))) {
+            index++;
+        }
+
+        String name = formula.substring(start, index);
+
+        if(!accept('(')) {
+            int variable = variables.indexOf(name);
+            if(variable == -1) {
+                throw LogUtils.logExceptionAndGet(logger,
+                        unknownVariable(name, formula),
+                        IllegalArgumentException::new);
+            }
+            return variable;
+        }
+
+        ExpressionOperator function = ExpressionOperator.function(name);
+
+        if(function == null) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    unknownFunction(name, formula),
+                    IllegalArgumentException::new);
+        }
+
+        List<Integer> arguments = new ArrayList<>(2);
+
+        if(!accept(')')) {
+            do {
+                arguments.add(parseSum());
+            } while(accept(','));
+            expect(')');
+        }
+
+        if(arguments.size() != function.getArity()) {
+            throw LogUtils.logExceptionAndGet(logger,
+                    invalidArgumentCount(name, function.getArity(), arguments.size(), formula),
+                    IllegalArgumentException::new);
+        }
+
+        return operation(function, arguments.get(0), arguments.size() == 2 ? arguments.get(1) : -1);
+    }
+
+    private int operation(ExpressionOperator operator, int left, int right) {
+        Numeral leftConstant = nodes.get(left).constant;
+        Numeral rightConstant = right == -1 ? null : nodes.get(right).constant;
+
+        if(leftConstant != null && (right == -1 || rightConstant != null)) {
+            return constant(operator.apply(leftConstant, rightConstant));
+        }
+
+        return add(new Node(operator, left, right, null));
+    }
+
+    private int constant(Numeral numeral) {
+        return add(new Node(null, -1, -1, numeral));
+    }
+
+    private int add(Node node) {
+        Integer existing = lookup.get(node);
+
+        if(existing != null) {
+            return existing;
+        }
+
+        nodes.add(node);
+        lookup.put(node, nodes.size() - 1);
+        return nodes.size() - 1;
+    }
+
+    private Expression link(int root) {
+        boolean[] reachable = new boolean[nodes.size()];
+        reachable[root] = true;
+
+        for(int i = root; i >= 0; i--) {
+            Node node = nodes.get(i);
+            if(reachable[i] && node.operator != null) {
+                reachable[node.left] = true;
+                if(node.right != -1) {
+                    reachable[node.right] = true;
+                }
+            }
+        }
+
+        int[] slots = new int[nodes.size()];
+        int slot = variables.size();
+        List<Numeral> constants = new ArrayList<>();
+
+        for(int i = 0; i < variables.size(); i++) {
+            slots[i] = i;
+        }
+
+        for(int i = variables.size(); i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            if(reachable[i] && node.constant != null) {
+                slots[i] = slot++;
+                constants.add(node.constant);
+            }
+        }
+
+        List<ExpressionOperator> operators = new ArrayList<>();
+        List<Integer> operands = new ArrayList<>();
+
+        for(int i = variables.size(); i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            if(reachable[i] && node.operator != null) {
+                slots[i] = slot++;
+                operators.add(node.operator);
+                operands.add(slots[node.left]);
+                operands.add(node.right == -1 ? -1 : slots[node.right]);
+            }
+        }
+
+        return new Expression(formula,
+                variables,
+                constants.toArray(Numeral[]::new),
+                operators.toArray(ExpressionOperator[]::new),
+                operands.stream().mapToInt(Integer::intValue).toArray(),
+                slots[root]);
+    }
+
+    private boolean accept(char c) {
+        skipWhitespace();
+
+        if(index < formula.length() && formula.charAt(index) == c) {
+            index++;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void expect(char c) {
+        if(!accept(c)) {
+            if(index >= formula.length()) {
+                throw LogUtils.logExceptionAndGet(logger,
+                        unexpectedEnd(formula),
+                        IllegalArgumentException::new);
+            }
+            throw unexpectedCharacterException();
+        }
+    }
+
+    private void skipWhitespace() {
+        while(index < formula.length() && Character.isWhitespace(formula.charAt(index))) {
+            index++;
+        }
+    }
+
+    private IllegalArgumentException unexpectedCharacterException() {
+        return LogUtils.logExceptionAndGet(logger,
+                unexpectedCharacter(formula.charAt(index), index, formula),
+                IllegalArgumentException::new);
+    }
+
+    private static boolean isIdentifier(String name) {
+        if(name == null || name.isEmpty() || !isIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+
+        for(int i = 1; i < name.length(); i++) {
+            if(!isIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || isDigit(c);
+    }
+
+    private static final class Node {
+        private final ExpressionOperator operator;
+
+        private final int left;
+
+        private final int right;
+
+        private final Numeral constant;
+
+        private Node(ExpressionOperator operator, int left, int right, Numeral constant) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+            this.constant = constant;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof Node)) {
+                return false;
+            }
+            Node node = (Node) o;
+            return left == node.left &&
+                    right == node.right &&
+                    operator == node.operator &&
+                    Objects.equals(constant, node.constant);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operator, left, right, constant);
+        }
+    }
+}
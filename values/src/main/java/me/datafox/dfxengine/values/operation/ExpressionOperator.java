@@ -0,0 +1,249 @@
+package me.datafox.dfxengine.values.operation;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+
+/**
+ * Operators and functions that may be used in an {@link Expression}. Every operator has a {@link Numeral} variant that
+ * delegates to {@link Operations} and a {@code double} variant that is used by the fast path of an Expression. The
+ * {@code double} variants use the same {@code double} arithmetic as the corresponding {@code double} methods in
+ * Operations, and return {@link Double#NaN} for inputs where Operations would throw an exception, so that the
+ * Expression falls back to the Numeral variant.
+ *
+ * @author datafox
+ */
+enum ExpressionOperator {
+    ADD("+", 2) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.add(left, right);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return left + right;
+        }
+    },
+    SUBTRACT("-", 2) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.subtract(left, right);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return left - right;
+        }
+    },
+    MULTIPLY("*", 2) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.multiply(left, right);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return left * right;
+        }
+    },
+    DIVIDE("/", 2) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.divide(left, right);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return left / right;
+        }
+    },
+    POWER("^", 2) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.power(left, right);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return Math.pow(left, right);
+        }
+    },
+    NEGATE("-", 1) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.multiply(left, Numerals.of(-1));
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return -left;
+        }
+    },
+    MIN("min", 2) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.min(left, right);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return Double.compare(left, right) <= 0 ? left : right;
+        }
+    },
+    MAX("max", 2) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.max(left, right);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return Double.compare(left, right) >= 0 ? left : right;
+        }
+    },
+    SQRT("sqrt", 1) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.sqrt(left);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return Math.sqrt(left);
+        }
+    },
+    CBRT("cbrt", 1) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.cbrt(left);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return Math.cbrt(left);
+        }
+    },
+    ROOT("root", 2) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.root(left, right);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            if(left < 0 || right == 0) {
+                return Double.NaN;
+            }
+            return Math.pow(left, 1d / right);
+        }
+    },
+    EXP("exp", 1) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.exp(left);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return Math.exp(left);
+        }
+    },
+    LOG("log", 1) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.log(left);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return Math.log(left);
+        }
+    },
+    LOG2("log2", 1) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.log2(left);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return Math.log(left) / Math.log(2);
+        }
+    },
+    LOG10("log10", 1) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.log10(left);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            return Math.log10(left);
+        }
+    },
+    LOG_N("logN", 2) {
+        @Override
+        Numeral apply(Numeral left, Numeral right) {
+            return Operations.logN(left, right);
+        }
+
+        @Override
+        double apply(double left, double right) {
+            if(right <= 0 || right == 1) {
+                return Double.NaN;
+            }
+            return Math.log(left) / Math.log(right);
+        }
+    };
+
+    private final String symbol;
+
+    private final int arity;
+
+    ExpressionOperator(String symbol, int arity) {
+        this.symbol = symbol;
+        this.arity = arity;
+    }
+
+    /**
+     * @return symbol or function name of this operator
+     */
+    String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * @return number of operands this operator takes
+     */
+    int getArity() {
+        return arity;
+    }
+
+    /**
+     * @param left first operand
+     * @param right second operand, or {@code null} if this operator only takes a single operand
+     * @return result of this operator
+     */
+    abstract Numeral apply(Numeral left, Numeral right);
+
+    /**
+     * @param left first operand
+     * @param right second operand, or {@code 0} if this operator only takes a single operand
+     * @return result of this operator, or a non-finite value if the {@link Numeral} variant must be used instead
+     */
+    abstract double apply(double left, double right);
+
+    /**
+     * @param name function name
+     * @return function with the specified name, or {@code null} if no function has that name
+     */
+    static ExpressionOperator function(String name) {
+        for(ExpressionOperator operator : values()) {
+            if(operator.ordinal() >= MIN.ordinal() && operator.symbol.equals(name)) {
+                return operator;
+            }
+        }
+        return null;
+    }
+}
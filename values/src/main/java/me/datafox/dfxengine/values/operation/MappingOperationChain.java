@@ -9,13 +9,13 @@ import me.datafox.dfxengine.values.api.operation.DualParameterOperation;
 import me.datafox.dfxengine.values.api.operation.Operation;
 import me.datafox.dfxengine.values.api.operation.SingleParameterOperation;
 import me.datafox.dfxengine.values.api.operation.SourceOperation;
+import me.datafox.dfxengine.values.utils.internal.ArgumentBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -52,6 +52,8 @@ public final class MappingOperationChain implements Operation {
 
     private final Logger logger;
     private final Operation[] operations;
+    private final ArgumentBuffer[] buffers;
+    private final ArgumentBuffer results;
     @Getter
     private final int parameterCount;
 
@@ -61,6 +63,13 @@ public final class MappingOperationChain implements Operation {
     public MappingOperationChain(List<? extends Operation> operations) {
         logger = LoggerFactory.getLogger(MappingOperationChain.class);
         this.operations = operations.toArray(Operation[]::new);
+        buffers = new ArgumentBuffer[this.operations.length];
+        for(int i = 0; i < buffers.length; i++) {
+            if(OperationChain.isGeneric(this.operations[i])) {
+                buffers[i] = new ArgumentBuffer(this.operations[i].getParameterCount());
+            }
+        }
+        results = new ArgumentBuffer(this.operations.length + 1);
         parameterCount = operations
                 .stream()
                 .mapToInt(Operation::getParameterCount)
@@ -82,18 +91,19 @@ public final class MappingOperationChain implements Operation {
                     IllegalArgumentException::new);
         }
         checkSpecial(parameters);
-        Numeral[] results = new Numeral[operations.length + 1];
-        results[0] = source;
-        int nextIndex = 0;
-        for(int i=0;i<operations.length;i++) {
-            Operation operation = operations[i];
-            results[i+1] = apply(operation, Arrays.stream(
-                    parameters, nextIndex, nextIndex + operation.getParameterCount() + 1)
-                    .map(numeral -> replaceSpecial(numeral, results))
-                    .toArray(Numeral[]::new));
-            nextIndex += operation.getParameterCount() + 1;
+        Numeral[] results = this.results.take();
+        try {
+            results[0] = source;
+            int nextIndex = 0;
+            for(int i=0;i<operations.length;i++) {
+                Operation operation = operations[i];
+                results[i+1] = apply(i, parameters, nextIndex, results);
+                nextIndex += operation.getParameterCount() + 1;
+            }
+            return results[operations.length];
+        } finally {
+            this.results.release(results);
         }
-        return results[operations.length];
     }
 
     private Numeral replaceSpecial(Numeral source, Numeral[] results) {
@@ -108,25 +118,40 @@ public final class MappingOperationChain implements Operation {
         int nextIndex = 0;
         for(int i=0;i<operations.length;i++) {
             Operation operation = operations[i];
-            int ii = i;
-            if(Arrays.stream(parameters, nextIndex, nextIndex + operation.getParameterCount())
-                    .filter(SpecialNumeral.class::isInstance)
-                    .map(SpecialNumeral.class::cast)
-                    .mapToInt(SpecialNumeral::getId)
-                    .anyMatch(value -> value >= ii)) {
-                throw LogUtils.logExceptionAndGet(logger,
-                        "Reference to future operation", IllegalArgumentException::new);
+            for(int j = nextIndex; j < nextIndex + operation.getParameterCount(); j++) {
+                if(parameters[j] instanceof SpecialNumeral && ((SpecialNumeral) parameters[j]).getId() >= i) {
+                    throw LogUtils.logExceptionAndGet(logger,
+                            "Reference to future operation", IllegalArgumentException::new);
+                }
             }
             nextIndex = operation.getParameterCount() + 1;
         }
     }
 
-    private Numeral apply(Operation operation, Numeral[] parameters) {
-        if(parameters.length == 1) {
-            return operation.apply(parameters[0]);
+    private Numeral apply(int index, Numeral[] parameters, int from, Numeral[] results) {
+        Operation operation = operations[index];
+        Numeral source = replaceSpecial(parameters[from], results);
+        if(operation instanceof SourceOperation) {
+            return ((SourceOperation) operation).apply(source);
+        }
+        if(operation instanceof SingleParameterOperation) {
+            return ((SingleParameterOperation) operation).apply(source,
+                    replaceSpecial(parameters[from + 1], results));
+        }
+        if(operation instanceof DualParameterOperation) {
+            return ((DualParameterOperation) operation).apply(source,
+                    replaceSpecial(parameters[from + 1], results),
+                    replaceSpecial(parameters[from + 2], results));
+        }
+        Numeral[] operationParameters = buffers[index].take();
+        try {
+            for(int i = 0; i < operationParameters.length; i++) {
+                operationParameters[i] = replaceSpecial(parameters[from + i + 1], results);
+            }
+            return operation.apply(source, operationParameters);
+        } finally {
+            buffers[index].release(operationParameters);
         }
-        return operation.apply(parameters[0],
-                Arrays.copyOfRange(parameters, 1, parameters.length));
     }
 
     /**
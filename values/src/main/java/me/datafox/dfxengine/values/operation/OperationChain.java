@@ -7,11 +7,11 @@ import me.datafox.dfxengine.values.api.operation.DualParameterOperation;
 import me.datafox.dfxengine.values.api.operation.Operation;
 import me.datafox.dfxengine.values.api.operation.SingleParameterOperation;
 import me.datafox.dfxengine.values.api.operation.SourceOperation;
+import me.datafox.dfxengine.values.utils.internal.ArgumentBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -28,6 +28,7 @@ import static me.datafox.dfxengine.values.utils.internal.ValuesStrings.invalidPa
 public final class OperationChain implements Operation {
     private final Logger logger;
     private final Operation[] operations;
+    private final ArgumentBuffer[] buffers;
     @Getter
     private final int parameterCount;
 
@@ -37,6 +38,12 @@ public final class OperationChain implements Operation {
     public OperationChain(List<? extends Operation> operations) {
         logger = LoggerFactory.getLogger(OperationChain.class);
         this.operations = operations.toArray(Operation[]::new);
+        buffers = new ArgumentBuffer[this.operations.length];
+        for(int i = 0; i < buffers.length; i++) {
+            if(isGeneric(this.operations[i])) {
+                buffers[i] = new ArgumentBuffer(this.operations[i].getParameterCount());
+            }
+        }
         parameterCount = operations.stream().mapToInt(Operation::getParameterCount).sum();
     }
 
@@ -55,14 +62,39 @@ public final class OperationChain implements Operation {
                     IllegalArgumentException::new);
         }
         int nextIndex = 0;
-        for(Operation operation : operations) {
-            source = operation.apply(source, Arrays.copyOfRange(
-                    parameters, nextIndex, nextIndex + operation.getParameterCount()));
-            nextIndex += operation.getParameterCount();
+        for(int i = 0; i < operations.length; i++) {
+            source = apply(i, source, parameters, nextIndex);
+            nextIndex += operations[i].getParameterCount();
         }
         return source;
     }
 
+    static boolean isGeneric(Operation operation) {
+        return !(operation instanceof SourceOperation) &&
+                !(operation instanceof SingleParameterOperation) &&
+                !(operation instanceof DualParameterOperation);
+    }
+
+    private Numeral apply(int index, Numeral source, Numeral[] parameters, int from) {
+        Operation operation = operations[index];
+        if(operation instanceof SourceOperation) {
+            return ((SourceOperation) operation).apply(source);
+        }
+        if(operation instanceof SingleParameterOperation) {
+            return ((SingleParameterOperation) operation).apply(source, parameters[from]);
+        }
+        if(operation instanceof DualParameterOperation) {
+            return ((DualParameterOperation) operation).apply(source, parameters[from], parameters[from + 1]);
+        }
+        Numeral[] array = buffers[index].take();
+        try {
+            System.arraycopy(parameters, from, array, 0, array.length);
+            return operation.apply(source, array);
+        } finally {
+            buffers[index].release(array);
+        }
+    }
+
     /**
      * @return {@link Builder} instance
      */
@@ -8,7 +8,10 @@ import me.datafox.dfxengine.values.api.operation.DualParameterOperation;
 import me.datafox.dfxengine.values.api.operation.Operation;
 import me.datafox.dfxengine.values.api.operation.SingleParameterOperation;
 import me.datafox.dfxengine.values.api.operation.SourceOperation;
+import me.datafox.dfxengine.values.modifier.Fold;
+import me.datafox.dfxengine.values.modifier.FoldingModifier;
 import me.datafox.dfxengine.values.modifier.MappingOperationModifier;
+import me.datafox.dfxengine.values.modifier.ModifierChain;
 import me.datafox.dfxengine.values.modifier.OperationModifier;
 
 import static me.datafox.dfxengine.values.modifier.MappingOperationModifier.resultValue;
@@ -61,14 +64,15 @@ public class Modifiers {
     }
 
     /**
-     * Wrapper for {@link Operations#add(Numeral, Numeral)}.
+     * Wrapper for {@link Operations#add(Numeral, Numeral)}. The returned modifier is a {@link FoldingModifier}, so
+     * it is folded together with adjacent additions in a {@link ModifierChain}.
      *
      * @param priority priority for the {@link OperationModifier}
      * @param addend addend {@link Value} for the {@link OperationModifier}
      * @return {@link OperationModifier} that does addition
      */
     public static OperationModifier add(int priority, Value addend) {
-        return operation(priority, Operations::add, addend);
+        return new FoldingModifier(priority, Fold.ADD, addend);
     }
 
     /**
@@ -94,14 +98,15 @@ public class Modifiers {
     }
 
     /**
-     * Wrapper for {@link Operations#multiply(Numeral, Numeral)}.
+     * Wrapper for {@link Operations#multiply(Numeral, Numeral)}. The returned modifier is a {@link FoldingModifier}, so
+     * it is folded together with adjacent multiplications in a {@link ModifierChain}.
      *
      * @param priority priority for the {@link OperationModifier}
      * @param multiplier multiplier {@link Value} for the {@link OperationModifier}
      * @return {@link OperationModifier} that does multiplication
      */
     public static OperationModifier multiply(int priority, Value multiplier) {
-        return operation(priority, Operations::multiply, multiplier);
+        return new FoldingModifier(priority, Fold.MULTIPLY, multiplier);
     }
 
     /**
@@ -137,14 +142,15 @@ public class Modifiers {
     }
 
     /**
-     * Wrapper for {@link Operations#power(Numeral, Numeral)}.
+     * Wrapper for {@link Operations#power(Numeral, Numeral)}. The returned modifier is a {@link FoldingModifier}, so
+     * it is folded together with adjacent exponentiations in a {@link ModifierChain}.
      *
      * @param priority priority for the {@link OperationModifier}
      * @param exponent exponent {@link Value} for the {@link OperationModifier}
      * @return {@link OperationModifier} that does exponentiation
      */
     public static OperationModifier power(int priority, Value exponent) {
-        return operation(priority, Operations::power, exponent);
+        return new FoldingModifier(priority, Fold.POWER, exponent);
     }
 
     /**
@@ -263,25 +269,27 @@ public class Modifiers {
     }
 
     /**
-     * Wrapper for {@link Operations#min(Numeral, Numeral)}.
+     * Wrapper for {@link Operations#min(Numeral, Numeral)}. The returned modifier is a {@link FoldingModifier}, so
+     * it is folded together with adjacent minimums in a {@link ModifierChain}.
      *
      * @param priority priority for the {@link OperationModifier}
      * @param value value {@link Value} for the {@link OperationModifier}
      * @return {@link OperationModifier} that does minimum
      */
     public static OperationModifier min(int priority, Value value) {
-        return operation(priority, Operations::min, value);
+        return new FoldingModifier(priority, Fold.MIN, value);
     }
 
     /**
-     * Wrapper for {@link Operations#max(Numeral, Numeral)}.
+     * Wrapper for {@link Operations#max(Numeral, Numeral)}. The returned modifier is a {@link FoldingModifier}, so
+     * it is folded together with adjacent maximums in a {@link ModifierChain}.
      *
      * @param priority priority for the {@link OperationModifier}
      * @param value value {@link Value} for the {@link OperationModifier}
      * @return {@link OperationModifier} that does maximum
      */
     public static OperationModifier max(int priority, Value value) {
-        return operation(priority, Operations::max, value);
+        return new FoldingModifier(priority, Fold.MAX, value);
     }
 
     /**
@@ -0,0 +1,53 @@
+package me.datafox.dfxengine.values.utils.internal;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.values.api.operation.Operation;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A reusable {@link Numeral} array of a fixed length for passing parameters to an {@link Operation}.
+ * {@link #take()} returns the buffered array if it is not in use and a new array otherwise, so concurrent and nested
+ * calls never share an array. {@link #release(Numeral[])} clears the array and makes it available again. A buffer is
+ * thread-safe.
+ *
+ * @author datafox
+ */
+public final class ArgumentBuffer {
+    private final int length;
+
+    private final AtomicReference<Numeral[]> spare;
+
+    /**
+     * @param length length of the arrays returned by this buffer
+     */
+    public ArgumentBuffer(int length) {
+        this.length = length;
+        spare = new AtomicReference<>(new Numeral[length]);
+    }
+
+    /**
+     * @return the buffered array if it is not in use, or a new array otherwise
+     */
+    public Numeral[] take() {
+        Numeral[] array = spare.getAndSet(null);
+
+        if(array == null) {
+            return new Numeral[length];
+        }
+
+        return array;
+    }
+
+    /**
+     * Clears the specified array and makes it available to {@link #take()}. The array must not be used after this
+     * call.
+     *
+     * @param array array returned by {@link #take()}
+     */
+    public void release(Numeral[] array) {
+        Arrays.fill(array, null);
+        spare.set(array);
+    }
+}
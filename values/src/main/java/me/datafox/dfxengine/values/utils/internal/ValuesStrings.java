@@ -24,6 +24,15 @@ public class ValuesStrings {
                     "consider using ValueMap.putHandled(Value) instead of ValueMap.put(Handle, Value)";
     private static final String SPACE_IGNORED = "Handles from Spaces other than %s are ignored";
     private static final String INVALID_PARAMETER_COUNT = "Expected %s parameters but %s were present instead";
+    private static final String UNEXPECTED_CHARACTER = "Unexpected character '%s' at index %s in expression \"%s\"";
+    private static final String UNEXPECTED_END = "Unexpected end of expression \"%s\"";
+    private static final String INVALID_LITERAL = "Invalid number literal at index %s in expression \"%s\"";
+    private static final String UNKNOWN_VARIABLE = "Unknown variable %s in expression \"%s\"";
+    private static final String UNKNOWN_FUNCTION = "Unknown function %s in expression \"%s\"";
+    private static final String INVALID_ARGUMENT_COUNT =
+            "Function %s expects %s arguments but %s were present instead in expression \"%s\"";
+    private static final String DUPLICATE_VARIABLE = "Variable %s is declared more than once";
+    private static final String INVALID_VARIABLE = "Variable name %s is not a valid identifier";
 
     public static String immutableValueMismatch(boolean immutable) {
         return String.format(IMMUTABLE_VALUE_MISMATCH,
@@ -42,4 +51,36 @@ public class ValuesStrings {
     public static String invalidParameterCount(int expected, int actual) {
         return String.format(INVALID_PARAMETER_COUNT, expected, actual);
     }
+
+    public static String unexpectedCharacter(char character, int index, String expression) {
+        return String.format(UNEXPECTED_CHARACTER, character, index, expression);
+    }
+
+    public static String unexpectedEnd(String expression) {
+        return String.format(UNEXPECTED_END, expression);
+    }
+
+    public static String invalidLiteral(int index, String expression) {
+        return String.format(INVALID_LITERAL, index, expression);
+    }
+
+    public static String unknownVariable(String variable, String expression) {
+        return String.format(UNKNOWN_VARIABLE, variable, expression);
+    }
+
+    public static String unknownFunction(String function, String expression) {
+        return String.format(UNKNOWN_FUNCTION, function, expression);
+    }
+
+    public static String invalidArgumentCount(String function, int expected, int actual, String expression) {
+        return String.format(INVALID_ARGUMENT_COUNT, function, expected, actual, expression);
+    }
+
+    public static String duplicateVariable(String variable) {
+        return String.format(DUPLICATE_VARIABLE, variable);
+    }
+
+    public static String invalidVariable(String variable) {
+        return String.format(INVALID_VARIABLE, variable);
+    }
 }
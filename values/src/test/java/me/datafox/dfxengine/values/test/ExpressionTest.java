@@ -0,0 +1,106 @@
+package me.datafox.dfxengine.values.test;
+
+import me.datafox.dfxengine.math.api.Numeral;
+import me.datafox.dfxengine.math.api.NumeralType;
+import me.datafox.dfxengine.math.utils.Numerals;
+import me.datafox.dfxengine.math.utils.Operations;
+import me.datafox.dfxengine.values.operation.Expression;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author datafox
+ */
+public class ExpressionTest {
+    @Test
+    public void evaluateTest() {
+        Expression expression = Expression.compile("base * 1.15^level + flat", NumeralType.DOUBLE,
+                "base", "level", "flat");
+
+        Numeral base = Numerals.of(10d);
+        Numeral level = Numerals.of(5d);
+        Numeral flat = Numerals.of(3d);
+        Numeral expected = Operations.add(Operations.multiply(base,
+                Operations.power(Numerals.of(1.15d), level)), flat);
+
+        assertEquals(2, expression.getParameterCount());
+        assertEquals(expected, expression.evaluate(base, level, flat));
+        assertEquals(expected, expression.apply(base, level, flat));
+        assertEquals(Operations.add(Operations.multiply(Numerals.of(10),
+                        Operations.power(Numerals.of(1.15d), Numerals.of(5))), Numerals.of(3)),
+                expression.evaluate(Numerals.of(10), Numerals.of(5), Numerals.of(3)));
+    }
+
+    @Test
+    public void precedenceTest() {
+        assertEquals(Numerals.of(-4), Expression.compile("-x^2", "x").evaluate(Numerals.of(2)));
+        assertEquals(Numerals.of(512), Expression.compile("2^3^2").evaluate());
+        assertEquals(Numerals.of(9), Expression.compile("(1 + 2) * 3").evaluate());
+        assertEquals(Numerals.of(7), Expression.compile("1 + 2 * 3").evaluate());
+        assertEquals(Numerals.of(2), Expression.compile("10 - 4 - 4").evaluate());
+        assertEquals(Numerals.of(0.5d), Expression.compile("2^-1", NumeralType.DOUBLE).evaluate());
+        assertEquals(Numerals.of(3), Expression.compile("max(min(x, 3), 1)", "x").evaluate(Numerals.of(5)));
+        assertEquals(Numerals.of(2d), Expression.compile("sqrt(x)", "x").evaluate(Numerals.of(4d)));
+    }
+
+    @Test
+    public void exactLiteralTest() {
+        Expression expression = Expression.compile("x * 0.1", "x");
+
+        assertEquals(Numerals.of(new BigDecimal("0.3")), expression.evaluate(Numerals.of(3)));
+    }
+
+    @Test
+    public void foldingTest() {
+        assertEquals(1, Expression.compile("2 * 3 + x", "x").getOperationCount());
+        assertEquals(0, Expression.compile("2 * 3 + 4").getOperationCount());
+        assertEquals(Numerals.of(10), Expression.compile("2 * 3 + 4").evaluate());
+        assertEquals(Numerals.of(-3), Expression.compile("-3").evaluate());
+    }
+
+    @Test
+    public void commonSubexpressionTest() {
+        Expression expression = Expression.compile("(x + 1) * (x + 1) + (x + 1)", "x");
+
+        assertEquals(3, expression.getOperationCount());
+        assertEquals(Numerals.of(12), expression.evaluate(Numerals.of(2)));
+        assertEquals(Numerals.of(12d), expression.evaluate(Numerals.of(2d)));
+    }
+
+    @Test
+    public void fallbackTest() {
+        Expression expression = Expression.compile("x * x", NumeralType.DOUBLE, "x");
+        Numeral large = Numerals.of(1e200);
+
+        assertEquals(NumeralType.DOUBLE, expression.evaluate(Numerals.of(3d)).getType());
+        assertEquals(Operations.multiply(large, large), expression.evaluate(large));
+        assertEquals(NumeralType.BIG_DEC, expression.evaluate(large).getType());
+
+        Expression division = Expression.compile("x / (y - 1)", NumeralType.DOUBLE, "x", "y");
+
+        assertEquals(Numerals.of(2d), division.evaluate(Numerals.of(4d), Numerals.of(3d)));
+        assertThrows(ArithmeticException.class, () -> division.evaluate(Numerals.of(4d), Numerals.of(1d)));
+        assertThrows(ArithmeticException.class, () -> Expression.compile("log(x)", "x")
+                .evaluate(Numerals.of(-1d)));
+    }
+
+    @Test
+    public void invalidTest() {
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("x + y", "x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("foo(x)", "x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("min(x)", "x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("x +", "x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("(x", "x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("x $ 2", "x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("2x", "x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("x", "x", "x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("x", "1x"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("1..2"));
+        assertThrows(ArithmeticException.class, () -> Expression.compile("1 / 0"));
+        assertThrows(IllegalArgumentException.class, () -> Expression.compile("x + y", "x", "y")
+                .apply(Numerals.of(1)));
+    }
+}
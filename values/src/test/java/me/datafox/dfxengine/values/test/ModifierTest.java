@@ -3,16 +3,26 @@ package me.datafox.dfxengine.values.test;
 import me.datafox.dfxengine.math.api.Numeral;
 import me.datafox.dfxengine.math.utils.Numerals;
 import me.datafox.dfxengine.math.utils.Operations;
+import me.datafox.dfxengine.values.api.Modifier;
+import me.datafox.dfxengine.values.api.Value;
 import me.datafox.dfxengine.values.api.operation.Operation;
 import me.datafox.dfxengine.values.modifier.MappingOperationModifier;
+import me.datafox.dfxengine.values.modifier.ModifierChain;
+import me.datafox.dfxengine.values.modifier.ModifierSet;
 import me.datafox.dfxengine.values.modifier.OperationModifier;
+import me.datafox.dfxengine.values.utils.Modifiers;
 import me.datafox.dfxengine.values.utils.Values;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
 import static me.datafox.dfxengine.values.modifier.MappingOperationModifier.resultValue;
 import static me.datafox.dfxengine.values.modifier.MappingOperationModifier.sourceValue;
-import static me.datafox.dfxengine.values.test.TestHandles.initializeHandles;
+import static me.datafox.dfxengine.values.test.TestHandles.*;
 import static me.datafox.dfxengine.values.test.TestValues.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -64,6 +74,234 @@ public class ModifierTest {
                 () -> MappingOperationModifier.builder(0).operation(new DivideTestOperation(), resultValue(0)).build());
     }
 
+    @Test
+    public void genericOperationModifierTest() {
+        Value divisor = Values.mutable(longHandle, 4);
+        OperationModifier divide = new OperationModifier(0, new DivideTestOperation(), divisor);
+        assertEquals(Numerals.of(5), divide.apply(Numerals.of(20)));
+        divisor.set(Numerals.of(5));
+        assertEquals(Numerals.of(4), divide.apply(Numerals.of(20)));
+        assertEquals(Numerals.of(2), divide.apply(Numerals.of(10)));
+    }
+
+    @Test
+    public void operationModifierParameterCountTest() {
+        assertThrows(IllegalArgumentException.class, () -> new OperationModifier(0, new DivideTestOperation()));
+        assertThrows(IllegalArgumentException.class, () -> new OperationModifier(0, new DivideTestOperation(),
+                Values.of(1), Values.of(2)));
+        assertDoesNotThrow(() -> new OperationModifier(0, new DivideTestOperation(), Values.of(1)));
+    }
+
+    @Test
+    public void foldingTest() {
+        Value addend = Values.mutable(longHandle, 5);
+        Modifier removed = Modifiers.add(0, Values.of(3));
+        List<Modifier> modifiers = new ArrayList<>(List.of(removed,
+                Modifiers.add(1, addend),
+                Modifiers.add(2, Values.of(-2)),
+                Modifiers.multiply(3, Values.of(2)),
+                Modifiers.multiply(4, Values.of(1.5d)),
+                Modifiers.power(5, Values.of(2)),
+                Modifiers.power(6, Values.of(0.5d)),
+                Modifiers.min(7, Values.of(100)),
+                Modifiers.min(8, Values.of(50)),
+                Modifiers.sqrt(9),
+                Modifiers.max(10, Values.of(1))));
+
+        ModifierChain chain = new ModifierChain();
+        chain.setModifiers(modifiers);
+        assertEquals(11, chain.getModifierCount());
+        assertEquals(6, chain.getStageCount());
+        assertEquals(applyAll(modifiers, Numerals.of(10)), chain.apply(Numerals.of(10)));
+
+        intValue.set(Numerals.of(10));
+        assertTrue(intValue.addModifiers(modifiers));
+        assertEquals(applyAll(modifiers, Numerals.of(10)), intValue.getValue());
+        addend.set(Numerals.of(7));
+        assertEquals(applyAll(modifiers, Numerals.of(10)), intValue.getValue());
+        assertTrue(intValue.removeModifier(removed));
+        modifiers.remove(removed);
+        assertEquals(applyAll(modifiers, Numerals.of(10)), intValue.getValue());
+        intValue.set(Numerals.of(-20));
+        assertEquals(applyAll(modifiers, Numerals.of(-20)), intValue.getValue());
+        addend.set(Numerals.of(2.5d));
+        assertEquals(applyAll(modifiers, Numerals.of(-20)), intValue.getValue());
+    }
+
+    @Test
+    public void foldingRemoveTest() {
+        Modifier first = Modifiers.add(0, Values.of(3));
+        Modifier second = Modifiers.add(1, Values.of(4));
+        Modifier multiply = Modifiers.multiply(2, Values.of(2));
+
+        ModifierChain chain = new ModifierChain();
+        chain.setModifiers(List.of(first, second));
+        assertEquals(Numerals.of(17), chain.apply(Numerals.of(10)));
+        chain.setModifiers(List.of(first));
+        assertEquals(Numerals.of(13), chain.apply(Numerals.of(10)));
+
+        chain.setModifiers(List.of(first, second, multiply));
+        assertEquals(2, chain.getStageCount());
+        assertEquals(Numerals.of(34), chain.apply(Numerals.of(10)));
+        chain.setModifiers(List.of(first, multiply));
+        assertEquals(Numerals.of(26), chain.apply(Numerals.of(10)));
+        chain.setModifiers(List.of(first, second, multiply));
+        assertEquals(Numerals.of(34), chain.apply(Numerals.of(10)));
+    }
+
+    @Test
+    public void foldingPowerTest() {
+        Value exponent = Values.mutable(longHandle, -1);
+        List<Modifier> modifiers = List.of(Modifiers.power(0, exponent), Modifiers.power(1, Values.of(-1)));
+
+        ModifierChain chain = new ModifierChain();
+        chain.setModifiers(modifiers);
+        assertEquals(1, chain.getStageCount());
+        assertEquals(Numerals.of(0), applyAll(modifiers, Numerals.of(5)));
+        assertEquals(Numerals.of(0), chain.apply(Numerals.of(5)));
+
+        intValue.set(Numerals.of(5));
+        assertTrue(intValue.addModifiers(modifiers));
+        assertEquals(Numerals.of(0), intValue.getValue());
+        exponent.set(Numerals.of(-3));
+        assertEquals(Numerals.of(0), intValue.getValue());
+        exponent.set(Numerals.of(1));
+        assertEquals(applyAll(modifiers, Numerals.of(5)), intValue.getValue());
+    }
+
+    @Test
+    public void foldingTypeTest() {
+        List<Modifier> modifiers = List.of(Modifiers.add(0, Values.of(Integer.MAX_VALUE)),
+                Modifiers.add(1, Values.of(-Integer.MAX_VALUE)));
+
+        ModifierChain chain = new ModifierChain();
+        chain.setModifiers(modifiers);
+        assertEquals(1, chain.getStageCount());
+        assertEquals(Numerals.of(5L), applyAll(modifiers, Numerals.of(5)));
+        assertEquals(Numerals.of(5), chain.apply(Numerals.of(5)));
+        assertEquals(0, Numerals.compare(applyAll(modifiers, Numerals.of(5)), chain.apply(Numerals.of(5))));
+    }
+
+    @Test
+    public void modifierSetTest() {
+        Modifier add = Modifiers.add(1, Values.of(3));
+        Modifier multiply = Modifiers.multiply(1, Values.of(2));
+        Modifier subtract = Modifiers.subtract(1, Values.of(1));
+        Modifier sqrt = Modifiers.sqrt(0);
+        Modifier max = Modifiers.max(2, Values.of(10));
+
+        ModifierSet set = new ModifierSet();
+        assertTrue(set.add(add));
+        assertTrue(set.add(max));
+        assertTrue(set.add(multiply));
+        assertTrue(set.add(sqrt));
+        assertTrue(set.add(subtract));
+        assertFalse(set.add(multiply));
+        assertEquals(List.of(sqrt, add, multiply, subtract, max), new ArrayList<>(set));
+
+        assertTrue(set.remove(multiply));
+        assertFalse(set.remove(multiply));
+        assertFalse(set.contains(multiply));
+        assertTrue(set.add(multiply));
+        assertEquals(List.of(sqrt, add, subtract, multiply, max), new ArrayList<>(set));
+
+        Iterator<Modifier> iterator = set.iterator();
+        assertEquals(sqrt, iterator.next());
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(List.of(add, subtract, multiply, max), new ArrayList<>(set));
+
+        intValue.set(Numerals.of(16));
+        assertTrue(intValue.addModifiers(List.of(add, multiply, subtract)));
+        assertEquals(Numerals.of(37), intValue.getValue());
+        assertEquals(List.of(add, multiply, subtract), new ArrayList<>(intValue.getModifiers()));
+        assertTrue(intValue.removeModifier(multiply));
+        assertEquals(Numerals.of(18), intValue.getValue());
+
+        assertTrue(set.removeAll(List.of(add, max)));
+        assertEquals(2, set.size());
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void equalPriorityTest() {
+        Modifier add = Modifiers.add(0, Values.of(3));
+        Modifier multiply = Modifiers.multiply(0, Values.of(2));
+
+        intValue.set(Numerals.of(10));
+        assertTrue(intValue.addModifier(add));
+        assertTrue(intValue.addModifier(multiply));
+        assertEquals(List.of(add, multiply), new ArrayList<>(intValue.getModifiers()));
+        assertEquals(Numerals.of(26), intValue.getValue());
+
+        assertTrue(intValue.removeModifier(add));
+        assertTrue(intValue.addModifier(add));
+        assertEquals(List.of(multiply, add), new ArrayList<>(intValue.getModifiers()));
+        assertEquals(Numerals.of(23), intValue.getValue());
+    }
+
+    @Test
+    public void incrementalChainTest() {
+        Random random = new Random(11);
+        List<Value> parameters = new ArrayList<>();
+        List<Modifier> pool = new ArrayList<>();
+
+        for(int i = 0; i < 24; i++) {
+            Value parameter = Values.mutable(longHandle, random.nextInt(5) + 1);
+            parameters.add(parameter);
+            int priority = random.nextInt(6);
+
+            switch(random.nextInt(4)) {
+                case 0:
+                    pool.add(Modifiers.add(priority, parameter));
+                    break;
+                case 1:
+                    pool.add(Modifiers.multiply(priority, parameter));
+                    break;
+                case 2:
+                    pool.add(Modifiers.max(priority, parameter));
+                    break;
+                default:
+                    pool.add(Modifiers.subtract(priority, parameter));
+            }
+        }
+
+        ModifierSet set = new ModifierSet();
+        ModifierChain chain = new ModifierChain();
+
+        for(int i = 0; i < 2000; i++) {
+            Modifier modifier = pool.get(random.nextInt(pool.size()));
+
+            if(set.add(modifier)) {
+                chain.add(modifier);
+            } else {
+                assertTrue(set.remove(modifier));
+                assertTrue(chain.remove(modifier));
+            }
+
+            if(random.nextInt(4) == 0) {
+                parameters.get(random.nextInt(parameters.size())).set(Numerals.of(random.nextInt(5) + 1));
+                pool.forEach(chain::invalidate);
+            }
+
+            ModifierChain built = new ModifierChain();
+            built.setModifiers(new ArrayList<>(set));
+            assertEquals(built.getModifierCount(), chain.getModifierCount());
+            assertEquals(built.getStageCount(), chain.getStageCount());
+            assertEquals(applyAll(new ArrayList<>(set), Numerals.of(7L)), chain.apply(Numerals.of(7L)));
+        }
+
+        assertFalse(chain.remove(Modifiers.sqrt(0)));
+    }
+
+    private static Numeral applyAll(List<Modifier> modifiers, Numeral source) {
+        for(Modifier modifier : modifiers) {
+            source = modifier.apply(source);
+        }
+        return source;
+    }
+
     private static class DivideTestOperation implements Operation {
         @Override
         public int getParameterCount() {
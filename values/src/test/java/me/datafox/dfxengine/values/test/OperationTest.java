@@ -65,6 +65,74 @@ public class OperationTest {
         assertThrows(IllegalArgumentException.class, () -> operation.apply(floatNumeral, intNumeral, Numerals.of(-1e10), intNumeral));
     }
 
+    @Test
+    public void genericOperationBufferTest() {
+        SumTestOperation sum = new SumTestOperation();
+        OperationChain chain = OperationChain.builder()
+                .operation(sum)
+                .operation(Operations::add)
+                .operation(sum)
+                .build();
+        Numeral[] chainParameters = { Numerals.of(2), Numerals.of(3), Numerals.of(4), Numerals.of(0),
+                Numerals.of(5), Numerals.of(6), Numerals.of(7) };
+
+        for(int i = 0; i < 3; i++) {
+            chainParameters[3] = Numerals.of(i);
+            assertEquals(Numerals.of(28 + i), chain.apply(Numerals.of(1), chainParameters));
+        }
+
+        sum.nested = chain;
+        sum.nestedParameters = chainParameters;
+        assertEquals(Numerals.of(30), chain.apply(Numerals.of(1), chainParameters));
+        assertEquals(Numerals.of(30), sum.nestedResult);
+
+        MappingOperationChain mapping = builder()
+                .operation(sum)
+                .operation(sum)
+                .build();
+        Numeral[] mappingParameters = { sourceNumeral(), Numerals.of(2), Numerals.of(3), Numerals.of(4),
+                resultNumeral(0), Numerals.of(5), Numerals.of(6), sourceNumeral() };
+
+        sum.nested = null;
+        assertEquals(Numerals.of(22), mapping.apply(Numerals.of(1), mappingParameters));
+        sum.nested = mapping;
+        sum.nestedParameters = mappingParameters;
+        assertEquals(Numerals.of(22), mapping.apply(Numerals.of(1), mappingParameters));
+        assertEquals(Numerals.of(22), sum.nestedResult);
+        assertEquals(Numerals.of(22), mapping.apply(Numerals.of(1), mappingParameters));
+    }
+
+    private static class SumTestOperation implements Operation {
+        private Operation nested;
+
+        private Numeral[] nestedParameters;
+
+        private Numeral nestedResult;
+
+        @Override
+        public int getParameterCount() {
+            return 3;
+        }
+
+        @Override
+        public Numeral apply(Numeral source, Numeral ... parameters) throws IllegalArgumentException {
+            if(nested != null) {
+                Operation operation = nested;
+                nested = null;
+                nestedResult = operation.apply(Numerals.of(1), nestedParameters);
+                nested = operation;
+            }
+
+            Numeral result = source;
+
+            for(Numeral parameter : parameters) {
+                result = Operations.add(result, parameter);
+            }
+
+            return result;
+        }
+    }
+
     private static class ToIntegerTestOperation implements Operation {
         @Override
         public int getParameterCount() {
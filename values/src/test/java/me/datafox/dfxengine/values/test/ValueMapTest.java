@@ -15,6 +15,7 @@ import me.datafox.dfxengine.values.utils.Values;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -164,6 +165,42 @@ public class ValueMapTest {
         assertTrue(valueMap.compare(Comparison.greaterThan(), Map.of(bigDecHandle, Numerals.of(5.1234514e143d))));
     }
 
+    @Test
+    public void batchTest() {
+        longValue.set(Numerals.of(0));
+        longValue.addModifiers(List.of(Modifiers.add(0, intValue), Modifiers.add(1, doubleValue)));
+        Numeral before = longValue.getValue();
+
+        valueMap.batch(m -> {
+            m.set(Numerals.of(10));
+            assertEquals(Numerals.of(10), intValue.getBase());
+            assertEquals(before, longValue.getValue());
+        });
+        assertEquals(Numerals.of(22), longValue.getValue());
+
+        assertThrows(IllegalStateException.class, () -> valueMap.batch(m -> {
+            m.set(Numerals.of(20));
+            throw new IllegalStateException();
+        }, true));
+        assertEquals(Numerals.of(10), intValue.getBase());
+        assertEquals(Numerals.of(10), doubleValue.getBase());
+        assertEquals(Numerals.of(22), longValue.getValue());
+
+        assertThrows(AssertionError.class, () -> valueMap.batch(m -> {
+            m.set(Numerals.of(30));
+            throw new AssertionError();
+        }, true));
+        assertEquals(Numerals.of(10), intValue.getBase());
+        assertEquals(Numerals.of(22), longValue.getValue());
+
+        assertThrows(IllegalStateException.class, () -> valueMap.batch(m -> {
+            m.set(Numerals.of(20));
+            throw new IllegalStateException();
+        }));
+        assertEquals(Numerals.of(20), intValue.getBase());
+        assertEquals(Numerals.of(42), longValue.getValue());
+    }
+
     @Test
     public void numeralMapTest() {
         Map<Handle, Numeral> map = valueMap.getBaseNumeralMap();
@@ -9,6 +9,7 @@ import me.datafox.dfxengine.values.api.Value;
 import me.datafox.dfxengine.values.api.comparison.Comparison;
 import me.datafox.dfxengine.values.api.operation.MathContext;
 import me.datafox.dfxengine.values.api.operation.Operation;
+import me.datafox.dfxengine.values.api.operation.SingleParameterOperation;
 import me.datafox.dfxengine.values.utils.Modifiers;
 import me.datafox.dfxengine.values.utils.Values;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +18,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Set;
 
 import static me.datafox.dfxengine.math.api.NumeralType.*;
-import static me.datafox.dfxengine.values.test.TestHandles.initializeHandles;
+import static me.datafox.dfxengine.values.test.TestHandles.*;
 import static me.datafox.dfxengine.values.test.TestValues.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -273,10 +274,26 @@ public class ValueTest {
         assertThrows(UnsupportedOperationException.class, () -> immutableIntValue.apply(Operations::log));
     }
 
+    @Test
+    public void applyUnchangedTest() {
+        Numeral base = intValue.getBase();
+        MathContext context = MathContext.builder().convertToDecimal(true).convertResultTo(INT).build();
+        intValue.apply(Operations::multiply, context, Numerals.of(1));
+        assertSame(base, intValue.getBase());
+        intValue.apply(Operations::multiply, context, Numerals.of(1));
+        assertSame(base, intValue.getBase());
+        intValue.apply(Operations::multiply, context, Numerals.of(2));
+        assertEquals(Numerals.of(198912), intValue.getBase());
+        intValue.apply(Operations::divide, context, Numerals.of(4));
+        assertEquals(Numerals.of(49728), intValue.getBase());
+    }
+
     @Test
     public void compareTest() {
         assertTrue(intValue.compare(Comparison.greaterThan(), Numerals.of(20)));
-        assertTrue(longValue.compare(Comparison.equal(), Numerals.of(47567929325878132.0)));
+        assertFalse(longValue.compare(Comparison.equal(), Numerals.of(47567929325878132.0)));
+        assertTrue(longValue.compare(Comparison.greaterThan(), Numerals.of(47567929325878132.0)));
+        assertTrue(longValue.compare(Comparison.equal(), Numerals.of("47567929325878132.0")));
         assertFalse(longValue.compare(Comparison.strictEqual(), Numerals.of(47567929325878132.0)));
     }
 
@@ -323,6 +340,39 @@ public class ValueTest {
         assertEquals(Numerals.of(40), intValue.getValue());
     }
 
+    @Test
+    public void incrementalTest() {
+        int[] calls = {0};
+        SingleParameterOperation countingAdd = (source, parameter) -> {
+            calls[0]++;
+            return Operations.add(source, parameter);
+        };
+        Value first = Values.mutable(longHandle, 10);
+        Value third = Values.mutable(floatHandle, 100);
+        Modifier second = Modifiers.operation(1, countingAdd, Values.of(1));
+        assertTrue(intValue.addModifiers(Set.of(Modifiers.operation(0, countingAdd, first), second,
+                Modifiers.operation(2, countingAdd, third))));
+        assertEquals(Numerals.of(99567), intValue.getValue());
+        assertEquals(3, calls[0]);
+        assertEquals(Numerals.of(99567), intValue.getValue());
+        assertEquals(3, calls[0]);
+        third.set(Numerals.of(200));
+        assertEquals(Numerals.of(99667), intValue.getValue());
+        assertEquals(4, calls[0]);
+        first.set(Numerals.of(20));
+        assertEquals(Numerals.of(99677), intValue.getValue());
+        assertEquals(7, calls[0]);
+        assertTrue(intValue.removeModifier(second));
+        assertEquals(Numerals.of(99676), intValue.getValue());
+        assertEquals(8, calls[0]);
+        assertTrue(intValue.addModifier(Modifiers.operation(3, countingAdd, Values.of(4))));
+        assertEquals(Numerals.of(99680), intValue.getValue());
+        assertEquals(9, calls[0]);
+        intValue.set(Numerals.of(0));
+        assertEquals(Numerals.of(224), intValue.getValue());
+        assertEquals(12, calls[0]);
+    }
+
     @Test
     public void staticValueTest() {
         Value staticValue = Values.of(9000.0001d);